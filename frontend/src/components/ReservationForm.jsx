@@ -203,7 +203,7 @@ export default function ReservationForm({ setReservation }) {
                 try {
                     const j = await res.json();
                     const type = String(j?.type || "");
-                    if (type.includes("user-has-reservation")) msg = "Du hast bereits eine aktive Reservierung.";
+                    if (type.includes("reservation-limit-reached")) msg = j?.detail || "Du hast bereits die maximale Anzahl aktiver Reservierungen.";
                     else if (type.includes("table-already-reserved")) msg = "Dieser Tisch ist in dem gewählten Zeitraum bereits reserviert.";
                     else msg = j?.detail || j?.title || msg;
                 } catch {}
@@ -3,15 +3,15 @@ import "../styles/reservations.css";
 import { useNavigate } from "react-router-dom";
 
 /**
- * Seite „Meine Reservierung“ für eingeloggte Nutzer.
+ * Seite „Meine Reservierungen“ für eingeloggte Nutzer.
  *
- * <p>Lädt die aktuelle Benutzer-Reservierung von
- * <code>GET /api/reservations/userReservations</code> (JWT-Cookie) und zeigt
- * sie in einer Karte an. Unterstützt manuelles Aktualisieren sowie Löschen
+ * <p>Lädt die Reservierungen des Benutzers seitenweise von
+ * <code>GET /api/reservations/userReservations?page=&size=</code> (JWT-Cookie) und zeigt
+ * sie als Kartenliste an. Unterstützt Blättern, manuelles Aktualisieren sowie Löschen
  * über <code>DELETE /api/reservations/{id}</code>.</p>
  *
  * <ul>
- *   <li>Rückfall auf leeren Zustand, wenn 204 (keine Reservierung).</li>
+ *   <li>Leerer Zustand, wenn die Seite keine Einträge enthält (oder 204).</li>
  *   <li>Bei 401 kurzer Hinweis und Weiterleitung zum Login.</li>
  *   <li>Fehler werden als Textmeldung oberhalb der Liste angezeigt.</li>
  * </ul>
@@ -19,8 +19,13 @@ import { useNavigate } from "react-router-dom";
  * @component
  * @returns {JSX.Element}
  */
+/** Anzahl Reservierungen pro Seite. */
+const PAGE_SIZE = 5;
+
 function Reservations() {
-    const [reservation, setReservation] = useState(null);
+    const [reservations, setReservations] = useState([]);
+    const [page, setPage] = useState(0);
+    const [totalPages, setTotalPages] = useState(0);
     const [loading, setLoading] = useState(true);
     const [errorMsg, setErrorMsg] = useState("");
     const navigate = useNavigate();
@@ -32,16 +37,16 @@ function Reservations() {
     );
 
     /**
-     * Lädt die aktuelle Reservierung des angemeldeten Benutzers.
+     * Lädt die aktuelle Seite der Reservierungen des angemeldeten Benutzers.
      * @param {AbortSignal} [signal] optionales Abbruchsignal
      */
-    const loadReservation = useCallback(
+    const loadReservations = useCallback(
         async (signal) => {
             setLoading(true);
             setErrorMsg("");
 
             try {
-                const res = await fetch(`${API}/api/reservations/userReservations`, {
+                const res = await fetch(`${API}/api/reservations/userReservations?page=${page}&size=${PAGE_SIZE}`, {
                     credentials: "include",
                     signal,
                 });
@@ -49,21 +54,23 @@ function Reservations() {
                 const status = res.status;
 
                 if (status === 401) {
-                    setReservation(null);
+                    setReservations([]);
                     setErrorMsg("Nie jesteś zalogowany.");
                     setTimeout(() => navigate("/login"), 300);
                     return;
                 }
 
                 if (status === 204) {
-                    setReservation(null);
+                    setReservations([]);
+                    setTotalPages(0);
                     return;
                 }
 
                 if (res.ok) {
                     const raw = await res.text();
                     if (!raw) {
-                        setReservation(null);
+                        setReservations([]);
+                        setTotalPages(0);
                         return;
                     }
                     let data;
@@ -72,7 +79,8 @@ function Reservations() {
                     } catch {
                         throw new Error(raw || "Odpowiedź nie jest JSON-em.");
                     }
-                    setReservation(data && data.id ? data : null);
+                    setReservations(Array.isArray(data?.content) ? data.content : []);
+                    setTotalPages(data?.page?.totalPages ?? 0);
                     return;
                 }
 
@@ -81,23 +89,24 @@ function Reservations() {
             } catch (err) {
                 if (err.name !== "AbortError") {
                     setErrorMsg(err.message || "Błąd podczas ładowania rezerwacji.");
-                    setReservation(null);
+                    setReservations([]);
                 }
             } finally {
                 setLoading(false);
             }
         },
-        [API, navigate]
+        [API, navigate, page]
     );
 
     useEffect(() => {
         const ac = new AbortController();
-        loadReservation(ac.signal);
+        loadReservations(ac.signal);
         return () => ac.abort();
-    }, [loadReservation]);
+    }, [loadReservations]);
 
     /**
-     * Löscht die Reservierung des Benutzers.
+     * Löscht eine Reservierung des Benutzers und lädt die aktuelle Seite neu
+     * (bzw. die vorherige, wenn die Seite dadurch leer wird).
      * @param {number} id Reservierungs-ID
      */
     const deleteReservation = async (id) => {
@@ -110,7 +119,11 @@ function Reservations() {
                 const t = await res.text();
                 throw new Error(t || `Löschen fehlgeschlagen: ${res.status}`);
             }
-            setReservation(null);
+            if (reservations.length === 1 && page > 0) {
+                setPage(page - 1);
+            } else {
+                loadReservations();
+            }
         } catch (err) {
             setErrorMsg(err.message || "Błąd podczas usuwania rezerwacji.");
         }
@@ -140,10 +153,10 @@ function Reservations() {
                     >
                         ← Zurück
                     </button>
-                    <h1>Deine Reservierung</h1>
+                    <h1>Deine Reservierungen</h1>
 
                     <button
-                        onClick={() => loadReservation()}
+                        onClick={() => loadReservations()}
                         className="reservations-refresh"
                         type="button"
                         disabled={loading}
@@ -160,38 +173,64 @@ function Reservations() {
                     </div>
                 ) : errorMsg ? (
                     <p className="error-text">{errorMsg}</p>
-                ) : !reservation ? (
+                ) : reservations.length === 0 ? (
                     <p className="empty-state">Keine Reservierung vorhanden.</p>
                 ) : (
-                    <ul className="reservation-list">
-                        <li key={reservation.id} className="res-card">
-                            <div className="reservation-info">
-                                <div>
-                                    <strong>Benutzer:</strong>{" "}
-                                    {reservation.fullName || reservation.username || "–"}
-                                </div>
-                                <div>
-                                    <strong>Tischnummer:</strong>{" "}
-                                    {reservation.tableNumber ?? "?"}
-                                </div>
-                                <div>
-                                    <strong>Datum:</strong> {fmtDate(reservation.startTime)}
-                                </div>
-                                <div>
-                                    <strong>Uhrzeit:</strong>{" "}
-                                    {fmtTime(reservation.startTime, reservation.endTime)}
-                                </div>
-                            </div>
-                            <button
-                                className="delete-btn"
-                                type="button"
-                                onClick={() => deleteReservation(reservation.id)}
-                                aria-label="Reservierung löschen"
-                            >
-                                Löschen
-                            </button>
-                        </li>
-                    </ul>
+                    <>
+                        <ul className="reservation-list">
+                            {reservations.map((reservation) => (
+                                <li key={reservation.id} className="res-card">
+                                    <div className="reservation-info">
+                                        <div>
+                                            <strong>Benutzer:</strong>{" "}
+                                            {reservation.fullName || reservation.username || "–"}
+                                        </div>
+                                        <div>
+                                            <strong>Tischnummer:</strong>{" "}
+                                            {reservation.tableNumber ?? "?"}
+                                        </div>
+                                        <div>
+                                            <strong>Datum:</strong> {fmtDate(reservation.startTime)}
+                                        </div>
+                                        <div>
+                                            <strong>Uhrzeit:</strong>{" "}
+                                            {fmtTime(reservation.startTime, reservation.endTime)}
+                                        </div>
+                                    </div>
+                                    <button
+                                        className="delete-btn"
+                                        type="button"
+                                        onClick={() => deleteReservation(reservation.id)}
+                                        aria-label="Reservierung löschen"
+                                    >
+                                        Löschen
+                                    </button>
+                                </li>
+                            ))}
+                        </ul>
+
+                        {totalPages > 1 && (
+                            <nav className="reservations-pagination" aria-label="Seiten">
+                                <button
+                                    type="button"
+                                    onClick={() => setPage(page - 1)}
+                                    disabled={page === 0}
+                                >
+                                    ← Zurück
+                                </button>
+                                <span>
+                                    Seite {page + 1} von {totalPages}
+                                </span>
+                                <button
+                                    type="button"
+                                    onClick={() => setPage(page + 1)}
+                                    disabled={page + 1 >= totalPages}
+                                >
+                                    Weiter →
+                                </button>
+                            </nav>
+                        )}
+                    </>
                 )}
             </section>
         </main>
@@ -7,12 +7,12 @@ const renderWithRouter = (ui) => render(<BrowserRouter>{ui}</BrowserRouter>);
 /**
  * Integrationstest für die Seite <code>Reservations.jsx</code>.
  *
- * <p>Dieser Test überprüft die Anzeige und das Löschen einer Benutzer-Reservierung.</p>
+ * <p>Dieser Test überprüft die Anzeige und das Löschen von Benutzer-Reservierungen.</p>
  *
  * <ul>
  *   <li>Mockt die API-Aufrufe:
  *     <ul>
- *       <li><code>GET /api/reservations/userReservations</code> – liefert bestehende Reservierung,</li>
+ *       <li><code>GET /api/reservations/userReservations</code> – liefert eine Seite mit Reservierungen,</li>
  *       <li><code>DELETE /api/reservations/:id</code> – simuliert erfolgreiche Löschung.</li>
  *     </ul>
  *   </li>
@@ -28,6 +28,12 @@ const renderWithRouter = (ui) => render(<BrowserRouter>{ui}</BrowserRouter>);
  * @component
  * @returns {void} Führt automatisierte UI-Tests mit React Testing Library aus.
  */
+/** Baut eine Antwort im Format von Spring Data <code>PagedModel</code>. */
+const page = (content, totalPages = content.length ? 1 : 0) => ({
+    content,
+    page: { size: 5, number: 0, totalElements: content.length, totalPages },
+});
+
 describe("Reservations", () => {
     beforeEach(() => {
         global.fetch = jest.fn();
@@ -47,7 +53,7 @@ describe("Reservations", () => {
             ok: true,
             status: 200,
             headers: { get: () => "application/json" },
-            text: async () => JSON.stringify(dto),
+            text: async () => JSON.stringify(page([dto])),
         });
 
         renderWithRouter(<Reservations />);
@@ -57,6 +63,10 @@ describe("Reservations", () => {
             expect(screen.getByText("7", { exact: false })).toBeInTheDocument();
             expect(screen.getByText(/18:00 – 20:00/)).toBeInTheDocument();
         });
+        expect(fetch).toHaveBeenCalledWith(
+            "http://localhost:8080/api/reservations/userReservations?page=0&size=5",
+            expect.objectContaining({ credentials: "include" })
+        );
     });
 
     test("usuwa rezerwację po kliknięciu", async () => {
@@ -73,9 +83,10 @@ describe("Reservations", () => {
                 ok: true,
                 status: 200,
                 headers: { get: () => "application/json" },
-                text: async () => JSON.stringify(dto),
+                text: async () => JSON.stringify(page([dto])),
             })
-            .mockResolvedValueOnce({ ok: true, status: 200, text: async () => "" });
+            .mockResolvedValueOnce({ ok: true, status: 200, text: async () => "" })
+            .mockResolvedValueOnce({ ok: true, status: 200, text: async () => JSON.stringify(page([])) });
 
         renderWithRouter(<Reservations />);
 
@@ -94,4 +105,35 @@ describe("Reservations", () => {
             )
         );
     });
-});
\ No newline at end of file
+
+    test("zeigt mehrere Reservierungen und blättert zur nächsten Seite", async () => {
+        const first = [1, 2].map((id) => ({
+            id,
+            fullName: "Stammgast",
+            tableNumber: id,
+            startTime: `2025-06-1${id}T18:00:00`,
+            endTime: `2025-06-1${id}T20:00:00`,
+        }));
+        const second = [{ id: 3, fullName: "Stammgast", tableNumber: 9,
+            startTime: "2025-06-20T19:00:00", endTime: "2025-06-20T21:00:00" }];
+
+        fetch
+            .mockResolvedValueOnce({ ok: true, status: 200, text: async () => JSON.stringify(page(first, 2)) })
+            .mockResolvedValueOnce({ ok: true, status: 200, text: async () => JSON.stringify(page(second, 2)) });
+
+        renderWithRouter(<Reservations />);
+
+        await waitFor(() =>
+            expect(screen.getAllByRole("button", { name: /Reservierung löschen/i })).toHaveLength(2)
+        );
+        expect(screen.getByText(/Seite 1 von 2/)).toBeInTheDocument();
+
+        fireEvent.click(screen.getByRole("button", { name: /Weiter/i }));
+
+        await waitFor(() => expect(screen.getByText(/19:00 – 21:00/)).toBeInTheDocument());
+        expect(fetch).toHaveBeenLastCalledWith(
+            "http://localhost:8080/api/reservations/userReservations?page=1&size=5",
+            expect.anything()
+        );
+    });
+});
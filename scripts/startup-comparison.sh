@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Vergleicht Startzeit und Speicherbedarf (RSS) der Startvarianten des Backends:
+#   jar         – normales Spring-Boot-Jar (mvn package)
+#   aot         – Spring-AOT-Klassen, ohne CDS (mvn -Pfast-start package)
+#   aot+cds     – Spring AOT und AppCDS-Archiv (mvn -Pfast-start package)
+#   native      – GraalVM Native Image (mvn -Pnative package), falls vorhanden
+#
+# Voraussetzung: PostgreSQL läuft wie für den normalen Start (spring.datasource.*).
+# Aufruf im Projektordner:  scripts/startup-comparison.sh [Läufe pro Variante, Standard 3]
+# Ausgabe: je Lauf Startzeit laut Spring ("Started … in"), Zeit bis zur ersten HTTP-Antwort
+# und RSS direkt nach dem Start; am Ende der Median je Variante.
+
+set -euo pipefail
+
+RUNS=${1:-3}
+PORT=${PORT:-18080}
+TARGET=$(cd "$(dirname "$0")/.." && pwd)/target
+JAR=$(ls "$TARGET"/reservationSystem-*.jar 2>/dev/null | grep -v original | head -1 || true)
+FAST_START=$TARGET/fast-start
+ARGS=(--server.port="$PORT" --spring.jpa.show-sql=false)
+
+# Arbeitsverzeichnis und Befehl je Variante; das CDS-Archiv passt nur zum Klassenpfad des
+# Trainingslaufs, daher startet fast-start im eigenen Verzeichnis mit relativem Jar-Pfad
+declare -A DIRS COMMANDS
+if [[ -n "$JAR" ]]; then
+  DIRS[jar]=$TARGET; COMMANDS[jar]="java -jar $(basename "$JAR")"
+fi
+if [[ -f "$FAST_START/application.jsa" ]]; then
+  DIRS[aot]=$FAST_START; COMMANDS[aot]="java -Dspring.aot.enabled=true -jar $(basename "$JAR")"
+  DIRS[aot+cds]=$FAST_START
+  COMMANDS[aot+cds]="java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar $(basename "$JAR")"
+fi
+if [[ -x "$TARGET/reservationSystem" ]]; then
+  DIRS[native]=$TARGET; COMMANDS[native]="./reservationSystem"
+fi
+
+if [[ ${#COMMANDS[@]} -eq 0 ]]; then
+  echo "Keine Artefakte gefunden: zuerst mvn package / mvn -Pfast-start package / mvn -Pnative package" >&2
+  exit 1
+fi
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'; }
+now_ms() { date +%s%3N; }
+
+LOG=$(mktemp)
+trap 'rm -f "$LOG"' EXIT
+
+printf '%-8s %4s %12s %12s %10s\n' variante lauf "spring [s]" "http [ms]" "rss [MB]"
+for variant in jar aot aot+cds native; do
+  [[ -n "${COMMANDS[$variant]:-}" ]] || continue
+  spring_times=(); http_times=(); rss_values=()
+  for run in $(seq 1 "$RUNS"); do
+    begin=$(now_ms)
+    (cd "${DIRS[$variant]}" && exec ${COMMANDS[$variant]} "${ARGS[@]}") > "$LOG" 2>&1 &
+    pid=$!
+    until curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; do
+      kill -0 "$pid" 2>/dev/null || { echo "$variant: Start fehlgeschlagen, siehe Log:" >&2; tail -20 "$LOG" >&2; exit 1; }
+      sleep 0.05
+    done
+    http=$(( $(now_ms) - begin ))
+    rss=$(( $(ps -o rss= -p "$pid") / 1024 ))
+    spring=$(grep -a -o 'Started ReservationSystemApplication in [0-9.]*' "$LOG" | awk '{ print $NF }')
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+
+    printf '%-8s %4d %12s %12d %10d\n' "$variant" "$run" "$spring" "$http" "$rss"
+    spring_times+=("$spring"); http_times+=("$http"); rss_values+=("$rss")
+  done
+  printf '%-8s %4s %12s %12s %10s\n\n' "$variant" median \
+    "$(printf '%s\n' "${spring_times[@]}" | median)" \
+    "$(printf '%s\n' "${http_times[@]}" | median)" \
+    "$(printf '%s\n' "${rss_values[@]}" | median)"
+done
@@ -0,0 +1,128 @@
+package org.example.reservationsystem.benchmark;
+
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.service.ReservationPartitionMaintenance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Gemeinsame Testdaten für die JMH-Benchmarks.
+ *
+ * <p>Erzeugt Entitäten ohne Datenbank, IDs werden per {@link ReflectionTestUtils}
+ * gesetzt, da {@link User} keinen öffentlichen ID-Setter besitzt.</p>
+ *
+ * @author Maciej Janowski
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * Liefert die Verbindungsdaten der Benchmark-Datenbank.
+     *
+     * <p>Verbindung über die System-Properties {@code jmh.jdbc.url}, {@code jmh.jdbc.user}
+     * und {@code jmh.jdbc.password} (Standard: lokale Datenbank aus
+     * {@code application.properties}).</p>
+     *
+     * @param schema Schema für unqualifizierte Tabellennamen oder {@code null}
+     * @return DataSource ohne Verbindungspool (eine neue Verbindung je Zugriff)
+     */
+    static DriverManagerDataSource dataSource(String schema) {
+        String url = System.getProperty("jmh.jdbc.url", "jdbc:postgresql://localhost:5432/reservation");
+        String user = System.getProperty("jmh.jdbc.user", "maciej");
+        String password = System.getProperty("jmh.jdbc.password", "maciej");
+        if (schema != null) {
+            url = url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema;
+        }
+        return new DriverManagerDataSource(url, user, password);
+    }
+
+    /**
+     * Legt die Tabelle {@code reservations} wie in {@code V1__initial_schema.sql} an:
+     * nach {@code start_time} partitioniert, mit Auffangpartition und denselben Indizes.
+     * Die Monatspartitionen von {@code first} bis {@code last} erzeugt
+     * {@link ReservationPartitionMaintenance} (gleiche Namen und DDL wie im Betrieb).
+     *
+     * @param schemaJdbc JDBC-Zugriff mit gesetztem {@code currentSchema}
+     * @param first      erster Monat mit eigener Partition
+     * @param last       letzter Monat mit eigener Partition
+     */
+    static void createReservationsTable(JdbcTemplate schemaJdbc, YearMonth first, YearMonth last) {
+        schemaJdbc.execute("""
+                CREATE TABLE reservations (
+                    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                    start_time     TIMESTAMP(6) NOT NULL,
+                    end_time       TIMESTAMP(6) NOT NULL,
+                    table_id       BIGINT       NOT NULL,
+                    user_id        BIGINT       NOT NULL,
+                    combination_id UUID,
+                    tenant_id      VARCHAR(40)  NOT NULL DEFAULT 'default',
+                    PRIMARY KEY (id, start_time)
+                ) PARTITION BY RANGE (start_time)
+                """);
+        new ReservationPartitionMaintenance(schemaJdbc,
+                new DataSourceTransactionManager(schemaJdbc.getDataSource()),
+                (int) ChronoUnit.MONTHS.between(first, last), 1200, "unused_archive")
+                .maintain(first);
+        schemaJdbc.execute("CREATE TABLE reservations_default PARTITION OF reservations DEFAULT");
+        schemaJdbc.execute("CREATE INDEX ON reservations (table_id, start_time, end_time)");
+        schemaJdbc.execute("CREATE INDEX ON reservations (user_id, start_time)");
+        schemaJdbc.execute("CREATE INDEX ON reservations (tenant_id, start_time)");
+        schemaJdbc.execute("CREATE INDEX ON reservations (end_time)");
+    }
+
+    /**
+     * Liefert „morgen um HH:MM Uhr“ ohne Sekunden/Nanosekunden.
+     *
+     * @param hour   Stunde (24h-Format)
+     * @param minute Minute
+     * @return Zeitpunkt am Folgetag
+     */
+    static LocalDateTime tomorrowAt(int hour, int minute) {
+        return LocalDateTime.now()
+                .plusDays(1)
+                .withHour(hour).withMinute(minute)
+                .withSecond(0).withNano(0);
+    }
+
+    /**
+     * Erzeugt einen Benutzer mit gesetzter ID.
+     *
+     * @param id    Datenbank-ID
+     * @param email E-Mail-Adresse
+     * @return Benutzerentität
+     */
+    static User user(long id, String email) {
+        User user = new User("{noop}secret", Role.ROLE_USER, "Max Mustermann", email, "+49 170 0000000");
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    /**
+     * Erzeugt eine vollständig verknüpfte Reservierung (Benutzer + Tisch).
+     *
+     * @param id    Reservierungs-ID
+     * @param start Beginn
+     * @param end   Ende
+     * @return Reservierung mit Benutzer und Tisch
+     */
+    static Reservation reservation(long id, LocalDateTime start, LocalDateTime end) {
+        RestaurantTable table = new RestaurantTable(4, (int) (id % 6) + 1);
+        table.setId(id % 6 + 1);
+
+        Reservation r = new Reservation(start, end);
+        r.setId(id);
+        r.setTable(table);
+        r.setUser(user(id, "user" + id + "@example.com"));
+        return r;
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.reservationsystem.benchmark;
+
+import org.example.reservationsystem.service.ExpiredReservationSweeper;
+import org.example.reservationsystem.service.ReservationVersions;
+import org.example.reservationsystem.service.TableHoldRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durchsatz-Benchmark für den {@link ExpiredReservationSweeper} mit einer Million
+ * abgelaufener Reservierungen (PostgreSQL).
+ *
+ * <p>Vor jeder Iteration werden im eigenen Schema {@code bench_sweeper} die Tabellen
+ * {@code reservations} und {@code reservation_history} neu angelegt und per
+ * {@code generate_series} mit 1 000 000 vergangenen Reservierungen (rund 23 Monate)
+ * befüllt; das Schema wird am Ende wieder gelöscht. {@code reservations} ist wie in der
+ * Anwendung monatsweise partitioniert, mit einer Partition je Monat des erzeugten
+ * Zeitraums und der Auffangpartition. Gemessen wird ein vollständiger Lauf des Sweepers
+ * je Stapelgröße ({@link Mode#SingleShotTime}); Zeilen pro Sekunde ergeben sich aus
+ * {@code 1 000 000 / Score}.</p>
+ *
+ * <p>Verbindung siehe {@link BenchmarkFixtures#dataSource(String)}.</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpiredReservationSweepBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    @Param({"1000", "10000"})
+    public int batchSize;
+
+    private JdbcTemplate admin;
+    private JdbcTemplate jdbcTemplate;
+    private ExpiredReservationSweeper sweeper;
+    private LocalDateTime cutoff;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        admin = new JdbcTemplate(BenchmarkFixtures.dataSource(null));
+        admin.execute("CREATE SCHEMA IF NOT EXISTS bench_sweeper");
+        jdbcTemplate = new JdbcTemplate(BenchmarkFixtures.dataSource("bench_sweeper"));
+        sweeper = new ExpiredReservationSweeper(
+                jdbcTemplate,
+                new ReservationVersions(new TableHoldRegistry(Duration.ofMinutes(2)), null, true, Duration.ZERO),
+                batchSize);
+        cutoff = LocalDateTime.now();
+    }
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS reservations, reservation_history");
+        LocalDateTime oldest = cutoff.minusDays(1).minusMinutes(ROWS);
+        BenchmarkFixtures.createReservationsTable(jdbcTemplate, YearMonth.from(oldest), YearMonth.from(cutoff));
+        jdbcTemplate.execute("""
+                CREATE TABLE reservation_history (
+                    id          BIGINT PRIMARY KEY,
+                    start_time  TIMESTAMP(6) NOT NULL,
+                    end_time    TIMESTAMP(6) NOT NULL,
+                    table_id    BIGINT       NOT NULL,
+                    user_id     BIGINT       NOT NULL,
+                    tenant_id   VARCHAR(40)  NOT NULL,
+                    archived_at TIMESTAMP(6) NOT NULL
+                )
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO reservations (start_time, end_time, table_id, user_id)
+                SELECT ts, ts + interval '2 hours', g % 50, g
+                  FROM generate_series(1, ?) g,
+                       LATERAL (SELECT ?::timestamp - (g || ' minutes')::interval - interval '1 day' AS ts) t
+                """, ROWS, cutoff);
+        jdbcTemplate.execute("ANALYZE reservations");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        admin.execute("DROP SCHEMA IF EXISTS bench_sweeper CASCADE");
+    }
+
+    @Benchmark
+    public long sweepMillionRows() {
+        return sweeper.sweepExpiredBefore(cutoff);
+    }
+}
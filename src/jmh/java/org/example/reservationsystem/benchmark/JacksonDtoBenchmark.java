@@ -0,0 +1,87 @@
+package org.example.reservationsystem.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.reservationsystem.DTO.AuthUserDTO;
+import org.example.reservationsystem.DTO.ReservationViewDTO;
+import org.example.reservationsystem.DTO.TableViewDTO;
+import org.example.reservationsystem.config.JacksonConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vergleich der Jackson-Serialisierung der Antwort-DTOs mit und ohne die Einstellungen
+ * aus {@link JacksonConfig}.
+ *
+ * <p>{@code mapper=default} entspricht der Basis-Konfiguration von Spring MVC,
+ * {@code mapper=tuned} registriert zusätzlich das Blackbird-Modul und wärmt die Writer vor.
+ * Die Listen haben die Größe typischer Antworten von {@code /all} (100 Reservierungen)
+ * bzw. {@code /available} (30 Tische). Bytes/op liefert der GC-Profiler des
+ * {@code benchmark}-Profils ({@code gc.alloc.rate.norm}).</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonDtoBenchmark {
+
+    @Param({"default", "tuned"})
+    public String mapper;
+
+    private ObjectWriter reservationsWriter;
+    private ObjectWriter tablesWriter;
+    private ObjectWriter userWriter;
+    private List<ReservationViewDTO> reservations;
+    private List<TableViewDTO> tables;
+    private AuthUserDTO user;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("tuned".equals(mapper)) builder.modulesToInstall(new JacksonConfig().blackbirdModule());
+        ObjectMapper objectMapper = builder.build();
+        if ("tuned".equals(mapper)) JacksonConfig.prefetchWriters(objectMapper);
+
+        // wie Spring MVC: ein Writer ohne festen Typ, der Serializer wird pro Aufruf nachgeschlagen
+        reservationsWriter = objectMapper.writer();
+        tablesWriter = objectMapper.writer();
+        userWriter = objectMapper.writer();
+
+        LocalDateTime start = BenchmarkFixtures.tomorrowAt(18, 0);
+        reservations = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            reservations.add(new ReservationViewDTO((long) i + 1, "user" + i + "@example.com",
+                    "Gast Nummer " + i, i % 30 + 1, start, start.plusHours(2)));
+        }
+        tables = new ArrayList<>(30);
+        for (int i = 0; i < 30; i++) {
+            tables.add(new TableViewDTO((long) i + 1, i + 1, 2 + i % 4 * 2));
+        }
+        user = new AuthUserDTO("anna@example.com", "ROLE_USER", "Anna Muster", "+49 170 0000000");
+    }
+
+    @Benchmark
+    public byte[] reservations() throws JsonProcessingException {
+        return reservationsWriter.writeValueAsBytes(reservations);
+    }
+
+    @Benchmark
+    public byte[] tables() throws JsonProcessingException {
+        return tablesWriter.writeValueAsBytes(tables);
+    }
+
+    @Benchmark
+    public byte[] authUser() throws JsonProcessingException {
+        return userWriter.writeValueAsBytes(user);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.reservationsystem.benchmark;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.reservationsystem.JWTServices.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark für {@link JwtService#generateToken(UserDetails)} und
+ * {@link JwtService#extractUsername(String)}.
+ *
+ * <p>Der Service wird wie im {@code JwtServiceTest} ohne Spring-Kontext
+ * erzeugt; Secret und Ablaufzeit werden per {@link ReflectionTestUtils} gesetzt.</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        String secret = Base64.getEncoder()
+                .encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        ReflectionTestUtils.setField(jwtService, "secretKeyBase64", secret);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3600000L);
+
+        user = new User("maciej@example.com", "test-password", Collections.emptyList());
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.reservationsystem.benchmark;
+
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.service.BookingRules;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark der Überschneidungsprüfung in der Datenbank (PostgreSQL):
+ * {@link ReservationRepository#existsOverlap} vor jeder Buchung und
+ * {@link ReservationRepository#findBusyTableIds} bei jeder Verfügbarkeitsabfrage.
+ *
+ * <p>Im eigenen Schema {@code bench_overlap} wird {@code reservations} wie in der
+ * Anwendung angelegt (Monatspartitionen, Auffangpartition, Indizes) und per
+ * {@code generate_series} für {@code tables} Tische über ein Jahr (ein halbes Jahr zurück
+ * und voraus) mit {@code reservationsPerTableAndDay} Belegungen zu je zwei Stunden ab
+ * 11:00 befüllt. Gemessen werden die von Hibernate erzeugten SQL-Anweisungen mit
+ * Mandantenfilter und der Untergrenze {@code earliestStart} für ein Fenster morgen um
+ * 19:00, über eine einzige offene Verbindung; das Schema wird am Ende wieder gelöscht.</p>
+ *
+ * <p>Verbindung siehe {@link BenchmarkFixtures#dataSource(String)}.</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverlapDetectionBenchmark {
+
+    private static final String SCHEMA = "bench_overlap";
+    private static final int DAYS = 365;
+
+    /** SQL zu {@link ReservationRepository#existsOverlap} inklusive Mandantenfilter. */
+    private static final String EXISTS_OVERLAP = """
+            select count(r1_0.id)>0 from reservations r1_0
+             where r1_0.tenant_id = ? and r1_0.table_id=?
+               and r1_0.start_time>? and r1_0.start_time<? and r1_0.end_time>?
+            """;
+
+    /** SQL zu {@link ReservationRepository#findBusyTableIds} inklusive Mandantenfilter. */
+    private static final String FIND_BUSY_TABLE_IDS = """
+            select distinct r1_0.table_id from reservations r1_0
+             where r1_0.tenant_id = ?
+               and r1_0.start_time>? and r1_0.start_time<? and r1_0.end_time>?
+            """;
+
+    @Param({"50"})
+    public int tables;
+
+    @Param({"2", "6"})
+    public int reservationsPerTableAndDay;
+
+    private JdbcTemplate admin;
+    private SingleConnectionDataSource connection;
+    private JdbcTemplate jdbcTemplate;
+    private LocalDateTime requestedStart;
+    private LocalDateTime requestedEnd;
+    private LocalDateTime earliestStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        admin = new JdbcTemplate(BenchmarkFixtures.dataSource(null));
+        admin.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        admin.execute("CREATE SCHEMA " + SCHEMA);
+
+        DriverManagerDataSource schemaSource = BenchmarkFixtures.dataSource(SCHEMA);
+        JdbcTemplate schemaJdbc = new JdbcTemplate(schemaSource);
+        LocalDate firstDay = LocalDate.now().minusDays(DAYS / 2);
+        LocalDate lastDay = firstDay.plusDays(DAYS - 1);
+        BenchmarkFixtures.createReservationsTable(schemaJdbc, YearMonth.from(firstDay), YearMonth.from(lastDay));
+        schemaJdbc.update("""
+                INSERT INTO reservations (start_time, end_time, table_id, user_id)
+                SELECT ts, ts + interval '2 hours', t, t
+                  FROM generate_series(0, ? - 1) d,
+                       generate_series(1, ?) t,
+                       generate_series(0, ? - 1) k,
+                       LATERAL (SELECT ?::timestamp + d * interval '1 day' + k * interval '2 hours' AS ts) x
+                """, DAYS, tables, reservationsPerTableAndDay, firstDay.atTime(11, 0));
+        schemaJdbc.execute("ANALYZE reservations");
+
+        connection = new SingleConnectionDataSource(schemaSource.getUrl(), schemaSource.getUsername(),
+                schemaSource.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(connection);
+        requestedStart = BenchmarkFixtures.tomorrowAt(19, 0);
+        requestedEnd = requestedStart.plusHours(2);
+        earliestStart = requestedStart.minus(BookingRules.MAX_SUPPORTED_DURATION);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connection.destroy();
+        admin.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @Benchmark
+    public Boolean existsOverlap() {
+        return jdbcTemplate.queryForObject(EXISTS_OVERLAP, Boolean.class,
+                "default", (long) tables, earliestStart, requestedEnd, requestedStart);
+    }
+
+    @Benchmark
+    public List<Long> findBusyTableIds() {
+        return jdbcTemplate.queryForList(FIND_BUSY_TABLE_IDS, Long.class,
+                "default", earliestStart, requestedEnd, requestedStart);
+    }
+}
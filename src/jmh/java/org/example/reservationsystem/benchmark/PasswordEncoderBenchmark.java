@@ -0,0 +1,46 @@
+package org.example.reservationsystem.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark der BCrypt-Kosten ({@link BCryptPasswordEncoder}) für Registrierung
+ * ({@code encode}) und Login ({@code matches}).
+ *
+ * <p>Der Parameter {@code strength} entspricht dem BCrypt-Cost-Faktor;
+ * {@code 10} ist der in {@code ApplicationConfiguration} verwendete Standard.</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode("geheimesPasswort123");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("geheimesPasswort123");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("geheimesPasswort123", hash);
+    }
+}
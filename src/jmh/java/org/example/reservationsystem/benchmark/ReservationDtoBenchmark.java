@@ -0,0 +1,68 @@
+package org.example.reservationsystem.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.DTO.ReservationViewDTO;
+import org.example.reservationsystem.model.Reservation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark für das DTO-Mapping im {@code ReservationController}
+ * ({@link ReservationViewDTO#fromReservation(Reservation)}) und die
+ * Jackson-Serialisierung von {@link ReservationViewDTO}.
+ *
+ * <p>Der {@link ObjectMapper} wird über {@link Jackson2ObjectMapperBuilder}
+ * erzeugt und entspricht damit der Basis-Konfiguration von Spring MVC
+ * (JavaTimeModule, ISO-Datumsformat). {@code listSize} steuert die Größe der
+ * Liste wie bei {@code GET /api/reservations/all}.</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationDtoBenchmark {
+
+    @Param({"1", "100"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private List<Reservation> reservations;
+    private List<ReservationViewDTO> dtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reservations = new ArrayList<>(listSize);
+        LocalDateTime start = BenchmarkFixtures.tomorrowAt(18, 0);
+        for (int i = 0; i < listSize; i++) {
+            reservations.add(BenchmarkFixtures.reservation(i + 1, start, start.plusHours(2)));
+        }
+        dtos = reservations.stream().map(ReservationViewDTO::fromReservation).toList();
+    }
+
+    @Benchmark
+    public List<ReservationViewDTO> toDto() {
+        return reservations.stream().map(ReservationViewDTO::fromReservation).toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] toDtoAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                reservations.stream().map(ReservationViewDTO::fromReservation).toList());
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.reservationsystem.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.DTO.ReservationViewDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmark für die Antwort von {@code GET /api/reservations/all} mit 100.000 Zeilen:
+ * Serialisierungszeit und Payload-Größe für JSON und CBOR, jeweils unkomprimiert und mit gzip.
+ *
+ * <p>Die {@link ObjectMapper} entsprechen den Konvertern von Spring MVC
+ * ({@link Jackson2ObjectMapperBuilder#json()} bzw. {@link Jackson2ObjectMapperBuilder#cbor()}).
+ * gzip läuft wie bei Tomcat mit der Standard-Kompressionsstufe. Die Zeilen verteilen sich
+ * auf {@code users} Benutzer, E-Mail und Name wiederholen sich also wie in der
+ * Admin-Übersicht. Die Payload-Größe misst {@link #payloadSize} mit genau einem Aufruf;
+ * sie steht als Zusatzzähler {@code payloadSize:payloadBytes} im Ergebnis (Konsole und
+ * {@code target/jmh-result.json}).</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationExportBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"2000"})
+    public int users;
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"none", "gzip"})
+    public String compression;
+
+    private ObjectMapper mapper;
+    private List<ReservationViewDTO> dtos;
+
+    /**
+     * Größe der Antwort, von JMH als Zusatzergebnis ausgewiesen. {@code EVENTS}-Zähler werden
+     * über die Iterationen summiert, daher nur in {@link #payloadSize} befüllt.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        mapper = "cbor".equals(format)
+                ? Jackson2ObjectMapperBuilder.cbor().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime base = BenchmarkFixtures.tomorrowAt(11, 0);
+        dtos = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int user = i % users;
+            LocalDateTime start = base.plusDays(i / 300).plusMinutes(30L * (i % 20));
+            dtos.add(new ReservationViewDTO((long) i + 1, "user" + user + "@example.com",
+                    "Gast Nummer " + user, i % 40 + 1, start, start.plusHours(2)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+        if ("gzip".equals(compression)) {
+            try (OutputStream gzip = new GZIPOutputStream(bytes, 8192)) {
+                mapper.writeValue(gzip, dtos);
+            }
+        } else {
+            mapper.writeValue(bytes, dtos);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1, batchSize = 1)
+    public byte[] payloadSize(Payload payload) throws IOException {
+        byte[] bytes = serialize();
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+}
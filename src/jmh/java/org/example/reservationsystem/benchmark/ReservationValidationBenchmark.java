@@ -0,0 +1,87 @@
+package org.example.reservationsystem.benchmark;
+
+import org.example.reservationsystem.model.OpeningHours;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.service.BookingRules;
+import org.example.reservationsystem.service.OpeningHoursService;
+import org.example.reservationsystem.service.ReservationService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark für {@link ReservationService#validateReservationInput(Reservation)}.
+ *
+ * <p>Gemessen werden der gültige Pfad (alle Regeln bestanden) sowie ein
+ * abgelehnter Pfad, bei dem die Ausnahme inklusive Stacktrace erzeugt wird.
+ * Die Validierung greift nicht auf Repositories zu, daher werden diese als
+ * {@code null} übergeben.</p>
+ *
+ * <p>{@code splitServices} prüft zusätzlich einen {@link BookingRules}-Schnappschuss mit
+ * Mittags- und Abendservice an allen Wochentagen und 30 Ausnahmedaten; mit
+ * {@code -prof gc} sollte der gültige Pfad keine Allokationen zeigen.</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReservationValidationBenchmark {
+
+    private ReservationService service;
+    private Reservation valid;
+    private Reservation tooLate;
+    private BookingRules splitRules;
+
+    @Setup
+    public void setUp() {
+        Duration min = Duration.ofMinutes(30);
+        Duration def = Duration.ofHours(2);
+        Duration max = Duration.ofHours(5);
+        service = new ReservationService(null, null, null, null, null, null,
+                new OpeningHoursService(null, min, def, max), null, null, 3);
+
+        List<OpeningHours> hours = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            hours.add(new OpeningHours(day, LocalTime.of(11, 30), LocalTime.of(14, 30), "Mittag"));
+            hours.add(new OpeningHours(day, LocalTime.of(17, 0), LocalTime.of(22, 0), "Abend"));
+        }
+        for (int i = 0; i < 30; i++) {
+            hours.add(OpeningHours.closedOn(LocalDate.now().plusDays(10L + i * 7L), "Feiertag"));
+        }
+        splitRules = BookingRules.of(hours, min, def, max);
+        valid = new Reservation(BenchmarkFixtures.tomorrowAt(18, 0), BenchmarkFixtures.tomorrowAt(20, 0));
+        tooLate = new Reservation(BenchmarkFixtures.tomorrowAt(21, 0), BenchmarkFixtures.tomorrowAt(23, 0));
+    }
+
+    @Benchmark
+    public Reservation validReservation() {
+        service.validateReservationInput(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public boolean splitServices() {
+        splitRules.validate(valid.getStartTime(), valid.getEndTime());
+        return true;
+    }
+
+    @Benchmark
+    public void rejectedReservation(Blackhole bh) {
+        try {
+            service.validateReservationInput(tooLate);
+        } catch (IllegalArgumentException e) {
+            bh.consume(e);
+        }
+    }
+}
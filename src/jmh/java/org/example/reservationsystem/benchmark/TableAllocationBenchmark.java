@@ -0,0 +1,79 @@
+package org.example.reservationsystem.benchmark;
+
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.repository.BusyInterval;
+import org.example.reservationsystem.service.BestFitTableAllocator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark der Best-Fit-Tischzuteilung ({@link BestFitTableAllocator}) auf einer großen Fläche.
+ *
+ * <p>Simuliert {@code tables} Tische mit 2, 4, 6 oder 8 Plätzen und pro Tisch
+ * {@code reservationsPerTable} zufällige, nicht überlappende Belegungen zwischen
+ * 17:00 und 22:00 (fester Seed). Gemessen wird die Auswahl für eine Gruppe von drei
+ * Personen um 19:00 – also genau die Arbeit, die {@code addReservationForParty}
+ * nach der einen Tagesabfrage im Speicher leistet.</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableAllocationBenchmark {
+
+    private static final int[] SEATS = {2, 4, 6, 8};
+
+    @Param({"300"})
+    public int tables;
+
+    @Param({"0", "3", "6"})
+    public int reservationsPerTable;
+
+    private List<RestaurantTable> floor;
+    private List<BusyInterval> busy;
+    private LocalDateTime dayStart;
+    private LocalDateTime dayEnd;
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        dayStart = BenchmarkFixtures.tomorrowAt(0, 0);
+        dayEnd = dayStart.plusDays(1);
+        start = dayStart.withHour(19);
+        end = start.plusHours(2);
+
+        floor = new ArrayList<>(tables);
+        busy = new ArrayList<>(tables * reservationsPerTable);
+        for (int i = 0; i < tables; i++) {
+            RestaurantTable table = new RestaurantTable(SEATS[random.nextInt(SEATS.length)], i + 1);
+            table.setId(i + 1L);
+            floor.add(table);
+
+            LocalDateTime cursor = dayStart.withHour(17);
+            for (int r = 0; r < reservationsPerTable; r++) {
+                LocalDateTime from = cursor.plusMinutes(15L * random.nextInt(3));
+                LocalDateTime to = from.plusMinutes(30L + 15L * random.nextInt(3));
+                if (to.isAfter(dayStart.withHour(22))) break;
+                busy.add(new BusyInterval(table.getId(), from, to));
+                cursor = to;
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<RestaurantTable> bestFit() {
+        return BestFitTableAllocator.choose(floor, busy, start, end, 3, dayStart, dayEnd);
+    }
+}
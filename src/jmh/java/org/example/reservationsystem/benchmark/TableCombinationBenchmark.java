@@ -0,0 +1,73 @@
+package org.example.reservationsystem.benchmark;
+
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.service.TableAdjacencyIndex;
+import org.example.reservationsystem.service.TableCombination;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark der Suche nach freien Tischkombinationen ({@link TableAdjacencyIndex#findFree}).
+ *
+ * <p>Die {@code tables} Tische (2, 4, 6 oder 8 Plätze, fester Seed) stehen in Reihen zu zehn;
+ * benachbart sind Tische links/rechts in der Reihe und direkt davor/dahinter. Ein Anteil
+ * {@code occupiedPercent} ist belegt. Gemessen wird die Suche für eine Gruppe von
+ * 14 Personen – die Kombinationen sind einmalig in {@code @Setup} vorberechnet.</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableCombinationBenchmark {
+
+    private static final int[] SEATS = {2, 4, 6, 8};
+    private static final int ROW = 10;
+
+    @Param({"300"})
+    public int tables;
+
+    @Param({"0", "50", "90"})
+    public int occupiedPercent;
+
+    private TableAdjacencyIndex index;
+    private Set<Long> unavailable;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<RestaurantTable> floor = new ArrayList<>(tables);
+        unavailable = new HashSet<>();
+        for (int i = 0; i < tables; i++) {
+            RestaurantTable table = new RestaurantTable(SEATS[random.nextInt(SEATS.length)], i + 1);
+            table.setId(i + 1L);
+            if (i % ROW > 0) {
+                table.connectTo(floor.get(i - 1));
+            }
+            if (i >= ROW) {
+                table.connectTo(floor.get(i - ROW));
+            }
+            floor.add(table);
+            if (random.nextInt(100) < occupiedPercent) {
+                unavailable.add(table.getId());
+            }
+        }
+        index = new TableAdjacencyIndex(null, 3);
+        index.load(floor);
+    }
+
+    @Benchmark
+    public Optional<TableCombination> findFree() {
+        return index.findFree(14, unavailable);
+    }
+}
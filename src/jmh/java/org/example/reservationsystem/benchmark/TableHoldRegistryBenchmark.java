@@ -0,0 +1,61 @@
+package org.example.reservationsystem.benchmark;
+
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.service.TableHoldRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark der Hold-Abfragen im Speicher ({@link TableHoldRegistry}).
+ *
+ * <p>Legt {@code holds} Holds auf ebenso vielen Tischen an (je 30 Minuten, über den Tag
+ * verteilt ab 00:00, alle im selben Restaurant) und prüft ein Zeitfenster am Abend:
+ * {@code heldTableIds} läuft bei jeder Verfügbarkeitsabfrage über die Holds des
+ * Restaurants, {@code isHeldByOther} vor jeder Buchung
+ * über die Holds eines Tisches. Die Überschneidungsprüfung in der Datenbank misst
+ * {@link OverlapDetectionBenchmark}.</p>
+ *
+ * @author Maciej Janowski
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableHoldRegistryBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int holds;
+
+    private TableHoldRegistry registry;
+    private LocalDateTime requestedStart;
+    private LocalDateTime requestedEnd;
+
+    @Setup
+    public void setUp() {
+        registry = new TableHoldRegistry(Duration.ofHours(1));
+        LocalDateTime day = BenchmarkFixtures.tomorrowAt(0, 0);
+        for (int i = 0; i < holds; i++) {
+            LocalDateTime start = day.plusMinutes(30L * (i % 48));
+            registry.tryHold(i + 1, i + 1, start, start.plusMinutes(30), "user" + i + "@example.com")
+                    .orElseThrow();
+        }
+        requestedStart = BenchmarkFixtures.tomorrowAt(19, 45);
+        requestedEnd = requestedStart.plusHours(2);
+    }
+
+    @Benchmark
+    public Set<Long> heldTableIds() {
+        return registry.heldTableIds(TenantContext.DEFAULT_TENANT, requestedStart, requestedEnd);
+    }
+
+    @Benchmark
+    public boolean isHeldByOther() {
+        return registry.isHeldByOther(holds, requestedStart, requestedEnd, "guest@example.com");
+    }
+}
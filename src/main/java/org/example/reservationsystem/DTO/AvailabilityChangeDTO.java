@@ -0,0 +1,17 @@
+package org.example.reservationsystem.DTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Änderung der Verfügbarkeit eines Tisches in einem Zeitfenster, Teil eines
+ * {@link AvailabilityDeltaDTO}.
+ *
+ * @param tableNumber Tischnummer
+ * @param start       Beginn des Zeitfensters
+ * @param end         Ende des Zeitfensters
+ * @param available   {@code false} nach einer Buchung, {@code true} nach einer Stornierung
+ *
+ * @author Maciej Janowski
+ */
+public record AvailabilityChangeDTO(int tableNumber, LocalDateTime start, LocalDateTime end, boolean available) {
+}
@@ -0,0 +1,18 @@
+package org.example.reservationsystem.DTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daten eines {@code availability}-Ereignisses im Verfügbarkeits-Stream
+ * ({@code GET /api/reservations/available/stream}).
+ *
+ * <p>Enthält je Tisch und Zeitfenster nur den letzten Stand seit dem vorigen Ereignis.</p>
+ *
+ * @param date    Tag, auf den sich der Stream bezieht
+ * @param changes geänderte Tische und Zeitfenster
+ *
+ * @author Maciej Janowski
+ */
+public record AvailabilityDeltaDTO(LocalDate date, List<AvailabilityChangeDTO> changes) {
+}
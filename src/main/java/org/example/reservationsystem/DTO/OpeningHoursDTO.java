@@ -0,0 +1,66 @@
+package org.example.reservationsystem.DTO;
+
+import org.example.reservationsystem.model.OpeningHours;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Datenübertragungsobjekt (DTO) für einen Service-Zeitraum bzw. Schließtag.
+ *
+ * <p>Beispiel für {@code PUT /admin/opening-hours} (Mittag und Abend am Montag,
+ * Heiligabend geschlossen):</p>
+ * <pre>{@code
+ * [
+ *   { "dayOfWeek": "MONDAY", "opensAt": "11:30", "closesAt": "14:30", "label": "Mittag" },
+ *   { "dayOfWeek": "MONDAY", "opensAt": "17:00", "closesAt": "22:00", "label": "Abend" },
+ *   { "date": "2025-12-24", "closed": true, "label": "Heiligabend" }
+ * ]
+ * }</pre>
+ *
+ * @param id        ID des Eintrags (bei Anfragen ignoriert)
+ * @param dayOfWeek Wochentag oder {@code null} bei datumsbezogenen Einträgen
+ * @param date      Datum oder {@code null} bei Wochentagsregeln
+ * @param opensAt   Beginn des Service
+ * @param closesAt  Ende des Service
+ * @param closed    {@code true} für einen Schließtag
+ * @param label     Bezeichnung oder {@code null}
+ *
+ * @author Maciej Janowski
+ */
+public record OpeningHoursDTO(
+        Long id,
+        DayOfWeek dayOfWeek,
+        LocalDate date,
+        LocalTime opensAt,
+        LocalTime closesAt,
+        boolean closed,
+        String label
+) {
+
+    /**
+     * Erstellt ein {@code OpeningHoursDTO} aus einer {@link OpeningHours}-Entität.
+     *
+     * @param h Eintrag
+     * @return DTO
+     */
+    public static OpeningHoursDTO fromEntity(OpeningHours h) {
+        return new OpeningHoursDTO(h.getId(), h.getDayOfWeek(), h.getDate(), h.getOpensAt(),
+                h.getClosesAt(), h.isClosed(), h.getLabel());
+    }
+
+    /**
+     * @return neue, noch nicht gespeicherte Entität mit den Werten dieses DTOs
+     */
+    public OpeningHours toEntity() {
+        OpeningHours h = new OpeningHours();
+        h.setDayOfWeek(dayOfWeek);
+        h.setDate(date);
+        h.setOpensAt(opensAt);
+        h.setClosesAt(closesAt);
+        h.setClosed(closed);
+        h.setLabel(label);
+        return h;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.reservationsystem.DTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Datenübertragungsobjekt (DTO) für Reservierungsanfragen ohne Tischwahl.
+ *
+ * <p>Statt einer Tischnummer gibt der Client die Personenzahl an; der Server wählt
+ * den kleinsten passenden freien Tisch ({@code POST /api/reservations/auto}).</p>
+ *
+ * <p>Beispiel für eine typische JSON-Anfrage:</p>
+ * <pre>{@code
+ * {
+ *   "partySize": 3,
+ *   "startTime": "2025-06-09T18:00:00",
+ *   "endTime":   "2025-06-09T20:00:00"
+ * }
+ * }</pre>
+ *
+ * @author Maciej Janowski
+ */
+public class PartyReservationRequestDTO {
+
+    /** Anzahl der Personen. */
+    private int partySize;
+
+    /** Beginn der gewünschten Reservierung (lokale Zeit). */
+    private LocalDateTime startTime;
+
+    /** Ende der gewünschten Reservierung (lokale Zeit, optional). */
+    private LocalDateTime endTime;
+
+    /** @return Personenzahl */
+    public int getPartySize() { return partySize; }
+    public void setPartySize(int partySize) { this.partySize = partySize; }
+
+    /** @return Startzeitpunkt der Reservierung */
+    public LocalDateTime getStartTime() { return startTime; }
+    public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+
+    /** @return Endzeitpunkt der Reservierung */
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+}
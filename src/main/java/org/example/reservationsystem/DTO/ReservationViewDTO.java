@@ -1,5 +1,7 @@
 package org.example.reservationsystem.DTO;
 
+import org.example.reservationsystem.model.Reservation;
+
 import java.time.LocalDateTime;
 
 /**
@@ -27,22 +29,15 @@ import java.time.LocalDateTime;
  * <p><strong>Typische Verwendung im {@code ReservationController}:</strong></p>
  * <pre>{@code
  * @GetMapping("/userReservations")
- * public ResponseEntity<ReservationViewDTO> getUserReservation() {
- *     String email = currentEmail();
- *     Reservation r = reservationService.getUserReservation(email);
- *     if (r == null) return ResponseEntity.noContent().build();
- *     return ResponseEntity.ok(toDto(r));
+ * public ResponseEntity<PagedModel<ReservationViewDTO>> getUserReservations(int page, int size) {
+ *     Page<ReservationViewDTO> reservations = reservationService
+ *             .getUserReservations(currentEmail(), PageRequest.of(page, size))
+ *             .map(this::toDto);
+ *     return ResponseEntity.ok(new PagedModel<>(reservations));
  * }
  *
  * private ReservationViewDTO toDto(Reservation r) {
- *     return new ReservationViewDTO(
- *             r.getId(),
- *             r.getUser() != null ? r.getUser().getEmail() : null,
- *             r.getUser() != null ? r.getUser().getFullName() : null,
- *             r.getTable() != null ? r.getTable().getTableNumber() : null,
- *             r.getStartTime(),
- *             r.getEndTime()
- *     );
+ *     return ReservationViewDTO.fromReservation(r);
  * }
  * }</pre>
  *
@@ -70,4 +65,23 @@ public record ReservationViewDTO(
 
         /** Ende der Reservierung (lokale Zeit). */
         LocalDateTime endTime
-) {}
\ No newline at end of file
+) {
+    /**
+     * Erstellt ein neues {@code ReservationViewDTO} aus einer {@link Reservation}-Entität.
+     *
+     * <p>Fehlende Beziehungen (Benutzer/Tisch) werden als {@code null} übernommen.</p>
+     *
+     * @param r Reservierungsentität
+     * @return flaches DTO mit Benutzerdaten, Tisch und Zeitraum
+     */
+    public static ReservationViewDTO fromReservation(Reservation r) {
+        return new ReservationViewDTO(
+                r.getId(),
+                r.getUser() != null ? r.getUser().getEmail() : null,
+                r.getUser() != null ? r.getUser().getFullName() : null,
+                r.getTable() != null ? r.getTable().getTableNumber() : null,
+                r.getStartTime(),
+                r.getEndTime()
+        );
+    }
+}
\ No newline at end of file
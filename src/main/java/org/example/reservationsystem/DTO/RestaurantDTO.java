@@ -0,0 +1,34 @@
+package org.example.reservationsystem.DTO;
+
+import org.example.reservationsystem.model.Restaurant;
+
+/**
+ * Datenübertragungsobjekt (DTO) für ein Restaurant (Mandant).
+ *
+ * <p>Beispiel für {@code POST /admin/restaurants}:</p>
+ * <pre>{@code
+ * { "slug": "altstadt", "name": "Restaurant Altstadt" }
+ * }</pre>
+ *
+ * @param id   ID des Restaurants (bei Anfragen ignoriert)
+ * @param slug Kurzname für den Header {@code X-Restaurant}
+ * @param name Anzeigename
+ *
+ * @author Maciej Janowski
+ */
+public record RestaurantDTO(
+        Long id,
+        String slug,
+        String name
+) {
+
+    /**
+     * Erstellt ein {@code RestaurantDTO} aus einer {@link Restaurant}-Entität.
+     *
+     * @param r Restaurant
+     * @return DTO
+     */
+    public static RestaurantDTO fromEntity(Restaurant r) {
+        return new RestaurantDTO(r.getId(), r.getSlug(), r.getName());
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.reservationsystem.DTO;
+
+import org.example.reservationsystem.service.TableHold;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Datenübertragungsobjekt (DTO) für einen vorläufigen Tisch-Hold.
+ *
+ * <p>Wird von {@code POST /api/reservations/holds} zurückgegeben. Mit der {@code id}
+ * kann der Hold vor {@code expiresAt} bestätigt
+ * ({@code POST /api/reservations/holds/{id}/confirm}) oder freigegeben
+ * ({@code DELETE /api/reservations/holds/{id}}) werden.</p>
+ *
+ * <p>Beispielhafte JSON-Antwort:</p>
+ * <pre>{@code
+ * {
+ *   "id": "3f1c…",
+ *   "tableNumber": 5,
+ *   "startTime": "2025-06-09T18:00:00",
+ *   "endTime":   "2025-06-09T20:00:00",
+ *   "expiresAt": "2025-06-09T15:02:00Z"
+ * }
+ * }</pre>
+ *
+ * @param id          ID des Holds
+ * @param tableNumber Tischnummer
+ * @param startTime   Beginn des gehaltenen Zeitfensters
+ * @param endTime     Ende des gehaltenen Zeitfensters
+ * @param expiresAt   Ablaufzeitpunkt (UTC)
+ *
+ * @author Maciej Janowski
+ */
+public record TableHoldDTO(
+        UUID id,
+        int tableNumber,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Instant expiresAt
+) {
+
+    /**
+     * Erstellt ein {@code TableHoldDTO} aus einem {@link TableHold}.
+     *
+     * @param hold Hold
+     * @return DTO mit ID, Tisch, Zeitfenster und Ablaufzeit
+     */
+    public static TableHoldDTO fromHold(TableHold hold) {
+        return new TableHoldDTO(hold.getId(), hold.getTableNumber(),
+                hold.getStartTime(), hold.getEndTime(), hold.getExpiresAt());
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.reservationsystem.DTO;
+
+import org.example.reservationsystem.model.WaitlistEntry;
+import org.example.reservationsystem.model.WaitlistStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Datenübertragungsobjekt (DTO) für einen Wartelisten-Eintrag.
+ *
+ * <p>Solange der Eintrag wartet ({@code WAITING}), sind {@code tableNumber},
+ * {@code offeredStart} und {@code reservationId} {@code null}.</p>
+ *
+ * @param id            ID des Eintrags
+ * @param date          gewünschter Tag
+ * @param windowStart   frühester Beginn
+ * @param windowEnd     spätestes Ende
+ * @param partySize     Personenzahl
+ * @param minutes       gewünschte Dauer in Minuten
+ * @param status        Status ({@code WAITING}, {@code BOOKED}, {@code NOTIFIED})
+ * @param createdAt     Zeitpunkt der Anmeldung
+ * @param tableNumber   angebotener Tisch oder {@code null}
+ * @param offeredStart  angebotener Beginn oder {@code null}
+ * @param reservationId ID der automatisch angelegten Reservierung oder {@code null}
+ *
+ * @author Maciej Janowski
+ */
+public record WaitlistEntryDTO(
+        Long id,
+        LocalDate date,
+        LocalTime windowStart,
+        LocalTime windowEnd,
+        int partySize,
+        int minutes,
+        WaitlistStatus status,
+        LocalDateTime createdAt,
+        Integer tableNumber,
+        LocalDateTime offeredStart,
+        Long reservationId
+) {
+
+    /**
+     * Erstellt ein {@code WaitlistEntryDTO} aus einem {@link WaitlistEntry}.
+     *
+     * @param e Eintrag
+     * @return DTO
+     */
+    public static WaitlistEntryDTO fromEntry(WaitlistEntry e) {
+        return new WaitlistEntryDTO(e.getId(), e.getDesiredDate(), e.getWindowStart(), e.getWindowEnd(),
+                e.getPartySize(), e.getMinutes(), e.getStatus(), e.getCreatedAt(),
+                e.getOfferedTableNumber(), e.getOfferedStart(), e.getReservationId());
+    }
+}
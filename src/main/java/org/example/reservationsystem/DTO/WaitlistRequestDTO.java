@@ -0,0 +1,61 @@
+package org.example.reservationsystem.DTO;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Datenübertragungsobjekt (DTO) für die Anmeldung auf der Warteliste.
+ *
+ * <p>Beispiel für eine typische JSON-Anfrage an {@code POST /api/waitlist}:</p>
+ * <pre>{@code
+ * {
+ *   "date": "2025-06-09",
+ *   "windowStart": "18:00",
+ *   "windowEnd":   "21:00",
+ *   "partySize": 4,
+ *   "minutes": 120
+ * }
+ * }</pre>
+ *
+ * <p>Die Validierung (Zeitfenster, Öffnungszeiten, Dauer) erfolgt serverseitig im
+ * {@code WaitlistService}.</p>
+ *
+ * @author Maciej Janowski
+ */
+public class WaitlistRequestDTO {
+
+    /** Gewünschter Tag. */
+    private LocalDate date;
+
+    /** Frühester akzeptierter Beginn. */
+    private LocalTime windowStart;
+
+    /** Spätestes akzeptiertes Ende. */
+    private LocalTime windowEnd;
+
+    /** Anzahl der Personen. */
+    private int partySize;
+
+    /** Gewünschte Dauer in Minuten (optional, Standard 120). */
+    private Integer minutes;
+
+    /** @return gewünschter Tag */
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    /** @return frühester Beginn */
+    public LocalTime getWindowStart() { return windowStart; }
+    public void setWindowStart(LocalTime windowStart) { this.windowStart = windowStart; }
+
+    /** @return spätestes Ende */
+    public LocalTime getWindowEnd() { return windowEnd; }
+    public void setWindowEnd(LocalTime windowEnd) { this.windowEnd = windowEnd; }
+
+    /** @return Personenzahl */
+    public int getPartySize() { return partySize; }
+    public void setPartySize(int partySize) { this.partySize = partySize; }
+
+    /** @return gewünschte Dauer in Minuten oder {@code null} */
+    public Integer getMinutes() { return minutes; }
+    public void setMinutes(Integer minutes) { this.minutes = minutes; }
+}
@@ -0,0 +1,47 @@
+package org.example.reservationsystem.JWTServices;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR-Ereignis für eine Phase der Token-Prüfung im {@link JwtAuthenticationFilter}.
+ *
+ * <p>Phasen: {@link #PARSE} (Signatur prüfen, Subject lesen), {@link #USER_LOAD}
+ * ({@code UserDetails} aus der Datenbank) und {@link #VALIDATE} (Subject und Ablauf
+ * gegen den Benutzer prüfen).</p>
+ *
+ * @author Maciej Janowski
+ */
+@Name("reservation.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"Reservation System", "Authentication"})
+@Description("Phase of the per-request JWT authentication")
+@StackTrace(false)
+public final class JwtAuthenticationEvent extends Event {
+
+    public static final String PARSE = "parse";
+    public static final String USER_LOAD = "userLoad";
+    public static final String VALIDATE = "validate";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Outcome")
+    @Description("ok, invalid (validate) or failed on exception")
+    String outcome = "failed";
+
+    static JwtAuthenticationEvent begin(String phase) {
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    void outcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.reservationsystem.JWTServices;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -35,6 +37,10 @@ import java.io.IOException;
  * {@code UsernamePasswordAuthenticationFilter} registriert (siehe Security-Konfiguration),
  * und läuft dank {@link OncePerRequestFilter} genau einmal pro Anfrage.</p>
  *
+ * <p>Token lesen, Benutzer laden und Token prüfen erzeugen je ein
+ * {@link JwtAuthenticationEvent} für Java Flight Recorder; zusammen bilden sie die
+ * Observation {@code reservation.jwt.authentication} (Span im Profil {@code tracing}).</p>
+ *
  * @author Maciej Janowski
  */
 @Component
@@ -43,6 +49,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final HandlerExceptionResolver handlerExceptionResolver;
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final ObservationRegistry observationRegistry;
 
     /**
      * Erstellt einen neuen {@code JwtAuthenticationFilter}.
@@ -50,15 +57,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * @param jwtService               Dienst zum Extrahieren/Validieren von JWTs
      * @param userDetailsService       Dienst zum Laden von {@link UserDetails} anhand der E-Mail
      * @param handlerExceptionResolver Resolver zur Übergabe von Ausnahmen an das globale Handling
+     * @param observationRegistry      Registry für die Observation {@code reservation.jwt.authentication}
      */
     public JwtAuthenticationFilter(
             JwtService jwtService,
             UserDetailsService userDetailsService,
-            HandlerExceptionResolver handlerExceptionResolver
+            HandlerExceptionResolver handlerExceptionResolver,
+            ObservationRegistry observationRegistry
     ) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
         this.handlerExceptionResolver = handlerExceptionResolver;
+        this.observationRegistry = observationRegistry;
     }
 
     /**
@@ -117,25 +127,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        final String token = jwt;
         try {
-            final String username = jwtService.extractUsername(jwt);
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
             // 4) Nur setzen, wenn noch nicht authentifiziert
-            if (username != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
-            }
+            Observation.createNotStarted("reservation.jwt.authentication", observationRegistry)
+                    .observe(() -> authenticate(token, request));
 
             // 5) Immer fortsetzen
             filterChain.doFilter(request, response);
@@ -144,4 +140,57 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             handlerExceptionResolver.resolveException(request, response, null, exception);
         }
     }
+
+    private void authenticate(String jwt, HttpServletRequest request) {
+        final String username = extractUsername(jwt);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (username != null && authentication == null) {
+            UserDetails userDetails = loadUser(username);
+
+            if (isTokenValid(jwt, userDetails)) {
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(
+                                userDetails,
+                                null,
+                                userDetails.getAuthorities()
+                        );
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
+        }
+    }
+
+    private String extractUsername(String jwt) {
+        JwtAuthenticationEvent event = JwtAuthenticationEvent.begin(JwtAuthenticationEvent.PARSE);
+        try {
+            String username = jwtService.extractUsername(jwt);
+            event.outcome("ok");
+            return username;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private UserDetails loadUser(String username) {
+        JwtAuthenticationEvent event = JwtAuthenticationEvent.begin(JwtAuthenticationEvent.USER_LOAD);
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            event.outcome("ok");
+            return userDetails;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private boolean isTokenValid(String jwt, UserDetails userDetails) {
+        JwtAuthenticationEvent event = JwtAuthenticationEvent.begin(JwtAuthenticationEvent.VALIDATE);
+        try {
+            boolean valid = jwtService.isTokenValid(jwt, userDetails);
+            event.outcome(valid ? "ok" : "invalid");
+            return valid;
+        } finally {
+            event.commit();
+        }
+    }
 }
\ No newline at end of file
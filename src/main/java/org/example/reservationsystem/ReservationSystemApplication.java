@@ -1,88 +1,43 @@
 package org.example.reservationsystem;
 
-import org.example.reservationsystem.model.RestaurantTable;
-import org.example.reservationsystem.model.Role;
-import org.example.reservationsystem.model.User;
-import org.example.reservationsystem.repository.TableRepository;
-import org.example.reservationsystem.repository.UserRepository;
-import org.springframework.boot.CommandLineRunner;
+import org.example.reservationsystem.config.NativeImageHints;
+import org.example.reservationsystem.config.StartupProfiler;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Einstiegspunkt der Spring-Boot-Anwendung „Reservation System“.
  *
- * <p>Diese Klasse bootstrapped den Spring-Kontext und stellt einen
- * {@link CommandLineRunner} bereit, der Test-/Demo-Daten beim Start
- * initialisiert (Admin-Benutzer, Beispiel-Tische). Die Initialisierung
- * ist idempotent – Einträge werden nur erzeugt, wenn sie noch nicht existieren.</p>
+ * <p>Diese Klasse bootstrapped den Spring-Kontext. Schema und Demodaten
+ * (Standard-Restaurant, Admin-Benutzer, Beispiel-Tische mit Nachbarschaften) legt
+ * Flyway beim Start über die Migrationen in {@code db/migration} an
+ * ({@code V1__initial_schema.sql}, {@code V2__seed_data.sql}); bestehende Daten bleiben
+ * über Neustarts hinweg erhalten.</p>
  *
- * <p><strong>Hinweis (Sicherheit):</strong> Das Admin-Passwort ist hier
+ * <p>Für schnelle Starts gibt es die Maven-Profile {@code fast-start} (Spring AOT und
+ * AppCDS auf der JVM) und {@code native} (GraalVM Native Image, Hinweise in
+ * {@link NativeImageHints}).</p>
+ *
+ * <p><strong>Hinweis (Sicherheit):</strong> Das Admin-Passwort der Demodaten ist
  * lediglich für die lokale Entwicklung gedacht. In produktiven Umgebungen
- * sollte es über Konfiguration/Secrets (z. B. Umgebungsvariablen) gesetzt
- * werden.</p>
+ * sollte es nach dem ersten Start geändert werden.</p>
  *
  * author Maciej Janowski
  */
 @SpringBootApplication
+@ImportRuntimeHints(NativeImageHints.class)
 public class ReservationSystemApplication {
 
     /**
-     * Startet die Spring-Boot-Anwendung.
+     * Startet die Spring-Boot-Anwendung; mit {@code -Dreservation.startup.profiling=buffer|jfr}
+     * wird der Start profiliert (siehe {@link StartupProfiler}).
      *
      * @param args Programmargumente
      */
     public static void main(String[] args) {
-        SpringApplication.run(ReservationSystemApplication.class, args);
-    }
-
-    /**
-     * Initialisiert Demodaten beim Anwendungsstart.
-     *
-     * <p>Erstellt – falls nicht vorhanden – einen Admin-Benutzer (Login per E-Mail)
-     * und eine kleine Menge an Restauranttischen. Jeder Eintrag wird nur
-     * hinzugefügt, wenn er noch nicht existiert (idempotent).</p>
-     *
-     * @param userRepo  Repository für Benutzer
-     * @param tableRepo Repository für Tische
-     * @param encoder   Passwortencoder (BCrypt)
-     * @return ein {@link CommandLineRunner}, der die Seed-Daten anlegt
-     */
-    @Bean
-    public CommandLineRunner initData(UserRepository userRepo,
-                                      TableRepository tableRepo,
-                                      BCryptPasswordEncoder encoder) {
-        return args -> {
-
-            if (userRepo.findByEmail("admin@example.com").isEmpty()) {
-                User admin = new User(
-                        encoder.encode("admin123"), // nur für DEV! In PROD via Konfiguration setzen.
-                        Role.ROLE_ADMIN,
-                        "Administrator",
-                        "admin@example.com",
-                        "+49 160 0000000"
-                );
-                userRepo.save(admin);
-                System.out.println("✅ Admin user created (email-based login).");
-            }
-
-
-            int[][] tables = {
-                    {1, 2}, {2, 3}, {3, 4},
-                    {4, 6}, {5, 2}, {6, 8}
-            };
-
-            for (int[] t : tables) {
-                int tableNumber = t[0];
-                int seats = t[1];
-                if (tableRepo.findTableByTableNumber(tableNumber).isEmpty()) {
-                    RestaurantTable table = new RestaurantTable(seats, tableNumber);
-                    tableRepo.save(table);
-                    System.out.println("🪑 Added table " + tableNumber + " (" + seats + " seats)");
-                }
-            }
-        };
+        SpringApplication application = new SpringApplication(ReservationSystemApplication.class);
+        application.setApplicationStartup(StartupProfiler.applicationStartup());
+        application.run(args);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 // src/main/java/.../config/ApplicationConfiguration.java
 package org.example.reservationsystem.config;
 
+import jakarta.servlet.DispatcherType;
 import org.example.reservationsystem.JWTServices.JwtAuthenticationFilter;
 import org.example.reservationsystem.repository.UserRepository;
 import org.springframework.context.annotation.Bean;
@@ -32,8 +33,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  *   <li>{@code POST /api/reservations} – authentifiziert</li>
  *   <li>{@code GET /api/reservations/userReservations} – authentifiziert</li>
  *   <li>{@code DELETE /api/reservations/**} – authentifiziert</li>
+ *   <li>{@code /api/reservations/holds/**} – authentifiziert</li>
  *   <li>{@code /api/reservations/all}, {@code /admin/**} – {@code ROLE_ADMIN}</li>
+ *   <li>{@code /actuator/health} – öffentlich, übrige {@code /actuator/**} – {@code ROLE_ADMIN}</li>
  *   <li>Alle übrigen Anfragen – authentifiziert</li>
+ *   <li>Async-Dispatches (Abschluss von {@code Mono}/{@code Flux}-Antworten) – freigegeben,
+ *       da die ursprüngliche Anfrage bereits autorisiert wurde</li>
  * </ul>
  * </p>
  *
@@ -125,13 +130,18 @@ public class ApplicationConfiguration {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/auth/register", "/auth/login", "/auth/auth_check", "/auth/logout").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/reservations").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/reservations", "/api/reservations/auto").authenticated()
                         .requestMatchers(HttpMethod.GET,  "/api/reservations/userReservations").authenticated()
                         .requestMatchers(HttpMethod.DELETE,"/api/reservations/**").authenticated()
+                        .requestMatchers("/api/reservations/holds", "/api/reservations/holds/**").authenticated()
+                        .requestMatchers("/api/waitlist", "/api/waitlist/**").authenticated()
                         .requestMatchers("/api/reservations/all").hasAuthority("ROLE_ADMIN")
                         .requestMatchers("/admin/**").hasAuthority("ROLE_ADMIN")
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(ex -> ex.authenticationEntryPoint((req, res, e) -> res.sendError(401, "Unauthorized")))
@@ -0,0 +1,21 @@
+package org.example.reservationsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Aktiviert die Ausführung von {@code @Async}-Methoden.
+ *
+ * <p>Es wird bewusst kein eigener Executor definiert: Spring Boot stellt den
+ * {@code applicationTaskExecutor} bereit. Im Standardbetrieb ist das ein
+ * {@code ThreadPoolTaskExecutor} mit Plattform-Threads; mit dem Profil
+ * {@code virtual-threads} ({@code spring.threads.virtual.enabled=true}, Java 21+)
+ * ersetzt Spring Boot ihn durch einen {@code SimpleAsyncTaskExecutor}, der pro
+ * Aufgabe einen virtuellen Thread startet.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,147 @@
+package org.example.reservationsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Konfiguration der JDBC-Verbindungspools mit getrenntem Budget für Lese- und Schreibzugriffe.
+ *
+ * <p>Es werden zwei HikariCP-Pools angelegt:
+ * <ul>
+ *   <li>{@code rw-pool} – für schreibende Transaktionen (Buchen, Stornieren, Registrieren).</li>
+ *   <li>{@code ro-pool} – für Transaktionen mit {@code @Transactional(readOnly = true)},
+ *       z. B. Verfügbarkeitssuche, Profil und JWT-Benutzerauflösung.</li>
+ * </ul>
+ * Beide verwenden standardmäßig URL und Zugangsdaten aus {@code spring.datasource.*};
+ * Poolgrößen, Timeouts und Leak-Erkennung werden getrennt über
+ * {@code reservation.datasource.read-write.*} bzw. {@code reservation.datasource.read-only.*}
+ * gesetzt (Hikari-Eigenschaften in Kebab-Case, z. B. {@code maximum-pool-size}).</p>
+ *
+ * <p>Die primäre {@link DataSource} ist ein {@link LazyConnectionDataSourceProxy}: Er holt die
+ * physische Verbindung erst bei der ersten Anweisung und wählt dabei den {@code ro-pool},
+ * wenn die Transaktion als read-only markiert ist. Eine Last aus Lesezugriffen kann damit
+ * höchstens den {@code ro-pool} ausschöpfen, Buchungen behalten ihre eigenen Verbindungen.</p>
+ *
+ * <p><strong>Replikas:</strong> Ist {@code reservation.datasource.replica-urls} gesetzt
+ * (kommagetrennte JDBC-URLs, Zugangsdaten wie Primärserver), bedient eine
+ * {@link ReplicaRoutingDataSource} die read-only Transaktionen reihum aus je einem Pool
+ * {@code ro-pool-<n>} pro Replika. Direkt nach einer eigenen Buchung liest ein Benutzer
+ * über den {@link ReadYourWritesGuard} weiterhin vom Primärserver. Ohne Replikas bleibt
+ * es beim {@code ro-pool} auf dem Primärserver.</p>
+ *
+ * <p>Die Pool-Metriken ({@code hikaricp.connections.active}, {@code .idle}, {@code .pending},
+ * {@code .acquire}, {@code .usage}) werden von Spring Boot Actuator automatisch pro Pool
+ * registriert und unter {@code /actuator/metrics} bereitgestellt.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Pool für schreibende Transaktionen.
+     *
+     * @param properties Standard-Datenbankeinstellungen ({@code spring.datasource.*})
+     * @return HikariCP-Pool {@code rw-pool}
+     */
+    @Bean
+    @ConfigurationProperties("reservation.datasource.read-write")
+    public HikariDataSource readWriteDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("rw-pool");
+        return ds;
+    }
+
+    /**
+     * Pool für read-only Transaktionen.
+     *
+     * @param properties Standard-Datenbankeinstellungen ({@code spring.datasource.*})
+     * @return HikariCP-Pool {@code ro-pool} mit read-only Verbindungen
+     */
+    @Bean
+    @ConfigurationProperties("reservation.datasource.read-only")
+    public HikariDataSource readOnlyDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("ro-pool");
+        ds.setReadOnly(true);
+        return ds;
+    }
+
+    /**
+     * Routing über die Replikas für read-only Transaktionen; nur aktiv, wenn
+     * {@code reservation.datasource.replica-urls} gesetzt ist.
+     *
+     * @param replicaUrls  JDBC-URLs der Replikas
+     * @param properties   Standard-Datenbankeinstellungen (Zugangsdaten, Treiber)
+     * @param environment  Umgebung zum Binden von {@code reservation.datasource.read-only.*}
+     * @param meterRegistry Registry für Pool-Metriken, falls vorhanden
+     * @param readWrite    Pool des Primärservers (Read-your-writes)
+     * @param guard        Schutz vor Replikationsverzug
+     * @return Routing-DataSource über alle Replikas
+     */
+    @Bean
+    @ConditionalOnProperty("reservation.datasource.replica-urls")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Value("${reservation.datasource.replica-urls}") List<String> replicaUrls,
+            DataSourceProperties properties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Qualifier("readWriteDataSource") DataSource readWrite,
+            ReadYourWritesGuard guard) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource ds = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls.get(i).trim())
+                    .build();
+            Binder.get(environment).bind("reservation.datasource.read-only", Bindable.ofInstance(ds));
+            ds.setPoolName("ro-pool-" + i);
+            ds.setReadOnly(true);
+            meterRegistry.ifAvailable(r -> ds.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(r)));
+            replicas.add(ds);
+        }
+        return new ReplicaRoutingDataSource(readWrite, replicas, guard);
+    }
+
+    /**
+     * Primäre {@link DataSource} für JPA, die Verbindungen je nach Transaktionsart aus
+     * dem passenden Pool bezieht.
+     *
+     * @param readWrite Pool für schreibende Transaktionen
+     * @param readOnly  Pool für read-only Transaktionen auf dem Primärserver
+     * @param replicas  Routing über Replikas, falls konfiguriert
+     * @return verzögert verbindender Proxy über Schreib- und Lesepfad
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("readWriteDataSource") DataSource readWrite,
+                                 @Qualifier("readOnlyDataSource") DataSource readOnly,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicas) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(readWrite);
+        DataSource replicaRouting = replicas.getIfAvailable();
+        proxy.setReadOnlyDataSource(replicaRouting != null ? replicaRouting : readOnly);
+        // Standardwerte vorgeben, damit der Proxy beim Start keine Verbindung zum Abfragen öffnet
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.reservationsystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Span-Exporter, der abgeschlossene Spans als JSON-Zeilen an eine Datei anhängt
+ * ({@code reservation.tracing.file.path}) – Ersatz für einen lokalen Collector.
+ *
+ * <p>Pro Zeile ein Span mit {@code traceId}, {@code spanId}, {@code parentSpanId}, Name,
+ * Beginn, Dauer in Mikrosekunden und Attributen (bei SQL-Spans u. a. {@code jdbc.query[0]}).
+ * Die Spans eines Requests lassen sich über die {@code traceId} zusammensuchen und über
+ * {@code parentSpanId} zum Baum zusammensetzen.</p>
+ *
+ * <p>Der {@code BatchSpanProcessor} ruft {@link #export} stapelweise aus einem eigenen
+ * Thread auf; ein Stapel wird mit einem Schreibzugriff angehängt.</p>
+ *
+ * @author Maciej Janowski
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    /**
+     * Erstellt einen neuen {@code FileSpanExporter}.
+     *
+     * @param objectMapper JSON-Serialisierung
+     * @param path         Zieldatei (wird bei Bedarf angelegt)
+     */
+    public FileSpanExporter(ObjectMapper objectMapper, Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        StringBuilder lines = new StringBuilder(spans.size() * 512);
+        try {
+            for (SpanData span : spans) {
+                lines.append(objectMapper.writeValueAsString(toLine(span))).append('\n');
+            }
+            Path dir = path.toAbsolutePath().getParent();
+            if (dir != null) Files.createDirectories(dir);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) channel.write(buffer);
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Could not write {} spans to {}: {}", spans.size(), path, e.toString());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    static Map<String, Object> toLine(SpanData span) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("traceId", span.getTraceId());
+        line.put("spanId", span.getSpanId());
+        line.put("parentSpanId", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        line.put("name", span.getName());
+        line.put("kind", span.getKind().name());
+        line.put("start", Instant.ofEpochSecond(0, span.getStartEpochNanos()).toString());
+        line.put("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000);
+        line.put("status", span.getStatus().getStatusCode().name());
+        Map<String, Object> attributes = new TreeMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        line.put("attributes", attributes);
+        return line;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
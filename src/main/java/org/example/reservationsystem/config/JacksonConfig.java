@@ -0,0 +1,72 @@
+package org.example.reservationsystem.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.example.reservationsystem.DTO.AuthUserDTO;
+import org.example.reservationsystem.DTO.ReservationViewDTO;
+import org.example.reservationsystem.DTO.TableViewDTO;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+import java.util.List;
+
+/**
+ * Jackson-Einstellungen für die REST-Antworten.
+ *
+ * <p>Antworten bestehen ausschließlich aus DTOs, Entitäten werden nie serialisiert; ein
+ * Hibernate-Modul (Lazy-Proxys) ist daher nicht registriert. Das {@link BlackbirdModule}
+ * greift auf Getter, Record-Komponenten und Konstruktoren über generierte Lambdas statt
+ * über Reflection zu. Spring Boot registriert {@link Module}-Beans im zentralen
+ * {@link ObjectMapper}, der auch von Spring MVC und der Outbox verwendet wird. Im Native
+ * Image können zur Laufzeit keine Klassen erzeugt werden; dort bleibt es bei Reflection.</p>
+ *
+ * <p>Beim Start werden die Serializer der häufigsten Antwort-DTOs (einzeln und als Liste)
+ * vorab erzeugt und im {@link ObjectMapper} zwischengespeichert. Die erste Anfrage nach
+ * einem Deployment zahlt so nicht für Introspektion und Lambda-Erzeugung.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Configuration
+public class JacksonConfig {
+
+    /** DTOs der meistgenutzten Endpunkte ({@code /available}, {@code /all}, {@code /userReservations}, Login). */
+    public static final List<Class<?>> RESPONSE_DTOS = List.of(ReservationViewDTO.class, TableViewDTO.class, AuthUserDTO.class);
+
+    /**
+     * @return Modul für reflexionsfreien Zugriff auf Properties (im Native Image ein leeres Modul)
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return NativeDetector.inNativeImage() ? new SimpleModule("blackbird-disabled") : new BlackbirdModule();
+    }
+
+    /**
+     * Erzeugt die Serializer der Antwort-DTOs, nachdem alle Singletons initialisiert sind.
+     *
+     * @param objectMapper zentraler {@link ObjectMapper}
+     * @return Callback für den Kontextstart
+     */
+    @Bean
+    public SmartInitializingSingleton responseDtoWriters(ObjectMapper objectMapper) {
+        return () -> prefetchWriters(objectMapper);
+    }
+
+    /**
+     * Legt Writer für {@link #RESPONSE_DTOS} und {@code List<DTO>} an; der {@link ObjectMapper}
+     * speichert die dabei erzeugten Serializer für alle späteren Aufrufe.
+     *
+     * @param objectMapper zu wärmender {@link ObjectMapper}
+     */
+    public static void prefetchWriters(ObjectMapper objectMapper) {
+        TypeFactory types = objectMapper.getTypeFactory();
+        for (Class<?> dto : RESPONSE_DTOS) {
+            objectMapper.writerFor(dto);
+            objectMapper.writerFor(types.constructCollectionType(List.class, dto));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.reservationsystem.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Reflection-Hinweise für das GraalVM Native Image (Maven-Profil {@code native}).
+ *
+ * <p>Spring AOT erkennt Beans, Entitäten und Jackson-DTOs selbst. Nicht sichtbar sind
+ * Klassen, die Bibliotheken über ihren Namen laden:</p>
+ * <ul>
+ *   <li>JJWT 0.11 – {@code Jwts.builder()}/{@code parserBuilder()} instanziieren die
+ *       Implementierungen aus {@code jjwt-impl} per {@code Class.forName}; Serializer und
+ *       Kompressionscodecs kommen über {@code ServiceLoader}</li>
+ *   <li>Hibernate – Dialekt aus {@code spring.jpa.database-platform} sowie Generator und
+ *       Binder der {@code @TenantId}-Annotation</li>
+ * </ul>
+ * <p>Auf der JVM und im AOT-verarbeiteten Jar ({@code fast-start}) bleiben die Hinweise
+ * wirkungslos.</p>
+ *
+ * @author Maciej Janowski
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    /** Von JJWT per Klassennamen instanziierte Typen ({@code jjwt-impl}, {@code jjwt-jackson}). */
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    /** Von Hibernate per Klassennamen bzw. über Meta-Annotationen instanziierte Typen. */
+    static final List<String> HIBERNATE_TYPES = List.of(
+            "org.hibernate.dialect.PostgreSQLDialect",
+            "org.hibernate.generator.internal.TenantIdGeneration",
+            "org.hibernate.binder.internal.TenantIdBinder");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (String type : HIBERNATE_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        hints.resources()
+                .registerPattern("META-INF/services/io.jsonwebtoken.io.Serializer")
+                .registerPattern("META-INF/services/io.jsonwebtoken.io.Deserializer")
+                .registerPattern("META-INF/services/io.jsonwebtoken.CompressionCodec");
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.reservationsystem.config;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+
+/**
+ * Konfiguration des reaktiven Datenbankzugriffs (R2DBC) für die reaktive Reservierungs-API.
+ *
+ * <p>Die R2DBC-Autokonfiguration von Spring Boot ist in {@code application.properties}
+ * ausgeschlossen, denn eine {@link ConnectionFactory}-Bean hat zwei Nebenwirkungen:
+ * Boot legt dann keine JDBC-{@code DataSource} mehr an (und damit kein JPA), und ein
+ * {@code R2dbcTransactionManager} als Bean verdrängt den JPA-{@code transactionManager}.
+ * Die {@link ConnectionFactory} (mit {@code r2dbc-pool}) wird deshalb hier nur intern
+ * erzeugt; nach außen sind ausschließlich {@link DatabaseClient} und
+ * {@link TransactionalOperator} sichtbar.</p>
+ *
+ * <p>Konfiguration über {@code reservation.r2dbc.url}, {@code .username}, {@code .password};
+ * die Poolgröße wird über die URL gesteuert ({@code r2dbc:pool:…?maxSize=20}).</p>
+ *
+ * @author Maciej Janowski
+ */
+@Configuration
+@Lazy
+public class R2dbcConfig implements DisposableBean {
+
+    private final ConnectionFactory connectionFactory;
+
+    /**
+     * Erstellt die interne R2DBC-Verbindungsfabrik.
+     *
+     * @param url      R2DBC-URL, z. B. {@code r2dbc:pool:postgresql://localhost:5432/reservation}
+     * @param username Datenbankbenutzer
+     * @param password Passwort des Datenbankbenutzers
+     */
+    public R2dbcConfig(@Value("${reservation.r2dbc.url}") String url,
+                       @Value("${reservation.r2dbc.username}") String username,
+                       @Value("${reservation.r2dbc.password:}") String password) {
+        this.connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+    }
+
+    /**
+     * Liefert den {@link DatabaseClient} für die reaktiven Abfragen.
+     *
+     * @return {@link DatabaseClient} auf Basis des internen Pools
+     */
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Liefert den {@link TransactionalOperator} für reaktive Transaktionen.
+     *
+     * @return Operator mit einem nicht als Bean registrierten {@link R2dbcTransactionManager}
+     */
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    /** Schließt den Verbindungspool beim Herunterfahren des Kontexts. */
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+}
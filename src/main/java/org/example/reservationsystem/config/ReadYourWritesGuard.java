@@ -0,0 +1,83 @@
+package org.example.reservationsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schutz vor Replikationsverzug: merkt sich, wann ein Benutzer zuletzt selbst geschrieben hat.
+ *
+ * <p>Nach einer eigenen Buchung oder Stornierung soll der Benutzer seine Änderung sofort
+ * sehen. Da Replikas asynchron nachziehen, werden read-only Transaktionen dieses Benutzers
+ * für die Dauer von {@code reservation.datasource.read-your-writes-window} (Standard 5 s)
+ * an den Primärserver geleitet; alle anderen Lesezugriffe gehen weiter an die Replikas.</p>
+ *
+ * <p>Der Zustand ist lokal pro Instanz. Bei mehreren Backend-Instanzen ohne Sticky Sessions
+ * kann ein Folge-Request auf einer anderen Instanz landen und dort eine Replika treffen.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+public class ReadYourWritesGuard {
+
+    /** Ab dieser Größe werden abgelaufene Einträge beim Schreiben entfernt. */
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    /**
+     * Erstellt einen neuen {@code ReadYourWritesGuard}.
+     *
+     * @param window Zeitfenster nach einem Schreibzugriff, in dem vom Primärserver gelesen wird
+     */
+    public ReadYourWritesGuard(@Value("${reservation.datasource.read-your-writes-window:PT5S}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Vermerkt einen Schreibzugriff des Benutzers.
+     *
+     * @param email E-Mail des Benutzers (Login-Identifier); {@code null} wird ignoriert
+     */
+    public void recordWrite(String email) {
+        if (email == null) return;
+        long now = System.nanoTime();
+        lastWriteNanos.put(normalize(email), now);
+        if (lastWriteNanos.size() > PURGE_THRESHOLD) {
+            lastWriteNanos.values().removeIf(t -> now - t > windowNanos);
+        }
+    }
+
+    /**
+     * Prüft, ob Lesezugriffe des aktuell authentifizierten Benutzers vom Primärserver
+     * bedient werden müssen.
+     *
+     * @return {@code true}, wenn der Benutzer innerhalb des Zeitfensters geschrieben hat
+     */
+    public boolean currentUserMustReadPrimary() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && mustReadPrimary(auth.getName());
+    }
+
+    /**
+     * Prüft, ob Lesezugriffe des Benutzers vom Primärserver bedient werden müssen.
+     *
+     * @param email E-Mail des Benutzers
+     * @return {@code true}, wenn der Benutzer innerhalb des Zeitfensters geschrieben hat
+     */
+    public boolean mustReadPrimary(String email) {
+        if (email == null) return false;
+        Long last = lastWriteNanos.get(normalize(email));
+        return last != null && System.nanoTime() - last <= windowNanos;
+    }
+
+    private static String normalize(String s) {
+        return s.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.reservationsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routing-{@link DataSource} für read-only Transaktionen.
+ *
+ * <p>Verteilt Verbindungsanfragen reihum (Round-Robin) auf die konfigurierten Replikas.
+ * Hat der aktuelle Benutzer gerade selbst geschrieben (siehe {@link ReadYourWritesGuard}),
+ * wird stattdessen der Primärserver verwendet, damit er seine eigene Buchung sofort sieht.</p>
+ *
+ * <p>Die Replika-Pools werden von dieser Klasse besessen und beim Herunterfahren geschlossen;
+ * der Primär-Pool gehört dem Spring-Kontext und wird hier nicht geschlossen.</p>
+ *
+ * @author Maciej Janowski
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final ReadYourWritesGuard guard;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Erstellt eine neue {@code ReplicaRoutingDataSource}.
+     *
+     * @param primary  Pool des Primärservers (für Read-your-writes)
+     * @param replicas Pools der Replikas in fester Reihenfolge; mindestens einer
+     * @param guard    Schutz vor Replikationsverzug
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesGuard guard) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica data source is required.");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.guard = guard;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(this.replicas.get(0));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (guard.currentUserMustReadPrimary()) {
+            return PRIMARY;
+        }
+        return Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    /** Schließt die Replika-Pools. */
+    @Override
+    public void destroy() {
+        for (DataSource ds : replicas) {
+            if (ds instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.reservationsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Aktiviert die Ausführung von {@code @Scheduled}-Methoden
+ * (z. B. Pflege der Monatspartitionen von {@code reservations}).
+ *
+ * @author Maciej Janowski
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
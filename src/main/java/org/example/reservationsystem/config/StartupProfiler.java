@@ -0,0 +1,181 @@
+package org.example.reservationsystem.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.metrics.jfr.FlightRecorderApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Profiling des Anwendungsstarts: Initialisierungszeit pro Bean als Bericht.
+ *
+ * <p>Der Modus wird vor dem Start über die System-Property {@code reservation.startup.profiling}
+ * gewählt (die Spring-Umgebung existiert zu diesem Zeitpunkt noch nicht):</p>
+ * <ul>
+ *   <li>{@code buffer} – Spring puffert alle Startschritte; nach {@link ApplicationReadyEvent}
+ *       wird ein JSON-Bericht nach {@code reservation.startup.report-file} geschrieben und
+ *       die langsamsten Beans werden geloggt. Der Puffer bleibt unter
+ *       {@code /actuator/startup} abrufbar.</li>
+ *   <li>{@code jfr} – Startschritte als JFR-Ereignisse, z. B. mit
+ *       {@code -XX:StartFlightRecording=filename=startup.jfr}; kein eigener Bericht.</li>
+ *   <li>nicht gesetzt – kein Profiling, kein Mehraufwand.</li>
+ * </ul>
+ *
+ * <p>Pro Bean enthält der Bericht die Gesamtzeit von {@code spring.beans.instantiate} und die
+ * Eigenzeit ohne die Instanziierung abhängiger Beans. Über die Eigenzeit lassen sich
+ * Regressionen einer einzelnen Bean im CI erkennen, ohne dass Abhängigkeiten doppelt zählen.</p>
+ *
+ * <p>Controller und Services abseits des Reservierungspfads (Profil, Restaurants,
+ * Öffnungszeiten, Warteliste, reaktive API) sind mit {@code @Lazy} markiert und erscheinen
+ * erst nach der ersten Anfrage im Bericht.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+public class StartupProfiler {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupProfiler.class);
+
+    /** System-Property für den Profiling-Modus. */
+    public static final String MODE_PROPERTY = "reservation.startup.profiling";
+
+    /** Maximale Anzahl gepufferter Startschritte. */
+    static final int BUFFER_CAPACITY = 20_000;
+
+    private static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+
+    private final ApplicationStartup applicationStartup;
+    private final ObjectMapper objectMapper;
+    private final Path reportFile;
+    private final int topBeans;
+
+    /**
+     * Erstellt einen neuen {@code StartupProfiler}.
+     *
+     * @param applicationStartup vom Kontext verwendetes {@link ApplicationStartup}
+     * @param objectMapper       Mapper für den JSON-Bericht
+     * @param reportFile         Zieldatei des Berichts
+     * @param topBeans           Anzahl der Beans im Bericht und im Log
+     */
+    public StartupProfiler(ApplicationStartup applicationStartup,
+                           ObjectMapper objectMapper,
+                           @Value("${reservation.startup.report-file:target/startup-report.json}") Path reportFile,
+                           @Value("${reservation.startup.top-beans:30}") int topBeans) {
+        this.applicationStartup = applicationStartup;
+        this.objectMapper = objectMapper;
+        this.reportFile = reportFile;
+        this.topBeans = topBeans;
+    }
+
+    /**
+     * Liefert das {@link ApplicationStartup} für den in {@link #MODE_PROPERTY} gewählten Modus.
+     *
+     * @return puffernde, JFR- oder Standard-Implementierung
+     */
+    public static ApplicationStartup applicationStartup() {
+        String mode = System.getProperty(MODE_PROPERTY, "");
+        return switch (mode) {
+            case "buffer" -> new BufferingApplicationStartup(BUFFER_CAPACITY);
+            case "jfr" -> new FlightRecorderApplicationStartup();
+            case "" -> ApplicationStartup.DEFAULT;
+            default -> throw new IllegalArgumentException(
+                    MODE_PROPERTY + " must be 'buffer' or 'jfr', was '" + mode + "'");
+        };
+    }
+
+    /**
+     * Schreibt den Bericht, sobald die Anwendung bereit ist (nur im Modus {@code buffer}).
+     *
+     * @param event Bereitschaftsereignis mit der Gesamtstartzeit
+     */
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) return;
+
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", timeline.getStartTime().toString());
+        report.put("readyMillis", event.getTimeTaken() == null ? null : event.getTimeTaken().toMillis());
+        report.put("steps", timeline.getEvents().size());
+        List<BeanTiming> beans = beanTimings(timeline.getEvents());
+        report.put("beanCount", beans.size());
+        report.put("beanMillis", beans.stream().mapToLong(BeanTiming::selfMillis).sum());
+        report.put("slowestBeans", beans.subList(0, Math.min(topBeans, beans.size())));
+
+        try {
+            Path parent = reportFile.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+        } catch (IOException e) {
+            log.warn("Could not write startup report to {}: {}", reportFile, e.toString());
+        }
+        log.info("Startup report ({} beans, ready after {} ms) written to {}",
+                beans.size(), report.get("readyMillis"), reportFile.toAbsolutePath());
+        beans.stream().limit(10).forEach(b ->
+                log.info("  {} ms self / {} ms total  {}", b.selfMillis(), b.totalMillis(), b.name()));
+    }
+
+    /**
+     * Initialisierungszeit einer Bean.
+     *
+     * @param name        Bean-Name
+     * @param type        Bean-Typ, soweit bekannt
+     * @param totalMillis Dauer von {@code spring.beans.instantiate} inklusive abhängiger Beans
+     * @param selfMillis  Dauer ohne die Instanziierung abhängiger Beans
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record BeanTiming(String name, String type, long totalMillis, long selfMillis) {
+    }
+
+    /**
+     * Ermittelt Gesamt- und Eigenzeit je Bean, absteigend nach Eigenzeit.
+     *
+     * @param events gepufferte Startschritte
+     * @return Zeiten aller instanziierten Beans
+     */
+    public static List<BeanTiming> beanTimings(List<StartupTimeline.TimelineEvent> events) {
+        Map<Long, Duration> childDurations = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (BEAN_INSTANTIATION.equals(step.getName()) && step.getParentId() != null) {
+                childDurations.merge(step.getParentId(), event.getDuration(), Duration::plus);
+            }
+        }
+
+        List<BeanTiming> timings = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (!BEAN_INSTANTIATION.equals(step.getName())) continue;
+
+            String name = null;
+            String type = null;
+            for (StartupStep.Tag tag : step.getTags()) {
+                if ("beanName".equals(tag.getKey())) name = tag.getValue();
+                if ("beanType".equals(tag.getKey())) type = tag.getValue();
+            }
+            Duration total = event.getDuration();
+            Duration self = total.minus(childDurations.getOrDefault(step.getId(), Duration.ZERO));
+            timings.add(new BeanTiming(name, type, total.toMillis(), Math.max(0, self.toMillis())));
+        }
+        timings.sort((a, b) -> Long.compare(b.selfMillis(), a.selfMillis()));
+        return timings;
+    }
+}
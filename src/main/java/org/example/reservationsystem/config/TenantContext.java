@@ -0,0 +1,91 @@
+package org.example.reservationsystem.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Hält das Restaurant (den Mandanten) des aktuellen Threads.
+ *
+ * <p>{@link TenantFilter} setzt den Mandanten je Request aus dem Header
+ * {@value TenantFilter#HEADER}; ohne Header gilt {@link #DEFAULT_TENANT}. Hibernate liest ihn
+ * über den {@link TenantIdentifierResolver} beim Öffnen einer Session und schränkt alle
+ * Abfragen auf mandantenbezogene Entitäten ({@code @TenantId}) automatisch darauf ein.</p>
+ *
+ * <p>Hintergrundaufgaben (asynchrone Listener, Caches) laufen ohne Request und setzen den
+ * Mandanten explizit mit {@link #call}/{@link #run}; {@link #callForAllTenants} öffnet eine
+ * Session ohne Mandanten-Einschränkung, um z. B. alle Tische auf einmal zu laden.</p>
+ *
+ * @author Maciej Janowski
+ */
+public final class TenantContext {
+
+    /** Restaurant für Requests ohne Header und für Bestandsdaten. */
+    public static final String DEFAULT_TENANT = "default";
+
+    /** Interne Kennung für Sessions ohne Mandanten-Einschränkung. */
+    static final String ALL_TENANTS = "*";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * @return Mandant des aktuellen Threads oder {@link #DEFAULT_TENANT}
+     */
+    public static String current() {
+        String tenant = CURRENT.get();
+        return tenant != null ? tenant : DEFAULT_TENANT;
+    }
+
+    /**
+     * Führt eine Aktion für einen Mandanten aus und stellt danach den vorherigen wieder her.
+     *
+     * @param tenant Mandant
+     * @param action Aktion
+     * @param <T>    Ergebnistyp
+     * @return Ergebnis der Aktion
+     */
+    public static <T> T call(String tenant, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) CURRENT.remove(); else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Führt eine Aktion für einen Mandanten aus.
+     *
+     * @param tenant Mandant
+     * @param action Aktion
+     */
+    public static void run(String tenant, Runnable action) {
+        call(tenant, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Führt eine Aktion ohne Mandanten-Einschränkung aus (nur für mandantenübergreifende
+     * Lesezugriffe wie das Befüllen von Caches; neue Entitäten müssen ihren Mandanten dann
+     * selbst tragen).
+     *
+     * @param action Aktion
+     * @param <T>    Ergebnistyp
+     * @return Ergebnis der Aktion
+     */
+    public static <T> T callForAllTenants(Supplier<T> action) {
+        return call(ALL_TENANTS, action);
+    }
+
+    static void set(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
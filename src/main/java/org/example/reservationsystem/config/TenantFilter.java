@@ -0,0 +1,70 @@
+package org.example.reservationsystem.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.reservationsystem.exceptions.RestaurantNotFoundException;
+import org.example.reservationsystem.service.RestaurantService;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+/**
+ * Servlet-Filter, der das Restaurant eines Requests in den {@link TenantContext} übernimmt.
+ *
+ * <p>Der Kurzname kommt aus dem Header {@value #HEADER}; fehlt er, gilt
+ * {@link TenantContext#DEFAULT_TENANT}. Unbekannte Restaurants werden über den
+ * {@link HandlerExceptionResolver} als {@code 404} ({@code /errors/restaurant-not-found})
+ * beantwortet. Der Filter läuft vor allen anderen, damit auch die in der Security-Kette
+ * und per Open-Session-in-View geöffneten Hibernate-Sessions den Mandanten kennen.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TenantFilter extends OncePerRequestFilter {
+
+    /** Header mit dem Kurznamen des Restaurants. */
+    public static final String HEADER = "X-Restaurant";
+
+    private final RestaurantService restaurantService;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    /**
+     * Erstellt einen neuen {@code TenantFilter}.
+     *
+     * @param restaurantService        prüft, ob das Restaurant existiert
+     * @param handlerExceptionResolver Resolver zur Übergabe von Ausnahmen an das globale Handling
+     */
+    public TenantFilter(RestaurantService restaurantService, HandlerExceptionResolver handlerExceptionResolver) {
+        this.restaurantService = restaurantService;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String slug = request.getHeader(HEADER);
+        if (slug == null || slug.isBlank()) {
+            slug = TenantContext.DEFAULT_TENANT;
+        } else if (!restaurantService.exists(slug.trim())) {
+            handlerExceptionResolver.resolveException(request, response, null,
+                    new RestaurantNotFoundException(slug.trim()));
+            return;
+        }
+
+        TenantContext.set(slug.trim());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.reservationsystem.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Verbindet Hibernates Mandantenfähigkeit (Spalte {@code tenant_id}, {@code @TenantId})
+ * mit dem {@link TenantContext}.
+ *
+ * <p>Hibernate ergänzt in jeder Abfrage auf mandantenbezogene Entitäten die Bedingung
+ * {@code tenant_id = ?} und setzt die Spalte beim Einfügen. Nur für
+ * {@link TenantContext#callForAllTenants} entfällt die Einschränkung.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String>, HibernatePropertiesCustomizer {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return TenantContext.current();
+    }
+
+    /** Spring öffnet Sessions selbst; ein Abgleich mit laufenden Sessions ist nicht nötig. */
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    @Override
+    public boolean isRoot(String tenantId) {
+        return TenantContext.ALL_TENANTS.equals(tenantId);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.reservationsystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.nio.file.Path;
+
+/**
+ * Verteiltes Tracing (Profil {@code tracing}, siehe {@code application-tracing.properties}).
+ *
+ * <p>Micrometer-Observations werden über die OpenTelemetry-Bridge zu Spans. Ein Request an
+ * {@code /api/reservations/available} ergibt so den Baum
+ * {@code http get} → {@code reservation.jwt.authentication} / {@code ReservationController#…}
+ * → {@code ReservationService#…} → {@code ReservationRepository#…} → {@code query} (eine
+ * SQL-Anweisung, datasource-proxy). Controller und Service sind mit {@code @Observed}
+ * markiert; diese Konfiguration ergänzt die Repository-Spans und den Datei-Export.</p>
+ *
+ * <p>Exportiert wird per OTLP an {@code management.otlp.tracing.endpoint} (lokaler Collector,
+ * z. B. {@code docker-compose.tracing.yml}) und/oder als JSON-Zeilen nach
+ * {@code reservation.tracing.file.path} ({@link FileSpanExporter}).</p>
+ *
+ * @author Maciej Janowski
+ */
+@Configuration
+@ConditionalOnProperty(name = "reservation.tracing.enabled", havingValue = "true")
+public class TracingConfig {
+
+    /** Name der Observations um Repository-Methoden. */
+    public static final String REPOSITORY_OBSERVATION = "reservation.repository";
+
+    /**
+     * Hängt an jedes Spring-Data-Repository einen Interceptor, der jeden Methodenaufruf als
+     * Observation {@value #REPOSITORY_OBSERVATION} beobachtet (Span-Name
+     * {@code <Repository>#<Methode>}).
+     *
+     * <p>Statisch, damit der Post-Processor vor den Repositories registriert wird; die
+     * {@link ObservationRegistry} wird erst beim Anlegen der Repositories aufgelöst.</p>
+     *
+     * @param registry Registry für die Observations
+     * @return Post-Processor für die Repository-Factory-Beans
+     */
+    @Bean
+    static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxy, info) -> proxy.addAdvice(observing(registry.getObject(),
+                                    info.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * @param registry   Registry für die Observations
+     * @param repository einfacher Name des Repository-Interfaces
+     * @return Interceptor, der jeden Aufruf als {@value #REPOSITORY_OBSERVATION} beobachtet
+     */
+    public static MethodInterceptor observing(ObservationRegistry registry, String repository) {
+        return invocation -> Observation.createNotStarted(REPOSITORY_OBSERVATION, registry)
+                .contextualName(repository + "#" + invocation.getMethod().getName())
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", invocation.getMethod().getName())
+                .observeChecked(invocation::proceed);
+    }
+
+    /**
+     * @param objectMapper JSON-Serialisierung
+     * @param path         Zieldatei der Spans
+     * @return Exporter für JSON-Zeilen; Spring Boot hängt ihn an den {@code BatchSpanProcessor}
+     */
+    @Bean
+    @ConditionalOnProperty("reservation.tracing.file.path")
+    FileSpanExporter fileSpanExporter(ObjectMapper objectMapper,
+                                      @Value("${reservation.tracing.file.path}") Path path) {
+        return new FileSpanExporter(objectMapper, path);
+    }
+}
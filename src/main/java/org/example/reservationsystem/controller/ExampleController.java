@@ -1,11 +1,13 @@
 package org.example.reservationsystem.controller;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api")
+@Lazy
 public class ExampleController {
 
     @GetMapping("/example")
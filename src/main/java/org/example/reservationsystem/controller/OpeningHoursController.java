@@ -0,0 +1,68 @@
+package org.example.reservationsystem.controller;
+
+import org.example.reservationsystem.DTO.OpeningHoursDTO;
+import org.example.reservationsystem.service.OpeningHoursService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST-Controller für die Pflege der Öffnungszeiten.
+ *
+ * <p><strong>Basis-URL:</strong> {@code /admin/opening-hours} (nur {@code ROLE_ADMIN})</p>
+ *
+ * <ul>
+ *   <li>{@code GET /admin/opening-hours} – alle Wochentagsregeln und Ausnahmen</li>
+ *   <li>{@code PUT /admin/opening-hours} – alle Einträge ersetzen ({@link OpeningHoursDTO}-Liste);
+ *       die neuen Regeln gelten unmittelbar nach dem Speichern</li>
+ * </ul>
+ *
+ * <p>Ungültige oder sich überschneidende Einträge liefern {@code 400}
+ * ({@code /errors/invalid-argument}) und ändern nichts.</p>
+ *
+ * @author Maciej Janowski
+ */
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+@RestController
+@RequestMapping("/admin/opening-hours")
+@Lazy
+public class OpeningHoursController {
+
+    private final OpeningHoursService openingHoursService;
+
+    /**
+     * Erstellt einen neuen {@code OpeningHoursController}.
+     *
+     * @param openingHoursService Service für Öffnungszeiten
+     */
+    public OpeningHoursController(OpeningHoursService openingHoursService) {
+        this.openingHoursService = openingHoursService;
+    }
+
+    /**
+     * @return alle hinterlegten Öffnungszeiten
+     */
+    @GetMapping
+    public ResponseEntity<List<OpeningHoursDTO>> getAll() {
+        return ResponseEntity.ok(openingHoursService.getAll().stream()
+                .map(OpeningHoursDTO::fromEntity)
+                .toList());
+    }
+
+    /**
+     * Ersetzt alle Öffnungszeiten.
+     *
+     * @param hours neue Einträge; eine leere Liste stellt den Standard (00:00–22:00) wieder her
+     * @return gespeicherte Einträge
+     */
+    @PutMapping
+    public ResponseEntity<List<OpeningHoursDTO>> replaceAll(@RequestBody List<OpeningHoursDTO> hours) {
+        return ResponseEntity.ok(openingHoursService.replaceAll(hours.stream()
+                        .map(OpeningHoursDTO::toEntity)
+                        .toList()).stream()
+                .map(OpeningHoursDTO::fromEntity)
+                .toList());
+    }
+}
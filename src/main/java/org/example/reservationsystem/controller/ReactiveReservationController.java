@@ -0,0 +1,102 @@
+package org.example.reservationsystem.controller;
+
+import jakarta.validation.Valid;
+import org.example.reservationsystem.DTO.ReservationRequestDTO;
+import org.example.reservationsystem.DTO.ReservationViewDTO;
+import org.example.reservationsystem.DTO.TableViewDTO;
+import org.example.reservationsystem.service.ReactiveReservationService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reaktive Variante der Verfügbarkeits- und Buchungs-Endpunkte.
+ *
+ * <p>Die Endpunkte entsprechen fachlich {@code GET /api/reservations/available} und
+ * {@code POST /api/reservations} aus dem {@link ReservationController}, liefern aber
+ * {@link Mono}/{@link Flux} zurück. Spring MVC verarbeitet diese Rückgabetypen asynchron:
+ * Der Tomcat-Thread wird freigegeben, sobald die Methode zurückkehrt, und die Antwort
+ * wird geschrieben, wenn der R2DBC-Treiber auf seinen Event-Loop-Threads fertig ist.
+ * Während eine Datenbankabfrage läuft, ist damit kein Request-Thread blockiert.</p>
+ *
+ * <p>Die E-Mail des Benutzers wird vor dem Wechsel in die reaktive Kette aus dem
+ * {@link SecurityContextHolder} gelesen, da dieser threadgebunden ist.</p>
+ *
+ * <p><strong>Basis-URL:</strong> {@code /api/reactive/reservations}</p>
+ *
+ * <ul>
+ *   <li>{@code GET  /api/reactive/reservations/available} – freie Tische im Zeitraum</li>
+ *   <li>{@code POST /api/reactive/reservations} – Reservierung für den eingeloggten Benutzer anlegen</li>
+ * </ul>
+ *
+ * @author Maciej Janowski
+ */
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+@RestController
+@RequestMapping("/api/reactive/reservations")
+@Lazy
+public class ReactiveReservationController {
+
+    private final ReactiveReservationService reactiveReservationService;
+
+    /**
+     * Erstellt einen neuen {@code ReactiveReservationController}.
+     *
+     * @param reactiveReservationService reaktiver Service für Verfügbarkeit und Buchung
+     */
+    public ReactiveReservationController(ReactiveReservationService reactiveReservationService) {
+        this.reactiveReservationService = reactiveReservationService;
+    }
+
+    /**
+     * Erstellt eine neue Reservierung für den aktuell authentifizierten Benutzer.
+     *
+     * @param dto Eingabedaten der Reservierung (Tischnummer, Start- und Endzeit)
+     * @return {@link ReservationViewDTO} der erstellten Reservierung oder {@code 401}, falls keine Authentifizierung
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ReservationViewDTO>> createReservation(
+            @Valid @RequestBody ReservationRequestDTO dto
+    ) {
+        String email = currentEmailOrNull();
+        if (email == null) {
+            return Mono.just(ResponseEntity.status(401).build());
+        }
+
+        return reactiveReservationService
+                .addReservation(dto.getStartTime(), dto.getEndTime(), dto.getTableNumber(), email)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Gibt die verfügbaren Tische für ein bestimmtes Zeitfenster zurück.
+     *
+     * @param startIso ISO-String der Startzeit (mit oder ohne Sekunden)
+     * @param minutes  gewünschte Dauer in Minuten
+     * @return freie Tische als {@link TableViewDTO}
+     */
+    @GetMapping("/available")
+    public Flux<TableViewDTO> getAvailableTables(
+            @RequestParam("start") String startIso,
+            @RequestParam("minutes") Integer minutes
+    ) {
+        return reactiveReservationService.findAvailableTables(
+                ReservationController.parseIsoLenient(startIso), minutes);
+    }
+
+    /**
+     * Gibt die E-Mail des aktuell eingeloggten Benutzers aus dem SecurityContext zurück.
+     *
+     * @return E-Mail-Adresse oder {@code null}, falls nicht authentifiziert
+     */
+    private String currentEmailOrNull() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) return null;
+        String name = auth.getName();
+        return (name == null || name.isBlank()) ? null : name;
+    }
+}
@@ -1,18 +1,33 @@
 package org.example.reservationsystem.controller;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.validation.Valid;
+import org.example.reservationsystem.DTO.PartyReservationRequestDTO;
 import org.example.reservationsystem.DTO.ReservationRequestDTO;
 import org.example.reservationsystem.DTO.ReservationViewDTO;
 import org.example.reservationsystem.DTO.TableViewDTO;
 import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.service.AvailabilityFeed;
 import org.example.reservationsystem.service.ReservationService;
+import org.example.reservationsystem.service.ReservationVersions;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 /**
@@ -30,15 +45,24 @@ import java.util.List;
  *
  * <p><strong>Basis-URL:</strong> {@code /api/reservations}</p>
  *
+ * <p>Die lesenden Endpunkte {@code /available}, {@code /userReservations} und {@code /all}
+ * liefern ETags aus {@link ReservationVersions}. Passt {@code If-None-Match}, wird
+ * {@code 304 Not Modified} geantwortet, ohne den Service aufzurufen.</p>
+ *
  * <p>CORS ist für {@code http://localhost:3000} aktiviert, um
  * Cookie-basierte Kommunikation mit dem React-Frontend zu ermöglichen.</p>
  *
+ * <p>Im Profil {@code tracing} erzeugt jeder Handler-Aufruf einen eigenen Span
+ * ({@code @Observed}), unterhalb des HTTP-Spans und neben der JWT-Prüfung.</p>
+ *
  * <ul>
  *   <li>{@code POST   /api/reservations} – erstellt eine neue Reservierung für den eingeloggten Benutzer</li>
+ *   <li>{@code POST   /api/reservations/auto} – wie oben, Tisch oder Tischkombination werden anhand der Personenzahl gewählt</li>
  *   <li>{@code DELETE /api/reservations/{id}} – löscht eine bestehende Reservierung</li>
- *   <li>{@code GET    /api/reservations/userReservations} – gibt die eigene Reservierung zurück</li>
+ *   <li>{@code GET    /api/reservations/userReservations} – gibt die eigenen Reservierungen seitenweise zurück</li>
  *   <li>{@code GET    /api/reservations/all} – gibt alle Reservierungen (Admin)</li>
  *   <li>{@code GET    /api/reservations/available} – gibt verfügbare Tische im Zeitraum zurück</li>
+ *   <li>{@code GET    /api/reservations/available/stream} – Server-Sent Events mit Verfügbarkeitsänderungen eines Tages</li>
  * </ul>
  *
  * @author Maciej Janowski
@@ -46,17 +70,28 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
 @RestController
 @RequestMapping("/api/reservations")
+@Observed(name = "reservation.controller")
 public class ReservationController {
 
+    /** Obergrenze für {@code size} bei der seitenweisen Abfrage eigener Reservierungen. */
+    static final int MAX_PAGE_SIZE = 50;
+
     private final ReservationService reservationService;
+    private final AvailabilityFeed availabilityFeed;
+    private final ReservationVersions versions;
 
     /**
      * Erstellt einen neuen {@code ReservationController}.
      *
      * @param reservationService Service für Geschäftslogik der Reservierungen
+     * @param availabilityFeed   Verteiler für Verfügbarkeitsänderungen
+     * @param versions           Versionszähler für ETags
      */
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService, AvailabilityFeed availabilityFeed,
+                                 ReservationVersions versions) {
         this.reservationService = reservationService;
+        this.availabilityFeed = availabilityFeed;
+        this.versions = versions;
     }
 
 
@@ -83,6 +118,30 @@ public class ReservationController {
         return ResponseEntity.ok(toDto(saved));
     }
 
+    /**
+     * Erstellt eine Reservierung für eine Gruppe; der Server wählt den kleinsten passenden freien Tisch
+     * oder – für große Gruppen – die kleinste freie Kombination benachbarter Tische.
+     *
+     * <p>Ist nichts mit ausreichend Plätzen frei, wird {@code 409 Conflict}
+     * ({@code /errors/no-table-available}) geliefert.</p>
+     *
+     * @param dto Personenzahl sowie Start- und Endzeit
+     * @return {@link ReservationViewDTO}s der erstellten Reservierungen (eine pro Tisch)
+     *         oder {@code 401}, falls keine Authentifizierung
+     */
+    @PostMapping("/auto")
+    public ResponseEntity<List<ReservationViewDTO>> createReservationForParty(
+            @RequestBody PartyReservationRequestDTO dto) {
+        String email = currentEmailOrNull();
+        if (email == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        Reservation reservation = new Reservation(dto.getStartTime(), dto.getEndTime());
+        List<Reservation> saved = reservationService.addReservationForParty(reservation, dto.getPartySize(), email);
+        return ResponseEntity.ok(saved.stream().map(this::toDto).toList());
+    }
+
 
 
     /**
@@ -100,26 +159,42 @@ public class ReservationController {
 
 
     /**
-     * Gibt die aktuelle Reservierung des eingeloggten Benutzers zurück.
+     * Gibt die Reservierungen des eingeloggten Benutzers seitenweise zurück,
+     * aufsteigend nach Beginn.
+     *
+     * <p>Antwortformat: {@code {"content": [...], "page": {"size", "number",
+     * "totalElements", "totalPages"}}}. Die Seitengröße wird auf
+     * {@value #MAX_PAGE_SIZE} begrenzt.</p>
      *
      * <ul>
-     *   <li>{@code 200 OK} mit {@link ReservationViewDTO}, wenn eine Reservierung existiert</li>
-     *   <li>{@code 204 No Content}, wenn keine Reservierung vorhanden</li>
+     *   <li>{@code 200 OK} mit einer (ggf. leeren) Seite von {@link ReservationViewDTO}</li>
      *   <li>{@code 401 Unauthorized}, wenn kein Benutzer authentifiziert</li>
      * </ul>
      *
+     * @param page        Seitennummer (ab 0)
+     * @param size        Seitengröße
+     * @param ifNoneMatch ETag einer früheren Antwort (optional)
      * @return HTTP-Antwort mit passendem Statuscode und ggf. Reservierungsdaten
      */
     @GetMapping("/userReservations")
-    public ResponseEntity<ReservationViewDTO> getUserReservation() {
+    public ResponseEntity<PagedModel<ReservationViewDTO>> getUserReservations(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         String email = currentEmailOrNull();
         if (email == null) {
             return ResponseEntity.status(401).build();
         }
+        String etag = versions.userReservationsTag(email);
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
 
-        Reservation r = reservationService.getUserReservation(email);
-        if (r == null) return ResponseEntity.noContent().build();
-        return ResponseEntity.ok(toDto(r));
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        Page<ReservationViewDTO> reservations = reservationService.getUserReservations(email, pageable)
+                .map(this::toDto);
+        return revalidated(etag).body(new PagedModel<>(reservations));
     }
 
 
@@ -129,15 +204,25 @@ public class ReservationController {
      *
      * <p>Dieser Endpunkt wird im Sicherheitskontext auf {@code ROLE_ADMIN} beschränkt.</p>
      *
+     * <p>Neben JSON wird mit {@code Accept: application/cbor} eine kompakte Binärkodierung
+     * (CBOR, RFC 8949) mit denselben Feldern geliefert; große Antworten werden zusätzlich
+     * per gzip komprimiert ({@code server.compression.*}).</p>
+     *
+     * @param ifNoneMatch ETag einer früheren Antwort (optional)
      * @return Liste aller Reservierungen als {@link ReservationViewDTO}
      */
-    @GetMapping("/all")
-    public ResponseEntity<List<ReservationViewDTO>> getAllReservations() {
+    @GetMapping(path = "/all", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<ReservationViewDTO>> getAllReservations(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = versions.allReservationsTag();
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
         List<ReservationViewDTO> all = reservationService.getAllReservations()
                 .stream()
                 .map(this::toDto)
                 .toList();
-        return ResponseEntity.ok(all);
+        return revalidated(etag).body(all);
     }
 
 
@@ -149,18 +234,47 @@ public class ReservationController {
      * Der Controller verwendet einen toleranten Parser, der Eingaben mit
      * oder ohne Sekunden akzeptiert (z. B. {@code 2025-06-09T18:00}).</p>
      *
-     * @param startIso ISO-String der Startzeit
-     * @param minutes  gewünschte Dauer in Minuten
-     * @return Liste freier Tische als {@link TableViewDTO}
+     * @param startIso    ISO-String der Startzeit
+     * @param minutes     gewünschte Dauer in Minuten
+     * @param ifNoneMatch ETag einer früheren Antwort (optional)
+     * @return Liste freier Tische als {@link TableViewDTO} oder {@code 304}, wenn unverändert
      */
     @GetMapping("/available")
     public ResponseEntity<List<TableViewDTO>> getAvailableTables(
             @RequestParam("start") String startIso,
-            @RequestParam("minutes") Integer minutes
+            @RequestParam("minutes") Integer minutes,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         LocalDateTime start = parseIsoLenient(startIso);
+        String etag = versions.availabilityTag(start, minutes);
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
         List<TableViewDTO> free = reservationService.findAvailableTables(start, minutes);
-        return ResponseEntity.ok(free);
+        return revalidated(etag).body(free);
+    }
+
+    /**
+     * Öffnet einen Server-Sent-Events-Stream mit Verfügbarkeitsänderungen eines Tages.
+     *
+     * <p>Nach jeder Buchung oder Stornierung an diesem Tag folgt ein Ereignis
+     * {@code availability} mit den geänderten Tischen und Zeitfenstern
+     * ({@code AvailabilityDeltaDTO}); bei {@code resync} sollte der Client
+     * {@code /available} neu abfragen. Details siehe {@link AvailabilityFeed}.</p>
+     *
+     * @param date Tag im Format {@code yyyy-MM-dd}
+     * @return offener Event-Stream
+     * @throws IllegalArgumentException bei ungültigem Datum
+     */
+    @GetMapping(path = "/available/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(@RequestParam("date") String date) {
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Ungültiges Datum: " + date);
+        }
+        return availabilityFeed.subscribe(day);
     }
 
 
@@ -178,6 +292,47 @@ public class ReservationController {
         return (name == null || name.isBlank()) ? null : name;
     }
 
+    /**
+     * Prüft, ob {@code If-None-Match} den aktuellen ETag enthält ({@code *}, Liste und
+     * schwacher Vergleich: {@code W/"…"} und {@code "…"} gelten als gleich).
+     *
+     * @param ifNoneMatch Header-Wert oder {@code null}
+     * @param etag        aktueller ETag oder {@code null}, wenn keiner vergeben wird
+     * @return {@code true}, wenn mit {@code 304} geantwortet werden kann
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) return false;
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = stripWeak(candidate.trim());
+            if (tag.equals("*") || tag.equals(opaque)) return true;
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    /**
+     * Antwort für private Daten, die der Client zwischenspeichern, aber vor jeder
+     * Verwendung per ETag neu prüfen soll.
+     *
+     * @param etag ETag oder {@code null}
+     * @return vorbereitete {@code 200}-Antwort
+     */
+    private static ResponseEntity.BodyBuilder revalidated(String etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate());
+        return etag == null ? builder : builder.eTag(etag);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .build();
+    }
+
     /**
      * Toleranter ISO-Parser, der Datumsstrings mit oder ohne Sekunden verarbeitet.
      * Beispiel: {@code 2025-06-09T18:00} oder {@code 2025-06-09T18:00:00}.
@@ -185,7 +340,7 @@ public class ReservationController {
      * @param iso ISO-Datumsstring
      * @return geparstes {@link LocalDateTime}-Objekt
      */
-    private LocalDateTime parseIsoLenient(String iso) {
+    static LocalDateTime parseIsoLenient(String iso) {
         try {
             return LocalDateTime.parse(iso, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         } catch (Exception e) {
@@ -201,13 +356,6 @@ public class ReservationController {
      * @return {@link ReservationViewDTO} mit Benutzerdaten, Tisch und Zeitraum
      */
     private ReservationViewDTO toDto(Reservation r) {
-        return new ReservationViewDTO(
-                r.getId(),
-                r.getUser() != null ? r.getUser().getEmail() : null,
-                r.getUser() != null ? r.getUser().getFullName() : null,
-                r.getTable() != null ? r.getTable().getTableNumber() : null,
-                r.getStartTime(),
-                r.getEndTime()
-        );
+        return ReservationViewDTO.fromReservation(r);
     }
 }
\ No newline at end of file
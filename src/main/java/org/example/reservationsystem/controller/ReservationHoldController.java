@@ -0,0 +1,117 @@
+package org.example.reservationsystem.controller;
+
+import jakarta.validation.Valid;
+import org.example.reservationsystem.DTO.ReservationRequestDTO;
+import org.example.reservationsystem.DTO.ReservationViewDTO;
+import org.example.reservationsystem.DTO.TableHoldDTO;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.service.ReservationService;
+import org.example.reservationsystem.service.TableHold;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST-Controller für vorläufige Tisch-Holds während des Buchungsvorgangs.
+ *
+ * <p>Ablauf im Frontend: freie Tische abfragen, gewählten Tisch per Hold für
+ * {@code reservation.holds.ttl} blockieren, Eingaben abschließen und den Hold bestätigen.
+ * Zwischen Auswahl und Bestätigung kann kein anderer Benutzer den Tisch im gehaltenen
+ * Zeitfenster buchen.</p>
+ *
+ * <p><strong>Basis-URL:</strong> {@code /api/reservations/holds}</p>
+ *
+ * <ul>
+ *   <li>{@code POST   /api/reservations/holds} – Tisch vorläufig blockieren ({@link TableHoldDTO})</li>
+ *   <li>{@code POST   /api/reservations/holds/{id}/confirm} – Hold in eine Reservierung umwandeln</li>
+ *   <li>{@code DELETE /api/reservations/holds/{id}} – Hold freigeben</li>
+ * </ul>
+ *
+ * <p>Konflikte liefern {@code 409} ({@code /errors/table-already-reserved}), unbekannte
+ * oder abgelaufene Holds {@code 404} ({@code /errors/hold-not-found}).</p>
+ *
+ * @author Maciej Janowski
+ */
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+@RestController
+@RequestMapping("/api/reservations/holds")
+public class ReservationHoldController {
+
+    private final ReservationService reservationService;
+
+    /**
+     * Erstellt einen neuen {@code ReservationHoldController}.
+     *
+     * @param reservationService Service für Holds und Reservierungen
+     */
+    public ReservationHoldController(ReservationService reservationService) {
+        this.reservationService = reservationService;
+    }
+
+    /**
+     * Blockiert einen Tisch vorläufig für den aktuell authentifizierten Benutzer.
+     *
+     * @param dto Tischnummer sowie Start- und Endzeit
+     * @return {@link TableHoldDTO} mit ID und Ablaufzeit oder {@code 401}, falls keine Authentifizierung
+     */
+    @PostMapping
+    public ResponseEntity<TableHoldDTO> createHold(@Valid @RequestBody ReservationRequestDTO dto) {
+        String email = currentEmailOrNull();
+        if (email == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        TableHold hold = reservationService.placeHold(
+                new Reservation(dto.getStartTime(), dto.getEndTime()), dto.getTableNumber(), email);
+        return ResponseEntity.ok(TableHoldDTO.fromHold(hold));
+    }
+
+    /**
+     * Wandelt einen eigenen Hold in eine Reservierung um.
+     *
+     * @param id ID des Holds
+     * @return {@link ReservationViewDTO} der erstellten Reservierung oder {@code 401}, falls keine Authentifizierung
+     */
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<ReservationViewDTO> confirmHold(@PathVariable UUID id) {
+        String email = currentEmailOrNull();
+        if (email == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        Reservation saved = reservationService.confirmHold(id, email);
+        return ResponseEntity.ok(ReservationViewDTO.fromReservation(saved));
+    }
+
+    /**
+     * Gibt einen eigenen Hold frei.
+     *
+     * @param id ID des Holds
+     * @return {@code 204 No Content} nach erfolgreicher Freigabe oder {@code 401}, falls keine Authentifizierung
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> releaseHold(@PathVariable UUID id) {
+        String email = currentEmailOrNull();
+        if (email == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        reservationService.releaseHold(id, email);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Gibt die E-Mail des aktuell eingeloggten Benutzers aus dem SecurityContext zurück.
+     *
+     * @return E-Mail-Adresse oder {@code null}, falls nicht authentifiziert
+     */
+    private String currentEmailOrNull() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) return null;
+        String name = auth.getName();
+        return (name == null || name.isBlank()) ? null : name;
+    }
+}
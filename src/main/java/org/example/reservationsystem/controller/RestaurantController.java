@@ -0,0 +1,66 @@
+package org.example.reservationsystem.controller;
+
+import org.example.reservationsystem.DTO.RestaurantDTO;
+import org.example.reservationsystem.service.RestaurantService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST-Controller für die Verwaltung der Restaurants (Mandanten).
+ *
+ * <p><strong>Basis-URL:</strong> {@code /admin/restaurants} (nur {@code ROLE_ADMIN})</p>
+ *
+ * <ul>
+ *   <li>{@code GET /admin/restaurants} – alle Restaurants</li>
+ *   <li>{@code POST /admin/restaurants} – Restaurant anlegen; Tische, Öffnungszeiten und
+ *       Reservierungen werden danach mit Header {@code X-Restaurant: <slug>} gepflegt</li>
+ * </ul>
+ *
+ * <p>Ungültige oder bereits vergebene Kurznamen liefern {@code 400}
+ * ({@code /errors/invalid-argument}).</p>
+ *
+ * @author Maciej Janowski
+ */
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+@RestController
+@RequestMapping("/admin/restaurants")
+@Lazy
+public class RestaurantController {
+
+    private final RestaurantService restaurantService;
+
+    /**
+     * Erstellt einen neuen {@code RestaurantController}.
+     *
+     * @param restaurantService Service für Restaurants
+     */
+    public RestaurantController(RestaurantService restaurantService) {
+        this.restaurantService = restaurantService;
+    }
+
+    /**
+     * @return alle Restaurants
+     */
+    @GetMapping
+    public ResponseEntity<List<RestaurantDTO>> getAll() {
+        return ResponseEntity.ok(restaurantService.getAll().stream()
+                .map(RestaurantDTO::fromEntity)
+                .toList());
+    }
+
+    /**
+     * Legt ein Restaurant an.
+     *
+     * @param restaurant Kurzname und Anzeigename
+     * @return angelegtes Restaurant mit Status {@code 201}
+     */
+    @PostMapping
+    public ResponseEntity<RestaurantDTO> create(@RequestBody RestaurantDTO restaurant) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(RestaurantDTO.fromEntity(restaurantService.create(restaurant.slug(), restaurant.name())));
+    }
+}
@@ -4,6 +4,7 @@ import org.example.reservationsystem.DTO.ChangePasswordDTO;
 import org.example.reservationsystem.DTO.UserProfileDTO;
 import org.example.reservationsystem.model.User;
 import org.example.reservationsystem.service.UserService;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -31,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
 @RestController
 @RequestMapping("/user")
+@Lazy
 public class UserController {
 
     private final UserService userService;
@@ -0,0 +1,115 @@
+package org.example.reservationsystem.controller;
+
+import org.example.reservationsystem.DTO.WaitlistEntryDTO;
+import org.example.reservationsystem.DTO.WaitlistRequestDTO;
+import org.example.reservationsystem.model.WaitlistEntry;
+import org.example.reservationsystem.service.WaitlistService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST-Controller für die Warteliste.
+ *
+ * <p>Ist kein passender Tisch frei, kann sich der Benutzer für einen Tag, ein Zeitfenster
+ * und eine Personenzahl eintragen. Wird später eine passende Reservierung storniert, rückt
+ * der älteste passende Eintrag automatisch nach (siehe {@link WaitlistService}).</p>
+ *
+ * <p><strong>Basis-URL:</strong> {@code /api/waitlist}</p>
+ *
+ * <ul>
+ *   <li>{@code POST   /api/waitlist} – auf die Warteliste setzen ({@link WaitlistRequestDTO})</li>
+ *   <li>{@code GET    /api/waitlist} – eigene Einträge inkl. Status</li>
+ *   <li>{@code DELETE /api/waitlist/{id}} – wartenden Eintrag zurückziehen</li>
+ * </ul>
+ *
+ * <p>Ungültige Eingaben liefern {@code 400} ({@code /errors/invalid-argument}), unbekannte
+ * oder nicht mehr wartende Einträge {@code 404} ({@code /errors/waitlist-entry-not-found}).</p>
+ *
+ * @author Maciej Janowski
+ */
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+@RestController
+@RequestMapping("/api/waitlist")
+@Lazy
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    /**
+     * Erstellt einen neuen {@code WaitlistController}.
+     *
+     * @param waitlistService Service für die Warteliste
+     */
+    public WaitlistController(WaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+
+    /**
+     * Trägt den aktuell authentifizierten Benutzer in die Warteliste ein.
+     *
+     * @param dto Tag, Zeitfenster, Personenzahl und Dauer
+     * @return {@link WaitlistEntryDTO} des neuen Eintrags oder {@code 401}, falls keine Authentifizierung
+     */
+    @PostMapping
+    public ResponseEntity<WaitlistEntryDTO> join(@RequestBody WaitlistRequestDTO dto) {
+        String email = currentEmailOrNull();
+        if (email == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        WaitlistEntry entry = waitlistService.join(email, dto.getDate(), dto.getWindowStart(),
+                dto.getWindowEnd(), dto.getPartySize(), dto.getMinutes());
+        return ResponseEntity.ok(WaitlistEntryDTO.fromEntry(entry));
+    }
+
+    /**
+     * Liefert die Wartelisten-Einträge des aktuell authentifizierten Benutzers.
+     *
+     * @return Einträge, älteste zuerst, oder {@code 401}, falls keine Authentifizierung
+     */
+    @GetMapping
+    public ResponseEntity<List<WaitlistEntryDTO>> getEntries() {
+        String email = currentEmailOrNull();
+        if (email == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(waitlistService.getUserEntries(email).stream()
+                .map(WaitlistEntryDTO::fromEntry)
+                .toList());
+    }
+
+    /**
+     * Zieht einen eigenen, noch wartenden Eintrag zurück.
+     *
+     * @param id ID des Eintrags
+     * @return {@code 204 No Content} oder {@code 401}, falls keine Authentifizierung
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> leave(@PathVariable Long id) {
+        String email = currentEmailOrNull();
+        if (email == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        waitlistService.leave(id, email);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Gibt die E-Mail des aktuell eingeloggten Benutzers aus dem SecurityContext zurück.
+     *
+     * @return E-Mail-Adresse oder {@code null}, falls nicht authentifiziert
+     */
+    private String currentEmailOrNull() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) return null;
+        String name = auth.getName();
+        return (name == null || name.isBlank()) ? null : name;
+    }
+}
@@ -358,19 +358,37 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Spezieller Konflikt: Benutzer hat bereits eine aktive Reservierung (1:1-Beziehung).
+     * Spezieller Konflikt: Benutzer hat die maximale Anzahl aktiver Reservierungen erreicht.
      *
-     * <p>Liefert {@code 409 Conflict} mit Typ {@code /errors/user-has-reservation}.</p>
+     * <p>Liefert {@code 409 Conflict} mit Typ {@code /errors/reservation-limit-reached}.</p>
      *
-     * @param ex  {@link UserAlreadyHasReservationException}
+     * @param ex  {@link ReservationLimitExceededException}
      * @param req aktueller HTTP-Request
      * @return {@link ProblemDetail} mit Konfliktbeschreibung
      */
-    @ExceptionHandler(UserAlreadyHasReservationException.class)
+    @ExceptionHandler(ReservationLimitExceededException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
-    public ProblemDetail handleUserAlready(UserAlreadyHasReservationException ex, HttpServletRequest req) {
+    public ProblemDetail handleReservationLimit(ReservationLimitExceededException ex, HttpServletRequest req) {
         ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
-        pd.setType(URI.create("https://docs.example/errors/user-has-reservation"));
+        pd.setType(URI.create("https://docs.example/errors/reservation-limit-reached"));
+        pd.setInstance(URI.create(req.getRequestURI()));
+        return pd;
+    }
+
+    /**
+     * Spezieller Konfliktfall: kein freier Tisch mit ausreichend Plätzen.
+     *
+     * <p>Liefert {@code 409 Conflict} mit Typ {@code /errors/no-table-available}.</p>
+     *
+     * @param ex  {@link NoTableAvailableException}
+     * @param req aktueller HTTP-Request
+     * @return {@link ProblemDetail} mit Konfliktbeschreibung
+     */
+    @ExceptionHandler(NoTableAvailableException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ProblemDetail handleNoTableAvailable(NoTableAvailableException ex, HttpServletRequest req) {
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+        pd.setType(URI.create("https://docs.example/errors/no-table-available"));
         pd.setInstance(URI.create(req.getRequestURI()));
         return pd;
     }
@@ -393,4 +411,52 @@ public class GlobalExceptionHandler {
         pd.setType(URI.create("https://docs.example/errors/reservation-not-found"));
         return pd;
     }
-}
\ No newline at end of file
+
+    /**
+     * Spezieller Not-Found-Fall: Tisch-Hold unbekannt, abgelaufen oder fremd.
+     *
+     * <p>Liefert {@code 404 Not Found} mit Typ {@code /errors/hold-not-found}.</p>
+     *
+     * @param ex {@link HoldNotFoundException}
+     * @return {@link ProblemDetail} mit Fehlermeldung
+     */
+    @ExceptionHandler(HoldNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ProblemDetail handleHoldNotFound(HoldNotFoundException ex) {
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+        pd.setType(URI.create("https://docs.example/errors/hold-not-found"));
+        return pd;
+    }
+
+    /**
+     * Spezieller Not-Found-Fall: Wartelisten-Eintrag unbekannt, fremd oder nicht mehr wartend.
+     *
+     * <p>Liefert {@code 404 Not Found} mit Typ {@code /errors/waitlist-entry-not-found}.</p>
+     *
+     * @param ex {@link WaitlistEntryNotFoundException}
+     * @return {@link ProblemDetail} mit Fehlermeldung
+     */
+    @ExceptionHandler(WaitlistEntryNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ProblemDetail handleWaitlistEntryNotFound(WaitlistEntryNotFoundException ex) {
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+        pd.setType(URI.create("https://docs.example/errors/waitlist-entry-not-found"));
+        return pd;
+    }
+
+    /**
+     * Unbekanntes Restaurant im Header {@code X-Restaurant}.
+     *
+     * <p>Liefert {@code 404 Not Found} mit Typ {@code /errors/restaurant-not-found}.</p>
+     *
+     * @param ex {@link RestaurantNotFoundException}
+     * @return {@link ProblemDetail} mit Fehlermeldung
+     */
+    @ExceptionHandler(RestaurantNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ProblemDetail handleRestaurantNotFound(RestaurantNotFoundException ex) {
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+        pd.setType(URI.create("https://docs.example/errors/restaurant-not-found"));
+        return pd;
+    }
+}
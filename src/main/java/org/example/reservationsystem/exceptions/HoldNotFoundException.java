@@ -0,0 +1,22 @@
+package org.example.reservationsystem.exceptions;
+
+/**
+ * Wird ausgelöst, wenn ein Tisch-Hold nicht (mehr) existiert – weil die ID unbekannt ist,
+ * der Hold abgelaufen ist oder einem anderen Benutzer gehört.
+ *
+ * <p>Im {@link org.example.reservationsystem.exceptions.GlobalExceptionHandler}
+ * wird dieser Fehler zu einem HTTP-Status {@code 404 Not Found} mit Typ
+ * {@code /errors/hold-not-found} gemappt.</p>
+ *
+ * @see org.example.reservationsystem.exceptions.GlobalExceptionHandler
+ * @author Maciej Janowski
+ */
+public class HoldNotFoundException extends RuntimeException {
+
+    /**
+     * Erstellt eine neue {@code HoldNotFoundException}.
+     */
+    public HoldNotFoundException() {
+        super("Hold not found or expired.");
+    }
+}
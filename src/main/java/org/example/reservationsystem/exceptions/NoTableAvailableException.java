@@ -0,0 +1,24 @@
+package org.example.reservationsystem.exceptions;
+
+/**
+ * Wird ausgelöst, wenn für eine Gruppe im gewünschten Zeitfenster kein freier Tisch
+ * mit ausreichend Plätzen gefunden wird.
+ *
+ * <p>Im {@link org.example.reservationsystem.exceptions.GlobalExceptionHandler}
+ * wird dieser Fehler zu einem HTTP-Status {@code 409 Conflict} mit Typ
+ * {@code /errors/no-table-available} gemappt.</p>
+ *
+ * @see org.example.reservationsystem.exceptions.GlobalExceptionHandler
+ * @author Maciej Janowski
+ */
+public class NoTableAvailableException extends RuntimeException {
+
+    /**
+     * Erstellt eine neue {@code NoTableAvailableException}.
+     *
+     * @param partySize Personenzahl der Anfrage
+     */
+    public NoTableAvailableException(int partySize) {
+        super("Kein freier Tisch für " + partySize + " Personen im gewünschten Zeitraum.");
+    }
+}
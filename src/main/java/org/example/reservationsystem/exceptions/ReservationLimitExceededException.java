@@ -0,0 +1,29 @@
+package org.example.reservationsystem.exceptions;
+
+/**
+ * Wird ausgelöst, wenn ein Benutzer eine neue Reservierung anlegen möchte,
+ * obwohl er bereits die maximal zulässige Anzahl aktiver Reservierungen besitzt.
+ *
+ * <p>Die Obergrenze wird über {@code reservation.booking.max-active-per-user}
+ * konfiguriert; als aktiv gilt jede Reservierung, deren Ende in der Zukunft liegt.</p>
+ *
+ * <p>Im {@link org.example.reservationsystem.exceptions.GlobalExceptionHandler}
+ * wird dieser Fehler zu einem HTTP-Status {@code 409 Conflict} mit Typ
+ * {@code /errors/reservation-limit-reached} gemappt.</p>
+ *
+ * @see org.example.reservationsystem.exceptions.GlobalExceptionHandler
+ * @author Maciej Janowski
+ */
+public class ReservationLimitExceededException extends RuntimeException {
+
+    /**
+     * Erstellt eine neue {@code ReservationLimitExceededException}.
+     *
+     * @param limit maximale Anzahl aktiver Reservierungen pro Benutzer
+     */
+    public ReservationLimitExceededException(int limit) {
+        super(limit == 1
+                ? "Du hast bereits eine aktive Reservierung."
+                : "Du hast bereits " + limit + " aktive Reservierungen.");
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.reservationsystem.exceptions;
+
+/**
+ * Wird ausgelöst, wenn der Header {@code X-Restaurant} auf kein bekanntes Restaurant verweist.
+ *
+ * <p>Im {@link org.example.reservationsystem.exceptions.GlobalExceptionHandler}
+ * wird dieser Fehler zu einem HTTP-Status {@code 404 Not Found} mit Typ
+ * {@code /errors/restaurant-not-found} gemappt.</p>
+ *
+ * @see org.example.reservationsystem.exceptions.GlobalExceptionHandler
+ * @author Maciej Janowski
+ */
+public class RestaurantNotFoundException extends RuntimeException {
+
+    /**
+     * Erstellt eine neue {@code RestaurantNotFoundException}.
+     *
+     * @param slug angefragter Kurzname
+     */
+    public RestaurantNotFoundException(String slug) {
+        super("Restaurant '" + slug + "' does not exist.");
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.reservationsystem.exceptions;
+
+/**
+ * Wird ausgelöst, wenn ein Wartelisten-Eintrag nicht existiert, einem anderen Benutzer
+ * gehört oder nicht mehr wartet.
+ *
+ * <p>Im {@link org.example.reservationsystem.exceptions.GlobalExceptionHandler}
+ * wird dieser Fehler zu einem HTTP-Status {@code 404 Not Found} mit Typ
+ * {@code /errors/waitlist-entry-not-found} gemappt.</p>
+ *
+ * @see org.example.reservationsystem.exceptions.GlobalExceptionHandler
+ * @author Maciej Janowski
+ */
+public class WaitlistEntryNotFoundException extends RuntimeException {
+
+    /**
+     * Erstellt eine neue {@code WaitlistEntryNotFoundException}.
+     */
+    public WaitlistEntryNotFoundException() {
+        super("Waitlist entry not found.");
+    }
+}
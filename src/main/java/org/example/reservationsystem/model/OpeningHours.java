@@ -0,0 +1,139 @@
+package org.example.reservationsystem.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Ein Service-Zeitraum (z. B. Mittag oder Abend), in dem Reservierungen möglich sind.
+ *
+ * <p>Ein Eintrag gilt entweder regelmäßig für einen Wochentag ({@link #dayOfWeek}) oder für
+ * ein einzelnes Datum ({@link #date}). Mehrere Einträge für denselben Tag ergeben getrennte
+ * Services (etwa 12:00–14:30 und 17:00–22:00). Sobald für ein Datum mindestens ein Eintrag
+ * existiert, ersetzt er die Wochentagsregel; ein Eintrag mit {@link #closed} {@code = true}
+ * schließt den Tag (Feiertage, Betriebsferien).</p>
+ *
+ * <p>Die Einträge werden nicht pro Buchung gelesen, sondern vom
+ * {@code OpeningHoursService} in einen unveränderlichen Schnappschuss übernommen.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Entity
+@Table(name = "opening_hours",
+        indexes = @Index(name = "idx_opening_hours_tenant_date", columnList = "tenant_id, service_date"))
+public class OpeningHours {
+
+    /** Eindeutige ID des Eintrags (automatisch generiert). */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Restaurant (Mandant), von Hibernate beim Einfügen gesetzt und in Abfragen gefiltert. */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 40)
+    private String tenant;
+
+    /** Wochentag der regelmäßigen Öffnungszeit oder {@code null} bei datumsbezogenen Einträgen. */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", length = 9)
+    private DayOfWeek dayOfWeek;
+
+    /** Datum einer Ausnahme (Feiertag, Sonderöffnung) oder {@code null} bei Wochentagsregeln. */
+    @Column(name = "service_date")
+    private LocalDate date;
+
+    /** Beginn des Service; bei geschlossenen Tagen {@code null}. */
+    @Column(name = "opens_at")
+    private LocalTime opensAt;
+
+    /** Ende des Service (spätestes Reservierungsende); bei geschlossenen Tagen {@code null}. */
+    @Column(name = "closes_at")
+    private LocalTime closesAt;
+
+    /** {@code true}, wenn der Tag geschlossen ist. */
+    @Column(nullable = false)
+    private boolean closed;
+
+    /** Optionale Bezeichnung, z. B. „Mittag“ oder „Heiligabend“. */
+    @Column(length = 40)
+    private String label;
+
+    /** Standardkonstruktor (erforderlich für JPA). */
+    public OpeningHours() {}
+
+    /**
+     * Erstellt eine regelmäßige Öffnungszeit für einen Wochentag.
+     *
+     * @param dayOfWeek Wochentag
+     * @param opensAt   Beginn des Service
+     * @param closesAt  Ende des Service
+     * @param label     Bezeichnung oder {@code null}
+     */
+    public OpeningHours(DayOfWeek dayOfWeek, LocalTime opensAt, LocalTime closesAt, String label) {
+        this.dayOfWeek = dayOfWeek;
+        this.opensAt = opensAt;
+        this.closesAt = closesAt;
+        this.label = label;
+    }
+
+    /**
+     * Erstellt eine Öffnungszeit für ein einzelnes Datum.
+     *
+     * @param date     Datum
+     * @param opensAt  Beginn des Service
+     * @param closesAt Ende des Service
+     * @param label    Bezeichnung oder {@code null}
+     */
+    public OpeningHours(LocalDate date, LocalTime opensAt, LocalTime closesAt, String label) {
+        this.date = date;
+        this.opensAt = opensAt;
+        this.closesAt = closesAt;
+        this.label = label;
+    }
+
+    /**
+     * Erstellt einen Schließtag.
+     *
+     * @param date  geschlossenes Datum
+     * @param label Bezeichnung oder {@code null}
+     * @return Eintrag mit {@code closed = true}
+     */
+    public static OpeningHours closedOn(LocalDate date, String label) {
+        OpeningHours hours = new OpeningHours(date, null, null, label);
+        hours.closed = true;
+        return hours;
+    }
+
+    /** @return ID */
+    public Long getId() { return id; }
+
+    /** @return Kurzname des Restaurants */
+    public String getTenant() { return tenant; }
+
+    /** @return Wochentag oder {@code null} */
+    public DayOfWeek getDayOfWeek() { return dayOfWeek; }
+    public void setDayOfWeek(DayOfWeek dayOfWeek) { this.dayOfWeek = dayOfWeek; }
+
+    /** @return Datum oder {@code null} */
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    /** @return Beginn des Service */
+    public LocalTime getOpensAt() { return opensAt; }
+    public void setOpensAt(LocalTime opensAt) { this.opensAt = opensAt; }
+
+    /** @return Ende des Service */
+    public LocalTime getClosesAt() { return closesAt; }
+    public void setClosesAt(LocalTime closesAt) { this.closesAt = closesAt; }
+
+    /** @return {@code true}, wenn geschlossen */
+    public boolean isClosed() { return closed; }
+    public void setClosed(boolean closed) { this.closed = closed; }
+
+    /** @return Bezeichnung oder {@code null} */
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+}
@@ -0,0 +1,129 @@
+package org.example.reservationsystem.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Eintrag der transaktionalen Outbox ({@code reservation_outbox}).
+ *
+ * <p>Jede Buchung und Stornierung schreibt in derselben Transaktion ein Ereignis in diese
+ * Tabelle; der {@code OutboxRelay} liest unveröffentlichte Einträge stapelweise in
+ * ID-Reihenfolge, übergibt sie den Senken und setzt danach {@link #publishedAt}. Ein
+ * Ereignis existiert damit genau dann, wenn die Änderung committet wurde.</p>
+ *
+ * <p>Die Tabelle ist bewusst nicht mandantenbezogen ({@code @TenantId}): Der Relay liest
+ * die Ereignisse aller Restaurants; das Restaurant steht in {@link #tenant} und im
+ * Payload.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Entity
+@Table(name = "reservation_outbox",
+        indexes = @Index(name = "idx_outbox_unpublished", columnList = "published_at, id"))
+public class OutboxEvent {
+
+    /** Laufende Nummer; zugleich Ereignis-ID für die Deduplizierung bei Konsumenten. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Art des Ereignisses. */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 16)
+    private ReservationEventType type;
+
+    /** ID der betroffenen Reservierung. */
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    /** Restaurant (Mandant) der Reservierung. */
+    @Column(name = "tenant_id", nullable = false, length = 40)
+    private String tenant;
+
+    /** Ereignis als JSON (ohne ID). */
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    /** Zeitpunkt des Eintrags (Commit-Transaktion der Änderung). */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Zeitpunkt der Veröffentlichung oder {@code null}, solange ausstehend. */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    /** Zeitpunkt, zu dem der Eintrag als nicht zustellbar beiseitegelegt wurde, sonst {@code null}. */
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    /** Grund für {@link #failedAt}. */
+    @Column(length = 500)
+    private String failure;
+
+    /** Standardkonstruktor (erforderlich für JPA). */
+    public OutboxEvent() {}
+
+    /**
+     * Erstellt einen neuen, unveröffentlichten Eintrag.
+     *
+     * @param type          Art des Ereignisses
+     * @param reservationId ID der Reservierung
+     * @param tenant        Restaurant
+     * @param payload       Ereignis als JSON
+     * @param createdAt     Zeitpunkt des Eintrags
+     */
+    public OutboxEvent(ReservationEventType type, Long reservationId, String tenant, String payload,
+                       LocalDateTime createdAt) {
+        this.type = type;
+        this.reservationId = reservationId;
+        this.tenant = tenant;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    /** @return laufende Nummer */
+    public Long getId() { return id; }
+
+    /** @return Art des Ereignisses */
+    public ReservationEventType getType() { return type; }
+
+    /** @return ID der Reservierung */
+    public Long getReservationId() { return reservationId; }
+
+    /** @return Kurzname des Restaurants */
+    public String getTenant() { return tenant; }
+
+    /** @return Ereignis als JSON */
+    public String getPayload() { return payload; }
+
+    /** @return Zeitpunkt des Eintrags */
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    /** @return Zeitpunkt der Veröffentlichung oder {@code null} */
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+
+    /**
+     * Markiert den Eintrag als veröffentlicht.
+     *
+     * @param at Zeitpunkt der Veröffentlichung
+     */
+    public void markPublished(LocalDateTime at) { this.publishedAt = at; }
+
+    /** @return Zeitpunkt der Ablage als nicht zustellbar oder {@code null} */
+    public LocalDateTime getFailedAt() { return failedAt; }
+
+    /** @return Grund der Ablage als nicht zustellbar oder {@code null} */
+    public String getFailure() { return failure; }
+
+    /**
+     * Legt den Eintrag als nicht zustellbar beiseite; der Relay liest ihn danach nicht mehr.
+     *
+     * @param at     Zeitpunkt
+     * @param reason Grund (wird auf 500 Zeichen gekürzt)
+     */
+    public void markFailed(LocalDateTime at, String reason) {
+        this.failedAt = at;
+        this.failure = reason == null || reason.length() <= 500 ? reason : reason.substring(0, 500);
+    }
+}
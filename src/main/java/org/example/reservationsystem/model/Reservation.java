@@ -2,14 +2,17 @@ package org.example.reservationsystem.model;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Repräsentiert eine einzelne Tischreservierung in einem Restaurant.
  *
  * <p>Eine {@code Reservation} enthält den Zeitraum (Start- und Endzeitpunkt),
  * den zugewiesenen {@link RestaurantTable} sowie den {@link User}, der die Reservierung vorgenommen hat.
- * Jeder Benutzer kann zu einem Zeitpunkt nur eine aktive Reservierung besitzen.</p>
+ * Ein Benutzer kann mehrere Reservierungen besitzen; die Anzahl gleichzeitig aktiver
+ * Reservierungen wird im {@code ReservationService} begrenzt.</p>
  *
  * <p>Die Entität wird von JPA verwaltet und in der Tabelle {@code reservations} gespeichert.
  * Sie verwendet {@link GenerationType#IDENTITY} für die Primärschlüsselgenerierung.</p>
@@ -22,7 +25,12 @@ import java.time.LocalDateTime;
  */
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations",
+        indexes = {
+                @Index(name = "idx_reservations_user_start", columnList = "user_id, start_time"),
+                @Index(name = "idx_reservations_tenant_start", columnList = "tenant_id, start_time"),
+                @Index(name = "idx_reservations_combination", columnList = "combination_id")
+        })
 public class Reservation {
 
     /** Eindeutige ID der Reservierung (automatisch generiert). */
@@ -30,6 +38,11 @@ public class Reservation {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** Restaurant (Mandant), von Hibernate beim Einfügen gesetzt und in Abfragen gefiltert. */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 40)
+    private String tenant;
+
     /** Beginn der Reservierung (muss innerhalb der Öffnungszeiten liegen). */
     @Column(name = "start_time", nullable = false)
     private LocalDateTime startTime;
@@ -48,12 +61,20 @@ public class Reservation {
 
     /**
      * Der Benutzer, der die Reservierung erstellt hat.
-     * <p>Beziehung: Ein Benutzer kann immer nur eine aktive Reservierung haben.</p>
+     * <p>Beziehung: Viele Reservierungen können demselben Benutzer gehören.</p>
      */
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", unique = true, nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * Gemeinsame Kennung aller Reservierungen einer Tischkombination (große Gruppen an
+     * zusammengeschobenen Tischen); {@code null} bei einem einzelnen Tisch.
+     * <p>Eine Kombination zählt als eine aktive Reservierung und wird gemeinsam storniert.</p>
+     */
+    @Column(name = "combination_id")
+    private UUID combinationId;
+
     /** Standardkonstruktor (erforderlich für JPA). */
     public Reservation() {}
 
@@ -73,6 +94,9 @@ public class Reservation {
     /** @return eindeutige ID der Reservierung */
     public Long getId() { return id; }
 
+    /** @return Kurzname des Restaurants */
+    public String getTenant() { return tenant; }
+
     public void setId(Long id) { this.id = id; }
 
     /** @return Startzeitpunkt der Reservierung */
@@ -95,6 +119,11 @@ public class Reservation {
 
     public void setUser(User user) { this.user = user; }
 
+    /** @return Kennung der Tischkombination oder {@code null} */
+    public UUID getCombinationId() { return combinationId; }
+
+    public void setCombinationId(UUID combinationId) { this.combinationId = combinationId; }
+
     // --- equals & hashCode ---
 
     /**
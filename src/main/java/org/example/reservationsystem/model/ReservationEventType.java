@@ -0,0 +1,16 @@
+package org.example.reservationsystem.model;
+
+/**
+ * Art eines Reservierungsereignisses im Outbox-Strom ({@link OutboxEvent}).
+ *
+ * <ul>
+ *   <li>{@link #CREATED} – eine Reservierung wurde angelegt (auch je Tisch einer Kombination).</li>
+ *   <li>{@link #CANCELLED} – eine Reservierung wurde storniert.</li>
+ * </ul>
+ *
+ * @author Maciej Janowski
+ */
+public enum ReservationEventType {
+    CREATED,
+    CANCELLED
+}
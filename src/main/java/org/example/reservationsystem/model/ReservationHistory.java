@@ -0,0 +1,72 @@
+package org.example.reservationsystem.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Archivierte (abgelaufene) Reservierung.
+ *
+ * <p>Sobald das Ende einer {@link Reservation} in der Vergangenheit liegt, verschiebt
+ * der {@code ExpiredReservationSweeper} sie mengenbasiert in die Tabelle
+ * {@code reservation_history}. Die Übersicht des {@link User} enthält danach nur
+ * noch laufende und zukünftige Reservierungen.</p>
+ *
+ * <p>Tisch und Benutzer werden bewusst nur als IDs ohne Fremdschlüssel gespeichert:
+ * Die Historie soll das Löschen von Benutzern oder Tischen nicht blockieren.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Entity
+@Table(name = "reservation_history",
+        indexes = @Index(name = "idx_reservation_history_user", columnList = "user_id, tenant_id"))
+public class ReservationHistory {
+
+    /** ID der ursprünglichen Reservierung. */
+    @Id
+    private Long id;
+
+    /** Restaurant (Mandant), von Hibernate beim Einfügen gesetzt und in Abfragen gefiltert. */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 40)
+    private String tenant;
+
+    /** Beginn der Reservierung. */
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    /** Ende der Reservierung. */
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    /** ID des reservierten Tisches. */
+    @Column(name = "table_id", nullable = false)
+    private Long tableId;
+
+    /** ID des Benutzers. */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** Zeitpunkt der Archivierung. */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /** Standardkonstruktor (erforderlich für JPA). */
+    public ReservationHistory() {}
+
+    public Long getId() { return id; }
+
+    /** @return Kurzname des Restaurants */
+    public String getTenant() { return tenant; }
+
+    public LocalDateTime getStartTime() { return startTime; }
+
+    public LocalDateTime getEndTime() { return endTime; }
+
+    public Long getTableId() { return tableId; }
+
+    public Long getUserId() { return userId; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -0,0 +1,55 @@
+package org.example.reservationsystem.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Ein Restaurant (Mandant) der Installation.
+ *
+ * <p>Tische, Reservierungen, Wartelisten-Einträge und Öffnungszeiten tragen den
+ * {@link #slug} des Restaurants in der Spalte {@code tenant_id}. Clients wählen das
+ * Restaurant per Header {@code X-Restaurant}; ohne Header gilt {@code default}.
+ * Benutzerkonten sind restaurantübergreifend.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Entity
+@Table(name = "restaurants")
+public class Restaurant {
+
+    /** Eindeutige ID (automatisch generiert). */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Kurzname, z. B. {@code altstadt}; Wert von {@code tenant_id} und Header {@code X-Restaurant}. */
+    @Column(nullable = false, unique = true, length = 40)
+    private String slug;
+
+    /** Anzeigename. */
+    @Column(nullable = false)
+    private String name;
+
+    /** Standardkonstruktor (erforderlich für JPA). */
+    public Restaurant() {}
+
+    /**
+     * Erstellt ein neues Restaurant.
+     *
+     * @param slug Kurzname
+     * @param name Anzeigename
+     */
+    public Restaurant(String slug, String name) {
+        this.slug = slug;
+        this.name = name;
+    }
+
+    /** @return ID */
+    public Long getId() { return id; }
+
+    /** @return Kurzname */
+    public String getSlug() { return slug; }
+
+    /** @return Anzeigename */
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
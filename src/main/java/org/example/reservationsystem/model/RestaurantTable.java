@@ -1,15 +1,20 @@
 package org.example.reservationsystem.model;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Repräsentiert einen physischen Tisch im Restaurant.
  *
- * <p>Jeder {@code RestaurantTable} besitzt eine eindeutige Tischnummer,
+ * <p>Jeder {@code RestaurantTable} gehört zu einem Restaurant (Spalte {@code tenant_id}) und
+ * besitzt eine innerhalb des Restaurants eindeutige Tischnummer,
  * eine bestimmte Anzahl an Sitzplätzen sowie eine Liste von zugehörigen {@link Reservation}-Objekten.
  * Über die Beziehung {@code OneToMany} können mehrere Reservierungen
  * demselben Tisch zugeordnet werden.</p>
@@ -17,6 +22,10 @@ import java.util.List;
  * <p>Die Entität wird von JPA verwaltet und in der Tabelle {@code restaurant_tables} gespeichert.
  * Sie verwendet {@link GenerationType#IDENTITY} für die ID-Generierung.</p>
  *
+ * <p>Nebeneinanderstehende Tische sind über {@link #getAdjacentTables()} verbunden
+ * (Tabelle {@code restaurant_table_adjacency}, in beide Richtungen gespeichert). Große
+ * Gruppen können so an zusammengeschobenen Tischen platziert werden.</p>
+ *
  * <p>Durch {@link JsonIdentityInfo} werden zirkuläre JSON-Referenzen
  * zwischen {@link Reservation} und {@link RestaurantTable} verhindert.</p>
  *
@@ -25,7 +34,9 @@ import java.util.List;
  */
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 @Entity
-@Table(name = "restaurant_tables")
+@Table(name = "restaurant_tables",
+        uniqueConstraints = @UniqueConstraint(name = "uk_restaurant_tables_tenant_number",
+                columnNames = {"tenant_id", "table_number"}))
 public class RestaurantTable {
 
     /** Eindeutige ID des Tisches (automatisch generiert). */
@@ -33,8 +44,13 @@ public class RestaurantTable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    /** Eindeutige Tischnummer im Restaurant. */
-    @Column(name = "table_number", nullable = false, unique = true)
+    /** Restaurant (Mandant), von Hibernate beim Einfügen gesetzt und in Abfragen gefiltert. */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 40)
+    private String tenant;
+
+    /** Eindeutige Tischnummer im Restaurant (je Mandant). */
+    @Column(name = "table_number", nullable = false)
     private int tableNumber;
 
     /** Anzahl der verfügbaren Sitzplätze an diesem Tisch. */
@@ -54,6 +70,18 @@ public class RestaurantTable {
     @OneToMany(mappedBy = "table", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Reservation> reservations = new ArrayList<>();
 
+    /**
+     * Direkt angrenzende Tische, die mit diesem zusammengeschoben werden können.
+     *
+     * <p>Die Beziehung ist symmetrisch; {@link #connectTo(RestaurantTable)} pflegt beide Richtungen.</p>
+     */
+    @JsonIgnore
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "restaurant_table_adjacency",
+            joinColumns = @JoinColumn(name = "table_id"),
+            inverseJoinColumns = @JoinColumn(name = "adjacent_table_id"))
+    private Set<RestaurantTable> adjacentTables = new HashSet<>();
+
     /** Standardkonstruktor (erforderlich für JPA). */
     public RestaurantTable() {
     }
@@ -80,6 +108,11 @@ public class RestaurantTable {
         this.id = id;
     }
 
+    /** @return Kurzname des Restaurants */
+    public String getTenant() {
+        return tenant;
+    }
+
     /** @return eindeutige Tischnummer */
     public int getTableNumber() {
         return tableNumber;
@@ -107,6 +140,32 @@ public class RestaurantTable {
         this.reservations = reservations;
     }
 
+    /** @return direkt angrenzende Tische */
+    public Set<RestaurantTable> getAdjacentTables() {
+        return adjacentTables;
+    }
+
+    /**
+     * Markiert zwei Tische als benachbart (in beide Richtungen).
+     *
+     * @param other angrenzender Tisch
+     */
+    public void connectTo(RestaurantTable other) {
+        if (other == this) return;
+        adjacentTables.add(other);
+        other.adjacentTables.add(this);
+    }
+
+    /**
+     * Löst alle Nachbarschaften dieses Tisches (in beide Richtungen), z. B. vor dem Löschen.
+     */
+    public void disconnectAll() {
+        for (RestaurantTable other : adjacentTables) {
+            other.adjacentTables.remove(this);
+        }
+        adjacentTables.clear();
+    }
+
     /**
      * Fügt eine neue {@link Reservation} diesem Tisch hinzu und setzt die Referenz.
      *
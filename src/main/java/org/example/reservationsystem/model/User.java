@@ -8,6 +8,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -20,8 +21,9 @@ import java.util.List;
  * festgelegt und in {@link #getAuthorities()} in eine Spring-Security-Authority
  * umgewandelt.</p>
  *
- * <p>Zwischen {@code User} und {@link Reservation} besteht eine 1:1-Beziehung:
- * Pro Benutzer ist maximal eine aktive Reservierung zulässig.</p>
+ * <p>Zwischen {@code User} und {@link Reservation} besteht eine 1:n-Beziehung.
+ * Wie viele Reservierungen gleichzeitig aktiv sein dürfen, legt
+ * {@code reservation.booking.max-active-per-user} fest.</p>
  *
  * <p>Persistenz: Die Entität wird in der Tabelle {@code users} gespeichert.
  * Die Spalte {@code email} ist eindeutig (Unique Constraint) und dient als
@@ -73,12 +75,13 @@ public class User implements UserDetails {
     private String phone;
 
     /**
-     * 1:1-Beziehung zur Benutzer-Reservierung.
+     * Reservierungen des Benutzers (1:n).
      * <p>{@code orphanRemoval = true} löscht verwaiste Reservierungen automatisch,
-     * wenn die Referenz am Benutzer entfernt wird.</p>
+     * wenn sie aus der Liste entfernt werden. Die Liste wird nur bei Bedarf geladen;
+     * Buchungslimit und Übersicht arbeiten mit eigenen Abfragen.</p>
      */
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
-    private Reservation reservation;
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<Reservation> reservations = new ArrayList<>();
 
     /** Standardkonstruktor (erforderlich für JPA). */
     public User() {}
@@ -163,10 +166,10 @@ public class User implements UserDetails {
     /** Setzt den gehashten Passwort-Wert. */
     public void setPassword(String password) { this.password = password; }
 
-    /** @return verknüpfte Reservierung (falls vorhanden) */
-    public Reservation getReservation() { return reservation; }
+    /** @return Reservierungen des Benutzers (lazy geladen) */
+    public List<Reservation> getReservations() { return reservations; }
 
-    public void setReservation(Reservation reservation) { this.reservation = reservation; }
+    public void setReservations(List<Reservation> reservations) { this.reservations = reservations; }
 
     // --- Normalisierung & Lifecycle ---
 
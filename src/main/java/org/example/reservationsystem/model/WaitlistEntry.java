@@ -0,0 +1,161 @@
+package org.example.reservationsystem.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Eintrag auf der Warteliste: ein Benutzer wünscht einen Tisch für eine Personenzahl
+ * an einem Tag innerhalb eines Zeitfensters.
+ *
+ * <p>Wird eine Reservierung storniert, gleicht der {@code WaitlistService} das frei
+ * gewordene Intervall mit den wartenden Einträgen ab – in der Reihenfolge ihrer
+ * Anmeldung ({@link #createdAt}). Der Index {@code idx_waitlist_status_date_created}
+ * liefert genau diese Reihenfolge, ohne die Warteliste zu sortieren.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Entity
+@Table(name = "waitlist_entries",
+        indexes = @Index(name = "idx_waitlist_status_date_created",
+                columnList = "tenant_id, status, desired_date, created_at"))
+public class WaitlistEntry {
+
+    /** Eindeutige ID des Eintrags (automatisch generiert). */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Restaurant (Mandant), von Hibernate beim Einfügen gesetzt und in Abfragen gefiltert. */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 40)
+    private String tenant;
+
+    /** Benutzer, der sich eingetragen hat. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /** Gewünschter Tag. */
+    @Column(name = "desired_date", nullable = false)
+    private LocalDate desiredDate;
+
+    /** Frühester akzeptierter Beginn. */
+    @Column(name = "window_start", nullable = false)
+    private LocalTime windowStart;
+
+    /** Spätestes akzeptiertes Ende. */
+    @Column(name = "window_end", nullable = false)
+    private LocalTime windowEnd;
+
+    /** Anzahl der Personen; der Tisch muss mindestens so viele Plätze haben. */
+    @Column(name = "party_size", nullable = false)
+    private int partySize;
+
+    /** Gewünschte Dauer in Minuten. */
+    @Column(nullable = false)
+    private int minutes;
+
+    /** Zeitpunkt der Anmeldung; bestimmt die Reihenfolge der Zuteilung. */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** Aktueller Zustand. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    /** Angebotener Tisch, sobald der Eintrag nicht mehr wartet. */
+    @Column(name = "offered_table_number")
+    private Integer offeredTableNumber;
+
+    /** Angebotener Beginn, sobald der Eintrag nicht mehr wartet. */
+    @Column(name = "offered_start")
+    private LocalDateTime offeredStart;
+
+    /** ID der automatisch angelegten Reservierung (nur bei {@link WaitlistStatus#BOOKED}). */
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    /** Standardkonstruktor (erforderlich für JPA). */
+    public WaitlistEntry() {}
+
+    /**
+     * Erstellt einen neuen, wartenden Eintrag.
+     *
+     * @param user        Benutzer
+     * @param desiredDate gewünschter Tag
+     * @param windowStart frühester Beginn
+     * @param windowEnd   spätestes Ende
+     * @param partySize   Personenzahl
+     * @param minutes     gewünschte Dauer in Minuten
+     */
+    public WaitlistEntry(User user, LocalDate desiredDate, LocalTime windowStart, LocalTime windowEnd,
+                         int partySize, int minutes) {
+        this.user = user;
+        this.desiredDate = desiredDate;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.partySize = partySize;
+        this.minutes = minutes;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * Markiert den Eintrag als automatisch gebucht.
+     *
+     * @param tableNumber   gebuchter Tisch
+     * @param start         Beginn der Reservierung
+     * @param reservationId ID der Reservierung
+     */
+    public void markBooked(int tableNumber, LocalDateTime start, Long reservationId) {
+        this.status = WaitlistStatus.BOOKED;
+        this.offeredTableNumber = tableNumber;
+        this.offeredStart = start;
+        this.reservationId = reservationId;
+    }
+
+    /**
+     * Markiert den Eintrag als benachrichtigt.
+     *
+     * @param tableNumber frei gewordener Tisch
+     * @param start       möglicher Beginn
+     */
+    public void markNotified(int tableNumber, LocalDateTime start) {
+        this.status = WaitlistStatus.NOTIFIED;
+        this.offeredTableNumber = tableNumber;
+        this.offeredStart = start;
+    }
+
+    // --- Getter ---
+
+    public Long getId() { return id; }
+
+    /** @return Kurzname des Restaurants */
+    public String getTenant() { return tenant; }
+
+    public User getUser() { return user; }
+
+    public LocalDate getDesiredDate() { return desiredDate; }
+
+    public LocalTime getWindowStart() { return windowStart; }
+
+    public LocalTime getWindowEnd() { return windowEnd; }
+
+    public int getPartySize() { return partySize; }
+
+    public int getMinutes() { return minutes; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public WaitlistStatus getStatus() { return status; }
+
+    public Integer getOfferedTableNumber() { return offeredTableNumber; }
+
+    public LocalDateTime getOfferedStart() { return offeredStart; }
+
+    public Long getReservationId() { return reservationId; }
+}
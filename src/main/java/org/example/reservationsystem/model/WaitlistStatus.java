@@ -0,0 +1,25 @@
+package org.example.reservationsystem.model;
+
+/**
+ * Zustände eines {@link WaitlistEntry}.
+ *
+ * <ul>
+ *   <li>{@link #WAITING} – der Eintrag wartet auf einen frei werdenden Tisch.</li>
+ *   <li>{@link #BOOKED} – nach einer Stornierung wurde automatisch eine Reservierung angelegt.</li>
+ *   <li>{@link #NOTIFIED} – ein passender Tisch wurde frei, die Buchung muss der Benutzer selbst
+ *       vornehmen (automatische Buchung deaktiviert oder nicht möglich, z. B. Limit erreicht).</li>
+ * </ul>
+ *
+ * @author Maciej Janowski
+ */
+public enum WaitlistStatus {
+
+    /** Wartet auf einen passenden freien Tisch. */
+    WAITING,
+
+    /** Automatisch gebucht; {@link WaitlistEntry#getReservationId()} verweist auf die Reservierung. */
+    BOOKED,
+
+    /** Über einen freien Tisch benachrichtigt, ohne Buchung. */
+    NOTIFIED
+}
@@ -0,0 +1,18 @@
+package org.example.reservationsystem.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projektion einer Reservierung auf Tisch und Zeitraum, ohne Benutzer und Entitätsverwaltung.
+ *
+ * <p>Wird von {@link ReservationRepository#findBusyIntervals} geliefert und dient der
+ * Tischzuteilung im Speicher.</p>
+ *
+ * @param tableId ID des belegten Tisches
+ * @param start   Beginn der Belegung
+ * @param end     Ende der Belegung
+ *
+ * @author Maciej Janowski
+ */
+public record BusyInterval(Long tableId, LocalDateTime start, LocalDateTime end) {
+}
@@ -0,0 +1,14 @@
+package org.example.reservationsystem.repository;
+
+import org.example.reservationsystem.model.OpeningHours;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository für {@link OpeningHours}-Entitäten.
+ *
+ * @author Maciej Janowski
+ */
+@Repository
+public interface OpeningHoursRepository extends JpaRepository<OpeningHours, Long> {
+}
@@ -0,0 +1,56 @@
+package org.example.reservationsystem.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.reservationsystem.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository für {@link OutboxEvent}-Einträge.
+ *
+ * @author Maciej Janowski
+ */
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Sperrt den nächsten Stapel unveröffentlichter Einträge in ID-Reihenfolge
+     * (ohne als nicht zustellbar beiseitegelegte).
+     *
+     * <p>Gesperrte Zeilen anderer Relays werden übersprungen ({@code FOR UPDATE SKIP LOCKED},
+     * Lock-Timeout {@code -2}); mehrere Instanzen verteilen die Arbeit so ohne Wartezeiten.</p>
+     *
+     * @param page Stapelgröße
+     * @return gesperrte Einträge, älteste zuerst
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEvent o where o.publishedAt is null and o.failedAt is null order by o.id")
+    List<OutboxEvent> lockUnpublished(Pageable page);
+
+    /**
+     * @return Anzahl und ältester Zeitpunkt unveröffentlichter Einträge als {@code [Long, LocalDateTime]}
+     */
+    @Query("select count(o), min(o.createdAt) from OutboxEvent o where o.publishedAt is null and o.failedAt is null")
+    List<Object[]> pendingStats();
+
+    /**
+     * Löscht veröffentlichte Einträge, die älter als der Stichtag sind.
+     *
+     * @param cutoff Stichtag
+     * @return Anzahl gelöschter Einträge
+     */
+    @Modifying
+    @Query("delete from OutboxEvent o where o.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,25 @@
+package org.example.reservationsystem.repository;
+
+import org.example.reservationsystem.model.ReservationHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Repository für {@link ReservationHistory}-Einträge (abgelaufene Reservierungen).
+ *
+ * <p>Geschrieben wird die Historie ausschließlich mengenbasiert durch den
+ * {@code ExpiredReservationSweeper}; dieses Repository dient dem Lesen.</p>
+ *
+ * @author Maciej Janowski
+ */
+public interface ReservationHistoryRepository extends JpaRepository<ReservationHistory, Long> {
+
+    /**
+     * Liefert die archivierten Reservierungen eines Benutzers.
+     *
+     * @param userId ID des Benutzers
+     * @return archivierte Reservierungen, neueste zuerst
+     */
+    List<ReservationHistory> findByUserIdOrderByStartTimeDesc(Long userId);
+}
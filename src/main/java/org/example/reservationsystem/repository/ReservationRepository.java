@@ -1,23 +1,35 @@
 package org.example.reservationsystem.repository;
 
 import org.example.reservationsystem.model.Reservation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Repository für {@link Reservation}-Entitäten.
  *
  * <p>Erweitert {@link JpaRepository}, um Standard-CRUD-Operationen bereitzustellen,
  * und definiert zusätzlich Methoden zur Prüfung von Reservierungskonflikten
- * sowie zum Laden einer Reservierung anhand der Benutzer-E-Mail.</p>
+ * sowie zum Laden und Zählen der Reservierungen eines Benutzers.</p>
  *
  * <p>Dieses Repository wird hauptsächlich im {@code ReservationService}
  * verwendet, um Zeitüberschneidungen zu prüfen und Benutzerreservierungen
  * effizient zu laden.</p>
  *
+ * <p>Die Tabelle {@code reservations} ist in PostgreSQL monatsweise nach
+ * {@code start_time} partitioniert. Zeitraumabfragen erhalten deshalb zusätzlich
+ * eine Untergrenze {@code earliestStart} auf {@code start_time} (Beginn des Fensters
+ * minus maximale Reservierungsdauer). Sie ändert das Ergebnis nicht, erlaubt dem
+ * Planer aber, alle Partitionen außerhalb des Fensters zu überspringen
+ * (Partition Pruning).</p>
+ *
  * @author Maciej Janowski
  */
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
@@ -27,29 +39,119 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * deren Zeitraum sich mit dem angegebenen Fenster überschneidet.
      *
      * <p>Formale Bedingung:
-     * {@code existing.startTime < requested.endTime && existing.endTime > requested.startTime}</p>
+     * {@code existing.startTime < requested.endTime && existing.endTime > requested.startTime};
+     * zusätzlich {@code existing.startTime > earliestStart} für das Partition Pruning.</p>
      *
-     * @param tableId ID des Tisches
-     * @param end     Ende des gewünschten Zeitraums
-     * @param start   Beginn des gewünschten Zeitraums
+     * @param tableId       ID des Tisches
+     * @param start         Beginn des gewünschten Zeitraums
+     * @param end           Ende des gewünschten Zeitraums
+     * @param earliestStart frühestmöglicher Beginn einer überlappenden Reservierung
      * @return {@code true}, wenn eine Überschneidung besteht, sonst {@code false}
      */
-    boolean existsByTable_IdAndStartTimeLessThanAndEndTimeGreaterThan(
-            Long tableId,
-            LocalDateTime end,
-            LocalDateTime start
-    );
+    @Query("""
+            select count(r) > 0 from Reservation r
+             where r.table.id = :tableId
+               and r.startTime > :earliestStart
+               and r.startTime < :end
+               and r.endTime > :start
+            """)
+    boolean existsOverlap(@Param("tableId") Long tableId,
+                          @Param("start") LocalDateTime start,
+                          @Param("end") LocalDateTime end,
+                          @Param("earliestStart") LocalDateTime earliestStart);
+
+    /**
+     * Liefert die IDs aller Tische, die im angegebenen Fenster belegt sind.
+     *
+     * <p>Ersetzt die Einzelprüfung pro Tisch bei der Verfügbarkeitssuche durch
+     * eine einzige Abfrage.</p>
+     *
+     * @param start         Beginn des gewünschten Zeitraums
+     * @param end           Ende des gewünschten Zeitraums
+     * @param earliestStart frühestmöglicher Beginn einer überlappenden Reservierung
+     * @return IDs der belegten Tische (ohne Duplikate)
+     */
+    @Query("""
+            select distinct r.table.id from Reservation r
+             where r.startTime > :earliestStart
+               and r.startTime < :end
+               and r.endTime > :start
+            """)
+    List<Long> findBusyTableIds(@Param("start") LocalDateTime start,
+                                @Param("end") LocalDateTime end,
+                                @Param("earliestStart") LocalDateTime earliestStart);
+
+    /**
+     * Liefert Tisch und Zeitraum aller Reservierungen, die das angegebene Fenster berühren.
+     *
+     * <p>Grundlage der Best-Fit-Tischzuteilung: Mit einer Abfrage für den ganzen Tag
+     * kennt die Zuteilung für jeden Tisch die benachbarten Belegungen und kann
+     * Lücken im Abendverlauf bewerten, ohne pro Tisch erneut abzufragen.</p>
+     *
+     * @param from          Beginn des Fensters
+     * @param to            Ende des Fensters
+     * @param earliestStart frühestmöglicher Beginn einer überlappenden Reservierung
+     * @return Belegungen als {@link BusyInterval}
+     */
+    @Query("""
+            select new org.example.reservationsystem.repository.BusyInterval(r.table.id, r.startTime, r.endTime)
+              from Reservation r
+             where r.startTime > :earliestStart
+               and r.startTime < :to
+               and r.endTime > :from
+            """)
+    List<BusyInterval> findBusyIntervals(@Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to,
+                                         @Param("earliestStart") LocalDateTime earliestStart);
 
     /**
-     * Lädt eine Reservierung anhand der E-Mail-Adresse des Benutzers.
+     * Zählt die aktiven Reservierungen eines Benutzers (Ende nach {@code now}).
+     *
+     * <p>Wird für das Buchungslimit pro Benutzer verwendet, ohne die Reservierungsliste
+     * des Benutzers zu laden. Die Abfrage nutzt den Index
+     * {@code idx_reservations_user_start (user_id, start_time)}. Eine Tischkombination
+     * (gleiche {@code combinationId}) zählt als eine Reservierung.</p>
+     *
+     * @param userId        ID des Benutzers
+     * @param now           Stichzeitpunkt
+     * @param earliestStart frühestmöglicher Beginn einer noch laufenden Reservierung
+     * @return Anzahl aktiver Reservierungen
+     */
+    @Query("""
+            select count(case when r.combinationId is null then 1 end) + count(distinct r.combinationId)
+              from Reservation r
+             where r.user.id = :userId
+               and r.startTime > :earliestStart
+               and r.endTime > :now
+            """)
+    long countActiveByUserId(@Param("userId") Long userId,
+                             @Param("now") LocalDateTime now,
+                             @Param("earliestStart") LocalDateTime earliestStart);
+
+    /**
+     * Lädt die Reservierungen eines Benutzers seitenweise anhand seiner E-Mail-Adresse.
      *
      * <p>Durch die Annotation {@link EntityGraph} werden die zugehörigen
      * Entitäten {@code user} und {@code table} eager geladen, um
-     * Lazy-Loading-Probleme (z. B. in REST-Antworten) zu vermeiden.</p>
+     * Lazy-Loading-Probleme (z. B. in REST-Antworten) zu vermeiden. Die Sortierung
+     * nach {@code startTime} entspricht dem Index {@code (user_id, start_time)}.</p>
      *
-     * @param email E-Mail-Adresse des Benutzers (Login-Identifier)
-     * @return Optional mit der gefundenen Reservierung oder leer, falls keine existiert
+     * @param email    E-Mail-Adresse des Benutzers (Login-Identifier)
+     * @param pageable Seite und Seitengröße
+     * @return Seite mit Reservierungen, aufsteigend nach Beginn
      */
     @EntityGraph(attributePaths = {"user", "table"})
-    Optional<Reservation> findByUser_Email(String email);
-}
\ No newline at end of file
+    Page<Reservation> findByUser_EmailOrderByStartTimeAsc(String email, Pageable pageable);
+
+    /**
+     * Lädt alle Reservierungen einer Tischkombination.
+     *
+     * <p>Alle Teile einer Kombination beginnen gleichzeitig; die Bedingung auf
+     * {@code startTime} beschränkt die Abfrage auf eine Partition.</p>
+     *
+     * @param combinationId Kennung der Kombination
+     * @param startTime     gemeinsamer Beginn
+     * @return Reservierungen der Kombination
+     */
+    List<Reservation> findByCombinationIdAndStartTime(UUID combinationId, LocalDateTime startTime);
+}
@@ -0,0 +1,22 @@
+package org.example.reservationsystem.repository;
+
+import org.example.reservationsystem.model.Restaurant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository für {@link Restaurant}-Entitäten.
+ *
+ * @author Maciej Janowski
+ */
+@Repository
+public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
+
+    /**
+     * @param slug Kurzname
+     * @return Restaurant oder leer
+     */
+    Optional<Restaurant> findBySlug(String slug);
+}
@@ -2,8 +2,10 @@ package org.example.reservationsystem.repository;
 
 import org.example.reservationsystem.model.RestaurantTable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,4 +31,14 @@ public interface TableRepository extends JpaRepository<RestaurantTable, Long> {
      *         oder leer, falls kein Tisch mit dieser Nummer existiert
      */
     Optional<RestaurantTable> findTableByTableNumber(int tableNumber);
-}
\ No newline at end of file
+
+    /**
+     * Lädt alle Tische inklusive ihrer Nachbarn mit einer Abfrage.
+     *
+     * <p>Grundlage der vorberechneten Tischkombinationen im {@code TableAdjacencyIndex}.</p>
+     *
+     * @return alle Tische mit initialisierten {@code adjacentTables}
+     */
+    @Query("select distinct t from RestaurantTable t left join fetch t.adjacentTables")
+    List<RestaurantTable> findAllWithAdjacency();
+}
@@ -1,7 +1,11 @@
 package org.example.reservationsystem.repository;
 
 import org.example.reservationsystem.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -35,6 +39,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Lädt einen Benutzer anhand seiner E-Mail-Adresse und sperrt die Zeile
+     * bis zum Ende der Transaktion ({@code SELECT … FOR UPDATE}).
+     *
+     * <p>Wird beim Buchen verwendet: Die partitionierte Tabelle {@code reservations}
+     * kann keinen eindeutigen Index auf {@code user_id} tragen, daher serialisiert
+     * die Sperre parallele Buchungen desselben Benutzers.</p>
+     *
+     * @param email E-Mail-Adresse des Benutzers (Login-Identifier)
+     * @return Optional mit dem gesperrten {@link User}, oder leer
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.email = :email")
+    Optional<User> findByEmailForUpdate(@Param("email") String email);
+
     /**
      * Prüft, ob ein Benutzer mit der angegebenen E-Mail-Adresse existiert.
      *
@@ -0,0 +1,74 @@
+package org.example.reservationsystem.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.reservationsystem.model.WaitlistEntry;
+import org.example.reservationsystem.model.WaitlistStatus;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository für {@link WaitlistEntry}-Entitäten.
+ *
+ * @author Maciej Janowski
+ */
+@Repository
+@Lazy
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    /**
+     * Liefert wartende Einträge, die für ein frei gewordenes Intervall in Frage kommen,
+     * in der Reihenfolge ihrer Anmeldung (Index {@code idx_waitlist_status_date_created}).
+     *
+     * <p>Gefiltert wird grob auf Tag, Personenzahl und überlappendes Zeitfenster; ob die
+     * gewünschte Dauer tatsächlich in das Intervall passt, prüft der {@code WaitlistService}.</p>
+     *
+     * @param status   Status der Einträge (üblicherweise {@link WaitlistStatus#WAITING})
+     * @param date     Tag des frei gewordenen Intervalls
+     * @param seats    Anzahl der Plätze des frei gewordenen Tisches
+     * @param from     Beginn des Intervalls (Uhrzeit)
+     * @param to       Ende des Intervalls (Uhrzeit)
+     * @return passende Einträge, älteste zuerst
+     */
+    @Query("""
+            select w from WaitlistEntry w join fetch w.user
+             where w.status = :status
+               and w.desiredDate = :date
+               and w.partySize <= :seats
+               and w.windowStart < :to
+               and w.windowEnd > :from
+             order by w.createdAt, w.id
+            """)
+    List<WaitlistEntry> findCandidates(@Param("status") WaitlistStatus status,
+                                       @Param("date") LocalDate date,
+                                       @Param("seats") int seats,
+                                       @Param("from") LocalTime from,
+                                       @Param("to") LocalTime to);
+
+    /**
+     * Lädt einen Eintrag und sperrt die Zeile bis zum Ende der Transaktion, damit ein
+     * Eintrag bei parallelen Stornierungen nur einmal zugeteilt wird.
+     *
+     * @param id ID des Eintrags
+     * @return Optional mit dem gesperrten Eintrag, oder leer
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from WaitlistEntry w where w.id = :id")
+    Optional<WaitlistEntry> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Liefert die Wartelisten-Einträge eines Benutzers.
+     *
+     * @param email E-Mail des Benutzers (normalisiert)
+     * @return Einträge, älteste zuerst
+     */
+    List<WaitlistEntry> findByUser_EmailOrderByCreatedAtAsc(String email);
+}
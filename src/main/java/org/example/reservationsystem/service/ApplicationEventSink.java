@@ -0,0 +1,41 @@
+package org.example.reservationsystem.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Senke für Konsumenten in derselben Anwendung: jedes {@link ReservationEvent} wird als
+ * Spring-Anwendungsereignis veröffentlicht und kann mit
+ * {@code @EventListener ReservationEvent} empfangen werden.
+ *
+ * <p>Listener laufen synchron im Relay-Thread; wirft einer, wird der Stapel erneut
+ * zugestellt.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+public class ApplicationEventSink implements ReservationEventSink {
+
+    private final ApplicationEventPublisher events;
+
+    /**
+     * Erstellt eine neue {@code ApplicationEventSink}.
+     *
+     * @param events Publisher für Anwendungsereignisse
+     */
+    public ApplicationEventSink(ApplicationEventPublisher events) {
+        this.events = events;
+    }
+
+    @Override
+    public String name() {
+        return "application";
+    }
+
+    @Override
+    public void publish(List<ReservationEvent> batch) {
+        batch.forEach(events::publishEvent);
+    }
+}
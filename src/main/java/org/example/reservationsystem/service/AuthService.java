@@ -47,6 +47,9 @@ import java.util.Objects;
  * </ul>
  * </p>
  *
+ * <p>Hashen und Prüfen der Passwörter erzeugen je ein {@link PasswordHashEvent}
+ * für Java Flight Recorder.</p>
+ *
  * <p>Thread-Sicherheit: Der Service ist zustandslos und somit für typische Spring-Scopes
  * threadsicher, solange die injizierten Abhängigkeiten threadsicher sind.</p>
  *
@@ -107,8 +110,17 @@ public class AuthService {
             throw new DataIntegrityViolationException("E-Mail ist bereits registriert.");
         }
 
+        String hash;
+        PasswordHashEvent hashing = PasswordHashEvent.begin(PasswordHashEvent.HASH);
+        try {
+            hash = passwordEncoder.encode(rawPwd);
+            hashing.outcome("ok");
+        } finally {
+            hashing.commit();
+        }
+
         User user = new User(
-                passwordEncoder.encode(rawPwd),
+                hash,
                 Role.ROLE_USER,
                 fullName.trim(),
                 email,
@@ -148,7 +160,15 @@ public class AuthService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BadCredentialsException("E-Mail oder Passwort ist falsch."));
 
-        if (!passwordEncoder.matches(rawPwd, user.getPassword())) {
+        boolean matches;
+        PasswordHashEvent verify = PasswordHashEvent.begin(PasswordHashEvent.VERIFY);
+        try {
+            matches = passwordEncoder.matches(rawPwd, user.getPassword());
+            verify.outcome(matches ? "match" : "mismatch");
+        } finally {
+            verify.commit();
+        }
+        if (!matches) {
             throw new BadCredentialsException("E-Mail oder Passwort ist falsch.");
         }
 
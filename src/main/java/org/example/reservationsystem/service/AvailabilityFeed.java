@@ -0,0 +1,321 @@
+package org.example.reservationsystem.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.reservationsystem.DTO.AvailabilityChangeDTO;
+import org.example.reservationsystem.DTO.AvailabilityDeltaDTO;
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.model.ReservationEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Verteilt Änderungen der Tischverfügbarkeit als Server-Sent Events an alle Abonnenten
+ * eines Tages ({@code GET /api/reservations/available/stream?date=…}).
+ *
+ * <p>Quelle sind die {@link ReservationEvent}s der Outbox (siehe {@link ApplicationEventSink});
+ * sie kommen erst nach dem Commit der Buchung bzw. Stornierung an. Bei mehreren Instanzen
+ * erhalten nur die Abonnenten der Instanz, deren {@link OutboxRelay} das Ereignis
+ * veröffentlicht, die Änderung.</p>
+ *
+ * <p>Verteilung: Abonnenten sind nach Restaurant und Tag gruppiert, ein Ereignis erreicht
+ * nur die passende Gruppe. Der Relay-Thread legt die Änderung lediglich in die
+ * Warteschlange jedes Abonnenten; gesendet wird auf einem eigenen Pool mit
+ * {@code reservation.availability-stream.threads} Threads (Standard 4), pro Abonnent
+ * höchstens ein Sendevorgang gleichzeitig. Der Pool ist bewusst vom
+ * {@code applicationTaskExecutor} getrennt: hängende Clients blockieren so keine
+ * {@code @Async}-Aufgaben (Warteliste) und umgekehrt. Was während eines laufenden
+ * Sendevorgangs eintrifft, wird zusammengefasst (je Tisch und Zeitfenster gilt der letzte
+ * Stand) und als ein {@code availability}-Ereignis nachgeschickt. Ein langsamer Client
+ * bremst so weder den Relay noch andere Abonnenten. Übersteigt die Warteschlange
+ * {@code reservation.availability-stream.max-pending} Änderungen, wird sie verworfen und
+ * stattdessen ein {@code resync}-Ereignis gesendet; der Client lädt dann
+ * {@code /api/reservations/available} neu.</p>
+ *
+ * <p>Verbindungen enden nach {@code reservation.availability-stream.timeout}
+ * (Standard 30 Minuten, der Browser verbindet sich neu); alle
+ * {@code reservation.availability-stream.heartbeat} geht ein Kommentar an jeden Abonnenten,
+ * damit Proxys die Verbindung offen halten und getrennte Clients erkannt werden.
+ * Metrik: {@code reservation.availability.subscribers}.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+public class AvailabilityFeed implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityFeed.class);
+
+    /** Empfohlene Wartezeit des Browsers vor einem Neuaufbau der Verbindung. */
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(3);
+
+    /** Restaurant und Tag, für die ein Abonnent Änderungen erhält. */
+    private record Topic(String tenant, LocalDate date) {
+    }
+
+    /** Schlüssel für das Zusammenfassen: derselbe Tisch im selben Zeitfenster. */
+    private record Slot(int tableNumber, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private final Map<Topic, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final ExecutorService ownExecutor;
+    private final Duration timeout;
+    private final int maxPending;
+
+    /**
+     * Erstellt einen neuen {@code AvailabilityFeed} mit eigenem Sende-Pool.
+     *
+     * @param meterRegistry Registry für Metriken, falls vorhanden
+     * @param timeout       Lebensdauer einer Verbindung
+     * @param maxPending    maximale Anzahl wartender Änderungen pro Abonnent vor einem {@code resync}
+     * @param threads       Anzahl der Sende-Threads
+     */
+    @Autowired
+    public AvailabilityFeed(ObjectProvider<MeterRegistry> meterRegistry,
+                            @Value("${reservation.availability-stream.timeout:PT30M}") Duration timeout,
+                            @Value("${reservation.availability-stream.max-pending:256}") int maxPending,
+                            @Value("${reservation.availability-stream.threads:4}") int threads) {
+        this(newSenderPool(threads), meterRegistry, timeout, maxPending);
+    }
+
+    /**
+     * Erstellt einen neuen {@code AvailabilityFeed} mit vorgegebenem Executor.
+     *
+     * @param executor      Executor für Sendevorgänge
+     * @param meterRegistry Registry für Metriken, falls vorhanden
+     * @param timeout       Lebensdauer einer Verbindung
+     * @param maxPending    maximale Anzahl wartender Änderungen pro Abonnent vor einem {@code resync}
+     */
+    public AvailabilityFeed(Executor executor,
+                            ObjectProvider<MeterRegistry> meterRegistry,
+                            Duration timeout,
+                            int maxPending) {
+        this.executor = executor;
+        this.ownExecutor = executor instanceof ExecutorService pool ? pool : null;
+        this.timeout = timeout;
+        this.maxPending = maxPending;
+
+        Gauge.builder("reservation.availability.subscribers", this, AvailabilityFeed::subscriberCount)
+                .description("Open availability streams")
+                .register(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    private static ExecutorService newSenderPool(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("reservation.availability-stream.threads must be at least 1");
+        }
+        CustomizableThreadFactory factory = new CustomizableThreadFactory("availability-stream-");
+        factory.setDaemon(true);
+        return Executors.newFixedThreadPool(threads, factory);
+    }
+
+    /** Beendet den eigenen Sende-Pool; offene Streams werden nicht mehr bedient. */
+    @Override
+    public void destroy() {
+        if (ownExecutor != null) ownExecutor.shutdownNow();
+    }
+
+    /**
+     * Öffnet einen Stream für das Restaurant im {@link TenantContext} und den angegebenen Tag.
+     *
+     * <p>Als erstes Ereignis wird {@code subscribed} mit dem Tag gesendet; danach folgen
+     * {@code availability}- und gegebenenfalls {@code resync}-Ereignisse.</p>
+     *
+     * @param date Tag, dessen Verfügbarkeit beobachtet wird
+     * @return Emitter für die HTTP-Antwort
+     */
+    public SseEmitter subscribe(LocalDate date) {
+        SseEmitter emitter = createEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(new Topic(TenantContext.current(), date), emitter);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("subscribed")
+                    .reconnectTime(RECONNECT_DELAY.toMillis())
+                    .data(Map.of("date", date)));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        topics.computeIfAbsent(subscriber.topic, t -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Erzeugt den Emitter eines neuen Abonnenten.
+     *
+     * @param timeoutMillis Lebensdauer der Verbindung in Millisekunden
+     * @return neuer Emitter
+     */
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Reiht die Änderung aus einem Reservierungsereignis bei allen Abonnenten von Restaurant
+     * und Tag ein. Läuft im Relay-Thread und sendet selbst nichts.
+     *
+     * @param event veröffentlichtes Reservierungsereignis
+     */
+    @EventListener
+    public void onReservationEvent(ReservationEvent event) {
+        Set<Subscriber> subscribers = topics.get(new Topic(event.tenant(), event.startTime().toLocalDate()));
+        if (subscribers == null || subscribers.isEmpty()) return;
+
+        AvailabilityChangeDTO change = new AvailabilityChangeDTO(event.tableNumber(), event.startTime(),
+                event.endTime(), event.type() == ReservationEventType.CANCELLED);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(change);
+        }
+    }
+
+    /** Sendet einen Kommentar an alle Abonnenten, deren Warteschlange gerade leer ist. */
+    @Scheduled(fixedDelayString = "${reservation.availability-stream.heartbeat:PT15S}",
+               initialDelayString = "${reservation.availability-stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        for (Set<Subscriber> subscribers : topics.values()) {
+            subscribers.forEach(Subscriber::ping);
+        }
+    }
+
+    /** @return Anzahl offener Streams über alle Restaurants und Tage */
+    public int subscriberCount() {
+        int count = 0;
+        for (Set<Subscriber> subscribers : topics.values()) {
+            count += subscribers.size();
+        }
+        return count;
+    }
+
+    private void remove(Subscriber subscriber) {
+        topics.computeIfPresent(subscriber.topic, (t, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * Ein offener Stream mit eigener Warteschlange.
+     *
+     * <p>{@code pending}, {@code overflowed} und {@code ping} werden unter dem Monitor des
+     * Abonnenten geändert. {@code scheduled} stellt sicher, dass höchstens ein Sendevorgang
+     * läuft; er wird nur unter dem Monitor und bei leerer Warteschlange zurückgesetzt, damit
+     * keine Änderung liegen bleibt.</p>
+     */
+    private final class Subscriber {
+
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private final Map<Slot, AvailabilityChangeDTO> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private boolean ping;
+        private volatile boolean closed;
+
+        Subscriber(Topic topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        void offer(AvailabilityChangeDTO change) {
+            synchronized (this) {
+                if (!overflowed) {
+                    Slot slot = new Slot(change.tableNumber(), change.start(), change.end());
+                    pending.remove(slot);
+                    pending.put(slot, change);
+                    if (pending.size() > maxPending) {
+                        pending.clear();
+                        overflowed = true;
+                    }
+                }
+            }
+            schedule();
+        }
+
+        void ping() {
+            synchronized (this) {
+                ping = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                log.warn("Could not schedule availability stream delivery: {}", e.toString());
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            while (!closed) {
+                List<AvailabilityChangeDTO> changes;
+                boolean resync;
+                boolean heartbeat;
+                synchronized (this) {
+                    if (pending.isEmpty() && !overflowed && !ping) {
+                        scheduled.set(false);
+                        return;
+                    }
+                    changes = new ArrayList<>(pending.values());
+                    resync = overflowed;
+                    heartbeat = ping && changes.isEmpty() && !resync;
+                    pending.clear();
+                    overflowed = false;
+                    ping = false;
+                }
+                try {
+                    if (resync) {
+                        emitter.send(SseEmitter.event().name("resync").data(Map.of("date", topic.date())));
+                    } else if (!changes.isEmpty()) {
+                        emitter.send(SseEmitter.event().name("availability")
+                                .data(new AvailabilityDeltaDTO(topic.date(), changes)));
+                    } else if (heartbeat) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // Client getrennt oder Stream bereits beendet
+                    log.debug("Closing availability stream for {}: {}", topic, e.toString());
+                    close();
+                }
+            }
+            scheduled.set(false);
+        }
+
+        void close() {
+            closed = true;
+            remove(this);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.repository.BusyInterval;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Best-Fit-Zuteilung eines Tisches für eine Gruppe, rein im Speicher.
+ *
+ * <p>Aus allen Tischen, die im gewünschten Zeitfenster frei sind und genug Plätze haben,
+ * wird gewählt nach:</p>
+ * <ol>
+ *   <li>möglichst wenigen ungenutzten Plätzen ({@code numberOfSeats - partySize}),</li>
+ *   <li>möglichst kleinen Restlücken vor und nach der Buchung bis zur benachbarten Belegung
+ *       (bzw. Beginn/Ende des Tages) – Buchungen werden so dicht gepackt und lange freie
+ *       Abschnitte für spätere Gruppen erhalten,</li>
+ *   <li>der kleineren Tischnummer (deterministisch).</li>
+ * </ol>
+ *
+ * <p>Die Belegungen werden in einem einzigen Durchlauf ausgewertet; der Aufwand ist
+ * linear in der Anzahl der Tische und Belegungen des Tages (siehe
+ * {@code TableAllocationBenchmark}).</p>
+ *
+ * @author Maciej Janowski
+ */
+public final class BestFitTableAllocator {
+
+    private BestFitTableAllocator() {}
+
+    /** Nachbarschaft eines Tisches relativ zum angefragten Fenster. */
+    private static final class Neighbours {
+        boolean conflict;
+        LocalDateTime previousEnd;
+        LocalDateTime nextStart;
+    }
+
+    /**
+     * Wählt den am besten passenden freien Tisch.
+     *
+     * @param tables    Kandidaten (z. B. alle Tische ohne fremde Holds)
+     * @param busy      Belegungen des Tages
+     * @param start     Beginn der gewünschten Reservierung
+     * @param end       Ende der gewünschten Reservierung
+     * @param partySize Personenzahl
+     * @param dayStart  Beginn des betrachteten Tages (Bezug für die Lücke vor der Buchung)
+     * @param dayEnd    Ende des betrachteten Tages (Bezug für die Lücke nach der Buchung)
+     * @return gewählter Tisch oder leer, wenn kein Tisch passt
+     */
+    public static Optional<RestaurantTable> choose(Collection<RestaurantTable> tables,
+                                                   Collection<BusyInterval> busy,
+                                                   LocalDateTime start, LocalDateTime end, int partySize,
+                                                   LocalDateTime dayStart, LocalDateTime dayEnd) {
+        Map<Long, Neighbours> neighbours = new HashMap<>();
+        for (BusyInterval b : busy) {
+            Neighbours n = neighbours.computeIfAbsent(b.tableId(), id -> new Neighbours());
+            if (b.start().isBefore(end) && b.end().isAfter(start)) {
+                n.conflict = true;
+            } else if (!b.end().isAfter(start)) {
+                if (n.previousEnd == null || b.end().isAfter(n.previousEnd)) n.previousEnd = b.end();
+            } else if (n.nextStart == null || b.start().isBefore(n.nextStart)) {
+                n.nextStart = b.start();
+            }
+        }
+
+        RestaurantTable best = null;
+        int bestWaste = Integer.MAX_VALUE;
+        long bestSlack = Long.MAX_VALUE;
+        for (RestaurantTable table : tables) {
+            int waste = table.getNumberOfSeats() - partySize;
+            if (waste < 0 || waste > bestWaste) continue;
+
+            Neighbours n = neighbours.get(table.getId());
+            if (n != null && n.conflict) continue;
+
+            LocalDateTime before = n == null || n.previousEnd == null ? dayStart : n.previousEnd;
+            LocalDateTime after = n == null || n.nextStart == null ? dayEnd : n.nextStart;
+            long slack = Math.max(0, Duration.between(before, start).toMinutes())
+                    + Math.max(0, Duration.between(end, after).toMinutes());
+
+            if (waste < bestWaste
+                    || slack < bestSlack
+                    || (slack == bestSlack && table.getTableNumber() < best.getTableNumber())) {
+                best = table;
+                bestWaste = waste;
+                bestSlack = slack;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.reservationsystem.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.example.reservationsystem.config.TenantContext;
+
+/**
+ * JFR-Ereignis für eine Phase der Buchung bzw. Verfügbarkeitsabfrage im {@link ReservationService}.
+ *
+ * <p>Phasen: {@link #LOOKUP} (Benutzer unter Sperre laden, Limit zählen, Tisch laden),
+ * {@link #OVERLAP_CHECK} (Überschneidungsabfrage und Holds), {@link #INSERT} (Reservierung
+ * und Outbox-Eintrag speichern) sowie {@link #AVAILABILITY} (freie Tische ermitteln).
+ * Die Dauer misst JFR selbst; {@code outcome} bleibt {@code failed}, wenn die Phase mit
+ * einer Ausnahme endet.</p>
+ *
+ * <p>Ohne laufende Aufzeichnung ist {@link #commit()} ein No-op.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Name("reservation.BookingPhase")
+@Label("Booking Phase")
+@Category({"Reservation System", "Booking"})
+@Description("Phase of a reservation booking or availability lookup")
+@StackTrace(false)
+public final class BookingPhaseEvent extends Event {
+
+    public static final String LOOKUP = "lookup";
+    public static final String OVERLAP_CHECK = "overlapCheck";
+    public static final String INSERT = "insert";
+    public static final String AVAILABILITY = "availability";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Restaurant")
+    String tenant;
+
+    @Label("Table Number")
+    @Description("0 if the phase is not bound to a single table")
+    int tableNumber;
+
+    @Label("Free Tables")
+    @Description("Number of free tables found (availability only)")
+    int freeTables;
+
+    @Label("Outcome")
+    String outcome = "failed";
+
+    /**
+     * Startet die Zeitmessung einer Phase.
+     *
+     * @param phase       eine der Phasen-Konstanten
+     * @param tableNumber Tischnummer oder 0
+     * @return laufendes Ereignis; nach der Phase {@link #commit()} aufrufen
+     */
+    static BookingPhaseEvent begin(String phase, int tableNumber) {
+        BookingPhaseEvent event = new BookingPhaseEvent();
+        event.phase = phase;
+        event.tenant = TenantContext.current();
+        event.tableNumber = tableNumber;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param outcome Ergebnis der Phase, z. B. {@code ok} oder {@code conflict}
+     */
+    void outcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.model.OpeningHours;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Unveränderlicher Schnappschuss der Buchungsregeln: Dauergrenzen, Standarddauer und
+ * Öffnungszeiten je Wochentag bzw. Datum.
+ *
+ * <p>Die Service-Zeiträume liegen als sortierte Sekundenintervalle in primitiven Arrays
+ * vor, Ausnahmen für einzelne Daten in einer unveränderlichen Map. Die Prüfung einer
+ * gültigen Reservierung ({@link #validate}) kommt daher ohne Objekterzeugung aus; nur
+ * im Fehlerfall wird eine Meldung gebaut.</p>
+ *
+ * <p>Solange keine Wochentagsregeln hinterlegt sind, gilt an jedem Tag 00:00–22:00 –
+ * das frühere, fest codierte Verhalten. Datumsausnahmen (z. B. Feiertage) gelten
+ * zusätzlich; ein Wochentag ohne Regel ist nur geschlossen, wenn es für andere
+ * Wochentage Regeln gibt.</p>
+ *
+ * @author Maciej Janowski
+ * @see OpeningHoursService
+ */
+public final class BookingRules {
+
+    /**
+     * Obergrenze jeder konfigurierten Höchstdauer. Überschneidungsabfragen suchen nur
+     * Reservierungen, die höchstens so lange vor dem Fenster begonnen haben
+     * (siehe {@code ReservationService#earliestOverlappingStart}).
+     */
+    public static final Duration MAX_SUPPORTED_DURATION = Duration.ofHours(5);
+
+    /** Service-Zeitraum, solange keine Öffnungszeiten hinterlegt sind. */
+    private static final int[] FALLBACK = {0, LocalTime.of(22, 0).toSecondOfDay()};
+
+    private static final int[] CLOSED = new int[0];
+
+    private final int minMinutes;
+    private final int defaultMinutes;
+    private final int maxMinutes;
+    private final Duration defaultDuration;
+    private final String durationMessage;
+
+    /** Je Wochentag ({@link DayOfWeek#ordinal()}): {@code [öffnet0, schließt0, öffnet1, …]} in Sekunden. */
+    private final int[][] weekly;
+    private final Map<LocalDate, int[]> byDate;
+
+    private BookingRules(Duration min, Duration def, Duration max, int[][] weekly, Map<LocalDate, int[]> byDate) {
+        this.minMinutes = (int) min.toMinutes();
+        this.defaultMinutes = (int) def.toMinutes();
+        this.maxMinutes = (int) max.toMinutes();
+        this.defaultDuration = def;
+        this.durationMessage = "Reservation must be between " + minMinutes + " and " + maxMinutes + " minutes.";
+        this.weekly = weekly;
+        this.byDate = byDate;
+    }
+
+    /**
+     * Baut einen Schnappschuss aus Öffnungszeiten und Dauergrenzen.
+     *
+     * @param hours Öffnungszeiten (Wochentagsregeln und Ausnahmen); ohne Wochentagsregeln gilt
+     *              00:00–22:00 an jedem Tag ohne Ausnahme
+     * @param min   Mindestdauer
+     * @param def   Standarddauer bei fehlender Endzeit
+     * @param max   Höchstdauer (höchstens {@link #MAX_SUPPORTED_DURATION})
+     * @return neuer Schnappschuss
+     * @throws IllegalArgumentException bei widersprüchlichen Dauern oder ungültigen,
+     *                                  sich überschneidenden Öffnungszeiten
+     */
+    public static BookingRules of(Collection<OpeningHours> hours, Duration min, Duration def, Duration max) {
+        if (min.toMinutes() < 1 || min.compareTo(def) > 0 || def.compareTo(max) > 0
+                || max.compareTo(MAX_SUPPORTED_DURATION) > 0) {
+            throw new IllegalArgumentException("Booking durations must satisfy 0 < min <= default <= max <= "
+                    + MAX_SUPPORTED_DURATION.toMinutes() + " minutes.");
+        }
+
+        int[][] weekly = new int[7][];
+        if (hours.isEmpty()) {
+            Arrays.fill(weekly, FALLBACK);
+            return new BookingRules(min, def, max, weekly, Map.of());
+        }
+
+        Map<DayOfWeek, List<OpeningHours>> perDay = new EnumMap<>(DayOfWeek.class);
+        Map<LocalDate, List<OpeningHours>> perDate = new HashMap<>();
+        for (OpeningHours h : hours) {
+            if ((h.getDayOfWeek() == null) == (h.getDate() == null)) {
+                throw new IllegalArgumentException("Opening hours need either a day of week or a date.");
+            }
+            if (!h.isClosed() && (h.getOpensAt() == null || h.getClosesAt() == null
+                    || !h.getClosesAt().isAfter(h.getOpensAt()))) {
+                throw new IllegalArgumentException("Opening hours must close after they open.");
+            }
+            if (h.getDate() != null) {
+                perDate.computeIfAbsent(h.getDate(), d -> new ArrayList<>()).add(h);
+            } else {
+                perDay.computeIfAbsent(h.getDayOfWeek(), d -> new ArrayList<>()).add(h);
+            }
+        }
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            weekly[day.ordinal()] = perDay.isEmpty()
+                    ? FALLBACK
+                    : windows(perDay.getOrDefault(day, List.of()), day.toString());
+        }
+        Map<LocalDate, int[]> byDate = new HashMap<>();
+        perDate.forEach((date, list) -> byDate.put(date, windows(list, date.toString())));
+        return new BookingRules(min, def, max, weekly, Map.copyOf(byDate));
+    }
+
+    /** Sortiert die Service-Zeiträume eines Tages; ein Schließ-Eintrag schließt den ganzen Tag. */
+    private static int[] windows(List<OpeningHours> entries, String day) {
+        if (entries.isEmpty() || entries.stream().anyMatch(OpeningHours::isClosed)) {
+            return CLOSED;
+        }
+        List<OpeningHours> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(OpeningHours::getOpensAt));
+        int[] windows = new int[sorted.size() * 2];
+        for (int i = 0; i < sorted.size(); i++) {
+            windows[2 * i] = sorted.get(i).getOpensAt().toSecondOfDay();
+            windows[2 * i + 1] = sorted.get(i).getClosesAt().toSecondOfDay();
+            if (i > 0 && windows[2 * i] < windows[2 * i - 1]) {
+                throw new IllegalArgumentException("Opening hours overlap on " + day + ".");
+            }
+        }
+        return windows;
+    }
+
+    private int[] windowsOn(LocalDate date) {
+        int[] special = byDate.get(date);
+        return special != null ? special : weekly[date.getDayOfWeek().ordinal()];
+    }
+
+    /**
+     * Prüft Dauer und Öffnungszeiten eines Zeitfensters, dessen Ende nach dem Beginn liegt.
+     *
+     * @param start Beginn
+     * @param end   Ende
+     * @throws IllegalArgumentException wenn die Dauer außerhalb der Grenzen liegt oder das
+     *                                  Fenster nicht vollständig in einem Service-Zeitraum liegt
+     */
+    public void validate(LocalDateTime start, LocalDateTime end) {
+        long seconds = (end.toLocalDate().toEpochDay() - start.toLocalDate().toEpochDay()) * 86_400L
+                + end.toLocalTime().toSecondOfDay() - start.toLocalTime().toSecondOfDay();
+        long minutes = seconds / 60;
+        if (minutes < minMinutes || minutes > maxMinutes) {
+            throw new IllegalArgumentException(durationMessage);
+        }
+        if (!isWithinOpeningHours(start, end)) {
+            throw new IllegalArgumentException(openingHoursMessage(start.toLocalDate()));
+        }
+    }
+
+    /**
+     * @param start Beginn
+     * @param end   Ende
+     * @return {@code true}, wenn das Fenster vollständig in einem Service-Zeitraum seines Tages liegt
+     */
+    public boolean isWithinOpeningHours(LocalDateTime start, LocalDateTime end) {
+        LocalDate date = start.toLocalDate();
+        if (!date.equals(end.toLocalDate())) {
+            return false;
+        }
+        int from = start.toLocalTime().toSecondOfDay();
+        int to = end.toLocalTime().toSecondOfDay() + (end.getNano() > 0 ? 1 : 0);
+        int[] windows = windowsOn(date);
+        for (int i = 0; i < windows.length; i += 2) {
+            if (windows[i] <= from && to <= windows[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param date Tag
+     * @return Ende des letzten Service-Zeitraums oder {@code null}, wenn geschlossen
+     */
+    public LocalTime latestClosing(LocalDate date) {
+        int[] windows = windowsOn(date);
+        return windows.length == 0 ? null : LocalTime.ofSecondOfDay(windows[windows.length - 1]);
+    }
+
+    private String openingHoursMessage(LocalDate date) {
+        int[] windows = windowsOn(date);
+        if (windows.length == 0) {
+            return "The restaurant is closed on " + date + ".";
+        }
+        StringJoiner services = new StringJoiner(", ");
+        for (int i = 0; i < windows.length; i += 2) {
+            services.add(LocalTime.ofSecondOfDay(windows[i]) + "-" + LocalTime.ofSecondOfDay(windows[i + 1]));
+        }
+        return "Reservations on " + date + " are only allowed within opening hours " + services + ".";
+    }
+
+    /**
+     * Klammert eine gewünschte Dauer auf die Grenzen.
+     *
+     * @param minutes gewünschte Dauer in Minuten (kann {@code null} sein)
+     * @return Wert im Bereich [Mindestdauer, Höchstdauer]; {@code null} ergibt die Mindestdauer
+     */
+    public int clampMinutes(Integer minutes) {
+        if (minutes == null || minutes < minMinutes) return minMinutes;
+        return Math.min(minutes, maxMinutes);
+    }
+
+    /** @return Standarddauer bei fehlender Endzeit */
+    public Duration defaultDuration() { return defaultDuration; }
+
+    /** @return Standarddauer in Minuten */
+    public int defaultMinutes() { return defaultMinutes; }
+
+    /** @return Mindestdauer in Minuten */
+    public int minMinutes() { return minMinutes; }
+
+    /** @return Höchstdauer in Minuten */
+    public int maxMinutes() { return maxMinutes; }
+}
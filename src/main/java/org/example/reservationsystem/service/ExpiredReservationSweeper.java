@@ -0,0 +1,122 @@
+package org.example.reservationsystem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Hintergrundjob, der abgelaufene Reservierungen in die Historie verschiebt.
+ *
+ * <p>Vergangene Reservierungen zählen zwar nicht mehr zum Buchungslimit pro Benutzer,
+ * erscheinen aber weiter in dessen Übersicht und vergrößern die aktiven Partitionen.
+ * Der Sweeper verschiebt deshalb Reservierungen mit {@code end_time < now} in Stapeln
+ * nach {@code reservation_history}.</p>
+ *
+ * <p>Jeder Stapel ist eine einzige, mengenbasierte SQL-Anweisung (PostgreSQL):
+ * Ein CTE wählt bis zu {@code batch-size} Zeilen mit {@code FOR UPDATE SKIP LOCKED}
+ * aus, löscht sie mit {@code DELETE … RETURNING} und fügt das Ergebnis direkt in die
+ * Historie ein. Es werden keine Entitäten geladen; die Anweisung ist für sich atomar,
+ * und mehrere Instanzen können parallel kehren, ohne sich zu blockieren. Die Bedingung
+ * {@code start_time < now} begrenzt den Zugriff auf vergangene Monatspartitionen.
+ * Gelöscht wird über den Primärschlüssel ({@code id = ANY(…)}), eingegrenzt auf den
+ * {@code start_time}-Bereich des Stapels, sodass PostgreSQL zur Laufzeit nur dessen
+ * Partitionen liest. Ein Join gegen den CTE führt der Planer bei vielen Partitionen als
+ * Hash-Join über alle Zeilen aus; jeder Stapel läse dann die ganze Tabelle.</p>
+ *
+ * <p>Konfiguration: {@code reservation.sweeper.enabled}, {@code .batch-size}
+ * (Standard 1000) und {@code .interval} (Standard 5 Minuten).</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.sweeper.enabled", havingValue = "true")
+public class ExpiredReservationSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredReservationSweeper.class);
+
+    static final String SWEEP_SQL = """
+            WITH expired AS (
+                SELECT id, start_time
+                  FROM reservations
+                 WHERE start_time < ? AND end_time < ?
+                 ORDER BY end_time
+                 LIMIT ?
+                   FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM reservations r
+                 WHERE r.id = ANY (ARRAY(SELECT id FROM expired))
+                   AND r.start_time BETWEEN (SELECT min(start_time) FROM expired)
+                                        AND (SELECT max(start_time) FROM expired)
+                RETURNING r.id, r.start_time, r.end_time, r.table_id, r.user_id, r.tenant_id
+            )
+            INSERT INTO reservation_history (id, start_time, end_time, table_id, user_id, tenant_id, archived_at)
+            SELECT id, start_time, end_time, table_id, user_id, tenant_id, ? FROM moved
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReservationVersions versions;
+    private final int batchSize;
+
+    /**
+     * Erstellt einen neuen {@code ExpiredReservationSweeper}.
+     *
+     * @param jdbcTemplate JDBC-Zugriff auf die primäre Datenbank
+     * @param versions     Versionszähler für ETags (Übersichten ändern sich durch das Verschieben)
+     * @param batchSize    maximale Anzahl verschobener Zeilen pro Anweisung
+     */
+    public ExpiredReservationSweeper(JdbcTemplate jdbcTemplate,
+                                     ReservationVersions versions,
+                                     @Value("${reservation.sweeper.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.versions = versions;
+        this.batchSize = batchSize;
+    }
+
+    /** Geplanter Lauf: verschiebt alle zum Startzeitpunkt abgelaufenen Reservierungen. */
+    @Scheduled(fixedDelayString = "${reservation.sweeper.interval:PT5M}",
+               initialDelayString = "${reservation.sweeper.interval:PT5M}")
+    public void sweep() {
+        long moved = sweepExpiredBefore(LocalDateTime.now());
+        if (moved > 0) {
+            log.info("Moved {} expired reservations to history", moved);
+        }
+    }
+
+    /**
+     * Verschiebt alle Reservierungen, die vor {@code cutoff} geendet haben, stapelweise
+     * in die Historie.
+     *
+     * @param cutoff Stichzeitpunkt
+     * @return Anzahl verschobener Reservierungen
+     */
+    public long sweepExpiredBefore(LocalDateTime cutoff) {
+        long total = 0;
+        int moved;
+        do {
+            moved = sweepBatch(cutoff);
+            total += moved;
+        } while (moved == batchSize);
+        if (total > 0) {
+            versions.globalChanged();
+        }
+        return total;
+    }
+
+    /**
+     * Verschiebt höchstens einen Stapel abgelaufener Reservierungen.
+     *
+     * @param cutoff Stichzeitpunkt
+     * @return Anzahl verschobener Reservierungen in diesem Stapel
+     */
+    int sweepBatch(LocalDateTime cutoff) {
+        Timestamp ts = Timestamp.valueOf(cutoff);
+        return jdbcTemplate.update(SWEEP_SQL, ts, ts, batchSize, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.reservationsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Senke, die Ereignisse als JSON-Zeilen an eine Datei anhängt
+ * ({@code reservation.outbox.file.path}), z. B. für einen Log-Shipper.
+ *
+ * <p>Ein Stapel wird mit einem Schreibzugriff angehängt und per {@code force} auf den
+ * Datenträger gebracht, bevor der Relay ihn als veröffentlicht markiert. Nach einem
+ * Absturz zwischen beiden Schritten erscheinen die Zeilen beim nächsten Lauf erneut.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+@ConditionalOnProperty("reservation.outbox.file.path")
+public class FileEventSink implements ReservationEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    /**
+     * Erstellt eine neue {@code FileEventSink}.
+     *
+     * @param objectMapper JSON-Serialisierung
+     * @param path         Zieldatei (wird bei Bedarf angelegt)
+     */
+    public FileEventSink(ObjectMapper objectMapper, @Value("${reservation.outbox.file.path}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public synchronized void publish(List<ReservationEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder(events.size() * 256);
+        for (ReservationEvent event : events) {
+            lines.append(objectMapper.writeValueAsString(event)).append('\n');
+        }
+        Path dir = path.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.reservationsystem.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-Prozess-Stellvertreter für einen Message-Broker: ein Ereignis-Log mit Offsets und
+ * Konsumentengruppen.
+ *
+ * <p>Veröffentlichte Ereignisse werden an das Log angehängt (höchstens
+ * {@code reservation.outbox.broker.capacity}, älteste werden verworfen). Bereits
+ * übernommene IDs werden bei erneuter Zustellung übersprungen; verglichen wird mit der
+ * Menge der IDs im Log, nicht mit der höchsten ID, denn Outbox-IDs werden beim Einfügen
+ * vergeben und können in anderer Reihenfolge committet werden. Konsumenten (z. B.
+ * Küchendisplay, SMS-Erinnerungen) lesen mit {@link #poll} ab ihrem bestätigten Offset
+ * und bestätigen mit {@link #commit}; bis dahin erhalten sie dieselben Ereignisse erneut.
+ * Der Rückstand je Konsument steht als Gauge {@code reservation.events.consumer.lag}
+ * (Tag {@code consumer}) bereit.</p>
+ *
+ * <p>Für einen echten Broker wird diese Klasse durch eine Senke mit demselben Vertrag
+ * ersetzt; Outbox und Relay bleiben unverändert.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.outbox.broker.enabled", havingValue = "true")
+public class LocalBrokerSink implements ReservationEventSink {
+
+    /**
+     * Ergebnis von {@link #poll}.
+     *
+     * @param events     Ereignisse ab dem bestätigten Offset
+     * @param nextOffset Offset, der nach der Verarbeitung zu bestätigen ist
+     */
+    public record Batch(List<ReservationEvent> events, long nextOffset) {
+    }
+
+    private final int capacity;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final List<ReservationEvent> log = new ArrayList<>();
+    private final Map<String, Long> committed = new HashMap<>();
+    private final Set<Long> loggedIds = new HashSet<>();
+    private long firstOffset;
+
+    /**
+     * Erstellt eine neue {@code LocalBrokerSink}.
+     *
+     * @param capacity      maximale Anzahl gehaltener Ereignisse
+     * @param meterRegistry Registry für die Lag-Gauges, falls vorhanden
+     */
+    public LocalBrokerSink(@Value("${reservation.outbox.broker.capacity:10000}") int capacity,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.capacity = capacity;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String name() {
+        return "broker";
+    }
+
+    @Override
+    public synchronized void publish(List<ReservationEvent> events) {
+        for (ReservationEvent event : events) {
+            if (loggedIds.add(event.id())) {
+                log.add(event);
+            }
+        }
+        int overflow = log.size() - capacity;
+        if (overflow > capacity / 4) {
+            List<ReservationEvent> dropped = log.subList(0, overflow);
+            dropped.forEach(e -> loggedIds.remove(e.id()));
+            dropped.clear();
+            firstOffset += overflow;
+        }
+    }
+
+    /**
+     * Liefert Ereignisse ab dem bestätigten Offset des Konsumenten, ohne ihn zu verschieben.
+     *
+     * @param consumer Name der Konsumentengruppe
+     * @param max      maximale Anzahl
+     * @return Ereignisse und zu bestätigender Offset
+     */
+    public synchronized Batch poll(String consumer, int max) {
+        if (!committed.containsKey(consumer)) {
+            committed.put(consumer, firstOffset);
+            meterRegistry.ifAvailable(r -> Gauge.builder("reservation.events.consumer.lag", this, s -> s.lag(consumer))
+                    .description("Published reservation events not yet committed by the consumer")
+                    .tag("consumer", consumer)
+                    .register(r));
+        }
+        long from = Math.max(committed.get(consumer), firstOffset);
+        int start = (int) (from - firstOffset);
+        int end = Math.min(log.size(), start + max);
+        return new Batch(List.copyOf(log.subList(start, end)), firstOffset + end);
+    }
+
+    /**
+     * Bestätigt die Verarbeitung bis (ausschließlich) zum angegebenen Offset.
+     *
+     * @param consumer Name der Konsumentengruppe
+     * @param offset   {@link Batch#nextOffset()} des verarbeiteten Stapels
+     */
+    public synchronized void commit(String consumer, long offset) {
+        committed.merge(consumer, offset, Math::max);
+    }
+
+    /**
+     * @param consumer Name der Konsumentengruppe
+     * @return Anzahl veröffentlichter, vom Konsumenten noch nicht bestätigter Ereignisse
+     */
+    public synchronized long lag(String consumer) {
+        long end = firstOffset + log.size();
+        return end - Math.max(committed.getOrDefault(consumer, firstOffset), firstOffset);
+    }
+}
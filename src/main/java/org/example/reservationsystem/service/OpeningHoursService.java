@@ -0,0 +1,140 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.model.OpeningHours;
+import org.example.reservationsystem.repository.OpeningHoursRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verwaltet Öffnungszeiten und stellt die aktuellen {@link BookingRules} bereit.
+ *
+ * <p>Die Regeln werden beim Start aus {@code opening_hours} und den Dauergrenzen
+ * ({@code reservation.booking.min-duration}, {@code .default-duration}, {@code .max-duration})
+ * gebaut und als unveränderlicher Schnappschuss gehalten. Buchungen lesen nur diese
+ * {@code volatile}-Referenz; Änderungen über {@link #replaceAll} werden vollständig
+ * validiert und ersetzen den Schnappschuss atomar nach dem Commit.</p>
+ *
+ * <p>Jedes Restaurant (Mandant, siehe {@link TenantContext}) hat einen eigenen Schnappschuss;
+ * Restaurants ohne Einträge teilen sich die Standardregeln.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Service
+public class OpeningHoursService {
+
+    private static final Logger log = LoggerFactory.getLogger(OpeningHoursService.class);
+
+    private final OpeningHoursRepository repository;
+    private final Duration minDuration;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+
+    private final BookingRules defaults;
+    private volatile Map<String, BookingRules> rulesByTenant = Map.of();
+
+    /**
+     * Erstellt einen neuen {@code OpeningHoursService}; bis zum ersten {@link #refresh()}
+     * gelten die Dauergrenzen mit den Standard-Öffnungszeiten.
+     *
+     * @param repository      Repository für Öffnungszeiten
+     * @param minDuration     Mindestdauer einer Reservierung
+     * @param defaultDuration Dauer bei fehlender Endzeit
+     * @param maxDuration     Höchstdauer einer Reservierung
+     */
+    public OpeningHoursService(OpeningHoursRepository repository,
+                               @Value("${reservation.booking.min-duration:PT30M}") Duration minDuration,
+                               @Value("${reservation.booking.default-duration:PT2H}") Duration defaultDuration,
+                               @Value("${reservation.booking.max-duration:PT5H}") Duration maxDuration) {
+        this.repository = repository;
+        this.minDuration = minDuration;
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.defaults = BookingRules.of(List.of(), minDuration, defaultDuration, maxDuration);
+    }
+
+    /** @return aktueller Schnappschuss der Buchungsregeln des Restaurants im {@link TenantContext} */
+    public BookingRules rules() {
+        return rulesByTenant.getOrDefault(TenantContext.current(), defaults);
+    }
+
+    /**
+     * Liest die Öffnungszeiten aller Restaurants neu und ersetzt die Schnappschüsse.
+     *
+     * <p>Nur außerhalb von Requests aufrufen (Abfrage ohne Mandantenfilter).</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        Map<String, List<OpeningHours>> byTenant = new HashMap<>();
+        for (OpeningHours h : TenantContext.callForAllTenants(repository::findAll)) {
+            byTenant.computeIfAbsent(h.getTenant(), k -> new ArrayList<>()).add(h);
+        }
+        Map<String, BookingRules> next = new HashMap<>();
+        byTenant.forEach((tenant, hours) -> next.put(tenant, build(hours)));
+        rulesByTenant = Map.copyOf(next);
+    }
+
+    /**
+     * @return alle hinterlegten Öffnungszeiten des aktuellen Restaurants
+     */
+    @Transactional(readOnly = true)
+    public List<OpeningHours> getAll() {
+        return repository.findAll();
+    }
+
+    /**
+     * Ersetzt alle Öffnungszeiten des aktuellen Restaurants.
+     *
+     * <p>Die neuen Regeln werden vor dem Speichern vollständig gebaut; ungültige Einträge
+     * ändern daher weder Datenbank noch Schnappschuss.</p>
+     *
+     * @param hours neue Wochentagsregeln und Ausnahmen (leer = Standard 00:00–22:00)
+     * @return gespeicherte Einträge
+     * @throws IllegalArgumentException bei ungültigen oder sich überschneidenden Einträgen
+     */
+    @Transactional
+    public List<OpeningHours> replaceAll(Collection<OpeningHours> hours) {
+        String tenant = TenantContext.current();
+        BookingRules next = hours.isEmpty() ? null : build(hours);
+        repository.deleteAll(repository.findAll());
+        List<OpeningHours> saved = repository.saveAll(hours);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    swap(tenant, next);
+                }
+            });
+        } else {
+            swap(tenant, next);
+        }
+        return saved;
+    }
+
+    private synchronized void swap(String tenant, BookingRules next) {
+        Map<String, BookingRules> copy = new HashMap<>(rulesByTenant);
+        if (next == null) copy.remove(tenant); else copy.put(tenant, next);
+        rulesByTenant = Map.copyOf(copy);
+    }
+
+    private BookingRules build(Collection<OpeningHours> hours) {
+        BookingRules built = BookingRules.of(hours, minDuration, defaultDuration, maxDuration);
+        log.debug("Loaded booking rules with {} opening-hours entries", hours.size());
+        return built;
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.reservationsystem.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.reservationsystem.model.OutboxEvent;
+import org.example.reservationsystem.repository.OutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Veröffentlicht Einträge der transaktionalen Outbox stapelweise an alle
+ * {@link ReservationEventSink}s.
+ *
+ * <p>Ein Stapel ist eine Transaktion: bis zu {@code reservation.outbox.batch-size} Einträge
+ * werden mit {@code FOR UPDATE SKIP LOCKED} in ID-Reihenfolge gesperrt, allen Senken
+ * übergeben und erst danach als veröffentlicht markiert. Schlägt eine Senke fehl, wird die
+ * Transaktion zurückgerollt und der Stapel beim nächsten Lauf erneut zugestellt
+ * (at-least-once). Mehrere Instanzen können parallel veröffentlichen, ohne sich zu
+ * blockieren; die Reihenfolge gilt dann nur je Stapel.</p>
+ *
+ * <p>Einträge, deren Payload sich nicht lesen lässt, werden mit {@code failed_at} und Grund
+ * beiseitegelegt (Dead Letter) und nicht erneut gelesen; der Rest des Stapels wird normal
+ * veröffentlicht. Beiseitegelegte Einträge werden nicht gelöscht.</p>
+ *
+ * <p>Metriken:
+ * <ul>
+ *   <li>{@code reservation.outbox.pending} – unveröffentlichte Einträge</li>
+ *   <li>{@code reservation.outbox.lag} – Alter des ältesten unveröffentlichten Eintrags in Sekunden</li>
+ *   <li>{@code reservation.outbox.delivery} – Zeit vom Eintrag bis zur Veröffentlichung</li>
+ *   <li>{@code reservation.outbox.failures} – fehlgeschlagene Stapel je Senke; Tag
+ *       {@code sink=payload} zählt Einträge mit unlesbarem Payload</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Konfiguration: {@code reservation.outbox.enabled}, {@code .batch-size} (Standard 100),
+ * {@code .poll-interval} (Standard 1 Sekunde) und {@code .retention} (Standard 7 Tage;
+ * danach werden veröffentlichte Einträge stündlich gelöscht).</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    /** Höchstzahl Stapel pro Lauf, damit ein großer Rückstand den Scheduler nicht blockiert. */
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final OutboxRepository outboxRepository;
+    private final List<ReservationEventSink> sinks;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final Duration retention;
+
+    private final Timer delivery;
+    private final Map<String, Counter> failures = new HashMap<>();
+    private final Counter deadLetters;
+    private volatile long pending;
+    private volatile LocalDateTime oldestPending;
+
+    /**
+     * Erstellt einen neuen {@code OutboxRelay}.
+     *
+     * @param outboxRepository   Repository für Outbox-Einträge
+     * @param sinks              alle Senken
+     * @param objectMapper       JSON-Deserialisierung des Payloads
+     * @param transactionManager Transaktionsmanager (JPA)
+     * @param meterRegistry      Registry für Metriken, falls vorhanden
+     * @param batchSize          maximale Anzahl Einträge pro Stapel
+     * @param retention          Aufbewahrungsdauer veröffentlichter Einträge
+     */
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       List<ReservationEventSink> sinks,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       ObjectProvider<MeterRegistry> meterRegistry,
+                       @Value("${reservation.outbox.batch-size:100}") int batchSize,
+                       @Value("${reservation.outbox.retention:P7D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.delivery = Timer.builder("reservation.outbox.delivery")
+                .description("Time from outbox insert to publication")
+                .register(registry);
+        for (ReservationEventSink sink : sinks) {
+            failures.put(sink.name(), Counter.builder("reservation.outbox.failures")
+                    .tag("sink", sink.name())
+                    .register(registry));
+        }
+        this.deadLetters = Counter.builder("reservation.outbox.failures")
+                .tag("sink", "payload")
+                .register(registry);
+        Gauge.builder("reservation.outbox.pending", this, r -> r.pending)
+                .description("Unpublished outbox events")
+                .register(registry);
+        Gauge.builder("reservation.outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Age of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /** Geplanter Lauf: veröffentlicht Stapel, bis die Outbox leer ist, und aktualisiert die Lag-Metriken. */
+    @Scheduled(fixedDelayString = "${reservation.outbox.poll-interval:PT1S}",
+               initialDelayString = "${reservation.outbox.poll-interval:PT1S}")
+    public void relay() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            if (publishBatch() < batchSize) break;
+        }
+        refreshLag();
+    }
+
+    /**
+     * Veröffentlicht einen Stapel.
+     *
+     * @return Anzahl verarbeiteter (veröffentlichter oder beiseitegelegter) Einträge
+     *         (0, wenn leer oder eine Senke fehlschlug)
+     */
+    public int publishBatch() {
+        try {
+            int[] deadLettered = new int[1];
+            Integer processed = tx.execute(status -> {
+                List<OutboxEvent> rows = outboxRepository.lockUnpublished(PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+                LocalDateTime now = LocalDateTime.now();
+                List<OutboxEvent> readable = new ArrayList<>(rows.size());
+                List<ReservationEvent> events = new ArrayList<>(rows.size());
+                for (OutboxEvent row : rows) {
+                    try {
+                        events.add(toEvent(row));
+                        readable.add(row);
+                    } catch (JsonProcessingException e) {
+                        log.error("Outbox event {} has an unreadable payload and is set aside: {}",
+                                row.getId(), e.getOriginalMessage());
+                        row.markFailed(now, e.getOriginalMessage());
+                        deadLettered[0]++;
+                    }
+                }
+                if (!events.isEmpty()) {
+                    for (ReservationEventSink sink : sinks) {
+                        try {
+                            sink.publish(events);
+                        } catch (Exception e) {
+                            throw new SinkFailedException(sink.name(), e);
+                        }
+                    }
+                }
+                for (OutboxEvent row : readable) {
+                    row.markPublished(now);
+                    delivery.record(Duration.between(row.getCreatedAt(), now));
+                }
+                return rows.size();
+            });
+            deadLetters.increment(deadLettered[0]);
+            return processed == null ? 0 : processed;
+        } catch (SinkFailedException e) {
+            failures.get(e.sink).increment();
+            log.warn("Outbox sink '{}' failed, batch will be redelivered: {}", e.sink, e.getCause().toString());
+            return 0;
+        }
+    }
+
+    /** Löscht veröffentlichte Einträge nach Ablauf der Aufbewahrungsdauer. */
+    @Scheduled(cron = "${reservation.outbox.purge-cron:0 30 * * * *}")
+    public void purgePublished() {
+        Integer deleted = tx.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+
+    /** Liest Anzahl und Alter der unveröffentlichten Einträge für die Lag-Metriken. */
+    void refreshLag() {
+        Object[] stats = outboxRepository.pendingStats().get(0);
+        pending = ((Number) stats[0]).longValue();
+        oldestPending = (LocalDateTime) stats[1];
+    }
+
+    private double lagSeconds() {
+        LocalDateTime oldest = oldestPending;
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private ReservationEvent toEvent(OutboxEvent row) throws JsonProcessingException {
+        return objectMapper.readValue(row.getPayload(), ReservationEvent.class).withId(row.getId());
+    }
+
+    /** Fehler einer Senke; rollt den Stapel zurück. */
+    private static final class SinkFailedException extends RuntimeException {
+        private final String sink;
+
+        SinkFailedException(String sink, Throwable cause) {
+            super(cause);
+            this.sink = sink;
+        }
+    }
+}
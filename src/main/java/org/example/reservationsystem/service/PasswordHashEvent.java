@@ -0,0 +1,45 @@
+package org.example.reservationsystem.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR-Ereignis für das Hashen bzw. Prüfen eines Passworts im {@link AuthService}.
+ *
+ * <p>BCrypt ist absichtlich langsam; steigt die Dauer dieser Ereignisse, ist meist die
+ * CPU ausgelastet oder der Kostenfaktor des {@code PasswordEncoder} zu hoch.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Name("reservation.PasswordHash")
+@Label("Password Hash")
+@Category({"Reservation System", "Authentication"})
+@Description("Hashing or verifying a password")
+@StackTrace(false)
+public final class PasswordHashEvent extends Event {
+
+    public static final String HASH = "hash";
+    public static final String VERIFY = "verify";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    @Description("ok (hash), match or mismatch (verify), failed on exception")
+    String outcome = "failed";
+
+    static PasswordHashEvent begin(String operation) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    void outcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
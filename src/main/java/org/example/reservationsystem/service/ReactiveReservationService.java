@@ -0,0 +1,262 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.DTO.ReservationViewDTO;
+import org.example.reservationsystem.DTO.TableViewDTO;
+import org.example.reservationsystem.config.ReadYourWritesGuard;
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.exceptions.ReservationLimitExceededException;
+import org.example.reservationsystem.exceptions.TableAlreadyReservedException;
+import org.example.reservationsystem.exceptions.TableNotFoundException;
+import org.example.reservationsystem.exceptions.UserNotFoundException;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.ReservationEventType;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Nicht-blockierende Variante der Verfügbarkeits- und Buchungslogik auf Basis von R2DBC.
+ *
+ * <p>Der Service arbeitet direkt mit einem {@link DatabaseClient} auf denselben Tabellen
+ * wie {@link ReservationService}. Die Geschäftsregeln (Dauer, Vergangenheit,
+ * Öffnungszeiten, Standarddauer) werden nicht dupliziert, sondern über
+ * {@link ReservationService#validateReservationInput(Reservation)} und die
+ * paketinternen Hilfsmethoden des blockierenden Service wiederverwendet.</p>
+ *
+ * <p>R2DBC umgeht Hibernate und damit dessen Mandantenfilter; alle Abfragen tragen daher
+ * ein explizites {@code tenant_id}-Prädikat. Der Mandant wird beim Aufruf aus dem
+ * {@link TenantContext} gelesen, da die Pipeline auf anderen Threads weiterlaufen kann.</p>
+ *
+ * <p>Transaktionen werden über den {@link TransactionalOperator} aus
+ * {@link org.example.reservationsystem.config.R2dbcConfig} gesteuert, nicht über
+ * {@code @Transactional} (das an den JPA-{@code transactionManager} gebunden ist).</p>
+ *
+ * <p>Ausnahmen (als Fehlersignal des {@link Mono}):
+ * <ul>
+ *   <li>{@link UserNotFoundException}, wenn kein Benutzer zur E-Mail existiert.</li>
+ *   <li>{@link ReservationLimitExceededException}, wenn der Benutzer das Limit aktiver Reservierungen erreicht hat.</li>
+ *   <li>{@link TableNotFoundException}, wenn der Tisch nicht existiert.</li>
+ *   <li>{@link TableAlreadyReservedException}, wenn sich der Zeitraum überschneidet.</li>
+ *   <li>{@link IllegalArgumentException}, wenn Zeiten oder Dauer ungültig sind.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Maciej Janowski
+ */
+@Service
+@Lazy
+public class ReactiveReservationService {
+
+    private static final String AVAILABLE_SQL = """
+            SELECT t.id, t.table_number, t.number_of_seats
+              FROM restaurant_tables t
+             WHERE t.tenant_id = :tenant
+               AND NOT EXISTS (SELECT 1 FROM reservations r
+                                WHERE r.table_id = t.id
+                                  AND r.start_time > :earliestStart
+                                  AND r.start_time < :end
+                                  AND r.end_time > :start)
+             ORDER BY t.table_number
+            """;
+
+    private static final String INSERT_IF_FREE_SQL = """
+            INSERT INTO reservations (start_time, end_time, table_id, user_id, tenant_id)
+            SELECT CAST(:start AS TIMESTAMP), CAST(:end AS TIMESTAMP), :tableId, :userId, :tenant
+             WHERE NOT EXISTS (SELECT 1 FROM reservations r
+                                WHERE r.table_id = :tableId
+                                  AND r.start_time > :earliestStart
+                                  AND r.start_time < :end
+                                  AND r.end_time > :start)
+            """;
+
+    private static final String INSERT_OUTBOX_SQL = """
+            INSERT INTO reservation_outbox (event_type, reservation_id, tenant_id, payload, created_at)
+            VALUES (:type, :reservationId, :tenant, :payload, :createdAt)
+            """;
+
+    private static final String COUNT_ACTIVE_SQL = """
+            SELECT COUNT(CASE WHEN combination_id IS NULL THEN 1 END) + COUNT(DISTINCT combination_id)
+              FROM reservations
+             WHERE user_id = :userId
+               AND tenant_id = :tenant
+               AND start_time > :earliestStart
+               AND end_time > :now
+            """;
+
+    private final DatabaseClient db;
+    private final TransactionalOperator tx;
+    private final ReservationService reservationService;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final TableHoldRegistry holds;
+    private final ReservationOutbox outbox;
+    private final ReservationVersions versions;
+
+    /**
+     * Erstellt einen neuen {@code ReactiveReservationService}.
+     *
+     * @param db                 reaktiver Datenbankzugriff
+     * @param tx                 Operator für reaktive Transaktionen
+     * @param reservationService blockierender Service, dessen Validierungsregeln geteilt werden
+     * @param readYourWritesGuard vermerkt eigene Schreibzugriffe für das Replika-Routing
+     * @param holds              vorläufige Tisch-Holds (gemeinsam mit dem blockierenden Pfad)
+     * @param outbox             serialisiert Ereignisse für die transaktionale Outbox
+     * @param versions           Versionszähler für ETags, nach dem Commit erhöht
+     */
+    public ReactiveReservationService(DatabaseClient db,
+                                      TransactionalOperator tx,
+                                      ReservationService reservationService,
+                                      ReadYourWritesGuard readYourWritesGuard,
+                                      TableHoldRegistry holds,
+                                      ReservationOutbox outbox,
+                                      ReservationVersions versions) {
+        this.db = db;
+        this.tx = tx;
+        this.reservationService = reservationService;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.holds = holds;
+        this.outbox = outbox;
+        this.versions = versions;
+    }
+
+    /**
+     * Ermittelt alle freien Tische für ein gewünschtes Zeitfenster mit einer einzigen Abfrage;
+     * Tische mit gültigem Hold werden wie im blockierenden Pfad ausgeblendet.
+     *
+     * @param start   Beginn des gewünschten Zeitfensters
+     * @param minutes gewünschte Dauer in Minuten; wird wie im blockierenden Pfad geklammert
+     * @return freie Tische, sortiert nach Tischnummer
+     */
+    public Flux<TableViewDTO> findAvailableTables(LocalDateTime start, Integer minutes) {
+        LocalDateTime end = start.plusMinutes(reservationService.bookingRules().clampMinutes(minutes));
+        Set<Long> held = holds.heldTableIds(TenantContext.current(), start, end);
+        return db.sql(AVAILABLE_SQL)
+                .bind("tenant", TenantContext.current())
+                .bind("start", start)
+                .bind("end", end)
+                .bind("earliestStart", ReservationService.earliestOverlappingStart(start))
+                .map((row, meta) -> new TableViewDTO(
+                        row.get("id", Long.class),
+                        row.get("table_number", Integer.class),
+                        row.get("number_of_seats", Integer.class)))
+                .all()
+                .filter(table -> !held.contains(table.getId()));
+    }
+
+    /**
+     * Legt eine Reservierung für den Benutzer mit der angegebenen E-Mail an.
+     *
+     * <p>Ablauf innerhalb einer Transaktion:
+     * <ol>
+     *   <li>Standarddauer ergänzen und Eingaben validieren (ohne Datenbankzugriff).</li>
+     *   <li>Benutzer laden (Zeilensperre) und aktive Reservierungen gegen das Limit zählen.</li>
+     *   <li>Tisch laden und mit {@code FOR UPDATE} sperren, damit parallele Buchungen
+     *       desselben Tisches serialisiert werden.</li>
+     *   <li>Holds anderer Benutzer auf dem Tisch prüfen.</li>
+     *   <li>Reservierung per {@code INSERT … SELECT … WHERE NOT EXISTS} anlegen;
+     *       wird keine Zeile eingefügt, liegt eine Überschneidung vor.</li>
+     *   <li>Ereignis {@code CREATED} in {@code reservation_outbox} schreiben.</li>
+     * </ol>
+     * </p>
+     *
+     * @param startTime   Beginn der Reservierung
+     * @param endTime     Ende der Reservierung oder {@code null} für die Standarddauer
+     * @param tableNumber Tischnummer
+     * @param email       E-Mail des Benutzers (Login-Identifier)
+     * @return angelegte Reservierung als {@link ReservationViewDTO}
+     */
+    public Mono<ReservationViewDTO> addReservation(LocalDateTime startTime, LocalDateTime endTime,
+                                                  int tableNumber, String email) {
+        String tenant = TenantContext.current();
+        return Mono.fromCallable(() -> TenantContext.call(tenant, () -> {
+                    Reservation candidate = new Reservation(startTime,
+                            endTime == null && startTime != null
+                                    ? startTime.plus(reservationService.bookingRules().defaultDuration())
+                                    : endTime);
+                    reservationService.validateReservationInput(candidate);
+                    return candidate;
+                }))
+                .flatMap(candidate -> book(candidate, tableNumber, ReservationService.normalize(email), tenant))
+                .as(tx::transactional)
+                .doOnSuccess(saved -> {
+                    readYourWritesGuard.recordWrite(email);
+                    versions.reservationChanged(tenant, saved.startTime().toLocalDate(), email);
+                });
+    }
+
+    private Mono<ReservationViewDTO> book(Reservation candidate, int tableNumber, String email, String tenant) {
+        Mono<UserRow> user = db.sql("SELECT id, full_name, email FROM users WHERE email = :email FOR UPDATE")
+                .bind("email", email)
+                .map((row, meta) -> new UserRow(
+                        row.get("id", Long.class),
+                        row.get("full_name", String.class),
+                        row.get("email", String.class)))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User not found")));
+
+        LocalDateTime now = LocalDateTime.now();
+        int limit = reservationService.maxActivePerUser();
+        return user.flatMap(u -> db.sql(COUNT_ACTIVE_SQL)
+                        .bind("userId", u.id())
+                        .bind("tenant", tenant)
+                        .bind("now", now)
+                        .bind("earliestStart", ReservationService.earliestOverlappingStart(now))
+                        .map((row, meta) -> row.get(0, Long.class))
+                        .one()
+                        .flatMap(count -> count >= limit
+                                ? Mono.<UserRow>error(new ReservationLimitExceededException(limit))
+                                : Mono.just(u)))
+                .flatMap(u -> db.sql("SELECT id FROM restaurant_tables WHERE table_number = :n AND tenant_id = :tenant FOR UPDATE")
+                        .bind("n", tableNumber)
+                        .bind("tenant", tenant)
+                        .map((row, meta) -> row.get("id", Long.class))
+                        .one()
+                        .switchIfEmpty(Mono.error(() -> new TableNotFoundException(
+                                "Table with number " + tableNumber + " does not exist.")))
+                        .flatMap(tableId -> holds.isHeldByOther(tableId, candidate.getStartTime(),
+                                        candidate.getEndTime(), email)
+                                ? Mono.<Long>error(new TableAlreadyReservedException(tableNumber))
+                                : insertIfFree(candidate, tableId, tableNumber, u.id(), tenant)
+                                        .flatMap(id -> appendCreated(id, candidate, tableNumber, u.email(), tenant)))
+                        .map(id -> new ReservationViewDTO(id, u.email(), u.fullName(), tableNumber,
+                                candidate.getStartTime(), candidate.getEndTime())));
+    }
+
+    private Mono<Long> insertIfFree(Reservation candidate, long tableId, int tableNumber, long userId,
+                                    String tenant) {
+        return db.sql(INSERT_IF_FREE_SQL)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("start", candidate.getStartTime())
+                .bind("end", candidate.getEndTime())
+                .bind("tableId", tableId)
+                .bind("userId", userId)
+                .bind("tenant", tenant)
+                .bind("earliestStart", ReservationService.earliestOverlappingStart(candidate.getStartTime()))
+                .map((row, meta) -> row.get("id", Long.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new TableAlreadyReservedException(tableNumber)));
+    }
+
+    private Mono<Long> appendCreated(long reservationId, Reservation candidate, int tableNumber,
+                                     String email, String tenant) {
+        ReservationEvent event = new ReservationEvent(null, ReservationEventType.CREATED, reservationId, tenant,
+                tableNumber, email, candidate.getStartTime(), candidate.getEndTime(), null, LocalDateTime.now());
+        return db.sql(INSERT_OUTBOX_SQL)
+                .bind("type", event.type().name())
+                .bind("reservationId", reservationId)
+                .bind("tenant", tenant)
+                .bind("payload", outbox.payload(event))
+                .bind("createdAt", event.occurredAt())
+                .then()
+                .thenReturn(reservationId);
+    }
+
+    /** Projektion der für die Antwort benötigten Benutzerspalten. */
+    private record UserRow(Long id, String fullName, String email) {
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.config.TenantContext;
+
+import java.time.LocalDateTime;
+
+/**
+ * Anwendungsereignis: eine Reservierung wurde storniert und ihr Intervall ist wieder frei.
+ *
+ * <p>Wird von {@link ReservationService#deleteReservation(Long)} veröffentlicht und vom
+ * {@link WaitlistService} erst nach dem Commit der Löschung verarbeitet.</p>
+ *
+ * @param tableId     ID des frei gewordenen Tisches
+ * @param tableNumber Tischnummer
+ * @param seats       Anzahl der Plätze
+ * @param start       Beginn des frei gewordenen Intervalls
+ * @param end         Ende des frei gewordenen Intervalls
+ * @param tenant      Restaurant (Mandant, siehe {@link TenantContext}) der Reservierung
+ *
+ * @author Maciej Janowski
+ */
+public record ReservationCancelledEvent(
+        Long tableId,
+        int tableNumber,
+        int seats,
+        LocalDateTime start,
+        LocalDateTime end,
+        String tenant
+) {
+}
@@ -0,0 +1,50 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.model.ReservationEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reservierungsereignis, wie es der {@link OutboxRelay} an die {@link ReservationEventSink}s
+ * übergibt (und wie es als JSON in {@code reservation_outbox.payload} steht).
+ *
+ * <p>Die Zustellung erfolgt mindestens einmal: Schlägt eine Senke fehl, wird der ganze
+ * Stapel später erneut zugestellt. Konsumenten erkennen Wiederholungen an {@link #id}
+ * (streng monoton innerhalb einer Datenbank).</p>
+ *
+ * @param id            laufende Nummer aus der Outbox ({@code null} vor dem Speichern)
+ * @param type          Art des Ereignisses
+ * @param reservationId ID der Reservierung
+ * @param tenant        Restaurant (Mandant)
+ * @param tableNumber   Tischnummer
+ * @param userEmail     E-Mail des Benutzers
+ * @param startTime     Beginn der Reservierung
+ * @param endTime       Ende der Reservierung
+ * @param combinationId gemeinsame ID einer Tischkombination oder {@code null}
+ * @param occurredAt    Zeitpunkt der Änderung
+ *
+ * @author Maciej Janowski
+ */
+public record ReservationEvent(
+        Long id,
+        ReservationEventType type,
+        Long reservationId,
+        String tenant,
+        int tableNumber,
+        String userEmail,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        UUID combinationId,
+        LocalDateTime occurredAt
+) {
+
+    /**
+     * @param id laufende Nummer aus der Outbox
+     * @return Kopie mit gesetzter ID
+     */
+    public ReservationEvent withId(Long id) {
+        return new ReservationEvent(id, type, reservationId, tenant, tableNumber, userEmail,
+                startTime, endTime, combinationId, occurredAt);
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.reservationsystem.service;
+
+import java.util.List;
+
+/**
+ * Ziel für veröffentlichte {@link ReservationEvent}s.
+ *
+ * <p>Alle Beans dieses Typs erhalten jeden Stapel des {@link OutboxRelay} in
+ * ID-Reihenfolge. Wirft eine Senke eine Ausnahme, bleibt der Stapel unveröffentlicht und
+ * wird – auch an die übrigen Senken – erneut zugestellt; Senken müssen Wiederholungen
+ * daher vertragen (z. B. anhand von {@link ReservationEvent#id()}).</p>
+ *
+ * @author Maciej Janowski
+ */
+public interface ReservationEventSink {
+
+    /** @return Name für Logs und Metriken */
+    String name();
+
+    /**
+     * Übernimmt einen Stapel.
+     *
+     * @param events Ereignisse, aufsteigend nach ID
+     * @throws Exception wenn der Stapel nicht übernommen werden konnte
+     */
+    void publish(List<ReservationEvent> events) throws Exception;
+}
@@ -0,0 +1,88 @@
+package org.example.reservationsystem.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.model.OutboxEvent;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.ReservationEventType;
+import org.example.reservationsystem.repository.OutboxRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Schreibt Reservierungsereignisse in die transaktionale Outbox ({@code reservation_outbox}).
+ *
+ * <p>Aufrufe müssen innerhalb der Transaktion der fachlichen Änderung erfolgen
+ * ({@link Propagation#MANDATORY}); Ereignis und Änderung werden damit gemeinsam
+ * committet oder verworfen. Veröffentlicht wird erst durch den {@link OutboxRelay}.
+ * Nach dem Commit werden außerdem die {@link ReservationVersions} erhöht.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+public class ReservationOutbox {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ReservationVersions versions;
+
+    /**
+     * Erstellt eine neue {@code ReservationOutbox}.
+     *
+     * @param outboxRepository Repository für Outbox-Einträge
+     * @param objectMapper     JSON-Serialisierung des Payloads
+     * @param versions         Versionszähler für ETags, nach dem Commit erhöht
+     */
+    public ReservationOutbox(OutboxRepository outboxRepository, ObjectMapper objectMapper,
+                             ReservationVersions versions) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.versions = versions;
+    }
+
+    /**
+     * Vermerkt eine angelegte Reservierung.
+     *
+     * @param reservation gespeicherte Reservierung mit Tisch und Benutzer
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void created(Reservation reservation) {
+        append(ReservationEventType.CREATED, reservation);
+    }
+
+    /**
+     * Vermerkt eine stornierte Reservierung (vor dem Auflösen der Beziehungen aufrufen).
+     *
+     * @param reservation zu löschende Reservierung mit Tisch und Benutzer
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void cancelled(Reservation reservation) {
+        append(ReservationEventType.CANCELLED, reservation);
+    }
+
+    private void append(ReservationEventType type, Reservation r) {
+        ReservationEvent event = new ReservationEvent(null, type, r.getId(), r.getTenant(),
+                r.getTable().getTableNumber(), r.getUser().getEmail(), r.getStartTime(), r.getEndTime(),
+                r.getCombinationId(), LocalDateTime.now());
+        outboxRepository.save(new OutboxEvent(type, r.getId(), r.getTenant(), payload(event), event.occurredAt()));
+        versions.reservationChanged(r.getTenant(), r.getStartTime().toLocalDate(), r.getUser().getEmail());
+    }
+
+    /**
+     * Serialisiert ein Ereignis für die Spalte {@code payload}; auch für Pfade, die direkt
+     * per SQL schreiben ({@link ReactiveReservationService}).
+     *
+     * @param event Ereignis ohne ID
+     * @return JSON
+     */
+    String payload(ReservationEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Reservation event cannot be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.reservationsystem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pflege der Monatspartitionen der Tabelle {@code reservations} (PostgreSQL).
+ *
+ * <p>Läuft beim Start ({@link ApplicationReadyEvent}) und danach täglich
+ * ({@code reservation.partitioning.cron}, Standard 03:15 Uhr):</p>
+ * <ol>
+ *   <li>Legt für den aktuellen und die nächsten {@code months-ahead} Monate je eine
+ *       Partition {@code reservations_yYYYYmMM} an, sofern sie noch fehlt.</li>
+ *   <li>Hängt Partitionen, deren Monat vollständig älter als {@code retention-months}
+ *       ist, aus ({@code DETACH PARTITION}) und verschiebt sie in das Schema
+ *       {@code archive-schema}. Die Daten bleiben dort abfragbar, belasten aber
+ *       weder Indizes noch Abfragen auf {@code reservations}.</li>
+ * </ol>
+ *
+ * <p>Nur aktiv mit {@code reservation.partitioning.enabled=true}. Fehler beim Anlegen
+ * (z. B. weil die Auffangpartition bereits Zeilen dieses Monats enthält) werden
+ * geloggt und beim nächsten Lauf erneut versucht. Aushängen und Verschieben einer
+ * Partition laufen in einer Transaktion: Scheitert das Verschieben (z. B. weil im
+ * Archiv-Schema bereits eine gleichnamige Tabelle liegt), bleibt die Partition
+ * angehängt und wird beim nächsten Lauf erneut versucht.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.partitioning.enabled", havingValue = "true")
+public class ReservationPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationPartitionMaintenance.class);
+
+    static final String PARENT_TABLE = "reservations";
+    private static final Pattern PARTITION_NAME = Pattern.compile("reservations_y(\\d{4})m(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+
+    /**
+     * Erstellt eine neue {@code ReservationPartitionMaintenance}.
+     *
+     * @param jdbcTemplate    JDBC-Zugriff für DDL-Anweisungen
+     * @param transactionManager Transaktionsmanager für das Archivieren je Partition
+     * @param monthsAhead     Anzahl zukünftiger Monate, für die Partitionen bereitstehen
+     * @param retentionMonths Anzahl vergangener Monate, die in {@code reservations} verbleiben
+     * @param archiveSchema   Zielschema für ausgehängte Partitionen
+     */
+    public ReservationPartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${reservation.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${reservation.partitioning.retention-months:6}") int retentionMonths,
+            @Value("${reservation.partitioning.archive-schema:reservations_archive}") String archiveSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+    }
+
+    /** Führt die Partitionspflege aus (Start und Zeitplan). */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${reservation.partitioning.cron:0 15 3 * * *}")
+    public void maintain() {
+        maintain(YearMonth.now());
+    }
+
+    /**
+     * Führt die Partitionspflege relativ zu einem Bezugsmonat aus.
+     *
+     * @param current Bezugsmonat (normalerweise der aktuelle Monat)
+     */
+    public void maintain(YearMonth current) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartitionIfMissing(current.plusMonths(i));
+        }
+        archivePartitionsBefore(current.minusMonths(retentionMonths));
+    }
+
+    /**
+     * Legt die Partition für einen Monat an, falls sie noch nicht existiert.
+     *
+     * @param month Monat der Partition
+     */
+    void createPartitionIfMissing(YearMonth month) {
+        String name = partitionName(month);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name
+                    + " PARTITION OF " + PARENT_TABLE
+                    + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        } catch (DataAccessException e) {
+            log.warn("Could not create partition {}: {}", name, e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    /**
+     * Hängt alle Monatspartitionen vor {@code cutoff} aus und verschiebt sie ins Archiv.
+     *
+     * @param cutoff erster Monat, der in {@code reservations} verbleibt
+     */
+    void archivePartitionsBefore(YearMonth cutoff) {
+        List<String> partitions;
+        try {
+            partitions = listPartitions();
+        } catch (DataAccessException e) {
+            log.warn("Could not list reservation partitions: {}", e.getMostSpecificCause().getMessage());
+            return;
+        }
+        for (String name : partitions) {
+            Matcher m = PARTITION_NAME.matcher(name);
+            if (!m.matches()) continue;
+            YearMonth month = YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)));
+            if (!month.isBefore(cutoff)) continue;
+
+            try {
+                tx.executeWithoutResult(status -> {
+                    jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+                    jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + name);
+                    jdbcTemplate.execute("ALTER TABLE " + name + " SET SCHEMA " + archiveSchema);
+                });
+                log.info("Archived reservation partition {} to schema {}", name, archiveSchema);
+            } catch (DataAccessException e) {
+                log.warn("Could not archive partition {}: {}", name, e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    /** @return Namen aller aktuell angehängten Partitionen von {@code reservations} */
+    List<String> listPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                  JOIN pg_class p ON p.oid = i.inhparent
+                 WHERE p.relname = ?
+                 ORDER BY c.relname
+                """, String.class, PARENT_TABLE);
+    }
+
+    /**
+     * @param month Monat
+     * @return Partitionsname im Format {@code reservations_yYYYYmMM}
+     */
+    static String partitionName(YearMonth month) {
+        return String.format("%s_y%04dm%02d", PARENT_TABLE, month.getYear(), month.getMonthValue());
+    }
+}
@@ -1,32 +1,56 @@
 
 package org.example.reservationsystem.service;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityNotFoundException;
 import org.example.reservationsystem.DTO.TableViewDTO;
+import org.example.reservationsystem.config.ReadYourWritesGuard;
+import org.example.reservationsystem.config.TenantContext;
 import org.example.reservationsystem.exceptions.TableAlreadyReservedException;
 import org.example.reservationsystem.exceptions.TableNotFoundException;
-import org.example.reservationsystem.exceptions.UserAlreadyHasReservationException;
+import org.example.reservationsystem.exceptions.HoldNotFoundException;
+import org.example.reservationsystem.exceptions.NoTableAvailableException;
+import org.example.reservationsystem.exceptions.ReservationLimitExceededException;
 import org.example.reservationsystem.exceptions.UserNotFoundException;
 import org.example.reservationsystem.model.Reservation;
 import org.example.reservationsystem.model.RestaurantTable;
 import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.BusyInterval;
 import org.example.reservationsystem.repository.ReservationRepository;
 import org.example.reservationsystem.repository.TableRepository;
 import org.example.reservationsystem.repository.UserRepository;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
- * Service für das Erstellen, Abfragen und Löschen von Reservierungen
- * sowie zur Ermittlung freier Tische.
+ * Service für das Erstellen, Abfragen und Löschen von Reservierungen,
+ * für vorläufige Tisch-Holds sowie zur Ermittlung freier Tische.
  *
  * <p>Der Service kapselt die Geschäftslogik rund um Zeitvalidierung,
- * Kollisionserkennung und 1:1-Beziehung zwischen Benutzer und Reservierung.
- * Öffnungszeiten- und Dauergrenzen sind hier zentral hinterlegt.</p>
+ * Kollisionserkennung und Begrenzung aktiver Reservierungen pro Benutzer.
+ * Öffnungszeiten und Dauergrenzen stammen aus dem aktuellen {@link BookingRules}-Schnappschuss
+ * des {@link OpeningHoursService}.</p>
+ *
+ * <p>Alle Abfragen gelten für das Restaurant im {@link TenantContext}: Hibernate schränkt
+ * Tische und Reservierungen über deren {@code @TenantId} ein, Tischnummern und das Limit
+ * aktiver Reservierungen gelten daher je Restaurant.</p>
+ *
+ * <p>Jede angelegte und stornierte Reservierung wird in derselben Transaktion in die
+ * {@link ReservationOutbox} geschrieben; nachgelagerte Systeme erhalten die Ereignisse
+ * über den {@link OutboxRelay}, statt {@code GET /api/reservations/all} abzufragen.</p>
  *
  * <p>Transaktionen:
  * <ul>
@@ -38,10 +62,12 @@ import java.util.List;
  * <p>Ausnahmen:
  * <ul>
  *   <li>{@link UserNotFoundException}, wenn ein Benutzer zur angegebenen E-Mail nicht existiert.</li>
- *   <li>{@link UserAlreadyHasReservationException}, wenn der Benutzer bereits eine Reservierung besitzt.</li>
+ *   <li>{@link ReservationLimitExceededException}, wenn der Benutzer bereits die maximale Anzahl aktiver Reservierungen besitzt.</li>
  *   <li>{@link TableNotFoundException}, wenn der gewünschte Tisch nicht existiert.</li>
  *   <li>{@link TableAlreadyReservedException}, wenn sich der Zeitraum mit einer bestehenden Reservierung überschneidet.</li>
+ *   <li>{@link NoTableAvailableException}, wenn für eine Gruppe kein passender Tisch frei ist.</li>
  *   <li>{@link EntityNotFoundException}, wenn eine zu löschende Reservierung nicht existiert.</li>
+ *   <li>{@link HoldNotFoundException}, wenn ein Hold unbekannt, abgelaufen oder fremd ist.</li>
  *   <li>{@link IllegalArgumentException}, wenn Eingaben (Zeiten/Dauer) ungültig sind.</li>
  * </ul>
  * </p>
@@ -49,22 +75,27 @@ import java.util.List;
  * <p>Hinweis: Der Login-Identifier ist die E-Mail des Benutzers und wird
  * für Abfragen normalisiert (trim + lower case).</p>
  *
+ * <p>Laden, Kollisionsprüfung, Speichern und die Verfügbarkeitsabfrage erzeugen je ein
+ * {@link BookingPhaseEvent} für Java Flight Recorder. Im Profil {@code tracing} wird
+ * zusätzlich jede öffentliche Methode als Span aufgezeichnet ({@code @Observed}).</p>
+ *
  * @author Maciej Janowski
  */
 @Service
 @Transactional
+@Observed(name = "reservation.service")
 public class ReservationService {
 
-    private static final Duration MIN_DURATION     = Duration.ofMinutes(30);
-    private static final Duration MAX_DURATION     = Duration.ofHours(5);
-    private static final Duration DEFAULT_DURATION = Duration.ofHours(2);
-
-    private static final int MIN_MINUTES = 30;
-    private static final int MAX_MINUTES = 300;
-
     private final ReservationRepository reservationRepository;
     private final TableRepository tableRepository;
     private final UserRepository userRepository;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final TableHoldRegistry holds;
+    private final TableAdjacencyIndex adjacency;
+    private final OpeningHoursService openingHours;
+    private final ReservationOutbox outbox;
+    private final ApplicationEventPublisher events;
+    private final int maxActivePerUser;
 
     /**
      * Erstellt einen neuen {@code ReservationService}.
@@ -72,13 +103,34 @@ public class ReservationService {
      * @param reservationRepository Repository für Reservierungen
      * @param tableRepository       Repository für Restauranttische
      * @param userRepository        Repository für Benutzer
+     * @param readYourWritesGuard   vermerkt eigene Schreibzugriffe für das Replika-Routing
+     * @param holds                 vorläufige Tisch-Holds
+     * @param adjacency             vorberechnete Kombinationen benachbarter Tische
+     * @param openingHours          liefert Öffnungszeiten und Dauergrenzen
+     * @param outbox                nimmt Ereignisse zu Buchungen und Stornierungen auf
+     * @param events                veröffentlicht {@link ReservationCancelledEvent}s für die Warteliste
+     * @param maxActivePerUser      maximale Anzahl aktiver Reservierungen pro Benutzer
      */
     public ReservationService(ReservationRepository reservationRepository,
                               TableRepository tableRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              ReadYourWritesGuard readYourWritesGuard,
+                              TableHoldRegistry holds,
+                              TableAdjacencyIndex adjacency,
+                              OpeningHoursService openingHours,
+                              ReservationOutbox outbox,
+                              ApplicationEventPublisher events,
+                              @Value("${reservation.booking.max-active-per-user:3}") int maxActivePerUser) {
         this.reservationRepository = reservationRepository;
         this.tableRepository = tableRepository;
         this.userRepository = userRepository;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.holds = holds;
+        this.adjacency = adjacency;
+        this.openingHours = openingHours;
+        this.outbox = outbox;
+        this.events = events;
+        this.maxActivePerUser = maxActivePerUser;
     }
 
     /**
@@ -86,11 +138,12 @@ public class ReservationService {
      *
      * <p>Ablauf:
      * <ol>
-     *   <li>Benutzer anhand E-Mail laden und 1:1-Beziehung prüfen.</li>
+     *   <li>Benutzer anhand E-Mail laden (Zeilensperre) und aktive Reservierungen
+     *       mit einer Zählabfrage gegen das Limit prüfen.</li>
      *   <li>Tisch anhand Tischnummer laden.</li>
-     *   <li>Fehlende Endzeit ggf. auf Startzeit + 2h setzen.</li>
+     *   <li>Fehlende Endzeit ggf. auf Startzeit + Standarddauer setzen.</li>
      *   <li>Eingaben und Zeitfenster validieren (Gegenwart, Dauer, Öffnungszeiten).</li>
-     *   <li>Kollisionen gegen bestehende Reservierungen prüfen.</li>
+     *   <li>Kollisionen gegen bestehende Reservierungen und Holds anderer Benutzer prüfen.</li>
      *   <li>Beziehungen setzen und Reservierung speichern.</li>
      * </ol>
      * </p>
@@ -101,67 +154,276 @@ public class ReservationService {
      * @return gespeicherte Reservierung
      *
      * @throws UserNotFoundException               wenn kein Benutzer existiert
-     * @throws UserAlreadyHasReservationException  wenn der Benutzer bereits eine Reservierung hat
+     * @throws ReservationLimitExceededException   wenn der Benutzer das Limit aktiver Reservierungen erreicht hat
      * @throws TableNotFoundException              wenn der Tisch nicht existiert
      * @throws TableAlreadyReservedException       bei Überschneidung mit bestehender Reservierung
      * @throws IllegalArgumentException            bei ungültigen Zeiten oder Dauer
      */
     public Reservation addReservation(Reservation reservation, int tableNumber, String email) {
-        User user = userRepository.findByEmail(normalize(email))
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-
-        if (user.getReservation() != null) {
-            throw new UserAlreadyHasReservationException();
+        User user;
+        RestaurantTable table;
+        BookingPhaseEvent lookup = BookingPhaseEvent.begin(BookingPhaseEvent.LOOKUP, tableNumber);
+        try {
+            user = lockUserWithinLimit(email);
+            table = tableRepository.findTableByTableNumber(tableNumber)
+                    .orElseThrow(() -> new TableNotFoundException("Table with number " + tableNumber + " does not exist."));
+            lookup.outcome("ok");
+        } finally {
+            lookup.commit();
         }
 
-        RestaurantTable table = tableRepository.findTableByTableNumber(tableNumber)
-                .orElseThrow(() -> new TableNotFoundException("Table with number " + tableNumber + " does not exist."));
-
         if (reservation.getStartTime() != null && reservation.getEndTime() == null) {
-            reservation.setEndTime(reservation.getStartTime().plus(DEFAULT_DURATION));
+            reservation.setEndTime(reservation.getStartTime().plus(bookingRules().defaultDuration()));
         }
 
         validateReservationInput(reservation);
 
-        boolean overlaps = reservationRepository
-                .existsByTable_IdAndStartTimeLessThanAndEndTimeGreaterThan(
-                        table.getId(),
-                        reservation.getEndTime(),
-                        reservation.getStartTime()
-                );
-        if (overlaps) {
-            throw new TableAlreadyReservedException(tableNumber);
+        Reservation saved = reserveTable(reservation, table, user);
+        readYourWritesGuard.recordWrite(user.getEmail());
+        return saved;
+    }
+
+    /**
+     * Lädt den Benutzer unter Zeilensperre und prüft das Limit aktiver Reservierungen.
+     *
+     * @param email E-Mail des Benutzers (Login-Identifier)
+     * @return gesperrter Benutzer
+     * @throws UserNotFoundException             wenn kein Benutzer existiert
+     * @throws ReservationLimitExceededException wenn das Limit erreicht ist
+     */
+    private User lockUserWithinLimit(String email) {
+        User user = userRepository.findByEmailForUpdate(normalize(email))
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (reservationRepository.countActiveByUserId(user.getId(), now, earliestOverlappingStart(now))
+                >= maxActivePerUser) {
+            throw new ReservationLimitExceededException(maxActivePerUser);
+        }
+        return user;
+    }
+
+    /**
+     * Prüft Kollisionen für einen Tisch und speichert die (bereits validierte) Reservierung.
+     *
+     * @param reservation Reservierung mit gültigem Zeitfenster
+     * @param table       Tisch
+     * @param user        gesperrter Benutzer
+     * @return gespeicherte Reservierung
+     * @throws TableAlreadyReservedException bei Überschneidung oder fremdem Hold
+     */
+    private Reservation reserveTable(Reservation reservation, RestaurantTable table, User user) {
+        boolean conflict;
+        BookingPhaseEvent overlapCheck = BookingPhaseEvent.begin(BookingPhaseEvent.OVERLAP_CHECK, table.getTableNumber());
+        try {
+            conflict = reservationRepository.existsOverlap(
+                    table.getId(),
+                    reservation.getStartTime(),
+                    reservation.getEndTime(),
+                    earliestOverlappingStart(reservation.getStartTime())
+            ) || holds.isHeldByOther(table.getId(), reservation.getStartTime(),
+                    reservation.getEndTime(), user.getEmail());
+            overlapCheck.outcome(conflict ? "conflict" : "free");
+        } finally {
+            overlapCheck.commit();
+        }
+        if (conflict) {
+            throw new TableAlreadyReservedException(table.getTableNumber());
         }
 
         reservation.setUser(user);
         reservation.setTable(table);
-        user.setReservation(reservation);
+        if (Hibernate.isInitialized(user.getReservations())) {
+            user.getReservations().add(reservation);
+        }
         if (table.getReservations() != null) {
             table.getReservations().add(reservation);
         }
+        BookingPhaseEvent insert = BookingPhaseEvent.begin(BookingPhaseEvent.INSERT, table.getTableNumber());
+        try {
+            Reservation saved = reservationRepository.save(reservation);
+            outbox.created(saved);
+            insert.outcome("ok");
+            return saved;
+        } finally {
+            insert.commit();
+        }
+    }
+
+    /**
+     * Legt eine Reservierung für eine Gruppe an; der Tisch wird automatisch gewählt.
+     *
+     * <p>Die Belegungen des Tages werden mit einer Abfrage geladen, Tische mit Holds
+     * ausgeblendet und der Tisch per {@link BestFitTableAllocator} bestimmt (wenigste
+     * ungenutzte Plätze, danach dichteste Packung im Tagesverlauf). Die eigentliche Buchung
+     * erfolgt über {@link #addReservation}, inklusive Limit- und Kollisionsprüfung; bucht ein
+     * anderer Benutzer den gewählten Tisch zeitgleich, endet der Aufruf mit
+     * {@link TableAlreadyReservedException}.</p>
+     *
+     * <p>Passt kein einzelner Tisch, wird die kleinste freie Kombination benachbarter Tische
+     * aus dem {@link TableAdjacencyIndex} gewählt und alle Tische werden in derselben
+     * Transaktion reserviert (gemeinsame {@code combinationId}); scheitert einer, wird
+     * keiner reserviert.</p>
+     *
+     * @param reservation Zeitfenster (fehlende Endzeit wird auf Start + Standarddauer gesetzt)
+     * @param partySize   Personenzahl
+     * @param email       E-Mail des Benutzers (Login-Identifier)
+     * @return gespeicherte Reservierungen (eine pro Tisch)
+     *
+     * @throws NoTableAvailableException wenn kein freier Tisch genug Plätze hat
+     * @throws IllegalArgumentException  bei ungültiger Personenzahl, Zeiten oder Dauer
+     * @see #addReservation(Reservation, int, String)
+     */
+    public List<Reservation> addReservationForParty(Reservation reservation, int partySize, String email) {
+        if (partySize < 1) {
+            throw new IllegalArgumentException("Party size must be at least 1.");
+        }
+        if (reservation.getStartTime() != null && reservation.getEndTime() == null) {
+            reservation.setEndTime(reservation.getStartTime().plus(bookingRules().defaultDuration()));
+        }
+        validateReservationInput(reservation);
+
+        LocalDateTime start = reservation.getStartTime();
+        LocalDateTime end = reservation.getEndTime();
+        LocalDateTime dayStart = start.toLocalDate().atStartOfDay();
+        LocalDateTime dayEnd = start.toLocalDate().plusDays(1).atStartOfDay();
+
+        List<BusyInterval> busy = reservationRepository.findBusyIntervals(
+                dayStart, dayEnd, earliestOverlappingStart(dayStart));
+        Set<Long> held = holds.heldTableIds(TenantContext.current(), start, end);
+        List<RestaurantTable> candidates = tableRepository.findAll().stream()
+                .filter(t -> !held.contains(t.getId()))
+                .toList();
+
+        Optional<RestaurantTable> single =
+                BestFitTableAllocator.choose(candidates, busy, start, end, partySize, dayStart, dayEnd);
+        if (single.isPresent()) {
+            return List.of(addReservation(reservation, single.get().getTableNumber(), email));
+        }
+
+        Set<Long> unavailable = new HashSet<>(held);
+        for (BusyInterval b : busy) {
+            if (b.start().isBefore(end) && b.end().isAfter(start)) unavailable.add(b.tableId());
+        }
+        TableCombination combination = adjacency.findFree(partySize, unavailable)
+                .orElseThrow(() -> new NoTableAvailableException(partySize));
+        return reserveCombination(start, end, combination, email);
+    }
+
+    private List<Reservation> reserveCombination(LocalDateTime start, LocalDateTime end,
+                                                 TableCombination combination, String email) {
+        User user = lockUserWithinLimit(email);
+        UUID combinationId = UUID.randomUUID();
+
+        List<Reservation> saved = new ArrayList<>(combination.tableIds().size());
+        for (RestaurantTable table : tableRepository.findAllById(combination.tableIds())) {
+            Reservation part = new Reservation(start, end);
+            part.setCombinationId(combinationId);
+            saved.add(reserveTable(part, table, user));
+        }
+        if (saved.size() != combination.tableIds().size()) {
+            throw new TableNotFoundException("Table combination " + combination.tableNumbers() + " is outdated.");
+        }
+        readYourWritesGuard.recordWrite(user.getEmail());
+        return saved;
+    }
+
+    /**
+     * Blockiert einen Tisch vorläufig für den Benutzer, ohne eine Reservierung anzulegen.
+     *
+     * <p>Es gelten dieselben Eingaberegeln wie bei {@link #addReservation}. Der Tisch darf
+     * im Zeitfenster weder reserviert noch von einem anderen Benutzer gehalten sein.
+     * Der Hold läuft nach {@code reservation.holds.ttl} automatisch ab.</p>
+     *
+     * @param reservation Zeitfenster (fehlende Endzeit wird auf Start + Standarddauer gesetzt)
+     * @param tableNumber Tischnummer
+     * @param email       E-Mail des Benutzers (Login-Identifier)
+     * @return angelegter Hold
+     *
+     * @throws TableNotFoundException        wenn der Tisch nicht existiert
+     * @throws TableAlreadyReservedException wenn der Tisch reserviert oder gehalten ist
+     * @throws IllegalArgumentException      bei ungültigen Zeiten oder Dauer
+     */
+    @Transactional(readOnly = true)
+    public TableHold placeHold(Reservation reservation, int tableNumber, String email) {
+        RestaurantTable table = tableRepository.findTableByTableNumber(tableNumber)
+                .orElseThrow(() -> new TableNotFoundException("Table with number " + tableNumber + " does not exist."));
 
-        Reservation saved = reservationRepository.save(reservation);
-        userRepository.save(user);
+        if (reservation.getStartTime() != null && reservation.getEndTime() == null) {
+            reservation.setEndTime(reservation.getStartTime().plus(bookingRules().defaultDuration()));
+        }
+        validateReservationInput(reservation);
+
+        LocalDateTime start = reservation.getStartTime();
+        LocalDateTime end = reservation.getEndTime();
+        if (reservationRepository.existsOverlap(table.getId(), start, end, earliestOverlappingStart(start))) {
+            throw new TableAlreadyReservedException(tableNumber);
+        }
+        return holds.tryHold(table.getId(), tableNumber, start, end, normalize(email))
+                .orElseThrow(() -> new TableAlreadyReservedException(tableNumber));
+    }
+
+    /**
+     * Wandelt einen eigenen, noch gültigen Hold in eine Reservierung um und gibt ihn frei.
+     *
+     * @param holdId ID des Holds
+     * @param email  E-Mail des Benutzers (Login-Identifier)
+     * @return gespeicherte Reservierung
+     *
+     * @throws HoldNotFoundException wenn der Hold unbekannt, abgelaufen oder fremd ist
+     * @see #addReservation(Reservation, int, String)
+     */
+    public Reservation confirmHold(UUID holdId, String email) {
+        TableHold hold = ownHold(holdId, email);
+        Reservation saved = addReservation(new Reservation(hold.getStartTime(), hold.getEndTime()),
+                hold.getTableNumber(), email);
+        holds.release(holdId);
         return saved;
     }
 
     /**
-     * Liefert die Reservierung des Benutzers mit der angegebenen E-Mail,
-     * oder {@code null}, wenn keine existiert.
+     * Gibt einen eigenen Hold vorzeitig frei.
      *
-     * @param email E-Mail des Benutzers (Login-Identifier)
-     * @return Reservierung oder {@code null}, wenn nicht vorhanden
+     * @param holdId ID des Holds
+     * @param email  E-Mail des Benutzers (Login-Identifier)
+     * @throws HoldNotFoundException wenn der Hold unbekannt, abgelaufen oder fremd ist
+     */
+    @Transactional(readOnly = true)
+    public void releaseHold(UUID holdId, String email) {
+        ownHold(holdId, email);
+        holds.release(holdId);
+    }
+
+    private TableHold ownHold(UUID holdId, String email) {
+        return holds.find(holdId)
+                .filter(h -> h.getOwnerEmail().equals(normalize(email))
+                        && h.getTenant().equals(TenantContext.current()))
+                .orElseThrow(HoldNotFoundException::new);
+    }
+
+    /**
+     * Liefert die Reservierungen des Benutzers mit der angegebenen E-Mail seitenweise,
+     * aufsteigend nach Beginn.
+     *
+     * @param email    E-Mail des Benutzers (Login-Identifier)
+     * @param pageable Seite und Seitengröße
+     * @return Seite mit Reservierungen (leer, wenn keine vorhanden)
      */
     @Transactional(readOnly = true)
-    public Reservation getUserReservation(String email) {
-        return reservationRepository.findByUser_Email(normalize(email)).orElse(null);
+    public Page<Reservation> getUserReservations(String email, Pageable pageable) {
+        return reservationRepository.findByUser_EmailOrderByStartTimeAsc(normalize(email), pageable);
     }
 
     /**
      * Löscht eine Reservierung anhand ihrer ID.
      *
      * <p>Vor dem Löschen werden die bidirektionalen Beziehungen zu
-     * Tisch und Benutzer konsistent aufgelöst.</p>
+     * Tisch und Benutzer konsistent aufgelöst. Anschließend wird ein
+     * {@link ReservationCancelledEvent} veröffentlicht; die Warteliste
+     * verarbeitet es asynchron nach dem Commit.</p>
+     *
+     * <p>Gehört die Reservierung zu einer Tischkombination, werden alle
+     * Tische der Kombination gemeinsam storniert.</p>
      *
      * @param id Primärschlüssel der Reservierung
      * @throws EntityNotFoundException wenn keine Reservierung mit der ID existiert
@@ -170,17 +432,35 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found"));
 
+        if (reservation.getCombinationId() == null) {
+            delete(reservation);
+            return;
+        }
+        for (Reservation part : reservationRepository.findByCombinationIdAndStartTime(
+                reservation.getCombinationId(), reservation.getStartTime())) {
+            delete(part);
+        }
+    }
+
+    private void delete(Reservation reservation) {
+        outbox.cancelled(reservation);
         RestaurantTable table = reservation.getTable();
-        if (table != null && table.getReservations() != null) {
-            table.getReservations().remove(reservation);
+        if (table != null) {
+            events.publishEvent(new ReservationCancelledEvent(table.getId(), table.getTableNumber(),
+                    table.getNumberOfSeats(), reservation.getStartTime(), reservation.getEndTime(),
+                    reservation.getTenant()));
+            if (table.getReservations() != null) {
+                table.getReservations().remove(reservation);
+            }
         }
         reservation.setTable(null);
 
         User user = reservation.getUser();
         if (user != null) {
-            user.setReservation(null);
-            reservation.setUser(null);
-            userRepository.save(user);
+            readYourWritesGuard.recordWrite(user.getEmail());
+            if (Hibernate.isInitialized(user.getReservations())) {
+                user.getReservations().remove(reservation);
+            }
         }
 
         reservationRepository.delete(reservation);
@@ -199,40 +479,67 @@ public class ReservationService {
     /**
      * Ermittelt alle freien Tische für ein gewünschtes Zeitfenster.
      *
-     * <p>Die gewünschte Dauer wird auf einen zulässigen Bereich geklammert
-     * ({@code 30}–{@code 300} Minuten). Ein Tisch gilt als belegt, wenn bereits
+     * <p>Die belegten Tische werden mit einer einzigen Abfrage ermittelt, um die
+     * Tische mit gültigem Hold ergänzt und anschließend aus der Tischliste herausgefiltert.</p>
+     *
+     * <p>Die gewünschte Dauer wird auf die Dauergrenzen der {@link BookingRules}
+     * geklammert. Ein Tisch gilt als belegt, wenn bereits
      * eine Reservierung existiert, deren Zeitraum sich mit dem angefragten
      * Zeitfenster überschneidet
      * ({@code existing.start < requested.end && existing.end > requested.start}).</p>
      *
      * @param start   Beginn des gewünschten Zeitfensters (lokale Zeit)
-     * @param minutes gewünschte Dauer in Minuten; {@code null} entspricht {@code 30}
+     * @param minutes gewünschte Dauer in Minuten; {@code null} entspricht der Mindestdauer
      * @return Liste freier Tische als {@link TableViewDTO}
      */
     @Transactional(readOnly = true)
     public List<TableViewDTO> findAvailableTables(LocalDateTime start, Integer minutes) {
-        int clamped = clampMinutes(minutes);
+        int clamped = bookingRules().clampMinutes(minutes);
         LocalDateTime end = start.plusMinutes(clamped);
 
-        return tableRepository.findAll().stream()
-                .filter(table -> !reservationRepository
-                        .existsByTable_IdAndStartTimeLessThanAndEndTimeGreaterThan(
-                                table.getId(), end, start))
-                .map(t -> new TableViewDTO(t.getId(), t.getTableNumber(), t.getNumberOfSeats()))
-                .toList();
+        BookingPhaseEvent availability = BookingPhaseEvent.begin(BookingPhaseEvent.AVAILABILITY, 0);
+        try {
+            Set<Long> busy = new HashSet<>(
+                    reservationRepository.findBusyTableIds(start, end, earliestOverlappingStart(start)));
+            busy.addAll(holds.heldTableIds(TenantContext.current(), start, end));
+
+            List<TableViewDTO> free = tableRepository.findAll().stream()
+                    .filter(table -> !busy.contains(table.getId()))
+                    .map(t -> new TableViewDTO(t.getId(), t.getTableNumber(), t.getNumberOfSeats()))
+                    .toList();
+            availability.freeTables = free.size();
+            availability.outcome("ok");
+            return free;
+        } finally {
+            availability.commit();
+        }
     }
 
     /**
-     * Klammerfunktion für Dauerangaben in Minuten.
+     * @return maximale Anzahl aktiver Reservierungen pro Benutzer
+     */
+    int maxActivePerUser() {
+        return maxActivePerUser;
+    }
+
+    /**
+     * @return aktueller Schnappschuss der Buchungsregeln
+     */
+    BookingRules bookingRules() {
+        return openingHours.rules();
+    }
+
+    /**
+     * Frühestmöglicher Beginn einer Reservierung, die ein Fenster ab {@code start}
+     * noch überlappen kann. Da keine Reservierung länger als
+     * {@link BookingRules#MAX_SUPPORTED_DURATION} dauert, begrenzt dieser Wert die
+     * Abfragen auf wenige Monatspartitionen.
      *
-     * @param minutes gewünschte Dauer in Minuten (kann {@code null} sein)
-     * @return Wert im Bereich [{@value #MIN_MINUTES}, {@value #MAX_MINUTES}]
+     * @param start Beginn des angefragten Fensters
+     * @return {@code start - MAX_SUPPORTED_DURATION}
      */
-    private static int clampMinutes(Integer minutes) {
-        if (minutes == null) return MIN_MINUTES;
-        if (minutes < MIN_MINUTES) return MIN_MINUTES;
-        if (minutes > MAX_MINUTES) return MAX_MINUTES;
-        return minutes;
+    static LocalDateTime earliestOverlappingStart(LocalDateTime start) {
+        return start.minus(BookingRules.MAX_SUPPORTED_DURATION);
     }
 
     /**
@@ -242,14 +549,18 @@ public class ReservationService {
      * <ul>
      *   <li>Start/Ende dürfen nicht {@code null} sein und Ende muss nach Start liegen.</li>
      *   <li>Start darf nicht in der Vergangenheit liegen.</li>
-     *   <li>Dauer im Bereich 30 Minuten bis 5 Stunden.</li>
-     *   <li>Ende maximal bis 22:00 Uhr desselben Tages.</li>
+     *   <li>Dauer innerhalb der konfigurierten Grenzen (Standard 30 Minuten bis 5 Stunden).</li>
+     *   <li>Start und Ende im selben Service-Zeitraum des Tages (ohne hinterlegte
+     *       Öffnungszeiten: Ende bis 22:00 Uhr).</li>
      * </ul>
      *
+     * <p>Öffentlich, damit alternative Buchungspfade und Benchmarks dieselben
+     * Regeln verwenden; die Methode greift nicht auf die Datenbank zu.</p>
+     *
      * @param r Reservierung mit Zeitwerten
      * @throws IllegalArgumentException bei Regelverstößen
      */
-    private void validateReservationInput(Reservation r) {
+    public void validateReservationInput(Reservation r) {
         if (r == null) throw new IllegalArgumentException("Reservation cannot be null.");
         if (r.getStartTime() == null) throw new IllegalArgumentException("Reservation must have start time.");
         if (r.getEndTime() == null) throw new IllegalArgumentException("Reservation must have end time.");
@@ -260,14 +571,7 @@ public class ReservationService {
         if (r.getStartTime().isBefore(now)) {
             throw new IllegalArgumentException("Reservation start time cannot be in the past.");
         }
-        long minutes = Duration.between(r.getStartTime(), r.getEndTime()).toMinutes();
-        if (minutes < MIN_DURATION.toMinutes() || minutes > MAX_DURATION.toMinutes()) {
-            throw new IllegalArgumentException("Reservation must be between 30 minutes and 5 hours.");
-        }
-        LocalDateTime latestAllowed = r.getStartTime().toLocalDate().atTime(22, 0);
-        if (r.getEndTime().isAfter(latestAllowed)) {
-            throw new IllegalArgumentException("Reservations are only allowed until 22:00.");
-        }
+        bookingRules().validate(r.getStartTime(), r.getEndTime());
     }
 
     /**
@@ -276,7 +580,7 @@ public class ReservationService {
      * @param s Eingabewert oder {@code null}
      * @return normalisierte Zeichenkette oder {@code null}
      */
-    private static String normalize(String s) {
+    static String normalize(String s) {
         return s == null ? null : s.trim().toLowerCase();
     }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.config.TenantContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Versionszähler für Reservierungsdaten, aus denen ETags für bedingte
+ * {@code GET}-Anfragen gebildet werden.
+ *
+ * <p>Jede Buchung oder Stornierung erhöht nach dem Commit die Zähler für ihren Tag, für
+ * den Benutzer und für alle Reservierungen des Restaurants. Ein ETag ist die Summe der
+ * Zähler, von denen die Antwort abhängt; ändert sich einer, ändert sich der ETag. Der
+ * Controller vergleicht ihn mit {@code If-None-Match} und antwortet mit
+ * {@code 304 Not Modified}, ohne den Service aufzurufen.</p>
+ *
+ * <ul>
+ *   <li>{@code /available} – Tage, die das Zeitfenster überlappen können, Tisch-Holds und
+ *       die geklammerte Dauer (Buchungsregeln)</li>
+ *   <li>{@code /userReservations} – Zähler des Benutzers</li>
+ *   <li>{@code /all} – Zähler des Restaurants</li>
+ * </ul>
+ * <p>Zusätzlich fließen Tischänderungen des Restaurants und globale Änderungen (Profile,
+ * Verschieben abgelaufener Reservierungen) in jeden ETag ein.</p>
+ *
+ * <p>Die Zähler liegen in einem Array fester Größe, Schlüssel werden darauf gestreut.
+ * Kollisionen führen nur zu unnötigen {@code 200}-Antworten, nie zu falschen {@code 304}.
+ * ETags enthalten eine zufällige Kennung dieser Instanz, damit sie nach einem Neustart oder
+ * auf einer anderen Instanz nicht mehr passen. Änderungen über andere Instanzen sieht diese
+ * Instanz nicht; bei mehreren Instanzen daher Sticky Sessions verwenden oder
+ * {@code reservation.etag.enabled=false} setzen (wie beim {@code ReadYourWritesGuard}).</p>
+ *
+ * <p>ETags sind schwach ({@code W/"…"}): Tomcat komprimiert Antworten mit starkem ETag
+ * nicht, weil sich die Bytes mit gzip ändern. Für {@code If-None-Match} gilt ohnehin der
+ * schwache Vergleich.</p>
+ *
+ * <p>Mit Read-Replikas kann eine Antwort kurz nach einer Änderung noch den alten Stand
+ * enthalten. Innerhalb von {@code reservation.etag.settle-window} nach einer Änderung
+ * werden deshalb keine ETags vergeben.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+public class ReservationVersions {
+
+    /** Anzahl der Zähler; Zweierpotenz für die Indexberechnung. */
+    static final int SLOTS = 4096;
+
+    private final AtomicLongArray counters = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray changedAtNanos = new AtomicLongArray(SLOTS);
+    private final AtomicLong global = new AtomicLong();
+    private volatile long globalChangedAtNanos;
+
+    private final TableHoldRegistry holds;
+    private final OpeningHoursService openingHours;
+    private final boolean enabled;
+    private final long settleNanos;
+    private final String instance = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+
+    /**
+     * Erstellt neue {@code ReservationVersions}.
+     *
+     * @param holds        Tisch-Holds (eigener Versionszähler)
+     * @param openingHours Buchungsregeln für die Klammerung der Dauer
+     * @param enabled      {@code false} schaltet ETags ab
+     * @param settleWindow Zeit nach einer Änderung, in der keine ETags vergeben werden
+     */
+    public ReservationVersions(TableHoldRegistry holds,
+                               OpeningHoursService openingHours,
+                               @Value("${reservation.etag.enabled:true}") boolean enabled,
+                               @Value("${reservation.etag.settle-window:PT0S}") Duration settleWindow) {
+        this.holds = holds;
+        this.openingHours = openingHours;
+        this.enabled = enabled;
+        this.settleNanos = settleWindow.toNanos();
+    }
+
+    /**
+     * Vermerkt eine angelegte oder stornierte Reservierung; innerhalb einer Transaktion
+     * erst nach dem Commit.
+     *
+     * @param tenant Restaurant
+     * @param day    Tag des Reservierungsbeginns
+     * @param email  E-Mail des Benutzers
+     */
+    public void reservationChanged(String tenant, LocalDate day, String email) {
+        afterCommit(() -> {
+            bump(slot("day", tenant, day));
+            bump(slot("user", tenant, normalize(email)));
+            bump(slot("all", tenant, null));
+        });
+    }
+
+    /**
+     * Vermerkt eine Änderung an den Tischen eines Restaurants; innerhalb einer Transaktion
+     * erst nach dem Commit.
+     *
+     * @param tenant Restaurant
+     */
+    public void tablesChanged(String tenant) {
+        afterCommit(() -> bump(slot("tables", tenant, null)));
+    }
+
+    /**
+     * Vermerkt eine Änderung, die alle Restaurants betreffen kann (Benutzerprofile,
+     * verschobene abgelaufene Reservierungen); innerhalb einer Transaktion erst nach dem Commit.
+     */
+    public void globalChanged() {
+        afterCommit(() -> {
+            global.incrementAndGet();
+            globalChangedAtNanos = System.nanoTime();
+        });
+    }
+
+    /**
+     * ETag für {@code GET /available} im Restaurant des {@link TenantContext}.
+     *
+     * @param start   Beginn des Zeitfensters
+     * @param minutes gewünschte Dauer in Minuten (wird wie im Service geklammert)
+     * @return ETag oder {@code null}, wenn keiner vergeben wird
+     */
+    public String availabilityTag(LocalDateTime start, Integer minutes) {
+        String tenant = TenantContext.current();
+        LocalDate first = ReservationService.earliestOverlappingStart(start).toLocalDate();
+        LocalDate last = start.plus(BookingRules.MAX_SUPPORTED_DURATION).toLocalDate();
+
+        long sum = holds.version();
+        boolean settled = true;
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            int slot = slot("day", tenant, day);
+            sum += counters.get(slot);
+            settled &= isSettled(slot);
+        }
+        return tag(tenant, "available-" + openingHours.rules().clampMinutes(minutes), sum, settled);
+    }
+
+    /**
+     * ETag für {@code GET /userReservations} im Restaurant des {@link TenantContext}.
+     *
+     * @param email E-Mail des Benutzers
+     * @return ETag oder {@code null}, wenn keiner vergeben wird
+     */
+    public String userReservationsTag(String email) {
+        String tenant = TenantContext.current();
+        String user = normalize(email);
+        int slot = slot("user", tenant, user);
+        return tag(tenant, "user-" + Integer.toHexString(user.hashCode()), counters.get(slot), isSettled(slot));
+    }
+
+    /**
+     * ETag für {@code GET /all} im Restaurant des {@link TenantContext}.
+     *
+     * @return ETag oder {@code null}, wenn keiner vergeben wird
+     */
+    public String allReservationsTag() {
+        String tenant = TenantContext.current();
+        int slot = slot("all", tenant, null);
+        return tag(tenant, "all", counters.get(slot), isSettled(slot));
+    }
+
+    private String tag(String tenant, String kind, long sum, boolean settled) {
+        if (!enabled) return null;
+        int tables = slot("tables", tenant, null);
+        if (!settled || !isSettled(tables) || !settledSince(globalChangedAtNanos)) {
+            return null;
+        }
+        sum += counters.get(tables) + global.get();
+        return "W/\"" + instance + "-" + tenant + "-" + kind + "-" + Long.toHexString(sum) + "\"";
+    }
+
+    private boolean isSettled(int slot) {
+        return settledSince(changedAtNanos.get(slot));
+    }
+
+    private boolean settledSince(long changedAt) {
+        return settleNanos == 0 || changedAt == 0 || System.nanoTime() - changedAt >= settleNanos;
+    }
+
+    private void bump(int slot) {
+        counters.incrementAndGet(slot);
+        changedAtNanos.set(slot, System.nanoTime());
+    }
+
+    private static int slot(String kind, String tenant, Object key) {
+        int h = Objects.hash(kind, tenant, key);
+        return (h ^ (h >>> 16)) & (SLOTS - 1);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.model.Restaurant;
+import org.example.reservationsystem.repository.RestaurantRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Verwaltet die Restaurants (Mandanten) der Installation.
+ *
+ * <p>Bekannte Kurznamen werden im Speicher gehalten, damit der {@code TenantFilter} den
+ * Header {@code X-Restaurant} pro Request ohne Datenbankzugriff prüfen kann; ein
+ * unbekannter Name wird einmal nachgeschlagen (z. B. wenn eine andere Instanz das
+ * Restaurant angelegt hat).</p>
+ *
+ * @author Maciej Janowski
+ */
+@Service
+public class RestaurantService {
+
+    private static final Pattern SLUG = Pattern.compile("[a-z0-9][a-z0-9-]{0,39}");
+
+    private final RestaurantRepository restaurantRepository;
+    private final Set<String> knownSlugs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Erstellt einen neuen {@code RestaurantService}.
+     *
+     * @param restaurantRepository Repository für Restaurants
+     */
+    public RestaurantService(RestaurantRepository restaurantRepository) {
+        this.restaurantRepository = restaurantRepository;
+        knownSlugs.add(TenantContext.DEFAULT_TENANT);
+    }
+
+    /**
+     * @param slug Kurzname aus dem Header
+     * @return {@code true}, wenn das Restaurant existiert
+     */
+    public boolean exists(String slug) {
+        if (knownSlugs.contains(slug)) {
+            return true;
+        }
+        if (!SLUG.matcher(slug).matches() || restaurantRepository.findBySlug(slug).isEmpty()) {
+            return false;
+        }
+        knownSlugs.add(slug);
+        return true;
+    }
+
+    /**
+     * Legt ein Restaurant an.
+     *
+     * @param slug Kurzname (Kleinbuchstaben, Ziffern, Bindestrich; max. 40 Zeichen)
+     * @param name Anzeigename
+     * @return gespeichertes Restaurant
+     * @throws IllegalArgumentException bei ungültigem oder bereits vergebenem Kurznamen
+     */
+    @Transactional
+    public Restaurant create(String slug, String name) {
+        if (slug == null || !SLUG.matcher(slug).matches()) {
+            throw new IllegalArgumentException("Restaurant slug must match " + SLUG.pattern() + ".");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Restaurant name must not be blank.");
+        }
+        if (restaurantRepository.findBySlug(slug).isPresent()) {
+            throw new IllegalArgumentException("Restaurant '" + slug + "' already exists.");
+        }
+        Restaurant saved = restaurantRepository.save(new Restaurant(slug, name.trim()));
+        knownSlugs.add(slug);
+        return saved;
+    }
+
+    /**
+     * @return alle Restaurants
+     */
+    @Transactional(readOnly = true)
+    public List<Restaurant> getAll() {
+        return restaurantRepository.findAll();
+    }
+}
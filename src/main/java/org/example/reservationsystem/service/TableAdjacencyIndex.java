@@ -0,0 +1,207 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.repository.TableRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Vorberechnete Tischkombinationen für große Gruppen.
+ *
+ * <p>Aus der Nachbarschaft der Tische ({@link RestaurantTable#getAdjacentTables()}) werden
+ * beim Start alle zusammenhängenden Gruppen aus 2 bis {@code reservation.combinations.max-tables}
+ * Tischen berechnet und nach Platzsumme, Anzahl Tische und Tischnummer sortiert. Eine Suche
+ * springt per Binärsuche zur ersten Kombination mit ausreichend Plätzen und prüft von dort an
+ * nur noch, ob alle Tische frei sind – ohne Graphsuche und ohne Datenbankzugriff.</p>
+ *
+ * <p>Kombinationen werden je Restaurant (Mandant) berechnet und nachgeschlagen; eine Suche
+ * sieht nur die Tische des Restaurants im {@link TenantContext}. Tische ändern sich selten;
+ * {@link #refresh()} lädt beim Start ({@link ApplicationReadyEvent}) alle Restaurants mit
+ * einer Abfrage, {@link TableService} aktualisiert nach Änderungen nur das betroffene
+ * Restaurant. Bis zum ersten Laden gibt es keine Kombinationen; Suchen lösen selbst keine
+ * Abfrage aus. Die
+ * Schnappschüsse sind unveränderlich und werden atomar ersetzt, Suchen laufen daher ohne
+ * Sperren.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+public class TableAdjacencyIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TableAdjacencyIndex.class);
+
+    private final TableRepository tableRepository;
+    private final int maxTables;
+
+    private volatile Map<String, Snapshot> snapshots = Map.of();
+
+    /** Sortierte Kombinationen und ihre Platzsummen (für die Binärsuche). */
+    private record Snapshot(List<TableCombination> combinations, int[] seats) {
+        static final Snapshot EMPTY = new Snapshot(List.of(), new int[0]);
+    }
+
+    /**
+     * Erstellt einen neuen {@code TableAdjacencyIndex}.
+     *
+     * @param tableRepository Repository für Tische
+     * @param maxTables       maximale Anzahl zusammengeschobener Tische
+     */
+    public TableAdjacencyIndex(TableRepository tableRepository,
+                               @Value("${reservation.combinations.max-tables:3}") int maxTables) {
+        this.tableRepository = tableRepository;
+        this.maxTables = maxTables;
+    }
+
+    /**
+     * Berechnet die Kombinationen aller Restaurants neu (eine Abfrage ohne Mandantenfilter).
+     *
+     * <p>Nur außerhalb von Requests aufrufen: Innerhalb eines Requests ist die Session
+     * bereits an dessen Restaurant gebunden.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        Map<String, List<RestaurantTable>> byTenant = new HashMap<>();
+        for (RestaurantTable t : TenantContext.callForAllTenants(tableRepository::findAllWithAdjacency)) {
+            byTenant.computeIfAbsent(t.getTenant(), k -> new ArrayList<>()).add(t);
+        }
+        Map<String, Snapshot> next = new HashMap<>();
+        byTenant.forEach((tenant, tables) -> next.put(tenant, build(tables, maxTables)));
+        snapshots = Map.copyOf(next);
+        log.debug("Precomputed table combinations for {} restaurants", next.size());
+    }
+
+    /**
+     * Berechnet die Kombinationen eines Restaurants neu.
+     *
+     * <p>Liest in einer eigenen Transaktion und damit nur festgeschriebene Tische; so ist
+     * der Aufruf auch nach dem Commit einer anderen Transaktion möglich.</p>
+     *
+     * @param tenant Kurzname des Restaurants
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void refresh(String tenant) {
+        put(tenant, TenantContext.call(tenant, tableRepository::findAllWithAdjacency));
+    }
+
+    /**
+     * Ersetzt die Kombinationen des aktuellen Restaurants durch die des übergebenen Tischbestands.
+     *
+     * <p>Öffentlich für Benchmarks, die ohne Datenbank arbeiten.</p>
+     *
+     * @param tables Tische mit initialisierter Nachbarschaft
+     */
+    public void load(Collection<RestaurantTable> tables) {
+        put(TenantContext.current(), tables);
+    }
+
+    private synchronized void put(String tenant, Collection<RestaurantTable> tables) {
+        Map<String, Snapshot> next = new HashMap<>(snapshots);
+        Snapshot built = build(tables, maxTables);
+        next.put(tenant, built);
+        snapshots = Map.copyOf(next);
+        log.debug("Precomputed {} table combinations for restaurant {}", built.combinations().size(), tenant);
+    }
+
+    private Snapshot current() {
+        return snapshots.getOrDefault(TenantContext.current(), Snapshot.EMPTY);
+    }
+
+    /**
+     * Sucht die kleinste freie Kombination benachbarter Tische des aktuellen Restaurants für eine Gruppe.
+     *
+     * @param partySize   Personenzahl
+     * @param unavailable IDs belegter oder gehaltener Tische
+     * @return Kombination mit den wenigsten Plätzen (bei Gleichstand den wenigsten Tischen) oder leer
+     */
+    public Optional<TableCombination> findFree(int partySize, Set<Long> unavailable) {
+        Snapshot current = current();
+        int i = lowerBound(current.seats(), partySize);
+        for (; i < current.seats().length; i++) {
+            TableCombination candidate = current.combinations().get(i);
+            if (Collections.disjoint(candidate.tableIds(), unavailable)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** @return Anzahl der vorberechneten Kombinationen des aktuellen Restaurants */
+    public int size() {
+        return current().combinations().size();
+    }
+
+    /**
+     * Berechnet alle zusammenhängenden Tischgruppen aus 2 bis {@code maxTables} Tischen.
+     *
+     * <p>Jede Gruppe wird von ihrem Tisch mit der kleinsten ID aus aufgebaut und nur um
+     * Nachbarn mit größerer ID erweitert; verbleibende Doppelungen (gleiche Menge über
+     * verschiedene Wege) werden über die sortierte ID-Liste entfernt.</p>
+     *
+     * @param tables    Tische mit initialisierter Nachbarschaft
+     * @param maxTables maximale Gruppengröße
+     * @return sortierter Schnappschuss
+     */
+    private static Snapshot build(Collection<RestaurantTable> tables, int maxTables) {
+        Map<Long, RestaurantTable> byId = new HashMap<>();
+        for (RestaurantTable t : tables) byId.put(t.getId(), t);
+
+        Set<List<Long>> seen = new HashSet<>();
+        List<TableCombination> combinations = new ArrayList<>();
+        for (RestaurantTable root : tables) {
+            Deque<List<Long>> open = new ArrayDeque<>();
+            open.add(List.of(root.getId()));
+            while (!open.isEmpty()) {
+                List<Long> group = open.poll();
+                if (group.size() >= maxTables) continue;
+                for (Long memberId : group) {
+                    for (RestaurantTable next : byId.get(memberId).getAdjacentTables()) {
+                        Long id = next.getId();
+                        if (id <= root.getId() || group.contains(id) || !byId.containsKey(id)) continue;
+                        List<Long> grown = new ArrayList<>(group);
+                        grown.add(id);
+                        Collections.sort(grown);
+                        if (seen.add(grown)) {
+                            combinations.add(toCombination(grown, byId));
+                            open.add(grown);
+                        }
+                    }
+                }
+            }
+        }
+
+        combinations.sort(Comparator.comparingInt(TableCombination::seats)
+                .thenComparingInt(c -> c.tableIds().size())
+                .thenComparingInt(c -> Collections.min(c.tableNumbers())));
+        int[] seats = combinations.stream().mapToInt(TableCombination::seats).toArray();
+        return new Snapshot(List.copyOf(combinations), seats);
+    }
+
+    private static TableCombination toCombination(List<Long> ids, Map<Long, RestaurantTable> byId) {
+        List<Integer> numbers = new ArrayList<>(ids.size());
+        int seats = 0;
+        for (Long id : ids) {
+            RestaurantTable t = byId.get(id);
+            numbers.add(t.getTableNumber());
+            seats += t.getNumberOfSeats();
+        }
+        return new TableCombination(List.copyOf(ids), List.copyOf(numbers), seats);
+    }
+
+    private static int lowerBound(int[] seats, int partySize) {
+        int lo = 0, hi = seats.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (seats[mid] < partySize) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+}
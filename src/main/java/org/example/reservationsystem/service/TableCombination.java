@@ -0,0 +1,15 @@
+package org.example.reservationsystem.service;
+
+import java.util.List;
+
+/**
+ * Zusammenhängende Gruppe benachbarter Tische, die gemeinsam eine große Gruppe aufnehmen.
+ *
+ * @param tableIds     IDs der beteiligten Tische
+ * @param tableNumbers Tischnummern (gleiche Reihenfolge wie {@code tableIds})
+ * @param seats        Summe der Plätze
+ *
+ * @author Maciej Janowski
+ */
+public record TableCombination(List<Long> tableIds, List<Integer> tableNumbers, int seats) {
+}
@@ -0,0 +1,100 @@
+package org.example.reservationsystem.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vorläufige, zeitlich begrenzte Blockierung eines Tisches für ein Zeitfenster.
+ *
+ * <p>Ein {@code TableHold} wird beim Start des Buchungsvorgangs angelegt und entweder
+ * durch {@link ReservationService#confirmHold(UUID, String)} in eine Reservierung
+ * umgewandelt oder läuft nach Ablauf der TTL ab. Er wird nur im Speicher gehalten
+ * (siehe {@link TableHoldRegistry}).</p>
+ *
+ * <p>Implementiert {@link Delayed}, damit abgelaufene Holds über eine
+ * {@link java.util.concurrent.DelayQueue} in Ablaufreihenfolge entnommen werden können.</p>
+ *
+ * @author Maciej Janowski
+ */
+public final class TableHold implements Delayed {
+
+    private final UUID id;
+    private final long tableId;
+    private final int tableNumber;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final String ownerEmail;
+    private final String tenant;
+    private final Instant expiresAt;
+    private final long deadlineNanos;
+
+    TableHold(long tableId, int tableNumber, LocalDateTime startTime, LocalDateTime endTime,
+              String ownerEmail, String tenant, long ttlNanos) {
+        this.id = UUID.randomUUID();
+        this.tableId = tableId;
+        this.tableNumber = tableNumber;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.ownerEmail = ownerEmail;
+        this.tenant = tenant;
+        this.expiresAt = Instant.now().plusNanos(ttlNanos);
+        this.deadlineNanos = System.nanoTime() + ttlNanos;
+    }
+
+    /** @return eindeutige ID des Holds */
+    public UUID getId() { return id; }
+
+    /** @return Datenbank-ID des Tisches */
+    public long getTableId() { return tableId; }
+
+    /** @return Tischnummer */
+    public int getTableNumber() { return tableNumber; }
+
+    /** @return Beginn des gehaltenen Zeitfensters */
+    public LocalDateTime getStartTime() { return startTime; }
+
+    /** @return Ende des gehaltenen Zeitfensters */
+    public LocalDateTime getEndTime() { return endTime; }
+
+    /** @return normalisierte E-Mail des Benutzers, der den Hold angelegt hat */
+    public String getOwnerEmail() { return ownerEmail; }
+
+    /** @return Restaurant (Mandant), in dem der Hold angelegt wurde */
+    public String getTenant() { return tenant; }
+
+    /** @return Ablaufzeitpunkt (für API-Antworten) */
+    public Instant getExpiresAt() { return expiresAt; }
+
+    /** @return {@code true}, wenn die TTL abgelaufen ist */
+    boolean isExpired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    /**
+     * Prüft, ob sich der Hold mit dem angegebenen Zeitfenster desselben Tisches überschneidet
+     * (gleiche Regel wie bei Reservierungen: {@code start < end && end > start}).
+     *
+     * @param start Beginn des Zeitfensters
+     * @param end   Ende des Zeitfensters
+     * @return {@code true}, wenn sich die Zeiträume überschneiden
+     */
+    boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return startTime.isBefore(end) && endTime.isAfter(start);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof TableHold hold) {
+            return Long.compare(deadlineNanos, hold.deadlineNanos);
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,237 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.config.TenantContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Speicher für vorläufige Tisch-Holds mit automatischem Ablauf.
+ *
+ * <p>Zwischen {@code GET /available} und der eigentlichen Buchung kann ein Benutzer
+ * einen Tisch für ein Zeitfenster für die Dauer {@code reservation.holds.ttl}
+ * (Standard 2 Minuten) blockieren. Solange der Hold gültig ist, gilt der Tisch in
+ * {@link ReservationService#findAvailableTables} als belegt und kann von anderen
+ * Benutzern nicht gebucht werden.</p>
+ *
+ * <p>Datenstrukturen:
+ * <ul>
+ *   <li>{@code byId} – Zugriff per Hold-ID (Bestätigen, Freigeben).</li>
+ *   <li>{@code byTenant} – Holds je Restaurant; {@link #heldTableIds} durchläuft nur die
+ *       Holds des angefragten Restaurants, nicht die aller Restaurants.</li>
+ *   <li>{@code byTable} – Holds pro Tisch-ID (kurze {@link CopyOnWriteArrayList}s);
+ *       Anlegen läuft per {@link ConcurrentHashMap#compute} atomar je Tisch, sodass zwei
+ *       überlappende Holds auf denselben Tisch ausgeschlossen sind.</li>
+ *   <li>{@code expiry} – eine {@link DelayQueue}, aus der {@link #purgeExpired()} in einem
+ *       einzigen geplanten Lauf alle fälligen Holds entnimmt. Es gibt keinen Thread oder
+ *       Timer pro Hold; abgelaufene, noch nicht entfernte Holds werden bei Abfragen
+ *       ignoriert.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Holds existieren nur im Speicher dieser Instanz. Bei mehreren Instanzen verhindert
+ * weiterhin die Überschneidungsprüfung in der Datenbank Doppelbuchungen; Holds wirken
+ * dann nur auf der Instanz, auf der sie angelegt wurden.</p>
+ *
+ * <p>Tisch-IDs sind restaurantübergreifend eindeutig; ein Hold merkt sich zusätzlich das
+ * Restaurant aus dem {@link TenantContext}, damit er nur dort bestätigt werden kann.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Component
+public class TableHoldRegistry {
+
+    private final Map<UUID, TableHold> byId = new ConcurrentHashMap<>();
+    private final Map<String, Map<UUID, TableHold>> byTenant = new ConcurrentHashMap<>();
+    private final Map<Long, List<TableHold>> byTable = new ConcurrentHashMap<>();
+    private final DelayQueue<TableHold> expiry = new DelayQueue<>();
+    private final AtomicLong version = new AtomicLong();
+    private final long ttlNanos;
+
+    /**
+     * Erstellt eine neue {@code TableHoldRegistry}.
+     *
+     * @param ttl Gültigkeitsdauer eines Holds
+     */
+    public TableHoldRegistry(@Value("${reservation.holds.ttl:PT2M}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Legt einen Hold an, sofern kein gültiger Hold eines anderen Benutzers das
+     * Zeitfenster auf demselben Tisch überschneidet. Der Hold gehört zum Restaurant im
+     * {@link TenantContext}.
+     *
+     * @param tableId     Datenbank-ID des Tisches
+     * @param tableNumber Tischnummer
+     * @param start       Beginn des Zeitfensters
+     * @param end         Ende des Zeitfensters
+     * @param ownerEmail  normalisierte E-Mail des Benutzers
+     * @return angelegter Hold oder {@link Optional#empty()} bei Konflikt
+     */
+    public Optional<TableHold> tryHold(long tableId, int tableNumber, LocalDateTime start, LocalDateTime end,
+                                       String ownerEmail) {
+        TableHold hold = new TableHold(tableId, tableNumber, start, end, ownerEmail,
+                TenantContext.current(), ttlNanos);
+        boolean[] added = {false};
+        byTable.compute(tableId, (id, holds) -> {
+            List<TableHold> current = holds == null ? new CopyOnWriteArrayList<>() : holds;
+            current.removeIf(TableHold::isExpired);
+            for (TableHold other : current) {
+                if (!other.getOwnerEmail().equals(ownerEmail) && other.overlaps(start, end)) {
+                    return current;
+                }
+            }
+            current.add(hold);
+            added[0] = true;
+            return current;
+        });
+        if (!added[0]) {
+            return Optional.empty();
+        }
+        byId.put(hold.getId(), hold);
+        byTenant.compute(hold.getTenant(), (tenant, holds) -> {
+            Map<UUID, TableHold> current = holds == null ? new ConcurrentHashMap<>() : holds;
+            current.put(hold.getId(), hold);
+            return current;
+        });
+        expiry.add(hold);
+        version.incrementAndGet();
+        return Optional.of(hold);
+    }
+
+    /**
+     * Liefert einen noch gültigen Hold.
+     *
+     * @param id Hold-ID
+     * @return Hold oder {@link Optional#empty()}, wenn unbekannt oder abgelaufen
+     */
+    public Optional<TableHold> find(UUID id) {
+        TableHold hold = byId.get(id);
+        return hold == null || hold.isExpired() ? Optional.empty() : Optional.of(hold);
+    }
+
+    /**
+     * Prüft, ob ein gültiger Hold eines anderen Benutzers das Zeitfenster auf dem Tisch überschneidet.
+     *
+     * @param tableId Datenbank-ID des Tisches
+     * @param start   Beginn des Zeitfensters
+     * @param end     Ende des Zeitfensters
+     * @param email   normalisierte E-Mail des anfragenden Benutzers; dessen eigene Holds zählen nicht
+     * @return {@code true}, wenn der Tisch von einem anderen Benutzer gehalten wird
+     */
+    public boolean isHeldByOther(long tableId, LocalDateTime start, LocalDateTime end, String email) {
+        List<TableHold> holds = byTable.get(tableId);
+        if (holds == null) {
+            return false;
+        }
+        for (TableHold hold : holds) {
+            if (!hold.isExpired() && !hold.getOwnerEmail().equals(email) && hold.overlaps(start, end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liefert die IDs aller Tische eines Restaurants mit einem gültigen Hold im angegebenen Zeitfenster.
+     *
+     * @param tenant Restaurant, in der Regel {@link TenantContext#current()}
+     * @param start  Beginn des Zeitfensters
+     * @param end    Ende des Zeitfensters
+     * @return IDs der gehaltenen Tische
+     */
+    public Set<Long> heldTableIds(String tenant, LocalDateTime start, LocalDateTime end) {
+        Map<UUID, TableHold> holds = byTenant.get(tenant);
+        if (holds == null) {
+            return Set.of();
+        }
+        Set<Long> held = new HashSet<>();
+        for (TableHold hold : holds.values()) {
+            if (!hold.isExpired() && hold.overlaps(start, end)) {
+                held.add(hold.getTableId());
+            }
+        }
+        return held;
+    }
+
+    /**
+     * Gibt einen Hold frei.
+     *
+     * @param id Hold-ID
+     * @return {@code true}, wenn ein Hold entfernt wurde
+     */
+    public boolean release(UUID id) {
+        TableHold hold = byId.remove(id);
+        if (hold == null) {
+            return false;
+        }
+        expiry.remove(hold);
+        unindex(hold);
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Entfernt alle abgelaufenen Holds. Läuft periodisch
+     * ({@code reservation.holds.purge-interval}, Standard 1 Sekunde) und entnimmt
+     * der {@link DelayQueue} nur die fälligen Einträge.
+     *
+     * @return Anzahl entfernter Holds
+     */
+    @Scheduled(fixedDelayString = "${reservation.holds.purge-interval:PT1S}")
+    public int purgeExpired() {
+        int purged = 0;
+        TableHold hold;
+        while ((hold = expiry.poll()) != null) {
+            if (byId.remove(hold.getId(), hold)) {
+                unindex(hold);
+                purged++;
+            }
+        }
+        if (purged > 0) {
+            version.incrementAndGet();
+        }
+        return purged;
+    }
+
+    /**
+     * Zähler, der bei jedem Anlegen, Freigeben und Entfernen abgelaufener Holds steigt
+     * (für ETags der Verfügbarkeit, siehe {@link ReservationVersions}). Ein abgelaufener Hold
+     * zählt erst beim nächsten {@link #purgeExpired()}.
+     *
+     * @return aktueller Stand
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /** @return Anzahl der aktuell gespeicherten Holds (inkl. abgelaufener, noch nicht entfernter) */
+    public int size() {
+        return byId.size();
+    }
+
+    private void unindex(TableHold hold) {
+        byTable.computeIfPresent(hold.getTableId(), (id, holds) -> {
+            holds.remove(hold);
+            return holds.isEmpty() ? null : holds;
+        });
+        byTenant.computeIfPresent(hold.getTenant(), (tenant, holds) -> {
+            holds.remove(hold.getId(), hold);
+            return holds.isEmpty() ? null : holds;
+        });
+    }
+}
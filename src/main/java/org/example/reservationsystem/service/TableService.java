@@ -1,8 +1,12 @@
 package org.example.reservationsystem.service;
 
+import org.example.reservationsystem.config.TenantContext;
 import org.example.reservationsystem.model.RestaurantTable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.example.reservationsystem.repository.TableRepository;
 
 /**
@@ -17,6 +21,10 @@ import org.example.reservationsystem.repository.TableRepository;
  * Reservierungssystem statisch oder selten verändert werden. Die
  * Hauptlogik für Reservierungen befindet sich im {@link ReservationService}.</p>
  *
+ * <p>Die vorberechneten Tischkombinationen ({@link TableAdjacencyIndex}) werden erst nach
+ * dem Commit neu berechnet: Laufende Buchungen sehen neue Tische nicht vorzeitig, und nach
+ * einem Rollback bleibt der bisherige Stand erhalten.</p>
+ *
  * <p><strong>Typische Verwendung im Controller:</strong></p>
  * <pre>{@code
  * @GetMapping("/tables/{id}")
@@ -32,15 +40,22 @@ import org.example.reservationsystem.repository.TableRepository;
 public class TableService {
 
     private final TableRepository tableRepository;
+    private final TableAdjacencyIndex adjacency;
+    private final ReservationVersions versions;
 
     /**
      * Erstellt einen neuen {@code TableService}.
      *
      * @param tableRepository Repository für {@link RestaurantTable}-Entitäten
+     * @param adjacency       vorberechnete Tischkombinationen, werden nach Änderungen neu berechnet
+     * @param versions        Versionszähler für ETags der Verfügbarkeit
      */
     @Autowired
-    public TableService(TableRepository tableRepository) {
+    public TableService(TableRepository tableRepository, TableAdjacencyIndex adjacency,
+                        ReservationVersions versions) {
         this.tableRepository = tableRepository;
+        this.adjacency = adjacency;
+        this.versions = versions;
     }
 
     /**
@@ -60,15 +75,37 @@ public class TableService {
      * @return gespeichertes {@link RestaurantTable}-Objekt
      */
     public RestaurantTable addTable(RestaurantTable restaurantTable) {
-        return tableRepository.save(restaurantTable);
+        RestaurantTable saved = tableRepository.save(restaurantTable);
+        refreshAfterCommit(TenantContext.current());
+        versions.tablesChanged(TenantContext.current());
+        return saved;
     }
 
     /**
-     * Löscht einen Tisch anhand seiner ID.
+     * Löscht einen Tisch anhand seiner ID; Nachbarschaften zu anderen Tischen werden vorher gelöst.
      *
      * @param tableId ID des zu löschenden Tisches
      */
+    @Transactional
     public void deleteTable(Long tableId) {
-        tableRepository.deleteById(tableId);
+        tableRepository.findById(tableId).ifPresent(table -> {
+            table.disconnectAll();
+            tableRepository.delete(table);
+        });
+        refreshAfterCommit(TenantContext.current());
+        versions.tablesChanged(TenantContext.current());
+    }
+
+    private void refreshAfterCommit(String tenant) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adjacency.refresh(tenant);
+                }
+            });
+        } else {
+            adjacency.refresh(tenant);
+        }
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.example.reservationsystem.DTO.ChangePasswordDTO;
 import org.example.reservationsystem.DTO.UserProfileDTO;
 import org.example.reservationsystem.model.User;
 import org.example.reservationsystem.repository.UserRepository;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -36,20 +37,25 @@ import org.springframework.transaction.annotation.Transactional;
  * @author Maciej Janowski
  */
 @Service
+@Lazy
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ReservationVersions versions;
 
     /**
      * Erstellt einen neuen {@code UserService}.
      *
      * @param userRepository   Repository für Benutzerzugriffe
      * @param passwordEncoder  BCrypt-Encoder/Verifier für Passwörter
+     * @param versions         Versionszähler für ETags (Reservierungsansichten enthalten Name und E-Mail)
      */
-    public UserService(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder,
+                       ReservationVersions versions) {
         this.userRepository   = userRepository;
         this.passwordEncoder  = passwordEncoder;
+        this.versions         = versions;
     }
 
     /**
@@ -117,6 +123,7 @@ public class UserService implements UserDetailsService {
         }
 
         userRepository.save(user);
+        versions.globalChanged();
     }
 
     /**
@@ -0,0 +1,33 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.model.WaitlistStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Anwendungsereignis: ein Wartelisten-Eintrag hat nach einer Stornierung einen Tisch erhalten.
+ *
+ * <p>Bei {@link WaitlistStatus#BOOKED} wurde die Reservierung bereits angelegt, bei
+ * {@link WaitlistStatus#NOTIFIED} muss der Benutzer selbst buchen. Benachrichtigungskanäle
+ * (E-Mail, Push, …) können sich per {@code @EventListener} anhängen.</p>
+ *
+ * @param entryId       ID des Wartelisten-Eintrags
+ * @param email         E-Mail des Benutzers
+ * @param status        neuer Status ({@code BOOKED} oder {@code NOTIFIED})
+ * @param tableNumber   frei gewordener Tisch
+ * @param start         Beginn des angebotenen Zeitfensters
+ * @param end           Ende des angebotenen Zeitfensters
+ * @param reservationId ID der angelegten Reservierung oder {@code null}
+ *
+ * @author Maciej Janowski
+ */
+public record WaitlistPromotedEvent(
+        Long entryId,
+        String email,
+        WaitlistStatus status,
+        int tableNumber,
+        LocalDateTime start,
+        LocalDateTime end,
+        Long reservationId
+) {
+}
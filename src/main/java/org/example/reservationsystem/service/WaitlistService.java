@@ -0,0 +1,265 @@
+package org.example.reservationsystem.service;
+
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.exceptions.ReservationLimitExceededException;
+import org.example.reservationsystem.exceptions.TableAlreadyReservedException;
+import org.example.reservationsystem.exceptions.UserNotFoundException;
+import org.example.reservationsystem.exceptions.WaitlistEntryNotFoundException;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.model.WaitlistEntry;
+import org.example.reservationsystem.model.WaitlistStatus;
+import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.repository.WaitlistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Warteliste für ausgebuchte Zeitfenster mit automatischer Nachrückung bei Stornierungen.
+ *
+ * <p>Benutzer tragen sich mit Tag, Zeitfenster, Personenzahl und Dauer ein. Nach jeder
+ * Stornierung ({@link ReservationCancelledEvent}) wird das frei gewordene Intervall mit den
+ * wartenden Einträgen in der Reihenfolge ihrer Anmeldung abgeglichen. Der erste Eintrag,
+ * dessen Dauer in das Intervall und sein Zeitfenster passt und dessen Personenzahl der Tisch
+ * aufnehmen kann, erhält den Tisch:</p>
+ * <ul>
+ *   <li>mit {@code reservation.waitlist.auto-book=true} (Standard) wird die Reservierung über
+ *       {@link ReservationService#addReservation} mit allen Buchungsregeln angelegt,</li>
+ *   <li>sonst – oder wenn die Buchung an einer Regel scheitert, etwa am Limit aktiver
+ *       Reservierungen – wird der Eintrag als benachrichtigt markiert.</li>
+ * </ul>
+ * <p>In beiden Fällen wird ein {@link WaitlistPromotedEvent} veröffentlicht.</p>
+ *
+ * <p>Die Verarbeitung läuft asynchron ({@code @Async}) und erst nach dem Commit der
+ * Löschung, damit der Lösch-Request nicht auf die Warteliste wartet und ein Rollback
+ * keine Nachrückung auslöst. Jeder Zuteilungsversuch läuft in einer eigenen Transaktion
+ * unter Zeilensperre auf dem Eintrag.</p>
+ *
+ * @author Maciej Janowski
+ */
+@Service
+@Lazy
+public class WaitlistService {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistService.class);
+
+    private final WaitlistRepository waitlistRepository;
+    private final UserRepository userRepository;
+    private final ReservationService reservationService;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate tx;
+    private final boolean autoBook;
+
+    /** Ergebnis eines Zuteilungsversuchs. */
+    private enum Outcome {
+        /** Eintrag wartet nicht mehr; nächsten versuchen. */
+        SKIPPED,
+        /** Eintrag hat den Tisch erhalten. */
+        PROMOTED,
+        /** Tisch wurde inzwischen anderweitig belegt. */
+        TAKEN
+    }
+
+    /**
+     * Erstellt einen neuen {@code WaitlistService}.
+     *
+     * @param waitlistRepository Repository für Wartelisten-Einträge
+     * @param userRepository     Repository für Benutzer
+     * @param reservationService Service für Buchungen (Regeln, Limit, Kollisionen)
+     * @param events             veröffentlicht {@link WaitlistPromotedEvent}s
+     * @param transactionManager Transaktionsmanager für die einzelnen Zuteilungsversuche
+     * @param autoBook           {@code true}, wenn nachrückende Einträge automatisch gebucht werden
+     */
+    public WaitlistService(WaitlistRepository waitlistRepository,
+                           UserRepository userRepository,
+                           ReservationService reservationService,
+                           ApplicationEventPublisher events,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${reservation.waitlist.auto-book:true}") boolean autoBook) {
+        this.waitlistRepository = waitlistRepository;
+        this.userRepository = userRepository;
+        this.reservationService = reservationService;
+        this.events = events;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.autoBook = autoBook;
+    }
+
+    /**
+     * Trägt den Benutzer in die Warteliste ein.
+     *
+     * @param email       E-Mail des Benutzers (Login-Identifier)
+     * @param date        gewünschter Tag
+     * @param windowStart frühester Beginn
+     * @param windowEnd   spätestes Ende
+     * @param partySize   Personenzahl
+     * @param minutes     gewünschte Dauer in Minuten; {@code null} entspricht der Standarddauer
+     * @return gespeicherter Eintrag
+     *
+     * @throws UserNotFoundException    wenn kein Benutzer existiert
+     * @throws IllegalArgumentException bei ungültigem Tag, Zeitfenster, Personenzahl oder Dauer
+     */
+    @Transactional
+    public WaitlistEntry join(String email, LocalDate date, LocalTime windowStart, LocalTime windowEnd,
+                              int partySize, Integer minutes) {
+        User user = userRepository.findByEmail(ReservationService.normalize(email))
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+
+        if (date == null || windowStart == null || windowEnd == null) {
+            throw new IllegalArgumentException("Waitlist entry must have date and time window.");
+        }
+        if (partySize < 1) {
+            throw new IllegalArgumentException("Party size must be at least 1.");
+        }
+        if (!windowEnd.isAfter(windowStart)) {
+            throw new IllegalArgumentException("Window end must be after window start.");
+        }
+        BookingRules rules = reservationService.bookingRules();
+        LocalTime closing = rules.latestClosing(date);
+        if (closing == null) {
+            throw new IllegalArgumentException("The restaurant is closed on " + date + ".");
+        }
+        if (windowEnd.isAfter(closing)) {
+            throw new IllegalArgumentException("Reservations on " + date + " are only allowed until " + closing + ".");
+        }
+        if (!date.atTime(windowEnd).isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Waitlist window cannot be in the past.");
+        }
+        int duration = minutes == null ? rules.defaultMinutes() : rules.clampMinutes(minutes);
+        if (windowStart.plusMinutes(duration).isAfter(windowEnd)) {
+            throw new IllegalArgumentException("Window is shorter than the requested duration.");
+        }
+
+        return waitlistRepository.save(new WaitlistEntry(user, date, windowStart, windowEnd, partySize, duration));
+    }
+
+    /**
+     * Liefert die Wartelisten-Einträge des Benutzers.
+     *
+     * @param email E-Mail des Benutzers (Login-Identifier)
+     * @return Einträge, älteste zuerst
+     */
+    @Transactional(readOnly = true)
+    public List<WaitlistEntry> getUserEntries(String email) {
+        return waitlistRepository.findByUser_EmailOrderByCreatedAtAsc(ReservationService.normalize(email));
+    }
+
+    /**
+     * Entfernt einen eigenen, noch wartenden Eintrag.
+     *
+     * @param id    ID des Eintrags
+     * @param email E-Mail des Benutzers (Login-Identifier)
+     * @throws WaitlistEntryNotFoundException wenn der Eintrag unbekannt, fremd oder nicht mehr wartend ist
+     */
+    @Transactional
+    public void leave(Long id, String email) {
+        WaitlistEntry entry = waitlistRepository.findByIdForUpdate(id)
+                .filter(e -> e.getUser().getEmail().equals(ReservationService.normalize(email)))
+                .filter(e -> e.getStatus() == WaitlistStatus.WAITING)
+                .orElseThrow(WaitlistEntryNotFoundException::new);
+        waitlistRepository.delete(entry);
+    }
+
+    /**
+     * Reagiert auf eine committete Stornierung und lässt den ersten passenden Eintrag nachrücken.
+     *
+     * @param event frei gewordenes Intervall
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationCancelled(ReservationCancelledEvent event) {
+        promote(event);
+    }
+
+    /**
+     * Gleicht ein frei gewordenes Intervall mit der Warteliste ab (synchron). Es werden nur
+     * Einträge des Restaurants der Stornierung berücksichtigt.
+     *
+     * @param event frei gewordenes Intervall
+     * @return {@code true}, wenn ein Eintrag nachgerückt ist
+     */
+    public boolean promote(ReservationCancelledEvent event) {
+        return TenantContext.call(event.tenant(), () -> promoteInTenant(event));
+    }
+
+    private boolean promoteInTenant(ReservationCancelledEvent event) {
+        LocalDate date = event.start().toLocalDate();
+        List<WaitlistEntry> candidates = waitlistRepository.findCandidates(WaitlistStatus.WAITING, date,
+                event.seats(), event.start().toLocalTime(), event.end().toLocalTime());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (WaitlistEntry candidate : candidates) {
+            LocalDateTime windowStart = date.atTime(candidate.getWindowStart());
+            LocalDateTime start = event.start().isAfter(windowStart) ? event.start() : windowStart;
+            LocalDateTime end = start.plusMinutes(candidate.getMinutes());
+            if (start.isBefore(now) || end.isAfter(event.end())
+                    || end.isAfter(date.atTime(candidate.getWindowEnd()))) {
+                continue;
+            }
+
+            Outcome outcome = offer(candidate, event.tableNumber(), start, end);
+            if (outcome == Outcome.PROMOTED) {
+                return true;
+            }
+            if (outcome == Outcome.TAKEN) {
+                log.debug("Table {} was taken before the waitlist could use it", event.tableNumber());
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private Outcome offer(WaitlistEntry candidate, int tableNumber, LocalDateTime start, LocalDateTime end) {
+        String email = candidate.getUser().getEmail();
+        WaitlistEntry promoted;
+        try {
+            promoted = tx.execute(s -> {
+                WaitlistEntry entry = lockWaiting(candidate.getId());
+                if (entry == null) return null;
+                if (autoBook) {
+                    Reservation saved = reservationService.addReservation(
+                            new Reservation(start, end), tableNumber, email);
+                    entry.markBooked(tableNumber, start, saved.getId());
+                } else {
+                    entry.markNotified(tableNumber, start);
+                }
+                return entry;
+            });
+        } catch (TableAlreadyReservedException ex) {
+            return Outcome.TAKEN;
+        } catch (ReservationLimitExceededException | IllegalArgumentException ex) {
+            promoted = tx.execute(s -> {
+                WaitlistEntry entry = lockWaiting(candidate.getId());
+                if (entry != null) entry.markNotified(tableNumber, start);
+                return entry;
+            });
+        }
+        if (promoted == null) return Outcome.SKIPPED;
+
+        log.info("Waitlist entry {} promoted ({}) to table {} at {}",
+                promoted.getId(), promoted.getStatus(), tableNumber, start);
+        events.publishEvent(new WaitlistPromotedEvent(promoted.getId(), email, promoted.getStatus(),
+                tableNumber, start, end, promoted.getReservationId()));
+        return Outcome.PROMOTED;
+    }
+
+    private WaitlistEntry lockWaiting(Long id) {
+        return waitlistRepository.findByIdForUpdate(id)
+                .filter(e -> e.getStatus() == WaitlistStatus.WAITING)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,123 @@
+-- Ausgangsschema (PostgreSQL). Hibernate validiert nur noch (spring.jpa.hibernate.ddl-auto=validate);
+-- Änderungen am Schema kommen als neue Migration V<n>__<beschreibung>.sql hinzu.
+--
+-- Mandanten: Tische, Reservierungen, Warteliste und Öffnungszeiten tragen tenant_id;
+-- Bestandsdaten gehören zum Standard-Restaurant "default". Benutzerkonten sind restaurantübergreifend.
+
+CREATE TABLE restaurants (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    slug VARCHAR(40)  NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_restaurants_slug UNIQUE (slug)
+);
+
+CREATE TABLE users (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email     VARCHAR(320) NOT NULL,
+    password  VARCHAR(255) NOT NULL,
+    full_name VARCHAR(200) NOT NULL,
+    phone     VARCHAR(50),
+    role      VARCHAR(255) NOT NULL CHECK (role IN ('ROLE_USER', 'ROLE_ADMIN')),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE restaurant_tables (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    table_number    INTEGER     NOT NULL,
+    number_of_seats INTEGER     NOT NULL,
+    tenant_id       VARCHAR(40) NOT NULL,
+    CONSTRAINT uk_restaurant_tables_tenant_number UNIQUE (tenant_id, table_number)
+);
+
+-- Tische, die für große Gruppen zusammengeschoben werden können (in beide Richtungen eingetragen)
+CREATE TABLE restaurant_table_adjacency (
+    table_id          BIGINT NOT NULL REFERENCES restaurant_tables (id),
+    adjacent_table_id BIGINT NOT NULL REFERENCES restaurant_tables (id),
+    PRIMARY KEY (adjacent_table_id, table_id)
+);
+
+-- Partitionierte Reservierungstabelle. Monatspartitionen reservations_yYYYYmMM werden von
+-- ReservationPartitionMaintenance angelegt und nach Ablauf der Aufbewahrungsfrist ins
+-- Archiv-Schema verschoben. Das Limit aktiver Reservierungen pro Benutzer prüft
+-- ReservationService per Zählabfrage unter Zeilensperre auf dem Benutzer
+-- (Index idx_reservations_user_start).
+CREATE TABLE reservations (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    start_time     TIMESTAMP(6) NOT NULL,
+    end_time       TIMESTAMP(6) NOT NULL,
+    table_id       BIGINT       NOT NULL REFERENCES restaurant_tables (id),
+    user_id        BIGINT       NOT NULL REFERENCES users (id),
+    combination_id UUID,
+    tenant_id      VARCHAR(40)  NOT NULL DEFAULT 'default',
+    PRIMARY KEY (id, start_time)
+) PARTITION BY RANGE (start_time);
+
+-- Auffangpartition für Zeiträume ohne eigene Monatspartition
+CREATE TABLE reservations_default PARTITION OF reservations DEFAULT;
+
+CREATE INDEX idx_reservations_table_time ON reservations (table_id, start_time, end_time);
+CREATE INDEX idx_reservations_user_start ON reservations (user_id, start_time);
+-- Verfügbarkeit je Restaurant: nur die Zeilen des Mandanten im Zeitfenster
+CREATE INDEX idx_reservations_tenant_start ON reservations (tenant_id, start_time);
+-- Tischkombinationen großer Gruppen werden gemeinsam storniert
+CREATE INDEX idx_reservations_combination ON reservations (combination_id) WHERE combination_id IS NOT NULL;
+-- Für den ExpiredReservationSweeper: Stapel abgelaufener Zeilen ohne Sortierung der ganzen Tabelle
+CREATE INDEX idx_reservations_end_time ON reservations (end_time);
+
+-- beendete Reservierungen (ExpiredReservationSweeper), IDs werden aus reservations übernommen
+CREATE TABLE reservation_history (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    start_time  TIMESTAMP(6) NOT NULL,
+    end_time    TIMESTAMP(6) NOT NULL,
+    table_id    BIGINT       NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    tenant_id   VARCHAR(40)  NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_reservation_history_user ON reservation_history (user_id, tenant_id);
+
+CREATE TABLE opening_hours (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    day_of_week  VARCHAR(9) CHECK (day_of_week IN
+                     ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY')),
+    service_date DATE,
+    opens_at     TIME(6),
+    closes_at    TIME(6),
+    closed       BOOLEAN     NOT NULL,
+    label        VARCHAR(40),
+    tenant_id    VARCHAR(40) NOT NULL
+);
+
+CREATE INDEX idx_opening_hours_tenant_date ON opening_hours (tenant_id, service_date);
+
+CREATE TABLE waitlist_entries (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id              BIGINT       NOT NULL REFERENCES users (id),
+    desired_date         DATE         NOT NULL,
+    window_start         TIME(6)      NOT NULL,
+    window_end           TIME(6)      NOT NULL,
+    party_size           INTEGER      NOT NULL,
+    minutes              INTEGER      NOT NULL,
+    status               VARCHAR(16)  NOT NULL CHECK (status IN ('WAITING', 'BOOKED', 'NOTIFIED')),
+    created_at           TIMESTAMP(6) NOT NULL,
+    reservation_id       BIGINT,
+    offered_table_number INTEGER,
+    offered_start        TIMESTAMP(6),
+    tenant_id            VARCHAR(40)  NOT NULL
+);
+
+CREATE INDEX idx_waitlist_status_date_created ON waitlist_entries (tenant_id, status, desired_date, created_at);
+
+-- transaktionale Outbox für Reservierungsereignisse (OutboxRelay)
+CREATE TABLE reservation_outbox (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type     VARCHAR(16)   NOT NULL CHECK (event_type IN ('CREATED', 'CANCELLED')),
+    reservation_id BIGINT        NOT NULL,
+    tenant_id      VARCHAR(40)   NOT NULL,
+    payload        VARCHAR(2000) NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    published_at   TIMESTAMP(6)
+);
+
+CREATE INDEX idx_outbox_unpublished ON reservation_outbox (published_at, id);
@@ -0,0 +1,27 @@
+-- Demodaten: Standard-Restaurant, Admin-Benutzer, sechs Tische und ihre Nachbarschaften.
+-- Je Tabelle ein INSERT; ON CONFLICT lässt bereits vorhandene Einträge unverändert.
+--
+-- Das Admin-Passwort (admin123, BCrypt) ist nur für die lokale Entwicklung gedacht;
+-- in produktiven Umgebungen nach dem ersten Login ändern oder den Eintrag entfernen.
+
+INSERT INTO restaurants (slug, name)
+VALUES ('default', 'Restaurant')
+ON CONFLICT (slug) DO NOTHING;
+
+INSERT INTO users (email, password, full_name, phone, role)
+VALUES ('admin@example.com', '$2a$10$iaBHIYvzBU4KrRD01gfwMOnA5V.qWLs8nEF.5zRE5hHWq0Oz0oDKK',
+        'Administrator', '+49 160 0000000', 'ROLE_ADMIN')
+ON CONFLICT (email) DO NOTHING;
+
+INSERT INTO restaurant_tables (table_number, number_of_seats, tenant_id)
+VALUES (1, 2, 'default'), (2, 3, 'default'), (3, 4, 'default'),
+       (4, 6, 'default'), (5, 2, 'default'), (6, 8, 'default')
+ON CONFLICT (tenant_id, table_number) DO NOTHING;
+
+-- Paare (1,2), (2,3), (4,6), (5,6) in beide Richtungen
+INSERT INTO restaurant_table_adjacency (table_id, adjacent_table_id)
+SELECT a.id, b.id
+FROM (VALUES (1, 2), (2, 3), (4, 6), (5, 6), (2, 1), (3, 2), (6, 4), (6, 5)) AS pair (a_number, b_number)
+JOIN restaurant_tables a ON a.tenant_id = 'default' AND a.table_number = pair.a_number
+JOIN restaurant_tables b ON b.tenant_id = 'default' AND b.table_number = pair.b_number
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,5 @@
+-- Outbox-Einträge, deren Payload nicht lesbar ist, werden vom OutboxRelay beiseitegelegt
+-- statt den Stapel dauerhaft zu blockieren; sie bleiben zur Analyse erhalten (kein Purge).
+ALTER TABLE reservation_outbox
+    ADD COLUMN failed_at TIMESTAMP(6),
+    ADD COLUMN failure   VARCHAR(500);
@@ -0,0 +1,169 @@
+package org.example.reservationsystem;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.reservationsystem.DTO.AvailabilityChangeDTO;
+import org.example.reservationsystem.DTO.AvailabilityDeltaDTO;
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.model.ReservationEventType;
+import org.example.reservationsystem.service.AvailabilityFeed;
+import org.example.reservationsystem.service.ReservationEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-Tests für den {@link AvailabilityFeed} (ohne Spring-Kontext).
+ *
+ * <p>Sendevorgänge laufen auf einem manuell abgearbeiteten Executor, die Emitter
+ * zeichnen gesendete Ereignisse auf. Geprüft wird:</p>
+ * <ul>
+ *   <li>Änderungen erreichen nur Abonnenten desselben Restaurants und Tages</li>
+ *   <li>Änderungen während eines ausstehenden Sendevorgangs werden je Tisch und
+ *       Zeitfenster zusammengefasst</li>
+ *   <li>eine übervolle Warteschlange wird durch ein {@code resync}-Ereignis ersetzt</li>
+ *   <li>getrennte Clients werden entfernt und bremsen andere Abonnenten nicht</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+class AvailabilityFeedTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 6, 9);
+    private static final LocalDateTime START = DAY.atTime(18, 0);
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    /** Emitter, der gesendete Ereignisse aufzeichnet und eine Trennung simulieren kann. */
+    private static class RecordingEmitter extends SseEmitter {
+        final List<String> names = new ArrayList<>();
+        final List<Object> payloads = new ArrayList<>();
+        boolean disconnected;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) throw new IOException("Broken pipe");
+            StringBuilder text = new StringBuilder();
+            Object payload = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String s) text.append(s); else payload = part.getData();
+            }
+            Matcher name = Pattern.compile("event:(\\w+)").matcher(text);
+            names.add(name.find() ? name.group(1) : text.toString().trim());
+            payloads.add(payload);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private AvailabilityFeed feed(int maxPending) {
+        ObjectProvider<MeterRegistry> registry = mock(ObjectProvider.class);
+        when(registry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        return new AvailabilityFeed(tasks::add, registry, Duration.ofMinutes(30), maxPending) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) tasks.poll().run();
+    }
+
+    private static ReservationEvent event(ReservationEventType type, String tenant, int table, LocalDateTime start) {
+        return new ReservationEvent(1L, type, 10L, tenant, table, "anna@example.com",
+                start, start.plusHours(2), null, LocalDateTime.now());
+    }
+
+    @Test
+    void changes_reachOnlySubscribersOfSameRestaurantAndDay() {
+        AvailabilityFeed feed = feed(256);
+        List<RecordingEmitter> sameDay = List.of(
+                (RecordingEmitter) feed.subscribe(DAY), (RecordingEmitter) feed.subscribe(DAY));
+        RecordingEmitter otherDay = (RecordingEmitter) feed.subscribe(DAY.plusDays(1));
+        RecordingEmitter otherRestaurant = (RecordingEmitter) TenantContext.call("altstadt", () -> feed.subscribe(DAY));
+        assertEquals(4, feed.subscriberCount());
+
+        feed.onReservationEvent(event(ReservationEventType.CREATED, TenantContext.DEFAULT_TENANT, 5, START));
+        runTasks();
+
+        for (RecordingEmitter emitter : sameDay) {
+            assertEquals(List.of("subscribed", "availability"), emitter.names);
+            AvailabilityDeltaDTO delta = (AvailabilityDeltaDTO) emitter.payloads.get(1);
+            assertEquals(DAY, delta.date());
+            assertEquals(List.of(new AvailabilityChangeDTO(5, START, START.plusHours(2), false)), delta.changes());
+        }
+        assertEquals(List.of("subscribed"), otherDay.names);
+        assertEquals(List.of("subscribed"), otherRestaurant.names);
+    }
+
+    @Test
+    void pendingChanges_areCoalescedPerTableAndSlot() {
+        AvailabilityFeed feed = feed(256);
+        RecordingEmitter emitter = (RecordingEmitter) feed.subscribe(DAY);
+
+        feed.onReservationEvent(event(ReservationEventType.CREATED, TenantContext.DEFAULT_TENANT, 5, START));
+        feed.onReservationEvent(event(ReservationEventType.CREATED, TenantContext.DEFAULT_TENANT, 6, START));
+        feed.onReservationEvent(event(ReservationEventType.CANCELLED, TenantContext.DEFAULT_TENANT, 5, START));
+        assertEquals(1, tasks.size(), "höchstens ein Sendevorgang pro Abonnent");
+        runTasks();
+
+        assertEquals(List.of("subscribed", "availability"), emitter.names);
+        AvailabilityDeltaDTO delta = (AvailabilityDeltaDTO) emitter.payloads.get(1);
+        assertEquals(List.of(
+                new AvailabilityChangeDTO(6, START, START.plusHours(2), false),
+                new AvailabilityChangeDTO(5, START, START.plusHours(2), true)), delta.changes());
+    }
+
+    @Test
+    void overflowingQueue_isReplacedByResync() {
+        AvailabilityFeed feed = feed(2);
+        RecordingEmitter emitter = (RecordingEmitter) feed.subscribe(DAY);
+
+        for (int table = 1; table <= 3; table++) {
+            feed.onReservationEvent(event(ReservationEventType.CREATED, TenantContext.DEFAULT_TENANT, table, START));
+        }
+        runTasks();
+        feed.onReservationEvent(event(ReservationEventType.CREATED, TenantContext.DEFAULT_TENANT, 4, START));
+        runTasks();
+
+        assertEquals(List.of("subscribed", "resync", "availability"), emitter.names);
+        assertEquals(1, ((AvailabilityDeltaDTO) emitter.payloads.get(2)).changes().size());
+    }
+
+    @Test
+    void disconnectedSubscriber_isRemoved() {
+        AvailabilityFeed feed = feed(256);
+        RecordingEmitter gone = (RecordingEmitter) feed.subscribe(DAY);
+        RecordingEmitter active = (RecordingEmitter) feed.subscribe(DAY);
+        gone.disconnected = true;
+
+        feed.heartbeat();
+        runTasks();
+
+        assertEquals(1, feed.subscriberCount());
+        assertEquals(List.of("subscribed", ":ping"), active.names);
+
+        feed.onReservationEvent(event(ReservationEventType.CREATED, TenantContext.DEFAULT_TENANT, 5, START));
+        runTasks();
+        assertEquals(3, active.names.size());
+        assertEquals(List.of("subscribed"), gone.names);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.reservationsystem;
+
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.repository.BusyInterval;
+import org.example.reservationsystem.service.BestFitTableAllocator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests für den {@link BestFitTableAllocator} (ohne Spring-Kontext).
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>der Tisch mit den wenigsten ungenutzten Plätzen gewinnt</li>
+ *   <li>belegte oder zu kleine Tische werden übergangen</li>
+ *   <li>bei gleicher Größe gewinnt der Tisch mit der kleinsten Restlücke im Tagesverlauf</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+class BestFitTableAllocatorTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 6, 9, 0, 0);
+    private static final LocalDateTime DAY_END = DAY.plusDays(1);
+    private static final LocalDateTime START = DAY.withHour(18);
+    private static final LocalDateTime END = START.plusHours(2);
+
+    private static RestaurantTable table(long id, int number, int seats) {
+        RestaurantTable t = new RestaurantTable(seats, number);
+        t.setId(id);
+        return t;
+    }
+
+    private static Optional<Integer> choose(List<RestaurantTable> tables, List<BusyInterval> busy, int party) {
+        return BestFitTableAllocator.choose(tables, busy, START, END, party, DAY, DAY_END)
+                .map(RestaurantTable::getTableNumber);
+    }
+
+    @Test
+    void smallestFittingFreeTable_wins() {
+        List<RestaurantTable> tables = List.of(table(1, 1, 8), table(2, 2, 4), table(3, 3, 2), table(4, 4, 6));
+
+        assertEquals(Optional.of(2), choose(tables, List.of(), 3));
+        assertEquals(Optional.of(3), choose(tables, List.of(), 2));
+        assertEquals(Optional.empty(), choose(tables, List.of(), 9));
+
+        List<BusyInterval> busy = List.of(new BusyInterval(2L, START.minusHours(1), START.plusMinutes(30)));
+        assertEquals(Optional.of(4), choose(tables, busy, 3));
+    }
+
+    @Test
+    void equalSize_prefersTightestGap() {
+        List<RestaurantTable> tables = List.of(table(1, 1, 4), table(2, 2, 4), table(3, 3, 4));
+        List<BusyInterval> busy = List.of(
+                new BusyInterval(2L, START.minusHours(3), START.minusHours(1)),
+                new BusyInterval(3L, START.minusHours(2), START),
+                new BusyInterval(3L, END, END.plusHours(1)));
+
+        assertEquals(Optional.of(3), choose(tables, busy, 4));
+        assertEquals(Optional.of(2), choose(tables.subList(0, 2), busy, 4));
+        assertEquals(Optional.of(1), choose(tables.subList(0, 1), busy, 4));
+    }
+}
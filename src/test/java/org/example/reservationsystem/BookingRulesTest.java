@@ -0,0 +1,108 @@
+package org.example.reservationsystem;
+
+import org.example.reservationsystem.model.OpeningHours;
+import org.example.reservationsystem.service.BookingRules;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests für den {@link BookingRules}-Schnappschuss (ohne Spring-Kontext).
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>ohne Öffnungszeiten gilt 00:00–22:00 an jedem Tag</li>
+ *   <li>getrennte Mittags-/Abendservices; Fenster über die Pause hinweg werden abgelehnt</li>
+ *   <li>Ausnahmedaten ersetzen die Wochentagsregel oder schließen den Tag</li>
+ *   <li>sich überschneidende Services und unzulässige Dauern werden abgelehnt</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+class BookingRulesTest {
+
+    private static final Duration MIN = Duration.ofMinutes(30);
+    private static final Duration DEF = Duration.ofHours(2);
+    private static final Duration MAX = Duration.ofHours(5);
+
+    /** Ein Montag. */
+    private static final LocalDate MONDAY = LocalDate.of(2030, 6, 10);
+
+    private static BookingRules rules(OpeningHours... hours) {
+        return BookingRules.of(List.of(hours), MIN, DEF, MAX);
+    }
+
+    private static boolean fits(BookingRules rules, LocalDate day, String from, String to) {
+        return rules.isWithinOpeningHours(day.atTime(LocalTime.parse(from)), day.atTime(LocalTime.parse(to)));
+    }
+
+    @Test
+    void withoutOpeningHours_everyDayUntil22() {
+        BookingRules rules = rules();
+
+        assertTrue(fits(rules, MONDAY, "09:00", "11:00"));
+        assertTrue(fits(rules, MONDAY, "20:00", "22:00"));
+        assertFalse(fits(rules, MONDAY, "21:00", "22:30"));
+        assertEquals(LocalTime.of(22, 0), rules.latestClosing(MONDAY.plusDays(5)));
+        assertEquals(120, rules.clampMinutes(120));
+        assertEquals(30, rules.clampMinutes(null));
+        assertEquals(300, rules.clampMinutes(600));
+    }
+
+    @Test
+    void splitServices_andDateExceptions() {
+        BookingRules rules = rules(
+                new OpeningHours(DayOfWeek.MONDAY, LocalTime.of(17, 0), LocalTime.of(22, 0), "Abend"),
+                new OpeningHours(DayOfWeek.MONDAY, LocalTime.of(11, 30), LocalTime.of(14, 30), "Mittag"),
+                OpeningHours.closedOn(MONDAY.plusWeeks(1), "Feiertag"),
+                new OpeningHours(MONDAY.plusWeeks(2), LocalTime.of(18, 0), LocalTime.of(23, 30), "Sonderöffnung"));
+
+        assertTrue(fits(rules, MONDAY, "12:00", "14:00"));
+        assertTrue(fits(rules, MONDAY, "18:00", "20:00"));
+        assertFalse(fits(rules, MONDAY, "14:00", "17:30"));
+        assertFalse(fits(rules, MONDAY.plusDays(1), "18:00", "20:00"));
+
+        assertFalse(fits(rules, MONDAY.plusWeeks(1), "18:00", "20:00"));
+        assertNull(rules.latestClosing(MONDAY.plusWeeks(1)));
+        IllegalArgumentException closed = assertThrows(IllegalArgumentException.class, () -> rules.validate(
+                MONDAY.plusWeeks(1).atTime(18, 0), MONDAY.plusWeeks(1).atTime(20, 0)));
+        assertTrue(closed.getMessage().contains("closed"), closed.getMessage());
+
+        assertTrue(fits(rules, MONDAY.plusWeeks(2), "21:00", "23:30"));
+        assertFalse(fits(rules, MONDAY.plusWeeks(2), "12:00", "14:00"));
+
+        LocalDateTime lunch = MONDAY.atTime(12, 0);
+        assertThrows(IllegalArgumentException.class, () -> rules.validate(lunch, lunch.plusMinutes(20)));
+        rules.validate(lunch, lunch.plusMinutes(30));
+    }
+
+    @Test
+    void onlyDateExceptions_keepDefaultHoursOnWeekdays() {
+        BookingRules rules = rules(OpeningHours.closedOn(MONDAY.plusWeeks(1), "Feiertag"));
+
+        assertTrue(fits(rules, MONDAY, "18:00", "20:00"));
+        assertTrue(fits(rules, MONDAY.plusDays(3), "09:00", "11:00"));
+        assertEquals(LocalTime.of(22, 0), rules.latestClosing(MONDAY.plusDays(5)));
+
+        assertFalse(fits(rules, MONDAY.plusWeeks(1), "18:00", "20:00"));
+        assertNull(rules.latestClosing(MONDAY.plusWeeks(1)));
+    }
+
+    @Test
+    void invalidRules_areRejected() {
+        assertThrows(IllegalArgumentException.class, () -> rules(
+                new OpeningHours(DayOfWeek.FRIDAY, LocalTime.of(11, 0), LocalTime.of(15, 0), null),
+                new OpeningHours(DayOfWeek.FRIDAY, LocalTime.of(14, 0), LocalTime.of(22, 0), null)));
+        assertThrows(IllegalArgumentException.class, () -> rules(
+                new OpeningHours(DayOfWeek.FRIDAY, LocalTime.of(22, 0), LocalTime.of(17, 0), null)));
+        assertThrows(IllegalArgumentException.class, () -> BookingRules.of(List.of(), MIN, DEF, Duration.ofHours(6)));
+        assertThrows(IllegalArgumentException.class, () -> BookingRules.of(List.of(), DEF, MIN, MAX));
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.reservationsystem;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.reservationsystem.repository.TableRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integrationstest für die Aufteilung in Lese- und Schreib-Pool ({@code DataSourceConfig}).
+ *
+ * <p>Geprüft wird anhand der aktiven Verbindungen der beiden HikariCP-Pools, aus welchem
+ * Pool eine Transaktion ihre Verbindung bezieht:</p>
+ * <ul>
+ *   <li>read-only Transaktion → {@code ro-pool}</li>
+ *   <li>schreibende Transaktion → {@code rw-pool}</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest
+public class DataSourceRoutingTest {
+
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private TableRepository tableRepository;
+
+    @Autowired @Qualifier("readWriteDataSource") private HikariDataSource readWrite;
+    @Autowired @Qualifier("readOnlyDataSource")  private HikariDataSource readOnly;
+
+    @Test
+    void readOnlyTransaction_usesReadOnlyPool() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        tx.executeWithoutResult(status -> {
+            tableRepository.count();
+            assertEquals(1, readOnly.getHikariPoolMXBean().getActiveConnections());
+            assertEquals(0, readWrite.getHikariPoolMXBean().getActiveConnections());
+        });
+    }
+
+    @Test
+    void writeTransaction_usesReadWritePool() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> {
+            tableRepository.count();
+            assertEquals(1, readWrite.getHikariPoolMXBean().getActiveConnections());
+            assertEquals(0, readOnly.getHikariPoolMXBean().getActiveConnections());
+        });
+    }
+
+    @Test
+    void pools_areNamedAndLeakDetectionIsEnabled() {
+        assertEquals("rw-pool", readWrite.getPoolName());
+        assertEquals("ro-pool", readOnly.getPoolName());
+        assertTrue(readOnly.isReadOnly());
+        assertTrue(readWrite.getLeakDetectionThreshold() > 0);
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.reservationsystem;
+
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.ReservationHistoryRepository;
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.repository.TableRepository;
+import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.service.ExpiredReservationSweeper;
+import org.example.reservationsystem.service.ReservationService;
+import org.example.reservationsystem.service.ReservationVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integrationstest für den {@link ExpiredReservationSweeper} (PostgreSQL).
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>abgelaufene Reservierungen werden stapelweise in {@code reservation_history} verschoben</li>
+ *   <li>laufende und zukünftige Reservierungen bleiben unverändert</li>
+ *   <li>verschobene Reservierungen erscheinen nicht mehr in der Übersicht des Benutzers</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest
+public class ExpiredReservationSweeperIntegrationTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ReservationService reservationService;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private TableRepository tableRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private ReservationHistoryRepository historyRepository;
+    @Autowired private ReservationVersions versions;
+
+    private RestaurantTable table;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        historyRepository.deleteAll();
+        userRepository.deleteAll();
+        tableRepository.deleteAll();
+
+        RestaurantTable t = new RestaurantTable();
+        t.setTableNumber(21);
+        t.setNumberOfSeats(4);
+        table = tableRepository.save(t);
+    }
+
+    private User user(String email) {
+        return userRepository.save(new User("{noop}pw", Role.ROLE_USER, "Sweep User", email, null));
+    }
+
+    private void insert(User user, LocalDateTime start, LocalDateTime end) {
+        jdbcTemplate.update("INSERT INTO reservations (start_time, end_time, table_id, user_id) VALUES (?, ?, ?, ?)",
+                start, end, table.getId(), user.getId());
+    }
+
+    @Test
+    void sweep_movesOnlyExpiredReservations_inBatches() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 5; i++) {
+            insert(user("expired" + i + "@example.com"), now.minusDays(i + 1), now.minusDays(i + 1).plusHours(2));
+        }
+        User running = user("running@example.com");
+        insert(running, now.minusHours(1), now.plusHours(1));
+        User future = user("future@example.com");
+        insert(future, now.plusDays(1), now.plusDays(1).plusHours(2));
+
+        ExpiredReservationSweeper sweeper = new ExpiredReservationSweeper(jdbcTemplate, versions, 2);
+        assertEquals(5, sweeper.sweepExpiredBefore(now));
+
+        assertEquals(2, reservationRepository.count());
+        assertEquals(5, historyRepository.count());
+        assertTrue(historyRepository.findByUserIdOrderByStartTimeDesc(running.getId()).isEmpty());
+        assertEquals(0, sweeper.sweepExpiredBefore(now));
+    }
+
+    @Test
+    void sweep_removesExpired_fromUserOverview() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        User user = user("again@example.com");
+        insert(user, now.minusDays(2), now.minusDays(2).plusHours(2));
+        LocalDateTime start = now.plusDays(1).withHour(18).withMinute(0).withSecond(0);
+        Reservation upcoming = reservationService.addReservation(
+                new Reservation(start, start.plusHours(2)), table.getTableNumber(), user.getEmail());
+        assertEquals(2, reservationService.getUserReservations(user.getEmail(), PageRequest.of(0, 10))
+                .getTotalElements());
+
+        new ExpiredReservationSweeper(jdbcTemplate, versions, 100).sweepExpiredBefore(now);
+
+        List<Reservation> remaining = reservationService.getUserReservations(user.getEmail(), PageRequest.of(0, 10))
+                .getContent();
+        assertEquals(1, remaining.size());
+        assertEquals(upcoming.getId(), remaining.get(0).getId());
+        assertEquals(1, historyRepository.findByUserIdOrderByStartTimeDesc(user.getId()).size());
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.reservationsystem;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Testkonfiguration: Jeder Spring-Kontext der Tests startet mit leerem, frisch migriertem Schema.
+ *
+ * <p>Die Testdatenbank ist dieselbe wie in der Entwicklung; ohne Bereinigung blieben Daten
+ * früherer Läufe liegen (bzw. ein noch nicht von Flyway verwaltetes Schema würde abgelehnt).
+ * {@code clean} ist nur hier freigeschaltet, in der Anwendung bleibt es gesperrt
+ * ({@code spring.flyway.clean-disabled=true}). Geplante Jobs, die auf die Datenbank
+ * zugreifen, sind in Tests deshalb abgeschaltet ({@code config/application.properties});
+ * Tests, die sie brauchen, schalten sie ein und schließen ihren Kontext danach
+ * ({@code @DirtiesContext}).</p>
+ *
+ * @author Maciej Janowski
+ */
+@Configuration
+public class FlywayTestConfig {
+
+    /**
+     * @return Strategie, die vor der Migration alle Objekte der verwalteten Schemas löscht
+     */
+    @Bean
+    public FlywayMigrationStrategy cleanMigrateStrategy() {
+        return flyway -> {
+            Flyway.configure()
+                    .configuration(flyway.getConfiguration())
+                    .cleanDisabled(false)
+                    .load()
+                    .clean();
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import org.example.reservationsystem.DTO.AuthUserDTO;
+import org.example.reservationsystem.DTO.ReservationViewDTO;
+import org.example.reservationsystem.DTO.TableViewDTO;
+import org.example.reservationsystem.config.JacksonConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests für die {@link JacksonConfig} (ohne Spring-Kontext).
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>mit Blackbird entsteht für alle Antwort-DTOs byteweise dasselbe JSON wie ohne</li>
+ *   <li>das Vorwärmen legt die Serializer im {@link ObjectMapper} ab</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+class JacksonConfigTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 9, 18, 0);
+
+    private static ObjectMapper mapper(boolean blackbird) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (blackbird) builder.modulesToInstall(new JacksonConfig().blackbirdModule());
+        return builder.build();
+    }
+
+    private static int cachedSerializers(ObjectMapper mapper) {
+        return ((DefaultSerializerProvider) mapper.getSerializerProvider()).cachedSerializersCount();
+    }
+
+    @Test
+    void blackbird_producesSameJsonForResponseDtos() throws Exception {
+        ObjectMapper plain = mapper(false);
+        ObjectMapper fast = mapper(true);
+        List<Object> values = List.of(
+                List.of(new ReservationViewDTO(1L, "anna@example.com", "Anna Muster", 5, START, START.plusHours(2)),
+                        new ReservationViewDTO(2L, "ben@example.com", null, 6, START, START.plusHours(3))),
+                List.of(new TableViewDTO(10L, 5, 4), new TableViewDTO(11L, 6, null)),
+                new AuthUserDTO("anna@example.com", "ROLE_USER", "Anna Muster", "+49 170 0000000"));
+
+        assertTrue(fast.getRegisteredModuleIds().contains(new JacksonConfig().blackbirdModule().getTypeId()));
+        for (Object value : values) {
+            assertEquals(plain.writeValueAsString(value), fast.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    void prefetchWriters_cachesSerializersForResponseDtos() {
+        ObjectMapper mapper = mapper(true);
+        int before = cachedSerializers(mapper);
+
+        JacksonConfig.prefetchWriters(mapper);
+
+        int after = cachedSerializers(mapper);
+        assertTrue(after >= before + JacksonConfig.RESPONSE_DTOS.size(),
+                "erwartet mindestens einen Serializer je DTO, vorher " + before + ", nachher " + after);
+    }
+}
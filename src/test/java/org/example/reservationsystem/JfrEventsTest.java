@@ -0,0 +1,122 @@
+package org.example.reservationsystem;
+
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.Cookie;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.reservationsystem.DTO.UserLoginDTO;
+import org.example.reservationsystem.JWTServices.JwtAuthenticationFilter;
+import org.example.reservationsystem.JWTServices.JwtService;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.service.AuthService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests für die JFR-Ereignisse der Authentifizierung (ohne Spring-Kontext).
+ *
+ * <p>Die Aufrufe laufen innerhalb einer {@link Recording}; anschließend werden die
+ * geschriebenen Ereignisse aus der Aufzeichnungsdatei gelesen und Phase/Ergebnis geprüft.
+ * Die Buchungsphasen ({@code reservation.BookingPhase}) folgen demselben Muster.</p>
+ *
+ * author Maciej Janowski
+ */
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final Recording recording = new Recording();
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void login_emitsPasswordVerifyEventWithOutcome() throws Exception {
+        UserRepository userRepository = mock(UserRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        User user = new User("hash", Role.ROLE_USER, "Test User", "user@example.com", null);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret1", "hash")).thenReturn(true);
+        when(passwordEncoder.matches("wrong12", "hash")).thenReturn(false);
+        AuthService authService = new AuthService(userRepository, passwordEncoder, mock(JwtService.class));
+
+        recording.enable("reservation.PasswordHash");
+        recording.start();
+        authService.login(login("secret1"));
+        assertThrows(BadCredentialsException.class, () -> authService.login(login("wrong12")));
+        List<RecordedEvent> events = stopAndRead();
+
+        assertEquals(2, events.size());
+        assertEquals("verify", events.get(0).getString("operation"));
+        assertEquals("match", events.get(0).getString("outcome"));
+        assertEquals("mismatch", events.get(1).getString("outcome"));
+    }
+
+    @Test
+    void jwtFilter_emitsParseUserLoadAndValidateEvents() throws Exception {
+        JwtService jwtService = mock(JwtService.class);
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        User user = new User("hash", Role.ROLE_USER, "Test User", "user@example.com", null);
+        when(jwtService.extractUsername("token-value")).thenReturn("user@example.com");
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(user);
+        when(jwtService.isTokenValid(any(), any())).thenReturn(false);
+        JwtAuthenticationFilter filter =
+                new JwtAuthenticationFilter(jwtService, userDetailsService, mock(HandlerExceptionResolver.class),
+                        ObservationRegistry.NOOP);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reservations/userReservations");
+        request.setCookies(new Cookie("token", "token-value"));
+
+        recording.enable("reservation.JwtAuthentication");
+        recording.start();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        List<RecordedEvent> events = stopAndRead();
+
+        assertEquals(List.of("parse:ok", "userLoad:ok", "validate:invalid"),
+                events.stream().map(e -> e.getString("phase") + ":" + e.getString("outcome")).toList());
+    }
+
+    private List<RecordedEvent> stopAndRead() throws Exception {
+        recording.stop();
+        Path file = tempDir.resolve("events.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("reservation."))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+
+    private static UserLoginDTO login(String password) {
+        UserLoginDTO dto = new UserLoginDTO();
+        dto.setEmail("user@example.com");
+        dto.setPassword(password);
+        return dto;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.reservationsystem;
+
+import org.example.reservationsystem.config.NativeImageHints;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit-Tests für die {@link NativeImageHints} (ohne Spring-Kontext).
+ *
+ * <p>Geprüft wird, dass die per Klassennamen geladenen Typen von JJWT und Hibernate
+ * instanziierbar registriert sind, die Namen zu vorhandenen Klassen gehören und die
+ * {@code ServiceLoader}-Dateien von JJWT eingebunden werden.</p>
+ *
+ * author Maciej Janowski
+ */
+class NativeImageHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeImageHintsTest() {
+        new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void jjwtAndHibernateTypes_areRegisteredForInstantiation() throws ClassNotFoundException {
+        for (String type : new String[]{
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "org.hibernate.dialect.PostgreSQLDialect",
+                "org.hibernate.generator.internal.TenantIdGeneration"}) {
+            Class.forName(type);
+            assertTrue(RuntimeHintsPredicates.reflection()
+                            .onType(TypeReference.of(type))
+                            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                            .test(hints),
+                    type + " muss instanziierbar registriert sein");
+        }
+    }
+
+    @Test
+    void jjwtServiceFiles_areIncluded() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Deserializer").test(hints));
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.JWTServices.JwtService;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.repository.TableRepository;
+import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.service.OpeningHoursService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockCookie;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integrationstest für konfigurierbare Öffnungszeiten ({@code /admin/opening-hours}).
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>nach dem Speichern gelten getrennte Mittags-/Abendservices sofort für Buchungen</li>
+ *   <li>ein geschlossenes Datum lehnt Buchungen mit 400 ab</li>
+ *   <li>nur Administratoren dürfen Öffnungszeiten ändern</li>
+ *   <li>ungültige Einträge ändern weder Datenbank noch geltende Regeln</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class OpeningHoursIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtService jwtService;
+    @Autowired private OpeningHoursService openingHoursService;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private TableRepository tableRepository;
+    @Autowired private ReservationRepository reservationRepository;
+
+    private String adminToken;
+    private String userToken;
+    private LocalDate tomorrow;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        userRepository.deleteAll();
+        tableRepository.deleteAll();
+
+        adminToken = jwtService.generateToken(userRepository.save(
+                new User("{noop}pw", Role.ROLE_ADMIN, "Admin", "admin@example.com", null)));
+        userToken = jwtService.generateToken(userRepository.save(
+                new User("{noop}pw", Role.ROLE_USER, "Anna", "anna@example.com", null)));
+
+        RestaurantTable t = new RestaurantTable();
+        t.setTableNumber(12);
+        t.setNumberOfSeats(4);
+        tableRepository.save(t);
+
+        tomorrow = LocalDate.now().plusDays(1);
+    }
+
+    /** Die Regeln gelten kontextweit; nachfolgende Tests erwarten die Standard-Öffnungszeiten. */
+    @AfterEach
+    void resetOpeningHours() {
+        openingHoursService.replaceAll(List.of());
+    }
+
+    private ResultActions putHours(String token, List<Map<String, Object>> hours) throws Exception {
+        return mockMvc.perform(put("/admin/opening-hours")
+                .cookie(new MockCookie("token", token))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(hours)));
+    }
+
+    private ResultActions book(LocalDateTime start, LocalDateTime end) throws Exception {
+        return mockMvc.perform(post("/api/reservations")
+                .cookie(new MockCookie("token", userToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "tableNumber", 12,
+                        "startTime", start.toString(),
+                        "endTime", end.toString()))));
+    }
+
+    @Test
+    void splitServices_andClosedDate_applyImmediately() throws Exception {
+        String day = tomorrow.getDayOfWeek().toString();
+        putHours(adminToken, List.of(
+                Map.of("dayOfWeek", day, "opensAt", "11:30", "closesAt", "14:30", "label", "Mittag"),
+                Map.of("dayOfWeek", day, "opensAt", "17:00", "closesAt", "22:00", "label", "Abend"),
+                Map.of("date", tomorrow.plusWeeks(1).toString(), "closed", true, "label", "Feiertag")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+
+        book(tomorrow.atTime(15, 0), tomorrow.atTime(17, 0))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", containsString("11:30-14:30, 17:00-22:00")));
+        book(tomorrow.plusWeeks(1).atTime(18, 0), tomorrow.plusWeeks(1).atTime(20, 0))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", containsString("closed")));
+        book(tomorrow.atTime(12, 0), tomorrow.atTime(14, 0))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/admin/opening-hours").cookie(new MockCookie("token", adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    void invalidOrUnauthorizedChanges_areRejected() throws Exception {
+        List<Map<String, Object>> lunchOnly = List.of(
+                Map.of("dayOfWeek", tomorrow.getDayOfWeek().toString(), "opensAt", "11:30", "closesAt", "14:30"));
+        putHours(userToken, lunchOnly).andExpect(status().isForbidden());
+
+        putHours(adminToken, List.of(
+                Map.of("dayOfWeek", "MONDAY", "opensAt", "11:00", "closesAt", "15:00"),
+                Map.of("dayOfWeek", "MONDAY", "opensAt", "14:00", "closesAt", "22:00")))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/admin/opening-hours").cookie(new MockCookie("token", adminToken)))
+                .andExpect(jsonPath("$.length()").value(0));
+        book(tomorrow.atTime(18, 0), tomorrow.atTime(20, 0))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.reservationsystem;
+
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.model.OutboxEvent;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.ReservationEventType;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.OutboxRepository;
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.repository.TableRepository;
+import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.service.ReactiveReservationService;
+import org.example.reservationsystem.service.ReservationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integrationstest für die transaktionale Outbox ({@code reservation_outbox}).
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>Buchung und Stornierung schreiben {@code CREATED}/{@code CANCELLED} mit Restaurant und Payload</li>
+ *   <li>wird die Buchung zurückgerollt, bleibt auch die Outbox leer</li>
+ *   <li>der reaktive Buchungspfad schreibt dasselbe Ereignis in seiner Transaktion</li>
+ *   <li>der Relay veröffentlicht die Einträge kurz danach</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest(properties = "reservation.outbox.enabled=true")
+@DirtiesContext
+public class OutboxIntegrationTest {
+
+    @Autowired private ReservationService reservationService;
+    @Autowired private ReactiveReservationService reactiveReservationService;
+    @Autowired private OutboxRepository outboxRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private TableRepository tableRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        userRepository.deleteAll();
+        tableRepository.deleteAll();
+
+        userRepository.save(new User("{noop}pw", Role.ROLE_USER, "Anna", "anna@example.com", null));
+        tableRepository.save(new RestaurantTable(4, 31));
+        start = LocalDateTime.now().plusDays(2).withHour(18).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        reservationRepository.deleteAll();
+        tableRepository.deleteAll();
+    }
+
+    private List<OutboxEvent> eventsFor(Long reservationId) {
+        return outboxRepository.findAll().stream()
+                .filter(e -> e.getReservationId().equals(reservationId))
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .toList();
+    }
+
+    @Test
+    void bookingAndCancellation_appendEvents_andRelayPublishesThem() throws InterruptedException {
+        Reservation saved = reservationService.addReservation(
+                new Reservation(start, start.plusHours(2)), 31, "anna@example.com");
+        reservationService.deleteReservation(saved.getId());
+
+        List<OutboxEvent> events = eventsFor(saved.getId());
+        assertEquals(List.of(ReservationEventType.CREATED, ReservationEventType.CANCELLED),
+                events.stream().map(OutboxEvent::getType).toList());
+        assertEquals(TenantContext.DEFAULT_TENANT, events.get(0).getTenant());
+        assertTrue(events.get(0).getPayload().contains("\"tableNumber\":31"));
+        assertTrue(events.get(0).getPayload().contains("anna@example.com"));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (eventsFor(saved.getId()).stream().anyMatch(e -> e.getPublishedAt() == null)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(eventsFor(saved.getId()).stream().allMatch(e -> e.getPublishedAt() != null),
+                "Relay muss die Einträge veröffentlichen");
+    }
+
+    @Test
+    void rolledBackBooking_leavesNoEvent() {
+        long before = outboxRepository.count();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            reservationService.addReservation(new Reservation(start, start.plusHours(2)), 31, "anna@example.com");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, reservationRepository.count());
+        assertEquals(before, outboxRepository.count());
+    }
+
+    @Test
+    void reactiveBooking_appendsCreatedEvent() {
+        Long id = reactiveReservationService.addReservation(start, start.plusHours(2), 31, "anna@example.com")
+                .block()
+                .id();
+
+        List<OutboxEvent> events = eventsFor(id);
+        assertEquals(1, events.size());
+        assertEquals(ReservationEventType.CREATED, events.get(0).getType());
+        assertTrue(events.get(0).getPayload().contains("\"reservationId\":" + id));
+    }
+}
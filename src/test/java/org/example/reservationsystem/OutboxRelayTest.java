@@ -0,0 +1,185 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.reservationsystem.model.OutboxEvent;
+import org.example.reservationsystem.model.ReservationEventType;
+import org.example.reservationsystem.repository.OutboxRepository;
+import org.example.reservationsystem.service.FileEventSink;
+import org.example.reservationsystem.service.LocalBrokerSink;
+import org.example.reservationsystem.service.OutboxRelay;
+import org.example.reservationsystem.service.ReservationEvent;
+import org.example.reservationsystem.service.ReservationEventSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests für {@link OutboxRelay} und die Senken (ohne Spring-Kontext und Datenbank).
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>schlägt eine Senke fehl, wird der Stapel zurückgerollt und beim nächsten Lauf
+ *       erneut an alle Senken zugestellt (at-least-once)</li>
+ *   <li>der lokale Broker übernimmt jede ID nur einmal, auch wenn IDs außer der Reihe
+ *       committet werden, und führt den Rückstand je Konsument</li>
+ *   <li>die Datei-Senke schreibt eine JSON-Zeile pro Ereignis</li>
+ *   <li>ein Eintrag mit unlesbarem Payload wird beiseitegelegt, ohne den Stapel zu blockieren</li>
+ *   <li>die Lag-Metriken spiegeln den ältesten unveröffentlichten Eintrag wider</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private OutboxRepository repository;
+    private PlatformTransactionManager transactionManager;
+    private final List<OutboxEvent> rows = new ArrayList<>();
+
+    @TempDir
+    Path tmp;
+
+    @BeforeEach
+    void setup() throws Exception {
+        repository = mock(OutboxRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(repository.lockUnpublished(any())).thenAnswer(inv ->
+                rows.stream().filter(r -> r.getPublishedAt() == null && r.getFailedAt() == null).toList());
+
+        LocalDateTime start = LocalDateTime.of(2030, 6, 9, 18, 0);
+        for (long id = 1; id <= 2; id++) {
+            ReservationEvent event = new ReservationEvent(null, ReservationEventType.CREATED, 100 + id, "default",
+                    (int) id, "anna@example.com", start, start.plusHours(2), null, LocalDateTime.now());
+            OutboxEvent row = new OutboxEvent(event.type(), event.reservationId(), event.tenant(),
+                    objectMapper.writeValueAsString(event), event.occurredAt());
+            ReflectionTestUtils.setField(row, "id", id);
+            rows.add(row);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private OutboxRelay relay(List<ReservationEventSink> sinks) {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(registry);
+        return new OutboxRelay(repository, sinks, objectMapper, transactionManager, provider, 100, Duration.ofDays(7));
+    }
+
+    /** Senke, die beim ersten Aufruf fehlschlägt. */
+    private static final class FlakySink implements ReservationEventSink {
+        int calls;
+
+        @Override
+        public String name() {
+            return "flaky";
+        }
+
+        @Override
+        public void publish(List<ReservationEvent> events) {
+            if (calls++ == 0) throw new IllegalStateException("sink unavailable");
+        }
+    }
+
+    @Test
+    void failingSink_rollsBack_andBatchIsRedeliveredToAllSinks() throws Exception {
+        @SuppressWarnings("unchecked")
+        LocalBrokerSink broker = new LocalBrokerSink(1000, mock(ObjectProvider.class));
+        FlakySink flaky = new FlakySink();
+        Path file = tmp.resolve("events.jsonl");
+        OutboxRelay relay = relay(List.of(broker, flaky, new FileEventSink(objectMapper, file)));
+
+        assertEquals(0, relay.publishBatch());
+        verify(transactionManager).rollback(any());
+        assertTrue(rows.stream().allMatch(r -> r.getPublishedAt() == null));
+        assertEquals(1.0, registry.get("reservation.outbox.failures").tag("sink", "flaky").counter().count());
+
+        assertEquals(2, relay.publishBatch());
+        assertTrue(rows.stream().allMatch(r -> r.getPublishedAt() != null));
+        assertEquals(0, relay.publishBatch());
+
+        LocalBrokerSink.Batch batch = broker.poll("kitchen", 10);
+        assertEquals(List.of(1L, 2L), batch.events().stream().map(ReservationEvent::id).toList());
+        assertEquals(101L, batch.events().get(0).reservationId());
+        assertEquals(2, broker.lag("kitchen"));
+        broker.commit("kitchen", batch.nextOffset());
+        assertEquals(0, broker.lag("kitchen"));
+        assertTrue(broker.poll("kitchen", 10).events().isEmpty());
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"id\":1") && lines.get(0).contains("\"type\":\"CREATED\""));
+    }
+
+    @Test
+    void unreadablePayload_isSetAside_andRestOfBatchIsPublished() {
+        OutboxEvent broken = new OutboxEvent(ReservationEventType.CREATED, 103L, "default", "{not json",
+                LocalDateTime.now());
+        ReflectionTestUtils.setField(broken, "id", 3L);
+        rows.add(1, broken);
+        @SuppressWarnings("unchecked")
+        LocalBrokerSink broker = new LocalBrokerSink(1000, mock(ObjectProvider.class));
+        OutboxRelay relay = relay(List.of(broker));
+
+        assertEquals(3, relay.publishBatch());
+        assertNotNull(broken.getFailedAt());
+        assertNull(broken.getPublishedAt());
+        assertEquals(List.of(1L, 2L),
+                broker.poll("kitchen", 10).events().stream().map(ReservationEvent::id).toList());
+        assertEquals(1.0, registry.get("reservation.outbox.failures").tag("sink", "payload").counter().count());
+        assertEquals(0, relay.publishBatch());
+    }
+
+    @Test
+    void broker_keepsEventsCommittedOutOfIdOrder() {
+        @SuppressWarnings("unchecked")
+        LocalBrokerSink broker = new LocalBrokerSink(1000, mock(ObjectProvider.class));
+
+        broker.publish(List.of(event(11L)));
+        broker.publish(List.of(event(10L)));
+        broker.publish(List.of(event(11L), event(12L)));
+
+        assertEquals(List.of(11L, 10L, 12L),
+                broker.poll("kitchen", 10).events().stream().map(ReservationEvent::id).toList());
+    }
+
+    private static ReservationEvent event(long id) {
+        LocalDateTime start = LocalDateTime.of(2030, 6, 9, 18, 0);
+        return new ReservationEvent(id, ReservationEventType.CREATED, 100 + id, "default",
+                1, "anna@example.com", start, start.plusHours(2), null, LocalDateTime.now());
+    }
+
+    @Test
+    void lagMetrics_reflectOldestPendingEvent() {
+        when(repository.pendingStats()).thenReturn(List.<Object[]>of(
+                new Object[]{3L, LocalDateTime.now().minusSeconds(30)}));
+        rows.forEach(r -> r.markPublished(LocalDateTime.now()));
+        OutboxRelay relay = relay(List.of());
+
+        relay.relay();
+
+        assertEquals(3.0, registry.get("reservation.outbox.pending").gauge().value());
+        assertTrue(registry.get("reservation.outbox.lag").gauge().value() >= 30.0);
+    }
+}
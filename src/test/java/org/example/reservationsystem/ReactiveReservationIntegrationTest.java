@@ -0,0 +1,161 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.JWTServices.JwtService;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.repository.TableRepository;
+import org.example.reservationsystem.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockCookie;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integrationstest für die reaktive Reservierungs-API ({@code /api/reactive/reservations}).
+ *
+ * <p>Die Endpunkte liefern {@code Mono}/{@code Flux}; MockMvc startet daher zunächst
+ * die asynchrone Verarbeitung ({@code request().asyncStarted()}) und prüft die
+ * Antwort erst nach {@code asyncDispatch}. Abgedeckt sind:</p>
+ *
+ * <ul>
+ *   <li><b>GET  /available</b> – freier Tisch wird geliefert, belegter nicht</li>
+ *   <li><b>POST /</b> – Reservierung anlegen, 200 + View-DTO</li>
+ *   <li><b>POST /</b> – Überschneidung führt zu 409 (gleiche Regel wie MVC-Pfad)</li>
+ *   <li><b>POST /</b> – ungültige Zeit führt zu 400 (geteilte Validierung)</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReactiveReservationIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private TableRepository tableRepository;
+    @Autowired private ReservationRepository reservationRepository;
+
+    @Autowired private JwtService jwtService;
+
+    private String jwtToken;
+    private User testUser;
+    private RestaurantTable testTable;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        userRepository.deleteAll();
+        tableRepository.deleteAll();
+
+        testUser = userRepository.save(new User(
+                "{noop}password123", Role.ROLE_USER, "Reactive User",
+                "reactive@example.com", "+49 170 0000000"));
+
+        testTable = new RestaurantTable();
+        testTable.setTableNumber(7);
+        testTable.setNumberOfSeats(4);
+        testTable = tableRepository.save(testTable);
+
+        jwtToken = jwtService.generateToken(testUser);
+        start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    private Map<String, Object> payload(LocalDateTime s, LocalDateTime e) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("tableNumber", testTable.getTableNumber());
+        body.put("startTime", s.toString());
+        body.put("endTime", e.toString());
+        return body;
+    }
+
+    private MvcResult startPost(Map<String, Object> body) throws Exception {
+        return mockMvc.perform(post("/api/reactive/reservations")
+                        .cookie(new MockCookie("token", jwtToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @Test
+    void createReservation_shouldReturnOk_withDtoResponse() throws Exception {
+        MvcResult started = startPost(payload(start, start.plusHours(2)));
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.email").value("reactive@example.com"))
+                .andExpect(jsonPath("$.tableNumber").value(7));
+    }
+
+    @Test
+    void createReservation_shouldReturnConflict_whenOverlapping() throws Exception {
+        User other = userRepository.save(new User(
+                "{noop}password123", Role.ROLE_USER, "Other", "other@example.com", null));
+        Reservation existing = new Reservation(start.plusHours(1), start.plusHours(3));
+        existing.setUser(other);
+        existing.setTable(testTable);
+        reservationRepository.save(existing);
+
+        MvcResult started = startPost(payload(start, start.plusHours(2)));
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void createReservation_shouldReturnBadRequest_whenTooLate() throws Exception {
+        LocalDateTime late = start.withHour(21);
+        MvcResult started = startPost(payload(late, late.plusHours(2)));
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void available_shouldExcludeReservedTable() throws Exception {
+        MvcResult free = mockMvc.perform(get("/api/reactive/reservations/available")
+                        .cookie(new MockCookie("token", jwtToken))
+                        .param("start", start.toString())
+                        .param("minutes", "120"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(free))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].tableNumber").value(7));
+
+        mockMvc.perform(asyncDispatch(startPost(payload(start, start.plusHours(2)))))
+                .andExpect(status().isOk());
+
+        MvcResult busy = mockMvc.perform(get("/api/reactive/reservations/available")
+                        .cookie(new MockCookie("token", jwtToken))
+                        .param("start", start.plusMinutes(30).toString())
+                        .param("minutes", "60"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(busy))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+}
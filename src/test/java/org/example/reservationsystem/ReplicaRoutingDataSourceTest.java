@@ -0,0 +1,109 @@
+package org.example.reservationsystem;
+
+import org.example.reservationsystem.config.ReadYourWritesGuard;
+import org.example.reservationsystem.config.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests für {@link ReplicaRoutingDataSource} und {@link ReadYourWritesGuard}.
+ *
+ * <p>Die Pools werden durch Mockito-Mocks ersetzt; geprüft wird, aus welchem Mock eine
+ * Verbindung angefordert wird:</p>
+ * <ul>
+ *   <li>ohne eigene Schreibzugriffe reihum aus den Replikas</li>
+ *   <li>direkt nach einem eigenen Schreibzugriff vom Primärserver</li>
+ *   <li>nach Ablauf des Zeitfensters wieder aus den Replikas</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica0;
+    private DataSource replica1;
+    private Connection primaryCon;
+    private Connection replica0Con;
+    private Connection replica1Con;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = mock(DataSource.class);
+        replica0 = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        primaryCon = mock(Connection.class);
+        replica0Con = mock(Connection.class);
+        replica1Con = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryCon);
+        when(replica0.getConnection()).thenReturn(replica0Con);
+        when(replica1.getConnection()).thenReturn(replica1Con);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("guest@example.com", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void reads_areDistributedRoundRobinOverReplicas() throws Exception {
+        ReplicaRoutingDataSource ds = new ReplicaRoutingDataSource(
+                primary, List.of(replica0, replica1), new ReadYourWritesGuard(Duration.ofSeconds(5)));
+
+        assertSame(replica0Con, ds.getConnection());
+        assertSame(replica1Con, ds.getConnection());
+        assertSame(replica0Con, ds.getConnection());
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void reads_goToPrimary_rightAfterOwnWrite() throws Exception {
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofSeconds(5));
+        ReplicaRoutingDataSource ds = new ReplicaRoutingDataSource(primary, List.of(replica0), guard);
+
+        guard.recordWrite("Guest@Example.com ");
+
+        assertSame(primaryCon, ds.getConnection());
+    }
+
+    @Test
+    void otherUsers_stillReadFromReplicas_afterSomeonesWrite() throws Exception {
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofSeconds(5));
+        ReplicaRoutingDataSource ds = new ReplicaRoutingDataSource(primary, List.of(replica0), guard);
+
+        guard.recordWrite("someone-else@example.com");
+
+        assertSame(replica0Con, ds.getConnection());
+    }
+
+    @Test
+    void reads_returnToReplicas_afterWindowExpired() throws Exception {
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofMillis(20));
+        ReplicaRoutingDataSource ds = new ReplicaRoutingDataSource(primary, List.of(replica0), guard);
+
+        guard.recordWrite("guest@example.com");
+        Thread.sleep(50);
+
+        assertSame(replica0Con, ds.getConnection());
+    }
+
+    @Test
+    void constructor_rejectsEmptyReplicaList() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplicaRoutingDataSource(
+                primary, List.of(), new ReadYourWritesGuard(Duration.ofSeconds(5))));
+    }
+}
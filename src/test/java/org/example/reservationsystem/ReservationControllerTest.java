@@ -1,17 +1,28 @@
 package org.example.reservationsystem;
 
 import org.example.reservationsystem.DTO.ReservationRequestDTO;
+import org.example.reservationsystem.DTO.ReservationViewDTO;
 import org.example.reservationsystem.DTO.TableViewDTO;
 import org.example.reservationsystem.controller.ReservationController;
 import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.service.AvailabilityFeed;
+import org.example.reservationsystem.service.OpeningHoursService;
 import org.example.reservationsystem.service.ReservationService;
+import org.example.reservationsystem.service.ReservationVersions;
+import org.example.reservationsystem.service.TableHoldRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -33,10 +44,11 @@ import static org.mockito.Mockito.*;
  *   <li>Erstellen einer Reservierung – ohne Authentifizierung → 401</li>
  *   <li>Erstellen einer Reservierung – mit Authentifizierung → 200 und Übergabe an Service</li>
  *   <li>Löschen einer Reservierung → 204</li>
- *   <li>Eigene Reservierung abrufen – ohne Authentifizierung → 401</li>
- *   <li>Eigene Reservierung abrufen – vorhanden → 200</li>
- *   <li>Eigene Reservierung abrufen – nicht vorhanden → 204</li>
+ *   <li>Eigene Reservierungen abrufen – ohne Authentifizierung → 401</li>
+ *   <li>Eigene Reservierungen abrufen – vorhanden → 200 + Seite mit DTOs</li>
+ *   <li>Eigene Reservierungen abrufen – Seitengröße wird begrenzt</li>
  *   <li>Verfügbare Tische abrufen → 200 + erwartete Liste</li>
+ *   <li>Passender {@code If-None-Match} → 304 ohne Service-Aufruf, nach einer Änderung wieder 200</li>
  * </ul>
  *
  * <p>Wichtig: Der Login-Identifier ist die E-Mail des Benutzers.
@@ -49,6 +61,7 @@ class ReservationControllerTest {
 
     private ReservationService reservationService;
     private ReservationController reservationController;
+    private ReservationVersions versions;
 
     /**
      * Setzt vor jedem Test einen gemockten {@link ReservationService} und
@@ -57,7 +70,10 @@ class ReservationControllerTest {
     @BeforeEach
     void setUp() {
         reservationService = mock(ReservationService.class);
-        reservationController = new ReservationController(reservationService);
+        versions = new ReservationVersions(new TableHoldRegistry(Duration.ofMinutes(2)),
+                new OpeningHoursService(null, Duration.ofMinutes(30), Duration.ofHours(2), Duration.ofHours(5)),
+                true, Duration.ZERO);
+        reservationController = new ReservationController(reservationService, mock(AvailabilityFeed.class), versions);
         // Standard: authentifizierter Benutzer; Tests für 401 leeren den Kontext selbst
         SecurityContextHolder.getContext().setAuthentication(
                 new UsernamePasswordAuthenticationToken("testuser@example.com", null, List.of())
@@ -134,50 +150,57 @@ class ReservationControllerTest {
     }
 
     /**
-     * getUserReservation: Ohne Authentifizierung → 401 Unauthorized.
+     * getUserReservations: Ohne Authentifizierung → 401 Unauthorized.
      */
     @Test
-    void getUserReservation_shouldReturnUnauthorized_whenNoAuthentication() {
+    void getUserReservations_shouldReturnUnauthorized_whenNoAuthentication() {
         SecurityContextHolder.clearContext();
 
-        ResponseEntity<?> resp = reservationController.getUserReservation();
+        ResponseEntity<?> resp = reservationController.getUserReservations(0, 10, null);
 
         assertEquals(401, resp.getStatusCodeValue());
         verifyNoInteractions(reservationService);
     }
 
     /**
-     * getUserReservation: Es existiert eine Reservierung → 200 OK
-     * und Übergabe der E-Mail aus dem SecurityContext an den Service.
+     * getUserReservations: Es existieren Reservierungen → 200 OK mit einer Seite
+     * von DTOs und Übergabe der E-Mail aus dem SecurityContext an den Service.
      */
     @Test
-    void getUserReservation_shouldReturnOk_whenReservationExists() {
+    void getUserReservations_shouldReturnPage_whenReservationsExist() {
         // E-Mail aus setUp: testuser@example.com
         Reservation r = new Reservation(
                 LocalDateTime.of(2025, 6, 8, 18, 0),
                 LocalDateTime.of(2025, 6, 8, 20, 0)
         );
         r.setId(7L);
+        PageRequest pageable = PageRequest.of(0, 10);
 
-        when(reservationService.getUserReservation("testuser@example.com")).thenReturn(r);
+        when(reservationService.getUserReservations("testuser@example.com", pageable))
+                .thenReturn(new PageImpl<>(List.of(r), pageable, 1));
 
-        ResponseEntity<?> resp = reservationController.getUserReservation();
+        ResponseEntity<PagedModel<ReservationViewDTO>> resp = reservationController.getUserReservations(0, 10, null);
 
         assertEquals(200, resp.getStatusCodeValue());
         assertNotNull(resp.getBody());
-        verify(reservationService).getUserReservation("testuser@example.com");
+        assertEquals(1, resp.getBody().getContent().size());
+        assertEquals(7L, resp.getBody().getContent().get(0).id());
+        assertEquals(1, resp.getBody().getMetadata().totalElements());
+        verify(reservationService).getUserReservations("testuser@example.com", pageable);
     }
 
     /**
-     * getUserReservation: Keine Reservierung vorhanden → 204 No Content.
+     * getUserReservations: Zu große Seitengrößen werden auf das Maximum begrenzt.
      */
     @Test
-    void getUserReservation_shouldReturnNoContent_whenReservationMissing() {
-        when(reservationService.getUserReservation("testuser@example.com")).thenReturn(null);
+    void getUserReservations_shouldClampPageSize() {
+        when(reservationService.getUserReservations(eq("testuser@example.com"), any()))
+                .thenReturn(Page.empty());
 
-        ResponseEntity<?> resp = reservationController.getUserReservation();
+        ResponseEntity<?> resp = reservationController.getUserReservations(-1, 10_000, null);
 
-        assertEquals(204, resp.getStatusCodeValue());
+        assertEquals(200, resp.getStatusCodeValue());
+        verify(reservationService).getUserReservations("testuser@example.com", PageRequest.of(0, 50));
     }
 
     /**
@@ -191,7 +214,7 @@ class ReservationControllerTest {
                 .thenReturn(List.of(new TableViewDTO(10L, 3, 2)));
 
         ResponseEntity<List<TableViewDTO>> resp =
-                reservationController.getAvailableTables("2025-10-30T18:00:00", 120);
+                reservationController.getAvailableTables("2025-10-30T18:00:00", 120, null);
 
         assertEquals(200, resp.getStatusCodeValue());
         assertNotNull(resp.getBody());
@@ -199,4 +222,55 @@ class ReservationControllerTest {
         assertEquals(3, resp.getBody().get(0).getTableNumber());
         assertEquals(2, resp.getBody().get(0).getNumberOfSeats());
     }
-}
\ No newline at end of file
+
+    /**
+     * getAvailableTables: Mit passendem {@code If-None-Match} antwortet der Controller mit
+     * 304, ohne den Service aufzurufen; eine Buchung am selben Tag ändert den ETag.
+     */
+    @Test
+    void getAvailableTables_shouldReturnNotModified_untilDayChanges() {
+        LocalDateTime start = LocalDateTime.of(2025, 10, 30, 18, 0);
+        when(reservationService.findAvailableTables(start, 120))
+                .thenReturn(List.of(new TableViewDTO(10L, 3, 2)));
+
+        ResponseEntity<List<TableViewDTO>> first =
+                reservationController.getAvailableTables("2025-10-30T18:00:00", 120, null);
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+        assertEquals("no-cache, private", first.getHeaders().getCacheControl());
+
+        ResponseEntity<List<TableViewDTO>> cached =
+                reservationController.getAvailableTables("2025-10-30T18:00:00", 120, etag);
+        assertEquals(304, cached.getStatusCodeValue());
+        assertNull(cached.getBody());
+        verify(reservationService, times(1)).findAvailableTables(start, 120);
+
+        versions.reservationChanged("default", LocalDate.of(2025, 10, 31), "other@example.com");
+        assertEquals(304, reservationController.getAvailableTables("2025-10-30T18:00:00", 120, etag)
+                .getStatusCodeValue(), "Buchung an einem anderen Tag ändert nichts");
+
+        versions.reservationChanged("default", LocalDate.of(2025, 10, 30), "other@example.com");
+        ResponseEntity<List<TableViewDTO>> changed =
+                reservationController.getAvailableTables("2025-10-30T18:00:00", 120, etag);
+        assertEquals(200, changed.getStatusCodeValue());
+        assertNotEquals(etag, changed.getHeaders().getETag());
+        verify(reservationService, times(2)).findAvailableTables(start, 120);
+    }
+
+    /**
+     * getUserReservations: Der ETag gilt pro Benutzer; nur eigene Änderungen machen ihn ungültig.
+     */
+    @Test
+    void getUserReservations_shouldReturnNotModified_untilOwnReservationsChange() {
+        when(reservationService.getUserReservations(eq("testuser@example.com"), any()))
+                .thenReturn(Page.empty());
+        String etag = reservationController.getUserReservations(0, 10, null).getHeaders().getETag();
+
+        versions.reservationChanged("default", LocalDate.of(2025, 10, 30), "other@example.com");
+        assertEquals(304, reservationController.getUserReservations(0, 10, etag.substring(2)).getStatusCodeValue());
+
+        versions.reservationChanged("default", LocalDate.of(2025, 10, 30), "TestUser@example.com");
+        assertEquals(200, reservationController.getUserReservations(0, 10, etag).getStatusCodeValue());
+        verify(reservationService, times(2)).getUserReservations(eq("testuser@example.com"), any());
+    }
+}
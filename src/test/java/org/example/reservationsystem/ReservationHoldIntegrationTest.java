@@ -0,0 +1,165 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.JWTServices.JwtService;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.repository.TableRepository;
+import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.service.TableHoldRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockCookie;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integrationstest für vorläufige Tisch-Holds ({@code /api/reservations/holds}).
+ *
+ * <p>Geprüft wird der Ablauf mit zwei Benutzern:</p>
+ * <ul>
+ *   <li>ein gehaltener Tisch fehlt in {@code GET /api/reservations/available}</li>
+ *   <li>ein anderer Benutzer kann ihn weder halten noch direkt buchen (409)</li>
+ *   <li>der Besitzer bestätigt den Hold und erhält die Reservierung; der Hold ist danach verbraucht</li>
+ *   <li>ein freigegebener Hold gibt den Tisch sofort wieder frei</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReservationHoldIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtService jwtService;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private TableRepository tableRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private TableHoldRegistry holdRegistry;
+
+    private String annaToken;
+    private String benToken;
+    private RestaurantTable table;
+    private LocalDateTime start;
+    private final List<String> createdHolds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        userRepository.deleteAll();
+        tableRepository.deleteAll();
+
+        annaToken = jwtService.generateToken(userRepository.save(
+                new User("{noop}pw", Role.ROLE_USER, "Anna", "anna@example.com", null)));
+        benToken = jwtService.generateToken(userRepository.save(
+                new User("{noop}pw", Role.ROLE_USER, "Ben", "ben@example.com", null)));
+
+        RestaurantTable t = new RestaurantTable();
+        t.setTableNumber(8);
+        t.setNumberOfSeats(2);
+        table = tableRepository.save(t);
+
+        start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    /**
+     * Die Registry lebt im gecachten Spring-Kontext weiter; offene Holds würden sonst
+     * nachfolgende Tests blockieren, sobald ein neu angelegter Tisch dieselbe ID erhält.
+     */
+    @AfterEach
+    void releaseHolds() {
+        createdHolds.forEach(id -> holdRegistry.release(UUID.fromString(id)));
+        createdHolds.clear();
+    }
+
+    private String payload() throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "tableNumber", table.getTableNumber(),
+                "startTime", start.toString(),
+                "endTime", start.plusHours(2).toString()));
+    }
+
+    private String hold(String token) throws Exception {
+        String body = mockMvc.perform(post("/api/reservations/holds")
+                        .cookie(new MockCookie("token", token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tableNumber").value(table.getTableNumber()))
+                .andExpect(jsonPath("$.expiresAt").exists())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(body);
+        String id = json.get("id").asText();
+        createdHolds.add(id);
+        return id;
+    }
+
+    @Test
+    void heldTable_isHidden_andBlockedForOthers_untilConfirmed() throws Exception {
+        String holdId = hold(annaToken);
+
+        mockMvc.perform(get("/api/reservations/available")
+                        .cookie(new MockCookie("token", benToken))
+                        .param("start", start.toString())
+                        .param("minutes", "120"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(post("/api/reservations/holds")
+                        .cookie(new MockCookie("token", benToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload()))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/reservations")
+                        .cookie(new MockCookie("token", benToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload()))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/reservations/holds/" + holdId + "/confirm")
+                        .cookie(new MockCookie("token", benToken)))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/reservations/holds/" + holdId + "/confirm")
+                        .cookie(new MockCookie("token", annaToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("anna@example.com"))
+                .andExpect(jsonPath("$.tableNumber").value(table.getTableNumber()));
+        assertEquals(1, reservationRepository.count());
+
+        mockMvc.perform(post("/api/reservations/holds/" + holdId + "/confirm")
+                        .cookie(new MockCookie("token", annaToken)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void releasedHold_freesTable_forOtherUsers() throws Exception {
+        String holdId = hold(annaToken);
+
+        mockMvc.perform(delete("/api/reservations/holds/" + holdId)
+                        .cookie(new MockCookie("token", annaToken)))
+                .andExpect(status().isNoContent());
+
+        hold(benToken);
+    }
+}
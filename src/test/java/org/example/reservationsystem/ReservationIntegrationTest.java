@@ -1,6 +1,8 @@
 package org.example.reservationsystem;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.example.reservationsystem.JWTServices.JwtService;
 import org.example.reservationsystem.model.Reservation;
 import org.example.reservationsystem.model.RestaurantTable;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockCookie;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,6 +25,9 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -36,8 +42,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  *
  * <ul>
  *   <li><b>POST /api/reservations</b> – Reservierung anlegen, 200 + View-DTO</li>
- *   <li><b>GET  /api/reservations/userReservations</b> – eigene Reservierung abrufen, 200 + View-DTO</li>
+ *   <li><b>GET  /api/reservations/userReservations</b> – eigene Reservierungen abrufen, 200 + Seite mit View-DTOs</li>
  *   <li><b>DELETE /api/reservations/{id}</b> – Reservierung löschen, 204</li>
+ *   <li><b>ETag / If-None-Match</b> – 304 für unveränderte Verfügbarkeit und eigene Reservierungen,
+ *       nach einer Buchung wieder 200</li>
+ *   <li><b>GET  /api/reservations/all</b> – mit {@code Accept: application/cbor} binär kodiert (Admin)</li>
  * </ul>
  *
  * <p>Der Login-Identifier ist die E-Mail-Adresse. Für die Tests wird ein Benutzer,
@@ -147,10 +156,10 @@ public class ReservationIntegrationTest {
 
     /**
      * End-to-End: Nach dem Anlegen der Reservierung kann der eingeloggte Benutzer
-     * seine eigene Reservierung über {@code GET /api/reservations/userReservations} abrufen.
+     * seine eigenen Reservierungen über {@code GET /api/reservations/userReservations} abrufen.
      *
-     * <p>Erwartet wird {@code 200 OK} und ein View-DTO mit E-Mail, Tischnummer,
-     * Start- und Endzeit.</p>
+     * <p>Erwartet wird {@code 200 OK} und eine Seite mit einem View-DTO (E-Mail, Tischnummer,
+     * Start- und Endzeit) sowie den Seiten-Metadaten.</p>
      */
     @Test
     void getUserReservation_shouldReturnDto_afterCreation() throws Exception {
@@ -165,10 +174,11 @@ public class ReservationIntegrationTest {
         mockMvc.perform(get("/api/reservations/userReservations")
                         .cookie(new MockCookie("token", jwtToken)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.email").value(email))
-                .andExpect(jsonPath("$.tableNumber").value(testTable.getTableNumber()))
-                .andExpect(jsonPath("$.startTime").exists())
-                .andExpect(jsonPath("$.endTime").exists());
+                .andExpect(jsonPath("$.content[0].email").value(email))
+                .andExpect(jsonPath("$.content[0].tableNumber").value(testTable.getTableNumber()))
+                .andExpect(jsonPath("$.content[0].startTime").exists())
+                .andExpect(jsonPath("$.content[0].endTime").exists())
+                .andExpect(jsonPath("$.page.totalElements").value(1));
     }
 
     /**
@@ -198,4 +208,78 @@ public class ReservationIntegrationTest {
                         .cookie(new MockCookie("token", jwtToken)))
                 .andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    /**
+     * End-to-End: Bedingte Abfragen der Verfügbarkeit und der eigenen Reservierungen.
+     *
+     * <p>Mit dem ETag der ersten Antwort liefern Folgeabfragen {@code 304}; nach einer
+     * Buchung ändern sich beide ETags und die Abfragen liefern wieder {@code 200}.</p>
+     */
+    @Test
+    void conditionalGet_returnsNotModified_untilBookingCommits() throws Exception {
+        Map<String, Object> body = validReservationPayload();
+        String available = "/api/reservations/available?start=" + body.get("startTime") + "&minutes=120";
+
+        String availableTag = mockMvc.perform(get(available).cookie(new MockCookie("token", jwtToken)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String ownTag = mockMvc.perform(get("/api/reservations/userReservations")
+                        .cookie(new MockCookie("token", jwtToken)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(availableTag);
+        assertNotNull(ownTag);
+
+        mockMvc.perform(get(available).cookie(new MockCookie("token", jwtToken))
+                        .header(HttpHeaders.IF_NONE_MATCH, availableTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, availableTag));
+
+        mockMvc.perform(post("/api/reservations")
+                        .cookie(new MockCookie("token", jwtToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isOk());
+
+        String changedTag = mockMvc.perform(get(available).cookie(new MockCookie("token", jwtToken))
+                        .header(HttpHeaders.IF_NONE_MATCH, availableTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(availableTag, changedTag);
+        mockMvc.perform(get("/api/reservations/userReservations")
+                        .cookie(new MockCookie("token", jwtToken))
+                        .header(HttpHeaders.IF_NONE_MATCH, ownTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(1));
+    }
+
+    /**
+     * {@code GET /api/reservations/all} liefert mit {@code Accept: application/cbor} dieselben
+     * Daten CBOR-kodiert.
+     */
+    @Test
+    void allReservations_areEncodedAsCbor_whenRequested() throws Exception {
+        mockMvc.perform(post("/api/reservations")
+                        .cookie(new MockCookie("token", jwtToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validReservationPayload())))
+                .andExpect(status().isOk());
+        String adminToken = jwtService.generateToken(userRepository.save(
+                new User("{noop}pw", Role.ROLE_ADMIN, "Admin", "admin@example.com", null)));
+
+        byte[] body = mockMvc.perform(get("/api/reservations/all")
+                        .cookie(new MockCookie("token", adminToken))
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode reservations = new CBORMapper().readTree(body);
+        assertEquals(1, reservations.size());
+        assertEquals(email, reservations.get(0).get("email").asText());
+        assertEquals(5, reservations.get(0).get("tableNumber").asInt());
+    }
+}
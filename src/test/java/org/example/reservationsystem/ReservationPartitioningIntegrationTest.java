@@ -0,0 +1,149 @@
+package org.example.reservationsystem;
+
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.repository.TableRepository;
+import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.service.ReservationPartitionMaintenance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integrationstest für die monatsweise Partitionierung von {@code reservations} (PostgreSQL).
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>die Tabelle ist nach {@code start_time} partitioniert und hat Monatspartitionen
+ *       für den aktuellen und die folgenden Monate</li>
+ *   <li>eine Reservierung landet in der Partition ihres Monats</li>
+ *   <li>alte Partitionen werden ausgehängt und ins Archiv-Schema verschoben</li>
+ *   <li>scheitert das Verschieben, bleibt die Partition angehängt (eine Transaktion)</li>
+ *   <li>die Überschneidungsprüfung nutzt Partition Pruning (nur eine Partition im Plan)</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest(properties = "reservation.partitioning.enabled=true")
+@DirtiesContext
+public class ReservationPartitioningIntegrationTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ReservationPartitionMaintenance maintenance;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private TableRepository tableRepository;
+    @Autowired private ReservationRepository reservationRepository;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        userRepository.deleteAll();
+        tableRepository.deleteAll();
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = 'reservations'::regclass
+                """, String.class);
+    }
+
+    @Test
+    void reservations_isPartitioned_withUpcomingMonths() {
+        String strategy = jdbcTemplate.queryForObject("""
+                SELECT pt.partstrat FROM pg_partitioned_table pt
+                 WHERE pt.partrelid = 'reservations'::regclass
+                """, String.class);
+        assertEquals("r", strategy);
+
+        YearMonth now = YearMonth.now();
+        List<String> parts = partitions();
+        assertTrue(parts.contains("reservations_default"));
+        assertTrue(parts.contains(String.format("reservations_y%04dm%02d", now.getYear(), now.getMonthValue())));
+        YearMonth next = now.plusMonths(1);
+        assertTrue(parts.contains(String.format("reservations_y%04dm%02d", next.getYear(), next.getMonthValue())));
+    }
+
+    @Test
+    void reservation_isStoredInPartitionOfItsMonth_andOverlapCheckIsPruned() {
+        User user = userRepository.save(new User("{noop}pw", Role.ROLE_USER, "Part User", "part@example.com", null));
+        RestaurantTable table = new RestaurantTable();
+        table.setTableNumber(11);
+        table.setNumberOfSeats(2);
+        table = tableRepository.save(table);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+        Reservation r = new Reservation(start, start.plusHours(2));
+        r.setUser(user);
+        r.setTable(table);
+        reservationRepository.save(r);
+
+        String expected = String.format("reservations_y%04dm%02d", start.getYear(), start.getMonthValue());
+        String actual = jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM reservations WHERE user_id = ?", String.class, user.getId());
+        assertEquals(expected, actual);
+
+        List<String> plan = jdbcTemplate.queryForList("""
+                EXPLAIN SELECT 1 FROM reservations
+                 WHERE table_id = ? AND start_time > ? AND start_time < ? AND end_time > ?
+                """, String.class, table.getId(), start.minusHours(5), start.plusHours(2), start);
+        String joined = String.join("\n", plan);
+        assertTrue(joined.contains(expected), joined);
+        assertFalse(joined.contains("reservations_default"), joined);
+
+        assertTrue(reservationRepository.existsOverlap(table.getId(), start.plusHours(1), start.plusHours(3),
+                start.plusHours(1).minusHours(5)));
+    }
+
+    @Test
+    void oldPartitions_areDetachedIntoArchiveSchema() {
+        YearMonth old = YearMonth.now().minusMonths(12);
+        String name = String.format("reservations_y%04dm%02d", old.getYear(), old.getMonthValue());
+        jdbcTemplate.execute("DROP TABLE IF EXISTS reservations_archive." + name);
+        jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF reservations FOR VALUES FROM ('"
+                + old.atDay(1) + "') TO ('" + old.plusMonths(1).atDay(1) + "')");
+        assertTrue(partitions().contains(name));
+
+        maintenance.maintain();
+
+        assertFalse(partitions().contains(name));
+        Integer archived = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_tables WHERE schemaname = 'reservations_archive' AND tablename = ?",
+                Integer.class, name);
+        assertEquals(1, archived);
+    }
+
+    @Test
+    void failedArchive_leavesPartitionAttached() {
+        YearMonth old = YearMonth.now().minusMonths(13);
+        String name = String.format("reservations_y%04dm%02d", old.getYear(), old.getMonthValue());
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS reservations_archive");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS reservations_archive." + name);
+        jdbcTemplate.execute("CREATE TABLE reservations_archive." + name + " (id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF reservations FOR VALUES FROM ('"
+                + old.atDay(1) + "') TO ('" + old.plusMonths(1).atDay(1) + "')");
+
+        try {
+            maintenance.maintain();
+
+            assertTrue(partitions().contains(name), "Partition muss nach gescheitertem Verschieben angehängt bleiben");
+        } finally {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+            jdbcTemplate.execute("DROP TABLE IF EXISTS reservations_archive." + name);
+        }
+    }
+}
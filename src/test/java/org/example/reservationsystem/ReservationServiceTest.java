@@ -2,6 +2,8 @@
 package org.example.reservationsystem;
 
 import jakarta.transaction.Transactional;
+import org.example.reservationsystem.exceptions.NoTableAvailableException;
+import org.example.reservationsystem.exceptions.ReservationLimitExceededException;
 import org.example.reservationsystem.model.Reservation;
 import org.example.reservationsystem.model.RestaurantTable;
 import org.example.reservationsystem.model.Role;
@@ -13,8 +15,11 @@ import org.example.reservationsystem.service.ReservationService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,6 +38,8 @@ import static org.junit.jupiter.api.Assertions.*;
  * <ul>
  *   <li>Eine neue Reservierung wird korrekt gespeichert und mit Benutzer und Tisch verknüpft</li>
  *   <li>Beim Löschen einer Reservierung werden alle bidirektionalen Beziehungen korrekt aufgelöst</li>
+ *   <li>Ein Benutzer kann mehrere Reservierungen halten, höchstens jedoch das konfigurierte Limit</li>
+ *   <li>Ohne Tischwahl wird der kleinste passende freie Tisch gebucht</li>
  * </ul>
  *
  * <p>Jeder Test läuft in einer eigenen Transaktion, die nach Testende automatisch
@@ -113,9 +120,9 @@ class ReservationServiceTest {
         assertEquals(10, saved.getTable().getTableNumber());
 
 
-        User reloadedUser = userRepository.findByEmail(email).orElseThrow();
-        assertNotNull(reloadedUser.getReservation());
-        assertEquals(saved.getId(), reloadedUser.getReservation().getId());
+        List<Reservation> own = reservationService.getUserReservations(email, PageRequest.of(0, 10)).getContent();
+        assertEquals(1, own.size());
+        assertEquals(saved.getId(), own.get(0).getId());
 
 
         RestaurantTable reloadedTable = tableRepository.findTableByTableNumber(10).orElseThrow();
@@ -168,8 +175,8 @@ class ReservationServiceTest {
         assertTrue(reservationRepository.findById(reservationId).isEmpty());
 
 
-        User reloadedUser = userRepository.findByEmail(email).orElseThrow();
-        assertNull(reloadedUser.getReservation(), "User should not reference a reservation anymore");
+        assertTrue(reservationService.getUserReservations(email, PageRequest.of(0, 10)).isEmpty(),
+                "User should not have a reservation anymore");
 
 
         RestaurantTable reloadedTable = tableRepository.findTableByTableNumber(20).orElseThrow();
@@ -179,4 +186,70 @@ class ReservationServiceTest {
                 "Table reservations should not contain the deleted reservation"
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Testet mehrere Reservierungen pro Benutzer und das Limit aktiver Reservierungen
+     * ({@code reservation.booking.max-active-per-user}, Standard 3).
+     *
+     * <p>Überprüft wird:</p>
+     * <ul>
+     *   <li>Bis zum Limit können Reservierungen an verschiedenen Tagen angelegt werden</li>
+     *   <li>Die eigene Übersicht liefert sie seitenweise, aufsteigend nach Beginn</li>
+     *   <li>Eine weitere Buchung wird mit {@link ReservationLimitExceededException} abgelehnt</li>
+     * </ul>
+     */
+    @Test
+    void testMultipleReservations_upToLimit() {
+
+        String email = "regular@example.com";
+        userRepository.saveAndFlush(new User("password", Role.ROLE_USER, "Stammgast", email, null));
+        tableRepository.saveAndFlush(new RestaurantTable(4, 30));
+
+        for (int day = 3; day >= 1; day--) {
+            LocalDateTime start = tomorrowAt(18, 0).plusDays(day - 1);
+            reservationService.addReservation(new Reservation(start, start.plusHours(2)), 30, email);
+        }
+
+        Page<Reservation> first = reservationService.getUserReservations(email, PageRequest.of(0, 2));
+        assertEquals(3, first.getTotalElements());
+        assertEquals(2, first.getTotalPages());
+        assertEquals(tomorrowAt(18, 0), first.getContent().get(0).getStartTime());
+        assertEquals(tomorrowAt(18, 0).plusDays(1), first.getContent().get(1).getStartTime());
+
+        LocalDateTime fourth = tomorrowAt(18, 0).plusDays(5);
+        assertThrows(ReservationLimitExceededException.class, () ->
+                reservationService.addReservation(new Reservation(fourth, fourth.plusHours(2)), 30, email));
+    }
+
+    /**
+     * Testet {@link ReservationService#addReservationForParty(Reservation, int, String)}.
+     *
+     * <p>Überprüft wird:</p>
+     * <ul>
+     *   <li>Der kleinste Tisch mit ausreichend Plätzen wird gewählt</li>
+     *   <li>Ist er belegt, wird der nächstgrößere freie Tisch gebucht</li>
+     *   <li>Passt weder ein freier Tisch noch eine Kombination, wird {@link NoTableAvailableException} ausgelöst</li>
+     * </ul>
+     */
+    @Test
+    void testAddReservationForParty_picksSmallestFittingTable() {
+
+        String email = "party@example.com";
+        userRepository.saveAndFlush(new User("password", Role.ROLE_USER, "Gruppe", email, null));
+        tableRepository.saveAndFlush(new RestaurantTable(16, 41));
+        tableRepository.saveAndFlush(new RestaurantTable(12, 42));
+
+        LocalDateTime start = tomorrowAt(18, 0);
+        Reservation first = reservationService.addReservationForParty(
+                new Reservation(start, start.plusHours(2)), 11, email).get(0);
+        assertEquals(42, first.getTable().getTableNumber());
+
+        Reservation second = reservationService.addReservationForParty(
+                new Reservation(start.plusMinutes(30), start.plusHours(2)), 11, email).get(0);
+        assertEquals(41, second.getTable().getTableNumber());
+
+        assertThrows(NoTableAvailableException.class, () ->
+                reservationService.addReservationForParty(
+                        new Reservation(start.plusHours(1), start.plusHours(3)), 17, email));
+    }
+}
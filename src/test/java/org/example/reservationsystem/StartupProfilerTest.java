@@ -0,0 +1,88 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.config.StartupProfiler;
+import org.example.reservationsystem.config.StartupProfiler.BeanTiming;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit-Tests für den {@link StartupProfiler} (ohne Spring-Kontext).
+ *
+ * <p>Die Startschritte werden direkt über eine {@link BufferingApplicationStartup} erzeugt:
+ * eine Bean, deren Instanziierung eine abhängige Bean auslöst.</p>
+ *
+ * author Maciej Janowski
+ */
+class StartupProfilerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void beanTimings_subtractDependentBeansFromSelfTime() throws InterruptedException {
+        BufferingApplicationStartup startup = bufferedNestedBeans();
+
+        List<BeanTiming> timings = StartupProfiler.beanTimings(startup.getBufferedTimeline().getEvents());
+
+        assertEquals(2, timings.size());
+        BeanTiming outer = timings.stream().filter(t -> t.name().equals("outerService")).findFirst().orElseThrow();
+        BeanTiming inner = timings.stream().filter(t -> t.name().equals("innerRepository")).findFirst().orElseThrow();
+        assertTrue(outer.totalMillis() >= outer.selfMillis() + inner.totalMillis() - 1);
+        assertTrue(outer.selfMillis() >= 50, "Eigenzeit der äußeren Bean: " + outer.selfMillis());
+        assertEquals(inner.totalMillis(), inner.selfMillis());
+        assertEquals("outerService", timings.get(0).name(), "absteigend nach Eigenzeit");
+    }
+
+    @Test
+    void onReady_writesReportWithSlowestBeans() throws Exception {
+        BufferingApplicationStartup startup = bufferedNestedBeans();
+        Path report = tempDir.resolve("reports/startup.json");
+        ObjectMapper mapper = new ObjectMapper();
+
+        new StartupProfiler(startup, mapper, report, 1)
+                .onReady(new ApplicationReadyEvent(new SpringApplication(), new String[0], null, Duration.ofMillis(1234)));
+
+        JsonNode json = mapper.readTree(report.toFile());
+        assertEquals(1234, json.get("readyMillis").asLong());
+        assertEquals(2, json.get("beanCount").asInt());
+        assertEquals(1, json.get("slowestBeans").size());
+        assertEquals("outerService", json.get("slowestBeans").get(0).get("name").asText());
+    }
+
+    @Test
+    void applicationStartup_rejectsUnknownMode() {
+        String previous = System.getProperty(StartupProfiler.MODE_PROPERTY);
+        System.setProperty(StartupProfiler.MODE_PROPERTY, "verbose");
+        try {
+            assertThrows(IllegalArgumentException.class, StartupProfiler::applicationStartup);
+        } finally {
+            if (previous == null) System.clearProperty(StartupProfiler.MODE_PROPERTY);
+            else System.setProperty(StartupProfiler.MODE_PROPERTY, previous);
+        }
+    }
+
+    private static BufferingApplicationStartup bufferedNestedBeans() throws InterruptedException {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        StartupStep outer = startup.start("spring.beans.instantiate").tag("beanName", "outerService");
+        Thread.sleep(60);
+        StartupStep inner = startup.start("spring.beans.instantiate").tag("beanName", "innerRepository");
+        Thread.sleep(20);
+        inner.end();
+        outer.end();
+        return startup;
+    }
+}
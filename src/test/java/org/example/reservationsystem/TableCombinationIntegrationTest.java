@@ -0,0 +1,167 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.JWTServices.JwtService;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.repository.TableRepository;
+import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.service.TableAdjacencyIndex;
+import org.example.reservationsystem.service.TableService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockCookie;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integrationstest für Tischkombinationen großer Gruppen ({@code POST /api/reservations/auto}).
+ *
+ * <p>Fläche: Tische 1–2–3 in einer Reihe (je 4 Plätze), Tisch 4 (8 Plätze) ohne Nachbarn.</p>
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>passt kein einzelner Tisch, wird die kleinste freie Kombination benachbarter Tische
+ *       gebucht; alle Teile teilen eine {@code combinationId}</li>
+ *   <li>belegte Tische werden übergangen, nicht benachbarte Tische nie kombiniert</li>
+ *   <li>eine Kombination zählt als eine aktive Reservierung und wird gemeinsam storniert</li>
+ *   <li>gelöschte Tische verschwinden erst nach dem Commit aus den Kombinationen</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TableCombinationIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtService jwtService;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private TableRepository tableRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private TableAdjacencyIndex adjacency;
+    @Autowired private TableService tableService;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private User anna;
+    private String annaToken;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        userRepository.deleteAll();
+        tableRepository.deleteAll();
+
+        anna = userRepository.save(new User("{noop}pw", Role.ROLE_USER, "Anna", "anna@example.com", null));
+        annaToken = jwtService.generateToken(anna);
+
+        RestaurantTable t1 = new RestaurantTable(4, 1);
+        RestaurantTable t2 = new RestaurantTable(4, 2);
+        RestaurantTable t3 = new RestaurantTable(4, 3);
+        t1.connectTo(t2);
+        t2.connectTo(t3);
+        tableRepository.saveAll(List.of(t1, t2, t3, new RestaurantTable(8, 4)));
+        adjacency.refresh();
+
+        start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        reservationRepository.deleteAll();
+        tableRepository.deleteAll();
+        adjacency.refresh();
+    }
+
+    private ResultActions book(int partySize) throws Exception {
+        return mockMvc.perform(post("/api/reservations/auto")
+                .cookie(new MockCookie("token", annaToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "partySize", partySize,
+                        "startTime", start.toString(),
+                        "endTime", start.plusHours(2).toString()))));
+    }
+
+    private Set<Integer> tableNumbers(String body) throws Exception {
+        Set<Integer> numbers = new HashSet<>();
+        for (JsonNode node : objectMapper.readTree(body)) numbers.add(node.get("tableNumber").asInt());
+        return numbers;
+    }
+
+    @Test
+    void largeParty_booksAdjacentTables_asOneReservation() throws Exception {
+        String body = book(10).andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(Set.of(1, 2, 3), tableNumbers(body));
+
+        List<Reservation> parts = reservationRepository.findAll();
+        assertEquals(3, parts.size());
+        assertNotNull(parts.get(0).getCombinationId());
+        assertEquals(1, parts.stream().map(Reservation::getCombinationId).collect(Collectors.toSet()).size());
+
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(1, reservationRepository.countActiveByUserId(anna.getId(), now, now.minusHours(5)));
+
+        mockMvc.perform(delete("/api/reservations/" + parts.get(0).getId())
+                        .cookie(new MockCookie("token", annaToken)))
+                .andExpect(status().isNoContent());
+        assertEquals(0, reservationRepository.count());
+    }
+
+    @Test
+    void busyTables_areSkipped_andNonAdjacentTablesNeverCombined() throws Exception {
+        String eight = book(8).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        assertEquals(Set.of(4), tableNumbers(eight));
+
+        String pair = book(8).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        assertEquals(Set.of(1, 2), tableNumbers(pair));
+
+        book(5).andExpect(status().isConflict())
+                .andExpect(jsonPath("$.type").value("https://docs.example/errors/no-table-available"));
+    }
+
+    @Test
+    void deletedTable_leavesCombinationsOnlyAfterCommit() {
+        int before = adjacency.size();
+        Long middle = tableRepository.findAll().stream()
+                .filter(t -> t.getTableNumber() == 2).findFirst().orElseThrow().getId();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            tableService.deleteTable(middle);
+            assertEquals(before, adjacency.size(), "vor dem Commit unverändert");
+            status.setRollbackOnly();
+        });
+        assertEquals(before, adjacency.size(), "Rollback lässt die Kombinationen bestehen");
+
+        tableService.deleteTable(middle);
+        assertEquals(0, adjacency.size());
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.reservationsystem;
+
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.service.TableHold;
+import org.example.reservationsystem.service.TableHoldRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests für die {@link TableHoldRegistry} (ohne Spring-Kontext).
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>überlappende Holds verschiedener Benutzer auf denselben Tisch schließen sich aus</li>
+ *   <li>eigene Holds und andere Tische oder Zeitfenster blockieren nicht</li>
+ *   <li>abgelaufene Holds werden ignoriert und von {@code purgeExpired()} entfernt</li>
+ *   <li>freigegebene Holds geben den Tisch sofort wieder frei</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+class TableHoldRegistryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 9, 18, 0);
+    private static final LocalDateTime END = START.plusHours(2);
+
+    @Test
+    void overlappingHoldOfOtherUser_isRejected() {
+        TableHoldRegistry registry = new TableHoldRegistry(Duration.ofMinutes(2));
+
+        assertTrue(registry.tryHold(1L, 5, START, END, "anna@example.com").isPresent());
+
+        assertTrue(registry.tryHold(1L, 5, START.plusHours(1), END.plusHours(1), "ben@example.com").isEmpty());
+        assertTrue(registry.isHeldByOther(1L, START, END, "ben@example.com"));
+        assertFalse(registry.isHeldByOther(1L, START, END, "anna@example.com"));
+
+        assertTrue(registry.tryHold(1L, 5, END, END.plusHours(1), "ben@example.com").isPresent());
+        assertTrue(registry.tryHold(2L, 6, START, END, "ben@example.com").isPresent());
+        assertEquals(Set.of(1L, 2L), registry.heldTableIds(TenantContext.DEFAULT_TENANT, START, END));
+    }
+
+    @Test
+    void expiredHolds_areIgnored_andPurged() throws InterruptedException {
+        TableHoldRegistry registry = new TableHoldRegistry(Duration.ofMillis(50));
+        TableHold hold = registry.tryHold(1L, 5, START, END, "anna@example.com").orElseThrow();
+
+        Thread.sleep(100);
+
+        assertTrue(registry.find(hold.getId()).isEmpty());
+        assertFalse(registry.isHeldByOther(1L, START, END, "ben@example.com"));
+        assertTrue(registry.heldTableIds(TenantContext.DEFAULT_TENANT, START, END).isEmpty());
+        assertEquals(1, registry.purgeExpired());
+        assertEquals(0, registry.size());
+        assertTrue(registry.tryHold(1L, 5, START, END, "ben@example.com").isPresent());
+    }
+
+    @Test
+    void releasedHold_freesTable() {
+        TableHoldRegistry registry = new TableHoldRegistry(Duration.ofMinutes(2));
+        Optional<TableHold> hold = registry.tryHold(1L, 5, START, END, "anna@example.com");
+
+        assertTrue(registry.release(hold.orElseThrow().getId()));
+        assertFalse(registry.release(hold.get().getId()));
+        assertTrue(registry.tryHold(1L, 5, START, END, "ben@example.com").isPresent());
+        assertEquals(0, registry.purgeExpired());
+    }
+
+    @Test
+    void heldTableIds_onlyCoverRequestedRestaurant() {
+        TableHoldRegistry registry = new TableHoldRegistry(Duration.ofMinutes(2));
+        registry.tryHold(1L, 5, START, END, "anna@example.com");
+        TableHold bistro = TenantContext.call("bistro",
+                () -> registry.tryHold(7L, 5, START, END, "anna@example.com")).orElseThrow();
+
+        assertEquals(Set.of(1L), registry.heldTableIds(TenantContext.DEFAULT_TENANT, START, END));
+        assertEquals(Set.of(7L), registry.heldTableIds("bistro", START, END));
+
+        assertTrue(registry.release(bistro.getId()));
+        assertTrue(registry.heldTableIds("bistro", START, END).isEmpty());
+        assertEquals(Set.of(1L), registry.heldTableIds(TenantContext.DEFAULT_TENANT, START, END));
+    }
+}
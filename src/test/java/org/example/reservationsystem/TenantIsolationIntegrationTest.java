@@ -0,0 +1,162 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.JWTServices.JwtService;
+import org.example.reservationsystem.config.TenantContext;
+import org.example.reservationsystem.config.TenantFilter;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.Restaurant;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.repository.RestaurantRepository;
+import org.example.reservationsystem.repository.TableRepository;
+import org.example.reservationsystem.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockCookie;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integrationstest für mehrere Restaurants (Mandanten) in einer Installation.
+ *
+ * <p>Beide Restaurants haben einen Tisch 1; das Restaurant wird per Header
+ * {@code X-Restaurant} gewählt, ohne Header gilt {@code default}.</p>
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>Verfügbarkeit und Buchung sehen nur die Tische des gewählten Restaurants</li>
+ *   <li>Reservierungen eines Restaurants sind aus einem anderen nicht erreichbar</li>
+ *   <li>unbekannte Restaurants liefern {@code 404}, neue Restaurants legt ein Admin an</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TenantIsolationIntegrationTest {
+
+    private static final String ALTSTADT = "altstadt";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtService jwtService;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private TableRepository tableRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private RestaurantRepository restaurantRepository;
+
+    private String annaToken;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setup() {
+        cleanup();
+        userRepository.deleteAll();
+
+        User anna = userRepository.save(new User("{noop}pw", Role.ROLE_USER, "Anna", "anna@example.com", null));
+        annaToken = jwtService.generateToken(anna);
+
+        if (restaurantRepository.findBySlug(ALTSTADT).isEmpty()) {
+            restaurantRepository.save(new Restaurant(ALTSTADT, "Altstadt"));
+        }
+        tableRepository.save(new RestaurantTable(4, 1));
+        TenantContext.run(ALTSTADT, () -> tableRepository.saveAll(List.of(
+                new RestaurantTable(2, 1), new RestaurantTable(6, 2))));
+
+        start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        for (String tenant : List.of(TenantContext.DEFAULT_TENANT, ALTSTADT)) {
+            TenantContext.run(tenant, () -> {
+                reservationRepository.deleteAll();
+                tableRepository.deleteAll();
+            });
+        }
+    }
+
+    private MockHttpServletRequestBuilder in(String tenant, MockHttpServletRequestBuilder request) {
+        return tenant == null ? request : request.header(TenantFilter.HEADER, tenant);
+    }
+
+    private MockHttpServletRequestBuilder available(String tenant) {
+        return in(tenant, get("/api/reservations/available")
+                .cookie(new MockCookie("token", annaToken))
+                .param("start", start.toString())
+                .param("minutes", "120"));
+    }
+
+    @Test
+    void availabilityAndBooking_areScopedToRestaurant() throws Exception {
+        mockMvc.perform(available(null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].numberOfSeats").value(4));
+        mockMvc.perform(available(ALTSTADT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        mockMvc.perform(in(ALTSTADT, post("/api/reservations"))
+                        .cookie(new MockCookie("token", annaToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "tableNumber", 1,
+                                "startTime", start.toString(),
+                                "endTime", start.plusHours(2).toString()))))
+                .andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(available(ALTSTADT))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].tableNumber").value(2));
+        mockMvc.perform(available(null))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].tableNumber").value(1));
+
+        assertEquals(0, reservationRepository.count());
+        Reservation booked = TenantContext.call(ALTSTADT, () -> reservationRepository.findAll()).get(0);
+        assertEquals(ALTSTADT, booked.getTenant());
+
+        mockMvc.perform(delete("/api/reservations/" + booked.getId())
+                        .cookie(new MockCookie("token", annaToken)))
+                .andExpect(status().isNotFound());
+        assertEquals(1, TenantContext.call(ALTSTADT, () -> reservationRepository.count()));
+    }
+
+    @Test
+    void unknownRestaurant_isRejected_andAdminCanCreateOne() throws Exception {
+        String slug = "hafen-" + System.nanoTime();
+        mockMvc.perform(available(slug))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.type").value("https://docs.example/errors/restaurant-not-found"));
+
+        User admin = userRepository.save(new User("{noop}pw", Role.ROLE_ADMIN, "Admin", "boss@example.com", null));
+        mockMvc.perform(post("/admin/restaurants")
+                        .cookie(new MockCookie("token", jwtService.generateToken(admin)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("slug", slug, "name", "Hafen"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.slug").value(slug));
+
+        mockMvc.perform(available(slug))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+}
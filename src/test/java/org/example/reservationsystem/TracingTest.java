@@ -0,0 +1,100 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.example.reservationsystem.config.FileSpanExporter;
+import org.example.reservationsystem.config.TracingConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit-Tests für das Tracing (ohne Spring-Kontext): Datei-Export der Spans und
+ * Observations um Repository-Methoden.
+ *
+ * author Maciej Janowski
+ */
+class TracingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void fileSpanExporter_writesOneJsonLinePerSpanWithParent() throws Exception {
+        Path file = tempDir.resolve("traces.jsonl");
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(new ObjectMapper(), file)))
+                .build();
+        Tracer tracer = provider.get("test");
+
+        Span parent = tracer.spanBuilder("http get /api/reservations/available").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("query").setAttribute("jdbc.query[0]", "select 1").startSpan().end();
+        } finally {
+            parent.end();
+        }
+        provider.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode query = mapper.readTree(lines.get(0));
+        JsonNode request = mapper.readTree(lines.get(1));
+        assertEquals("query", query.get("name").asText());
+        assertEquals("select 1", query.get("attributes").get("jdbc.query[0]").asText());
+        assertEquals(request.get("spanId").asText(), query.get("parentSpanId").asText());
+        assertEquals(request.get("traceId").asText(), query.get("traceId").asText());
+        assertNull(request.get("parentSpanId").textValue());
+    }
+
+    @Test
+    void repositoryInterceptor_observesEachCallWithRepositoryAndMethod() {
+        List<String> observed = new ArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                observed.add(context.getName() + " " + context.getContextualName()
+                        + " " + context.getLowCardinalityKeyValue("method").getValue());
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+
+        ProxyFactory proxyFactory = new ProxyFactory(new CountingRepository() {
+            @Override
+            public long countAll() {
+                return 42;
+            }
+        });
+        proxyFactory.addInterface(CountingRepository.class);
+        proxyFactory.addAdvice(TracingConfig.observing(registry, "CountingRepository"));
+        CountingRepository repository = (CountingRepository) proxyFactory.getProxy();
+
+        assertEquals(42, repository.countAll());
+        assertEquals(List.of("reservation.repository CountingRepository#countAll countAll"), observed);
+    }
+
+    interface CountingRepository {
+        long countAll();
+    }
+}
@@ -4,6 +4,7 @@ import org.example.reservationsystem.DTO.ChangePasswordDTO;
 import org.example.reservationsystem.model.Role;
 import org.example.reservationsystem.model.User;
 import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.service.ReservationVersions;
 import org.example.reservationsystem.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,6 +49,9 @@ class UserServiceTest {
     @Mock
     private BCryptPasswordEncoder bCryptPasswordEncoder;
 
+    @Mock
+    private ReservationVersions reservationVersions;
+
     @InjectMocks
     private UserService userService;
 
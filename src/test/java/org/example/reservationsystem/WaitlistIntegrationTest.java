@@ -0,0 +1,182 @@
+package org.example.reservationsystem;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.JWTServices.JwtService;
+import org.example.reservationsystem.model.Reservation;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.model.Role;
+import org.example.reservationsystem.model.User;
+import org.example.reservationsystem.model.WaitlistEntry;
+import org.example.reservationsystem.model.WaitlistStatus;
+import org.example.reservationsystem.repository.ReservationRepository;
+import org.example.reservationsystem.repository.TableRepository;
+import org.example.reservationsystem.repository.UserRepository;
+import org.example.reservationsystem.repository.WaitlistRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockCookie;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integrationstest für die Warteliste ({@code /api/waitlist}) mit Nachrückung bei Stornierung.
+ *
+ * <p>Geprüft wird:</p>
+ * <ul>
+ *   <li>ungültige Zeitfenster werden mit 400 abgelehnt</li>
+ *   <li>nach einer Stornierung wird asynchron der älteste passende Eintrag gebucht;
+ *       Einträge mit zu großer Personenzahl werden übersprungen, spätere bleiben wartend</li>
+ *   <li>ein wartender Eintrag kann nur vom Besitzer zurückgezogen werden</li>
+ * </ul>
+ *
+ * author Maciej Janowski
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class WaitlistIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtService jwtService;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private TableRepository tableRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private WaitlistRepository waitlistRepository;
+
+    private User anna;
+    private String annaToken;
+    private String benToken;
+    private String claraToken;
+    private String doraToken;
+    private RestaurantTable table;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setup() {
+        waitlistRepository.deleteAll();
+        reservationRepository.deleteAll();
+        userRepository.deleteAll();
+        tableRepository.deleteAll();
+
+        anna = userRepository.save(new User("{noop}pw", Role.ROLE_USER, "Anna", "anna@example.com", null));
+        annaToken = jwtService.generateToken(anna);
+        benToken = jwtService.generateToken(userRepository.save(
+                new User("{noop}pw", Role.ROLE_USER, "Ben", "ben@example.com", null)));
+        claraToken = jwtService.generateToken(userRepository.save(
+                new User("{noop}pw", Role.ROLE_USER, "Clara", "clara@example.com", null)));
+        doraToken = jwtService.generateToken(userRepository.save(
+                new User("{noop}pw", Role.ROLE_USER, "Dora", "dora@example.com", null)));
+
+        RestaurantTable t = new RestaurantTable();
+        t.setTableNumber(9);
+        t.setNumberOfSeats(4);
+        table = tableRepository.save(t);
+
+        start = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        waitlistRepository.deleteAll();
+    }
+
+    private long join(String token, int partySize, String from, String to) throws Exception {
+        String body = mockMvc.perform(post("/api/waitlist")
+                        .cookie(new MockCookie("token", token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "date", start.toLocalDate().toString(),
+                                "windowStart", from,
+                                "windowEnd", to,
+                                "partySize", partySize,
+                                "minutes", 120))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("WAITING"))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(body);
+        return json.get("id").asLong();
+    }
+
+    private WaitlistEntry awaitNotWaiting(long id) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            WaitlistEntry entry = waitlistRepository.findById(id).orElseThrow();
+            if (entry.getStatus() != WaitlistStatus.WAITING) return entry;
+            Thread.sleep(50);
+        }
+        return fail("Waitlist entry " + id + " was not promoted");
+    }
+
+    @Test
+    void join_rejectsWindowShorterThanDuration() throws Exception {
+        mockMvc.perform(post("/api/waitlist")
+                        .cookie(new MockCookie("token", benToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "date", start.toLocalDate().toString(),
+                                "windowStart", "18:00",
+                                "windowEnd", "19:00",
+                                "partySize", 2,
+                                "minutes", 120))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void cancellation_booksOldestFittingEntry() throws Exception {
+        Reservation r = new Reservation(start, start.plusHours(2));
+        r.setUser(anna);
+        r.setTable(table);
+        long reservationId = reservationRepository.save(r).getId();
+
+        long clara = join(claraToken, 6, "17:00", "21:00");
+        long ben = join(benToken, 2, "17:00", "21:00");
+        long dora = join(doraToken, 2, "18:00", "20:00");
+
+        mockMvc.perform(delete("/api/reservations/" + reservationId)
+                        .cookie(new MockCookie("token", annaToken)))
+                .andExpect(status().isNoContent());
+
+        WaitlistEntry promoted = awaitNotWaiting(ben);
+        assertEquals(WaitlistStatus.BOOKED, promoted.getStatus());
+        assertEquals(start, promoted.getOfferedStart());
+        assertEquals(table.getTableNumber(), promoted.getOfferedTableNumber());
+
+        List<Reservation> reservations = reservationRepository.findAll();
+        assertEquals(1, reservations.size());
+        assertEquals(promoted.getReservationId(), reservations.get(0).getId());
+
+        assertEquals(WaitlistStatus.WAITING, waitlistRepository.findById(clara).orElseThrow().getStatus());
+        assertEquals(WaitlistStatus.WAITING, waitlistRepository.findById(dora).orElseThrow().getStatus());
+
+        mockMvc.perform(get("/api/waitlist").cookie(new MockCookie("token", benToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("BOOKED"))
+                .andExpect(jsonPath("$[0].reservationId").value(promoted.getReservationId()));
+    }
+
+    @Test
+    void leave_onlyOwnWaitingEntry() throws Exception {
+        long dora = join(doraToken, 2, "18:00", "20:00");
+
+        mockMvc.perform(delete("/api/waitlist/" + dora).cookie(new MockCookie("token", benToken)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/waitlist/" + dora).cookie(new MockCookie("token", doraToken)))
+                .andExpect(status().isNoContent());
+        assertTrue(waitlistRepository.findById(dora).isEmpty());
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.reservationsystem.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.repository.TableRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Gemeinsamer Ablauf des Durchsatz-Vergleichs für
+ * {@code GET /api/reservations/available}.
+ *
+ * <p>{@code loadtest.available.clients} (Standard 2.000) gleichzeitige Clients
+ * fragen für {@code loadtest.durationSeconds} Sekunden ununterbrochen die freien
+ * Tische ab. Die Gleichzeitigkeit wird clientseitig über eine {@link Semaphore}
+ * gehalten: Sobald eine Antwort eintrifft, wird sofort die nächste Anfrage
+ * gesendet ({@link HttpClient#sendAsync}). Die Unterklassen unterscheiden sich
+ * im aktiven Spring-Profil (Plattform- vs. virtuelle Threads) bzw. im Endpunkt
+ * (MVC vs. reaktiv unter {@code /api/reactive/reservations}); der Bericht
+ * landet in {@code target/loadtest-available-<modus>.json}.</p>
+ *
+ * author Maciej Janowski
+ */
+abstract class AvailabilityLoadTestSupport {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.available.clients", 2_000);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final int EXTRA_TABLES = Integer.getInteger("loadtest.tables", 30);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TableRepository tableRepository;
+
+    /**
+     * Führt den Lastlauf aus und schreibt den Bericht.
+     *
+     * @param mode     Bezeichnung des Ausführungsmodus für Bericht und Dateiname
+     * @param basePath Basis-URL der Reservierungs-API, z. B. {@code /api/reservations}
+     */
+    protected void runAvailabilityLoad(String mode, String basePath) throws Exception {
+        seedTables();
+
+        String baseUrl = "http://localhost:" + port;
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(16))
+                .build();
+
+        LoadTestClient login = new LoadTestClient(http, baseUrl, new LatencyRecorder());
+        String email = "avail-" + System.nanoTime() + "@example.com";
+        login.rememberToken(login.post("register", "/auth/register",
+                "{\"email\":\"" + email + "\",\"password\":\"secret123\",\"fullName\":\"Load User\"}"));
+        assertNotNull(login.token(), "Registrierung muss ein JWT liefern");
+
+        Semaphore inFlight = new Semaphore(CLIENTS);
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            LocalDateTime start = LocalDateTime.now().plusDays(1 + rnd.nextInt(60))
+                    .withHour(11 + rnd.nextInt(9)).withMinute(0).withSecond(0).withNano(0);
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create(baseUrl + basePath + "/available?start=" + start + "&minutes=120"))
+                    .header("Cookie", "token=" + login.token())
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+
+            long t0 = System.nanoTime();
+            http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((res, ex) -> {
+                        recorder.record("available", System.nanoTime() - t0, ex == null ? res.statusCode() : -1);
+                        inFlight.release();
+                    });
+        }
+        // laufende Anfragen abwarten
+        inFlight.acquire(CLIENTS);
+        double elapsed = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("mode", mode);
+        report.put("endpoint", basePath + "/available");
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("clients", CLIENTS);
+        report.put("durationSeconds", Math.round(elapsed * 100.0) / 100.0);
+        report.put("operations", recorder.summary(elapsed));
+
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Path out = Path.of("target", "loadtest-available-" + mode + ".json");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, json);
+        System.out.println("=== Lasttest /available (" + mode + ") ===\n" + json);
+
+        assertEquals(0, recorder.totalErrors(), "Keine 5xx-/I/O-Fehler erwartet");
+        assertTrue(recorder.successes("available") > 0, "Mindestens eine Abfrage muss gelingen");
+    }
+
+    private void seedTables() {
+        for (int i = 0; i < EXTRA_TABLES; i++) {
+            int number = 100 + i;
+            if (tableRepository.findTableByTableNumber(number).isEmpty()) {
+                tableRepository.save(new RestaurantTable(2 + (i % 4) * 2, number));
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.reservationsystem.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Referenzlauf für {@code /api/reservations/available} mit dem
+ * Standard-Thread-Pool von Tomcat (Plattform-Threads).
+ *
+ * author Maciej Janowski
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AvailabilityPlatformThreadsLoadTest extends AvailabilityLoadTestSupport {
+
+    @Test
+    void available_underConcurrentClients() throws Exception {
+        runAvailabilityLoad("platform-threads", "/api/reservations");
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.reservationsystem.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Vergleichslauf gegen die reaktive Variante
+ * {@code GET /api/reactive/reservations/available} (R2DBC, eine Abfrage pro Aufruf).
+ *
+ * author Maciej Janowski
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AvailabilityReactiveLoadTest extends AvailabilityLoadTestSupport {
+
+    @Test
+    void available_underConcurrentClients() throws Exception {
+        runAvailabilityLoad("reactive", "/api/reactive/reservations");
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.reservationsystem.loadtest;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Vergleichslauf für {@code /api/reservations/available} mit dem Profil
+ * {@code virtual-threads}. Wird übersprungen, wenn die Test-JVM älter als
+ * Java 21 ist, da Spring Boot die Einstellung dort ignoriert und das Ergebnis
+ * sonst den Plattform-Thread-Lauf doppeln würde.
+ *
+ * author Maciej Janowski
+ */
+@Tag("loadtest")
+@ActiveProfiles({"loadtest", "virtual-threads"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AvailabilityVirtualThreadsLoadTest extends AvailabilityLoadTestSupport {
+
+    @BeforeAll
+    static void requireJava21() {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtuelle Threads benötigen Java 21+");
+    }
+
+    @Test
+    void available_underConcurrentClients() throws Exception {
+        runAvailabilityLoad("virtual-threads", "/api/reservations");
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.reservationsystem.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sammelt Latenzen und Ergebnisse pro Operation für den Lasttest.
+ *
+ * <p>Latenzen werden in Nanosekunden in einem wachsenden Array pro Operation
+ * abgelegt und erst bei der Auswertung sortiert; so bleibt der Messpfad
+ * während des Laufs kurz. Fehlerklassen werden getrennt gezählt:
+ * erwartete fachliche Konflikte ({@code 409}) und echte Fehler
+ * ({@code 5xx}, I/O).</p>
+ *
+ * author Maciej Janowski
+ */
+final class LatencyRecorder {
+
+    private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Zeichnet einen Aufruf auf.
+     *
+     * @param operation Name der Operation (z. B. {@code login})
+     * @param nanos     gemessene Dauer in Nanosekunden
+     * @param status    HTTP-Status oder {@code -1} bei I/O-Fehler
+     */
+    void record(String operation, long nanos, int status) {
+        stats.computeIfAbsent(operation, k -> new OperationStats()).record(nanos, status);
+    }
+
+    /** @return Summe aller fehlerhaften Aufrufe (5xx oder I/O) über alle Operationen */
+    long totalErrors() {
+        return stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+    }
+
+    /** @return Anzahl erfolgreicher Aufrufe (2xx) der angegebenen Operation */
+    long successes(String operation) {
+        OperationStats s = stats.get(operation);
+        return s == null ? 0 : s.successes.sum();
+    }
+
+    /**
+     * Erstellt die Auswertung pro Operation.
+     *
+     * @param elapsedSeconds Laufzeit des Tests in Sekunden
+     * @return Operation → Kennzahlen (Anzahl, Durchsatz, Perzentile in ms)
+     */
+    Map<String, Map<String, Object>> summary(double elapsedSeconds) {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        stats.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> result.put(e.getKey(), e.getValue().summary(elapsedSeconds)));
+        return result;
+    }
+
+    /** Kennzahlen einer einzelnen Operation. */
+    private static final class OperationStats {
+
+        private long[] latencies = new long[1024];
+        private int size;
+
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        synchronized void record(long nanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+
+            if (status >= 200 && status < 300) successes.increment();
+            else if (status == 409) conflicts.increment();
+            else if (status >= 400 && status < 500) clientErrors.increment();
+            else errors.increment();
+        }
+
+        synchronized Map<String, Object> summary(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("count", size);
+            m.put("throughputPerSecond", round(size / elapsedSeconds));
+            m.put("success", successes.sum());
+            m.put("conflict", conflicts.sum());
+            m.put("clientError", clientErrors.sum());
+            m.put("error", errors.sum());
+            m.put("p50Ms", percentileMs(sorted, 0.50));
+            m.put("p90Ms", percentileMs(sorted, 0.90));
+            m.put("p99Ms", percentileMs(sorted, 0.99));
+            m.put("maxMs", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1_000_000.0));
+            return m;
+        }
+
+        private static double percentileMs(long[] sorted, double p) {
+            if (sorted.length == 0) return 0.0;
+            int idx = (int) Math.ceil(p * sorted.length) - 1;
+            return round(sorted[Math.max(0, idx)] / 1_000_000.0);
+        }
+
+        private static double round(double v) {
+            return Math.round(v * 100.0) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.reservationsystem.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Schlanker HTTP-Client eines virtuellen Benutzers im Lasttest.
+ *
+ * <p>Jeder Aufruf wird mit {@link System#nanoTime()} gemessen und im
+ * {@link LatencyRecorder} unter dem angegebenen Operationsnamen erfasst.
+ * Das JWT wird nach Registrierung/Login aus dem {@code Set-Cookie}-Header
+ * gelesen und anschließend als {@code token}-Cookie mitgeschickt – genau wie
+ * beim React-Frontend.</p>
+ *
+ * author Maciej Janowski
+ */
+final class LoadTestClient {
+
+    /** Ergebnis eines Aufrufs; {@code status == -1} bei I/O-Fehlern. */
+    record Result(int status, String body, HttpResponse<String> response) {
+        boolean ok() { return status >= 200 && status < 300; }
+    }
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private String token;
+
+    LoadTestClient(HttpClient http, String baseUrl, LatencyRecorder recorder) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    Result get(String operation, String path) {
+        return send(operation, request(path).GET().build());
+    }
+
+    Result post(String operation, String path, String json) {
+        return send(operation, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    Result delete(String operation, String path) {
+        return send(operation, request(path).DELETE().build());
+    }
+
+    /**
+     * Übernimmt das JWT aus dem {@code Set-Cookie}-Header einer Antwort.
+     *
+     * @param result Antwort von {@code /auth/register} oder {@code /auth/login}
+     */
+    void rememberToken(Result result) {
+        if (result.response() == null) return;
+        Optional<String> cookie = result.response().headers().allValues("Set-Cookie").stream()
+                .filter(c -> c.startsWith("token="))
+                .findFirst();
+        cookie.ifPresent(c -> token = c.substring("token=".length(), c.indexOf(';')));
+    }
+
+    /** @return zuletzt übernommenes JWT oder {@code null} */
+    String token() {
+        return token;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            b.header("Cookie", "token=" + token);
+        }
+        return b;
+    }
+
+    private Result send(String operation, HttpRequest request) {
+        long t0 = System.nanoTime();
+        try {
+            HttpResponse<String> res = http.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(operation, System.nanoTime() - t0, res.statusCode());
+            return new Result(res.statusCode(), res.body(), res);
+        } catch (IOException e) {
+            recorder.record(operation, System.nanoTime() - t0, -1);
+            return new Result(-1, null, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recorder.record(operation, System.nanoTime() - t0, -1);
+            return new Result(-1, null, null);
+        }
+    }
+}
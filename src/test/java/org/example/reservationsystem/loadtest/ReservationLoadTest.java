@@ -0,0 +1,180 @@
+package org.example.reservationsystem.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.model.RestaurantTable;
+import org.example.reservationsystem.repository.TableRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Wiederholbarer End-to-End-Lasttest für {@code AuthController} und
+ * {@code ReservationController}.
+ *
+ * <p>Der Test startet den vollständigen Spring-Kontext inklusive Tomcat
+ * ({@link SpringBootTest.WebEnvironment#RANDOM_PORT}) gegen eine eingebettete
+ * H2-Datenbank im PostgreSQL-Modus (Profil {@code loadtest}) und lässt
+ * {@code loadtest.users} virtuelle Benutzer für {@code loadtest.durationSeconds}
+ * Sekunden parallel einen realistischen Mix ausführen:</p>
+ *
+ * <ol>
+ *   <li>einmalig {@code POST /auth/register}</li>
+ *   <li>{@code POST /auth/login}</li>
+ *   <li>dreimal {@code GET /api/reservations/available} (Benutzer „stöbert“)</li>
+ *   <li>{@code POST /api/reservations} auf einen freien Tisch</li>
+ *   <li>{@code DELETE /api/reservations/{id}} (Stornierung)</li>
+ * </ol>
+ *
+ * <p>Am Ende werden Durchsatz und Latenz-Perzentile (p50/p90/p99) pro
+ * Operation ausgegeben und nach {@code target/loadtest-report.json} geschrieben.
+ * {@code 409 Conflict} (Tisch zwischenzeitlich vergeben) gilt als erwartetes
+ * fachliches Ergebnis, {@code 5xx} und I/O-Fehler lassen den Test scheitern.</p>
+ *
+ * <p>Ausführung: {@code mvn -Ploadtest test}; im normalen Build ausgeschlossen.</p>
+ *
+ * author Maciej Janowski
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReservationLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 50);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final int EXTRA_TABLES = Integer.getInteger("loadtest.tables", 30);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TableRepository tableRepository;
+
+    @Test
+    void bookingMix_underConcurrentUsers() throws Exception {
+        seedTables();
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(Math.max(4, USERS / 4)))
+                .build();
+        String baseUrl = "http://localhost:" + port;
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        long started = System.nanoTime();
+
+        ExecutorService users = Executors.newFixedThreadPool(USERS);
+        List<java.util.concurrent.Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            int userIndex = i;
+            futures.add(users.submit(() -> runVirtualUser(
+                    new LoadTestClient(http, baseUrl, recorder), userIndex, deadline)));
+        }
+        for (var f : futures) {
+            f.get();
+        }
+        users.shutdown();
+        double elapsed = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", USERS);
+        report.put("durationSeconds", Math.round(elapsed * 100.0) / 100.0);
+        report.put("tables", tableRepository.count());
+        report.put("operations", recorder.summary(elapsed));
+        report.put("bookingsPerSecond",
+                Math.round(recorder.successes("create") / elapsed * 100.0) / 100.0);
+
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Path out = Path.of("target", "loadtest-report.json");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, json);
+        System.out.println("=== Lasttest-Bericht ===\n" + json);
+
+        assertEquals(0, recorder.totalErrors(), "Keine 5xx-/I/O-Fehler erwartet");
+        assertTrue(recorder.successes("create") > 0, "Mindestens eine Buchung muss gelingen");
+    }
+
+    /**
+     * Schleife eines virtuellen Benutzers bis zur Deadline.
+     *
+     * @param client    HTTP-Client des Benutzers (hält das JWT)
+     * @param userIndex laufende Nummer (für eindeutige E-Mail)
+     * @param deadline  Ende des Tests ({@link System#nanoTime()})
+     */
+    private void runVirtualUser(LoadTestClient client, int userIndex, long deadline) {
+        String email = "load" + userIndex + "-" + System.nanoTime() + "@example.com";
+        String credentials = "{\"email\":\"" + email + "\",\"password\":\"secret123\"}";
+
+        LoadTestClient.Result registered = client.post("register", "/auth/register",
+                "{\"email\":\"" + email + "\",\"password\":\"secret123\",\"fullName\":\"Load User "
+                        + userIndex + "\"}");
+        client.rememberToken(registered);
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            client.rememberToken(client.post("login", "/auth/login", credentials));
+
+            LocalDateTime start = LocalDateTime.now().plusDays(1 + rnd.nextInt(60))
+                    .withHour(11 + rnd.nextInt(9)).withMinute(rnd.nextBoolean() ? 0 : 30)
+                    .withSecond(0).withNano(0);
+
+            JsonNode free = null;
+            for (int i = 0; i < 3; i++) {
+                LoadTestClient.Result available = client.get("available",
+                        "/api/reservations/available?start=" + start + "&minutes=120");
+                free = available.ok() ? readTree(available.body()) : null;
+            }
+            if (free == null || free.isEmpty()) {
+                continue;
+            }
+
+            int tableNumber = free.get(rnd.nextInt(free.size())).get("tableNumber").asInt();
+            LoadTestClient.Result created = client.post("create", "/api/reservations",
+                    "{\"tableNumber\":" + tableNumber + ",\"startTime\":\"" + start
+                            + "\",\"endTime\":\"" + start.plusHours(2) + "\"}");
+            if (!created.ok()) {
+                continue;
+            }
+
+            long id = readTree(created.body()).get("id").asLong();
+            client.delete("cancel", "/api/reservations/" + id);
+        }
+    }
+
+    /** Ergänzt die Demo-Tische um {@code loadtest.tables} weitere Tische. */
+    private void seedTables() {
+        for (int i = 0; i < EXTRA_TABLES; i++) {
+            int number = 100 + i;
+            if (tableRepository.findTableByTableNumber(number).isEmpty()) {
+                tableRepository.save(new RestaurantTable(2 + (i % 4) * 2, number));
+            }
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalStateException("Antwort ist kein gültiges JSON: " + body, e);
+        }
+    }
+}
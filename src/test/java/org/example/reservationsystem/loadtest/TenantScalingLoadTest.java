@@ -0,0 +1,207 @@
+package org.example.reservationsystem.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.reservationsystem.config.TenantFilter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lasttest: Latenz von {@code GET /api/reservations/available} je Restaurant in
+ * Abhängigkeit von der Anzahl der Restaurants (Mandanten).
+ *
+ * <p>Jedes Restaurant erhält dieselbe Datenmenge ({@code loadtest.tenants.tables} Tische,
+ * {@code loadtest.tenants.reservations} Reservierungen, direkt per JDBC mit
+ * {@code tenant_id} angelegt). Gemessen wird zweimal mit gleicher Gleichzeitigkeit
+ * ({@code loadtest.tenants.clients}) für je {@code loadtest.durationSeconds} Sekunden:</p>
+ * <ol>
+ *   <li>nur ein Restaurant existiert, alle Anfragen gehen an dieses</li>
+ *   <li>{@code loadtest.tenants} Restaurants existieren, die Anfragen verteilen sich
+ *       gleichmäßig; das erste Restaurant wird zusätzlich einzeln ausgewertet</li>
+ * </ol>
+ *
+ * <p>Da Abfragen über {@code (tenant_id, …)}-Indizes und Caches je Restaurant laufen,
+ * sollte die Latenz einer Anfrage nicht mit der Gesamtzahl der Restaurants wachsen. Der
+ * Bericht landet in {@code target/loadtest-tenants.json}; der Test scheitert, wenn der
+ * p50 im zweiten Lauf mehr als {@code loadtest.tenants.maxP50Ratio} (Standard 2,0) mal
+ * so hoch ist wie im ersten.</p>
+ *
+ * <p>Ausführung: {@code mvn -Ploadtest test -Dtest=TenantScalingLoadTest}.</p>
+ *
+ * author Maciej Janowski
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TenantScalingLoadTest {
+
+    private static final int TENANTS = Integer.getInteger("loadtest.tenants", 50);
+    private static final int TABLES = Integer.getInteger("loadtest.tenants.tables", 20);
+    private static final int RESERVATIONS = Integer.getInteger("loadtest.tenants.reservations", 400);
+    private static final int CLIENTS = Integer.getInteger("loadtest.tenants.clients", 32);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final double MAX_P50_RATIO =
+            Double.parseDouble(System.getProperty("loadtest.tenants.maxP50Ratio", "2.0"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private HttpClient http;
+    private String baseUrl;
+    private String token;
+    private long userId;
+
+    @Test
+    void availabilityLatency_isIndependentOfTenantCount() throws Exception {
+        baseUrl = "http://localhost:" + port;
+        http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(16))
+                .build();
+
+        LoadTestClient login = new LoadTestClient(http, baseUrl, new LatencyRecorder());
+        String email = "tenants-" + System.nanoTime() + "@example.com";
+        login.rememberToken(login.post("register", "/auth/register",
+                "{\"email\":\"" + email + "\",\"password\":\"secret123\",\"fullName\":\"Load User\"}"));
+        token = login.token();
+        assertNotNull(token, "Registrierung muss ein JWT liefern");
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+
+        List<String> tenants = new ArrayList<>();
+        for (int i = 0; i < TENANTS; i++) tenants.add("tenant-" + i);
+
+        seedTenant(tenants.get(0));
+        run(List.of(tenants.get(0)), Math.max(1, DURATION_SECONDS / 6)); // Aufwärmen
+        Phase single = run(List.of(tenants.get(0)), DURATION_SECONDS);
+
+        for (String tenant : tenants.subList(1, tenants.size())) seedTenant(tenant);
+        run(tenants, Math.max(1, DURATION_SECONDS / 6));
+        Phase many = run(tenants, DURATION_SECONDS);
+
+        double p50Single = p50(single, "available");
+        double p50Many = p50(many, "available");
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("clients", CLIENTS);
+        report.put("tablesPerTenant", TABLES);
+        report.put("reservationsPerTenant", RESERVATIONS);
+        report.put("singleTenant", Map.of("tenants", 1, "durationSeconds", single.elapsed(),
+                "operations", single.recorder().summary(single.elapsed())));
+        report.put("manyTenants", Map.of("tenants", TENANTS, "durationSeconds", many.elapsed(),
+                "operations", many.recorder().summary(many.elapsed())));
+        report.put("p50Ratio", Math.round(p50Many / p50Single * 100.0) / 100.0);
+
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Path out = Path.of("target", "loadtest-tenants.json");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, json);
+        System.out.println("=== Lasttest Mandanten (1 vs. " + TENANTS + ") ===\n" + json);
+
+        assertEquals(0, single.recorder().totalErrors() + many.recorder().totalErrors(),
+                "Keine 5xx-/I/O-Fehler erwartet");
+        assertTrue(single.recorder().successes("available") > 0 && many.recorder().successes("available") > 0,
+                "Beide Läufe müssen Abfragen beantworten");
+        assertTrue(p50Many <= p50Single * MAX_P50_RATIO,
+                "p50 mit " + TENANTS + " Restaurants (" + p50Many + " ms) darf höchstens "
+                        + MAX_P50_RATIO + "-mal so hoch sein wie mit einem (" + p50Single + " ms)");
+    }
+
+    /** Ergebnis eines Messlaufs. */
+    private record Phase(LatencyRecorder recorder, double elapsed) {
+    }
+
+    private Phase run(List<String> tenants, int seconds) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        Semaphore inFlight = new Semaphore(CLIENTS);
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(seconds);
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            String tenant = tenants.get(rnd.nextInt(tenants.size()));
+            LocalDateTime start = LocalDateTime.now().plusDays(1 + rnd.nextInt(60))
+                    .withHour(11 + rnd.nextInt(9)).withMinute(0).withSecond(0).withNano(0);
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create(baseUrl + "/api/reservations/available?start=" + start + "&minutes=120"))
+                    .header("Cookie", "token=" + token)
+                    .header(TenantFilter.HEADER, tenant)
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+
+            long t0 = System.nanoTime();
+            http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((res, ex) -> {
+                        long nanos = System.nanoTime() - t0;
+                        int status = ex == null ? res.statusCode() : -1;
+                        recorder.record("available", nanos, status);
+                        if (tenant.equals(tenants.get(0)) && tenants.size() > 1) {
+                            recorder.record("available-" + tenant, nanos, status);
+                        }
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquire(CLIENTS);
+        double elapsed = (System.nanoTime() - started) / 1_000_000_000.0;
+        return new Phase(recorder, Math.round(elapsed * 100.0) / 100.0);
+    }
+
+    /** Legt ein Restaurant mit Tischen und über 60 Tage verteilten Reservierungen an. */
+    private void seedTenant(String tenant) {
+        jdbcTemplate.update("INSERT INTO restaurants (slug, name) VALUES (?, ?)", tenant, "Restaurant " + tenant);
+
+        List<Object[]> tables = new ArrayList<>(TABLES);
+        for (int i = 1; i <= TABLES; i++) tables.add(new Object[]{tenant, i, 2 + (i % 4) * 2});
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO restaurant_tables (tenant_id, table_number, number_of_seats) VALUES (?, ?, ?)", tables);
+        List<Long> tableIds = jdbcTemplate.queryForList(
+                "SELECT id FROM restaurant_tables WHERE tenant_id = ?", Long.class, tenant);
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        List<Object[]> reservations = new ArrayList<>(RESERVATIONS);
+        for (int i = 0; i < RESERVATIONS; i++) {
+            LocalDateTime start = LocalDateTime.now().plusDays(1 + rnd.nextInt(60))
+                    .withHour(11 + rnd.nextInt(9)).withMinute(0).withSecond(0).withNano(0);
+            reservations.add(new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(2)),
+                    tableIds.get(rnd.nextInt(tableIds.size())), userId, tenant});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservations (start_time, end_time, table_id, user_id, tenant_id) "
+                + "VALUES (?, ?, ?, ?, ?)", reservations);
+    }
+
+    private static double p50(Phase phase, String operation) {
+        Map<String, Object> stats = phase.recorder().summary(phase.elapsed()).get(operation);
+        return ((Number) stats.get("p50Ms")).doubleValue();
+    }
+}